@@ -0,0 +1,283 @@
+package com.profiling.benchmark;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.profiling.dto.ReportDownloadRequest;
+import com.profiling.model.Profile;
+import com.profiling.model.psychometric.Answer;
+import com.profiling.model.psychometric.PsychometricSession;
+import com.profiling.model.psychometric.Question;
+import com.profiling.model.psychometric.SessionStatus;
+import com.profiling.model.psychometric.UserInfo;
+import com.profiling.template.TemplateDataInitializer;
+import com.profiling.template.TemplateEntity;
+
+/**
+ * Shared inputs for the benchmarks, sized like production data. Everything is built
+ * from a fixed seed so runs on different commits see identical inputs.
+ */
+public final class BenchmarkFixtures {
+
+    public static final int QUESTIONS_PER_SECTION = 40;
+
+    private static final List<String> APTITUDE_CATEGORIES =
+            List.of("numerical", "verbal", "situational", "abstract", "logical");
+    private static final List<String> BEHAVIORAL_CATEGORIES = List.of(
+            "conflict_resolution", "attention_to_detail", "leadership", "adaptability",
+            "big_five_openness", "big_five_conscientiousness", "big_five_extraversion",
+            "big_five_agreeableness", "big_five_neuroticism", "communication_effectiveness");
+    private static final List<String> DOMAIN_CATEGORIES =
+            List.of("data_structures", "databases", "networking", "operating_systems", "software_design");
+
+    private BenchmarkFixtures() {
+        // utility class
+    }
+
+    public static List<String> categories(int sectionNumber) {
+        switch (sectionNumber) {
+            case 1:
+                return APTITUDE_CATEGORIES;
+            case 2:
+                return BEHAVIORAL_CATEGORIES;
+            default:
+                return DOMAIN_CATEGORIES;
+        }
+    }
+
+    public static UserInfo userInfo() {
+        UserInfo userInfo = new UserInfo();
+        userInfo.setName("Aarav Sharma");
+        userInfo.setEmail("aarav.sharma@example.com");
+        userInfo.setPhone("+91 98765 43210");
+        userInfo.setAge(21);
+        userInfo.setGender("male");
+        userInfo.setDegree("B.Tech");
+        userInfo.setSpecialization("Computer Science");
+        userInfo.setCareerInterest("Backend engineering");
+        userInfo.setTechnicalSkills("Java, Spring Boot, MongoDB, Docker, SQL, Python");
+        userInfo.setSoftSkills("communication, teamwork, problem solving, time management");
+        userInfo.setInterests("distributed systems, open source");
+        userInfo.setHobbies("chess, running, photography");
+        userInfo.setCertifications("AWS Cloud Practitioner, Oracle Java SE 17");
+        userInfo.setAchievements("Winner of the college hackathon, 2nd place in a state coding contest");
+        return userInfo;
+    }
+
+    /**
+     * A completed session with 40 questions per section, every question answered.
+     * Behavioral questions carry per-option impact scores like generated SJT items.
+     */
+    public static PsychometricSession completedSession() {
+        return completedSession(3 * QUESTIONS_PER_SECTION);
+    }
+
+    /**
+     * Like {@link #completedSession()} with {@code totalQuestions} spread evenly over the three sections.
+     */
+    public static PsychometricSession completedSession(int totalQuestions) {
+        Random random = new Random(42);
+        List<Question> questions = new ArrayList<>();
+        List<Answer> answers = new ArrayList<>();
+        for (int section = 1; section <= 3; section++) {
+            List<String> categories = categories(section);
+            int sectionQuestions = totalQuestions / 3 + (section <= totalQuestions % 3 ? 1 : 0);
+            for (int i = 0; i < sectionQuestions; i++) {
+                Question question = new Question();
+                question.setId("q-" + section + "-" + i);
+                question.setSectionNumber(section);
+                question.setCategory(categories.get(i % categories.size()));
+                question.setQuestionType("MCQ");
+                question.setPrompt("Question " + (i + 1) + " of section " + section
+                        + ": choose the option that best fits the situation described in the scenario above.");
+                question.setOptions(List.of("Option A", "Option B", "Option C", "Option D"));
+                if (section == 2) {
+                    question.setScenario("Your team disagrees about how to meet a deadline that was moved up by a week.");
+                    question.setTraitImpactScores(List.of(100, 70, 40, 10));
+                    question.setRationales(List.of("Best", "Good", "Weak", "Poor"));
+                    question.setCorrectOptionIndex(0);
+                } else {
+                    question.setCorrectOptionIndex(random.nextInt(4));
+                }
+                questions.add(question);
+
+                Answer answer = new Answer();
+                answer.setQuestionId(question.getId());
+                answer.setSelectedOptionIndex(random.nextInt(4));
+                answers.add(answer);
+            }
+        }
+
+        PsychometricSession session = new PsychometricSession();
+        session.setId("benchmark-session");
+        session.setUserInfo(userInfo());
+        session.setStatus(SessionStatus.COMPLETED);
+        session.setCreatedAt(Instant.parse("2024-01-01T10:00:00Z"));
+        session.setUpdatedAt(Instant.parse("2024-01-01T11:00:00Z"));
+        session.setQuestions(questions);
+        session.setAnswers(answers);
+        return session;
+    }
+
+    public static Profile profile() {
+        Profile profile = new Profile();
+        profile.setName("Aarav Sharma");
+        profile.setEmail("aarav.sharma@example.com");
+        profile.setPhone("+91 98765 43210");
+        profile.setDob("2003-04-12");
+        profile.setLinkedin("https://www.linkedin.com/in/aarav-sharma");
+        profile.setInstitute("Indian Institute of Technology");
+        profile.setCurrentDegree("B.Tech");
+        profile.setBranch("Computer Science");
+        profile.setYearOfStudy("3rd");
+        profile.setCertifications("AWS Cloud Practitioner, Oracle Java SE 17");
+        profile.setAchievements("Winner of the college hackathon");
+        profile.setTechnicalSkills("Java, Spring Boot, MongoDB, Docker");
+        profile.setSoftSkills("communication, teamwork");
+        profile.setHobbies("chess, running");
+        profile.setInterests("distributed systems");
+        profile.setHasInternship(true);
+        profile.setInternshipDetails("a summer internship building payment APIs");
+        profile.setHasExperience(true);
+        profile.setExperienceDetails("six months as a backend developer");
+        profile.setCompanyName("Acme Corp");
+        profile.setPositionTitle("Backend Engineer");
+        return profile;
+    }
+
+    /**
+     * A complete POST /api/report/download payload, as the report page sends it.
+     */
+    public static ReportDownloadRequest reportDownloadRequest() {
+        ReportDownloadRequest.Scores scores = new ReportDownloadRequest.Scores();
+        scores.setCorrect(84);
+        scores.setTotalQuestions(120);
+        scores.setCandidatePercentile(91.5);
+        scores.setAptitudeScore(72.5);
+        scores.setBehavioralScore(81.0);
+        scores.setDomainScore(66.25);
+        scores.setOverallScore(73.4);
+
+        ReportDownloadRequest.SWOT swot = new ReportDownloadRequest.SWOT();
+        swot.setStrengths(List.of("Structured problem solving", "Ownership of deliverables", "Clear written communication"));
+        swot.setWeaknesses(List.of("Delegation under deadline pressure", "Limited exposure to production incidents"));
+        swot.setOpportunities(List.of("Backend internships in fintech", "Open source contributions to data tooling"));
+        swot.setThreats(List.of("Crowded entry-level market", "Rapidly shifting cloud skill requirements"));
+        swot.setSwotAnalysis(paragraphs("The candidate combines strong analytical habits with steady delivery.", 3));
+
+        ReportDownloadRequest.Analysis analysis = new ReportDownloadRequest.Analysis();
+        analysis.setSummaryBio(paragraphs("Aarav is a third-year computer science student focused on backend systems.", 2));
+        analysis.setInterviewSummary(paragraphs("Answers were consistent across aptitude, behavioral and domain sections.", 2));
+        analysis.setFitAnalysis(paragraphs("Best suited to backend and platform roles with mentorship.", 2));
+        analysis.setBehavioralInsights(paragraphs("Prefers collaborative problem solving and clear ownership.", 2));
+        analysis.setDomainInsights(paragraphs("Solid on data structures and databases, weaker on networking.", 2));
+        analysis.setNarrativeSummary(paragraphs("A dependable early-career engineer with room to grow in systems depth.", 2));
+
+        ReportDownloadRequest.Education education = new ReportDownloadRequest.Education();
+        education.setUniversity("Indian Institute of Technology");
+        education.setYearOfGraduation(2026);
+        education.setDegree("B.Tech Computer Science");
+
+        ReportDownloadRequest.Personality personality = new ReportDownloadRequest.Personality();
+        personality.setOpenness(78);
+        personality.setConscientiousness(82);
+        personality.setExtraversion(55);
+        personality.setAgreeableness(70);
+        personality.setNeuroticism(34);
+
+        ReportDownloadRequest.ChartData chartsData = new ReportDownloadRequest.ChartData();
+        chartsData.setPoorScore(35);
+        chartsData.setAverageScore(58);
+        chartsData.setBestScore(92);
+        chartsData.setCandidatePosition("average");
+
+        ReportDownloadRequest request = new ReportDownloadRequest();
+        request.setUserInfo(userInfo());
+        request.setScores(scores);
+        request.setSwot(swot);
+        request.setAnalysis(analysis);
+        request.setEducation(education);
+        request.setPersonality(personality);
+        request.setChartsData(chartsData);
+        request.setReportGeneratedAt("2024-06-01T10:00:00Z");
+        return request;
+    }
+
+    private static String paragraphs(String sentence, int count) {
+        List<String> paragraphs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            paragraphs.add((sentence + " ").repeat(4).trim());
+        }
+        return String.join("\n\n", paragraphs);
+    }
+
+    /**
+     * The built-in templates as seeded by {@link TemplateDataInitializer}, keyed by id.
+     */
+    public static Map<String, TemplateEntity> seededTemplates() {
+        Map<String, TemplateEntity> seeded = new LinkedHashMap<>();
+        for (TemplateEntity template : TemplateDataInitializer.defaultTemplates(Instant.now())) {
+            seeded.put(template.getId(), template);
+        }
+        return seeded;
+    }
+
+    /**
+     * A model reply for one generation batch: a JSON array of {@code count} questions wrapped
+     * in a markdown fence, with SJT options for section 2 and plain options otherwise.
+     */
+    public static String questionBatchResponse(int sectionNumber, int count) {
+        StringBuilder json = new StringBuilder("```json\n[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("\n  {");
+            if (sectionNumber == 2) {
+                json.append("\"scenario\": \"During sprint planning a teammate repeatedly dismisses ideas from ")
+                        .append("junior members and the discussion stalls before any estimate is agreed.\", ")
+                        .append("\"prompt\": \"What would you most likely do?\", \"options\": [");
+                int[] scores = {100, 70, 40, 10};
+                for (int o = 0; o < scores.length; o++) {
+                    if (o > 0) {
+                        json.append(", ");
+                    }
+                    json.append("{\"text\": \"Response option ").append(o + 1)
+                            .append(" describing a concrete action\", \"traitImpactScore\": ").append(scores[o])
+                            .append(", \"rationale\": \"Explains why this response is more or less effective.\"}");
+                }
+                json.append(']');
+            } else {
+                json.append("\"prompt\": \"A train travels 360 km in 4 hours. Question ").append(i + 1)
+                        .append(": what is its average speed in km/h?\", ")
+                        .append("\"options\": [\"80\", \"90\", \"100\", \"120\"], \"correctOptionIndex\": 1");
+            }
+            json.append('}');
+        }
+        return json.append("\n]\n```").toString();
+    }
+
+    /**
+     * An interest evaluation reply of roughly {@code kilobytes} KB wrapped in a markdown fence,
+     * as returned by the evaluation prompt.
+     */
+    public static String evaluationResponse(int kilobytes) {
+        StringBuilder json = new StringBuilder("Here is the evaluation:\n```json\n{\"interests\": [");
+        int i = 0;
+        while (json.length() < kilobytes * 1024) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"name\": \"Interest ").append(i)
+                    .append("\", \"score\": ").append(i % 100)
+                    .append(", \"evidence\": \"The candidate described building side projects and reading about this ")
+                    .append("topic regularly, which indicates sustained curiosity.\"}");
+            i++;
+        }
+        return json.append("], \"summary\": \"Strong technical interests.\"}\n```").toString();
+    }
+}
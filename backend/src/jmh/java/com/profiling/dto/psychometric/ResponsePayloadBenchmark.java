@@ -0,0 +1,76 @@
+package com.profiling.dto.psychometric;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.profiling.benchmark.BenchmarkFixtures;
+import com.profiling.model.psychometric.PsychometricSession;
+import com.profiling.model.psychometric.Question;
+import com.profiling.service.LlmCallMetrics;
+import com.profiling.service.LlmResilience;
+import com.profiling.service.psychometric.ReportGenerationService;
+import com.profiling.service.psychometric.ScoringService;
+import com.profiling.util.FieldSelection;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * JSON serialization of the candidate-facing payloads of a 120-question session: the full
+ * question model against the candidate projection, and the full report against a
+ * {@code ?fields=} selection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponsePayloadBenchmark {
+
+    static final String REPORT_FIELDS = "overallScore,performanceBucket,candidatePercentile,strengths,weaknesses";
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private List<Question> questions;
+    private PsychometricReportResponse report;
+
+    @Setup
+    public void setUp() {
+        PsychometricSession session = BenchmarkFixtures.completedSession();
+        questions = session.getQuestions();
+        LlmCallMetrics metrics = new LlmCallMetrics(new SimpleMeterRegistry());
+        report = PsychometricReportResponse.from(new ReportGenerationService(WebClient.builder(),
+                new ScoringService(), metrics, LlmResilience.withDefaults(metrics)).generateReport(session));
+    }
+
+    @Benchmark
+    public byte[] fullQuestions() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(questions);
+    }
+
+    @Benchmark
+    public byte[] candidateQuestions() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(CandidateQuestion.fromAll(questions));
+    }
+
+    @Benchmark
+    public byte[] fullReport() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(report);
+    }
+
+    @Benchmark
+    public byte[] selectedReportFields() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(FieldSelection.select(objectMapper, report, REPORT_FIELDS));
+    }
+}
@@ -0,0 +1,61 @@
+package com.profiling.service;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.profiling.benchmark.BenchmarkFixtures;
+import com.profiling.dto.ReportDownloadRequest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * The OpenPDF report behind POST /api/report/download: a full render (cache disabled), a
+ * repeated download served from the rendered PDF, and the canonical payload hash alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReportPdfGenerationBenchmark {
+
+    private final PdfRenderingService pdfRenderingService = new PdfRenderingService(new SimpleMeterRegistry(), 1, 4, 60_000, 5);
+    private final ReportPdfGenerationService uncached =
+            new ReportPdfGenerationService(pdfRenderingService, new SimpleMeterRegistry(), 0, 0);
+    private final ReportPdfGenerationService cached =
+            new ReportPdfGenerationService(pdfRenderingService, new SimpleMeterRegistry(), 200, 64L << 20);
+    private ReportDownloadRequest request;
+
+    @Setup
+    public void setUp() throws IOException {
+        request = BenchmarkFixtures.reportDownloadRequest();
+        cached.generatePdfReport(request);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pdfRenderingService.stop();
+    }
+
+    @Benchmark
+    public byte[] render() throws IOException {
+        return uncached.generatePdfReport(request);
+    }
+
+    @Benchmark
+    public byte[] cachedDownload() throws IOException {
+        return cached.generatePdfReport(request);
+    }
+
+    @Benchmark
+    public String cacheKey() throws IOException {
+        return cached.cacheKey(request);
+    }
+}
@@ -0,0 +1,58 @@
+package com.profiling.service.psychometric;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.profiling.benchmark.BenchmarkFixtures;
+import com.profiling.model.psychometric.PsychometricSession;
+import com.profiling.service.PdfRenderingService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Wall-clock time of the answers PDF as one document ({@code chunkSize=0}) and as chunks rendered
+ * concurrently on a pool with one thread per core and merged with PDFBox.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AnswersPdfChunkingBenchmark {
+
+    @Param({"120", "500"})
+    public int questions;
+
+    @Param({"0", "40"})
+    public int chunkSize;
+
+    private PdfRenderingService pdfRenderingService;
+    private AnswersPdfService answersPdfService;
+    private PsychometricSession session;
+
+    @Setup
+    public void setUp() {
+        pdfRenderingService = new PdfRenderingService(new SimpleMeterRegistry(),
+                Runtime.getRuntime().availableProcessors(), 32, 300_000, 5);
+        answersPdfService = new AnswersPdfService(pdfRenderingService, chunkSize, 16 << 20);
+        session = BenchmarkFixtures.completedSession(questions);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pdfRenderingService.stop();
+    }
+
+    @Benchmark
+    public byte[] generateAnswersPdf() throws IOException {
+        return answersPdfService.generateAnswersPdf(session);
+    }
+}
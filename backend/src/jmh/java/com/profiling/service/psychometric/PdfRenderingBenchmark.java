@@ -0,0 +1,62 @@
+package com.profiling.service.psychometric;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.profiling.benchmark.BenchmarkFixtures;
+import com.profiling.model.psychometric.PsychometricReport;
+import com.profiling.model.psychometric.PsychometricSession;
+import com.profiling.service.LlmCallMetrics;
+import com.profiling.service.LlmResilience;
+import com.profiling.service.PdfRenderingService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * HTML-to-PDF rendering of the talent report and of the 120-question answers sheet, through
+ * the shared render pool (one thread, so the timing includes the hand-off).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PdfRenderingBenchmark {
+
+    private final PdfRenderingService pdfRenderingService = new PdfRenderingService(new SimpleMeterRegistry(), 1, 4, 60_000, 5);
+    private final PdfReportService pdfReportService = new PdfReportService(pdfRenderingService);
+    private final AnswersPdfService answersPdfService = new AnswersPdfService(pdfRenderingService, 40, 16 << 20);
+    private PsychometricSession session;
+    private PsychometricReport report;
+
+    @Setup
+    public void setUp() {
+        session = BenchmarkFixtures.completedSession();
+        LlmCallMetrics metrics = new LlmCallMetrics(new SimpleMeterRegistry());
+        report = new ReportGenerationService(WebClient.builder(), new ScoringService(),
+                metrics, LlmResilience.withDefaults(metrics)).generateReport(session);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pdfRenderingService.stop();
+    }
+
+    @Benchmark
+    public byte[] generatePdfReport() throws IOException {
+        return pdfReportService.generatePdfReport(report);
+    }
+
+    @Benchmark
+    public byte[] generateAnswersPdf() throws IOException {
+        return answersPdfService.generateAnswersPdf(session);
+    }
+}
@@ -0,0 +1,55 @@
+package com.profiling.service.psychometric;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.profiling.benchmark.BenchmarkFixtures;
+import com.profiling.model.psychometric.Question;
+import com.profiling.service.LlmCallMetrics;
+import com.profiling.service.LlmResilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Parsing of model replies into questions: one batch (10) and a whole section (40),
+ * for plain MCQ sections and the SJT behavioral section.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuestionGeneratorServiceBenchmark {
+
+    @Param({"1", "2"})
+    public int sectionNumber;
+
+    @Param({"10", "40"})
+    public int questionCount;
+
+    private QuestionGeneratorService questionGeneratorService;
+    private String response;
+    private List<String> categories;
+
+    @Setup
+    public void setUp() {
+        LlmCallMetrics metrics = new LlmCallMetrics(new SimpleMeterRegistry());
+        questionGeneratorService = new QuestionGeneratorService(WebClient.builder(),
+                metrics, LlmResilience.withDefaults(metrics));
+        response = BenchmarkFixtures.questionBatchResponse(sectionNumber, questionCount);
+        categories = BenchmarkFixtures.categories(sectionNumber);
+    }
+
+    @Benchmark
+    public List<Question> parseQuestionsFromResponse() {
+        return questionGeneratorService.parseQuestionsFromResponse(response, sectionNumber, categories, "MCQ", 1);
+    }
+}
@@ -0,0 +1,51 @@
+package com.profiling.service.psychometric;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.profiling.benchmark.BenchmarkFixtures;
+import com.profiling.model.psychometric.PsychometricReport;
+import com.profiling.model.psychometric.PsychometricSession;
+import com.profiling.service.LlmCallMetrics;
+import com.profiling.service.LlmResilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Report generation without an OpenAI key, i.e. scoring plus generateDefaultReportContent,
+ * and the deterministic first phase of progressive delivery (generateBaseReport).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReportGenerationServiceBenchmark {
+
+    private ReportGenerationService reportGenerationService;
+    private PsychometricSession session;
+
+    @Setup
+    public void setUp() {
+        LlmCallMetrics metrics = new LlmCallMetrics(new SimpleMeterRegistry());
+        reportGenerationService = new ReportGenerationService(WebClient.builder(), new ScoringService(),
+                metrics, LlmResilience.withDefaults(metrics));
+        session = BenchmarkFixtures.completedSession();
+    }
+
+    @Benchmark
+    public PsychometricReport generateReportWithDefaultContent() {
+        return reportGenerationService.generateReport(session);
+    }
+
+    @Benchmark
+    public PsychometricReport generateBaseReport() {
+        return reportGenerationService.generateBaseReport(session);
+    }
+}
@@ -0,0 +1,42 @@
+package com.profiling.service.psychometric;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.profiling.benchmark.BenchmarkFixtures;
+import com.profiling.model.psychometric.PsychometricSession;
+
+/**
+ * Scoring of a completed 120-question session.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScoringServiceBenchmark {
+
+    private final ScoringService scoringService = new ScoringService();
+    private PsychometricSession session;
+
+    @Setup
+    public void setUp() {
+        session = BenchmarkFixtures.completedSession();
+    }
+
+    @Benchmark
+    public Map<String, Integer> calculateBigFiveScores() {
+        return scoringService.calculateBigFiveScores(session);
+    }
+
+    @Benchmark
+    public Map<String, Double> calculateSectionScores() {
+        return scoringService.calculateSectionScores(session);
+    }
+}
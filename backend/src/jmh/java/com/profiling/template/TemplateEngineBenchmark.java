@@ -0,0 +1,42 @@
+package com.profiling.template;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.profiling.benchmark.BenchmarkFixtures;
+import com.profiling.model.Profile;
+
+/**
+ * Renders the seeded templates; {@code professional-profile} is the longest (HTML layout).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemplateEngineBenchmark {
+
+    @Param({"professional", "cover", "professional-profile", "designer-portrait"})
+    public String templateId;
+
+    private final TemplateEngine templateEngine = new TemplateEngine();
+    private String template;
+    private Profile profile;
+
+    @Setup
+    public void setUp() {
+        template = BenchmarkFixtures.seededTemplates().get(templateId).getContent();
+        profile = BenchmarkFixtures.profile();
+    }
+
+    @Benchmark
+    public String render() {
+        return templateEngine.render(template, profile);
+    }
+}
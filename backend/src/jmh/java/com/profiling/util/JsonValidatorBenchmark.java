@@ -0,0 +1,35 @@
+package com.profiling.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.profiling.benchmark.BenchmarkFixtures;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonValidatorBenchmark {
+
+    @Param({"4", "64"})
+    public int kilobytes;
+
+    private String response;
+
+    @Setup
+    public void setUp() {
+        response = BenchmarkFixtures.evaluationResponse(kilobytes);
+    }
+
+    @Benchmark
+    public String extractJsonFromText() {
+        return JsonValidator.extractJsonFromText(response);
+    }
+}
@@ -0,0 +1,95 @@
+package com.profiling.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Per-endpoint latency samples for a load run. Thread-safe; samples are kept in memory,
+ * which is fine for the few thousand requests a run makes.
+ */
+class LoadStats {
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentSkipListMap<>();
+    private final long startNanos = System.nanoTime();
+
+    void record(String endpoint, long nanos, boolean success) {
+        endpoints.computeIfAbsent(endpoint, key -> new Endpoint()).add(nanos, success);
+    }
+
+    /**
+     * One row per endpoint: request count, errors, throughput over the whole run and
+     * latency percentiles in milliseconds.
+     */
+    List<Row> summarize() {
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+        List<Row> rows = new ArrayList<>();
+        endpoints.forEach((name, endpoint) -> rows.add(endpoint.summarize(name, elapsedSeconds)));
+        return rows;
+    }
+
+    String format(List<Row> rows) {
+        StringBuilder table = new StringBuilder(String.format("%-22s %7s %6s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms"));
+        for (Row row : rows) {
+            table.append(String.format("%-22s %7d %6d %8.2f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    row.endpoint(), row.count(), row.errors(), row.throughput(),
+                    row.p50(), row.p90(), row.p95(), row.p99(), row.max()));
+        }
+        return table.toString();
+    }
+
+    void writeCsv(List<Row> rows, Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("endpoint,count,errors,throughput_rps,p50_ms,p90_ms,p95_ms,p99_ms,max_ms");
+        for (Row row : rows) {
+            lines.add(String.format(Locale.ROOT, "%s,%d,%d,%.3f,%.1f,%.1f,%.1f,%.1f,%.1f",
+                    row.endpoint(), row.count(), row.errors(), row.throughput(),
+                    row.p50(), row.p90(), row.p95(), row.p99(), row.max()));
+        }
+        Files.createDirectories(file.getParent());
+        Files.write(file, lines);
+    }
+
+    record Row(String endpoint, int count, int errors, double throughput,
+               double p50, double p90, double p95, double p99, double max) {
+    }
+
+    private static final class Endpoint {
+
+        private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        private final Map<Boolean, Integer> outcomes = new ConcurrentHashMap<>();
+
+        void add(long nanos, boolean success) {
+            latencies.add(nanos);
+            outcomes.merge(success, 1, Integer::sum);
+        }
+
+        Row summarize(String name, double elapsedSeconds) {
+            List<Long> sorted;
+            synchronized (latencies) {
+                sorted = new ArrayList<>(latencies);
+            }
+            Collections.sort(sorted);
+            int count = sorted.size();
+            return new Row(name, count, outcomes.getOrDefault(false, 0), count / elapsedSeconds,
+                    percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 95),
+                    percentile(sorted, 99), percentile(sorted, 100));
+        }
+
+        private static double percentile(List<Long> sorted, double percentile) {
+            if (sorted.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+            return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1))) / 1e6;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.profiling.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exam-start login storm: many candidates log in at once while another client keeps polling
+ * a session status, as candidates who are already in do. Shows the login latency, how many
+ * logins the bounded hashing pool sheds with 503, and whether the non-login endpoint keeps
+ * its latency compared with a quiet baseline.
+ *
+ * Run with {@code ./gradlew loadTest --tests '*LoginStormLoadTest'}; tune with
+ * {@code -Dloadtest.login.accounts}, {@code -Dloadtest.login.users},
+ * {@code -Dloadtest.login.duration-s} and the {@code app.security.*} settings. The summary is
+ * printed and written to {@code build/reports/loadtest/login-storm.csv}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+@DisplayName("Login storm load test")
+class LoginStormLoadTest {
+
+    private static final int ACCOUNTS = Integer.getInteger("loadtest.login.accounts", 200);
+    private static final int USERS = Integer.getInteger("loadtest.login.users", 200);
+    private static final long DURATION_S = Long.getLong("loadtest.login.duration-s", 30);
+    private static final long BASELINE_S = Long.getLong("loadtest.login.baseline-s", 5);
+    private static final long PROBE_INTERVAL_MS = Long.getLong("loadtest.login.probe-interval-ms", 50);
+    private static final String PASSWORD = "Storm-password-1";
+
+    @Container
+    static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    static final OpenAiStubServer STUB = startStub();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", () -> MONGO.getReplicaSetUrl("profiling_loadtest_login"));
+        registry.add("openai.base-url", STUB::getBaseUrl);
+        registry.add("openai.api.key", () -> "stub-key");
+        registry.add("openai.apiKey", () -> "stub-key");
+        registry.add("app.admission.llm-calls-per-minute",
+                () -> System.getProperty("loadtest.admission.llm-calls-per-minute", "1000000"));
+        registry.add("spring.security.oauth2.client.registration.google.client-id", () -> "loadtest");
+        registry.add("spring.security.oauth2.client.registration.google.client-secret", () -> "loadtest");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    private final LoadStats stats = new LoadStats();
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @Test
+    @DisplayName("login storm next to session status polling")
+    void loginStorm() throws Exception {
+        registerAccounts();
+        String sessionId = createSession();
+        String statusPath = "/api/psychometric/sessions/" + sessionId + "/status";
+
+        long baselineEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(BASELINE_S);
+        while (System.nanoTime() < baselineEnd) {
+            call("status_baseline", "GET", statusPath, null);
+            Thread.sleep(PROBE_INTERVAL_MS);
+        }
+
+        AtomicInteger loggedIn = new AtomicInteger();
+        long stormEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(DURATION_S);
+        ExecutorService pool = Executors.newFixedThreadPool(USERS + 1);
+        List<Future<?>> runs = new ArrayList<>();
+        for (int user = 0; user < USERS; user++) {
+            int account = user % ACCOUNTS;
+            runs.add(pool.submit(() -> {
+                Map<String, Object> login = Map.of("email", email(account), "password", PASSWORD);
+                while (System.nanoTime() < stormEnd) {
+                    int status = call("login", "POST", "/api/auth/login", login);
+                    if (status == 200) {
+                        loggedIn.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        runs.add(pool.submit(() -> {
+            while (System.nanoTime() < stormEnd) {
+                call("status_during_storm", "GET", statusPath, null);
+                Thread.sleep(PROBE_INTERVAL_MS);
+            }
+            return null;
+        }));
+        for (Future<?> run : runs) {
+            run.get();
+        }
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.MINUTES);
+
+        List<LoadStats.Row> rows = stats.summarize();
+        System.out.println();
+        System.out.printf("%d users logging in for %ds over %d accounts, %d logins succeeded%n",
+                USERS, DURATION_S, ACCOUNTS, loggedIn.get());
+        System.out.println(stats.format(rows));
+        String reportDir = System.getProperty("loadtest.report-dir");
+        if (reportDir != null) {
+            stats.writeCsv(rows, Path.of(reportDir, "login-storm.csv"));
+        }
+
+        assertTrue(loggedIn.get() > 0, "no login succeeded");
+        LoadStats.Row probe = rows.stream().filter(row -> row.endpoint().equals("status_during_storm"))
+                .findFirst().orElseThrow();
+        assertEquals(0, probe.errors(), "session status failed during the login storm");
+    }
+
+    private void registerAccounts() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(ACCOUNTS, 8));
+        List<Future<Integer>> registrations = new ArrayList<>();
+        for (int account = 0; account < ACCOUNTS; account++) {
+            int number = account;
+            registrations.add(pool.submit(() -> call("register", "POST", "/api/auth/register",
+                    Map.of("email", email(number), "password", PASSWORD, "name", "Storm User " + number))));
+        }
+        for (Future<Integer> registration : registrations) {
+            int status = registration.get();
+            if (status != 201) {
+                throw new IllegalStateException("register returned HTTP " + status);
+            }
+        }
+        pool.shutdown();
+    }
+
+    private String createSession() throws IOException, InterruptedException {
+        Map<String, Object> userInfo = new LinkedHashMap<>();
+        userInfo.put("name", "Storm Probe");
+        userInfo.put("email", "storm.probe@example.com");
+        userInfo.put("degree", "B.Tech");
+        userInfo.put("careerInterest", "Backend engineering");
+        HttpResponse<String> response = http.send(request("POST", "/api/psychometric/sessions", Map.of("userInfo", userInfo)),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("create_session returned HTTP " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body()).path("sessionId").asText();
+    }
+
+    /**
+     * Times one request and returns its status. A 503 from login is the hashing pool shedding
+     * load as designed, so it is recorded under its own endpoint instead of as an error.
+     */
+    private int call(String endpoint, String method, String path, Object body) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        int status;
+        try {
+            status = http.send(request(method, path, body), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            stats.record(endpoint, System.nanoTime() - start, false);
+            return -1;
+        }
+        String name = status == 503 && endpoint.equals("login") ? "login_rejected" : endpoint;
+        stats.record(name, System.nanoTime() - start, status < 400 || name.equals("login_rejected"));
+        return status;
+    }
+
+    private HttpRequest request(String method, String path, Object body) throws IOException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofMinutes(1));
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        return request.build();
+    }
+
+    private static String email(int account) {
+        return "storm.user" + account + "@example.com";
+    }
+
+    private static OpenAiStubServer startStub() {
+        try {
+            return new OpenAiStubServer(OpenAiStubServer.Settings.fromSystemProperties()).start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start the OpenAI stub", e);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.profiling.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local stand-in for the OpenAI chat completions API.
+ *
+ * Answers {@code POST /v1/chat/completions} with canned but schema-valid content chosen from
+ * the prompt (question batches, the report JSON, interest evaluations, or plain text), after
+ * a configurable delay. A configurable share of requests fails with 429 or 500 so fallback
+ * paths are exercised too. Point {@code openai.base-url} at {@link #getBaseUrl()}.
+ */
+public class OpenAiStubServer implements AutoCloseable {
+
+    private final Settings settings;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public OpenAiStubServer(Settings settings) {
+        this.settings = settings;
+    }
+
+    public OpenAiStubServer start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "openai-stub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/v1/chat/completions", this::handle);
+        server.start();
+        return this;
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1";
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public long getInjectedErrorCount() {
+        return injectedErrors.get();
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            JsonNode request;
+            try (InputStream body = exchange.getRequestBody()) {
+                request = objectMapper.readTree(body);
+            }
+
+            sleep(settings.sampleLatencyMillis());
+
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < settings.rateLimitRate()) {
+                injectedErrors.incrementAndGet();
+                // Like the real API, tell the client when to come back
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                sendError(exchange, 429, "rate_limit_exceeded", "Rate limit reached (stub)");
+                return;
+            }
+            if (roll < settings.rateLimitRate() + settings.serverErrorRate()) {
+                injectedErrors.incrementAndGet();
+                sendError(exchange, 500, "server_error", "The server had an error (stub)");
+                return;
+            }
+
+            String prompt = lastMessage(request);
+            String content = StubResponses.forPrompt(prompt, request.path("response_format").path("type").asText(""));
+            send(exchange, 200, completion(request.path("model").asText("gpt-4o-mini"), prompt, content));
+        }
+    }
+
+    private Map<String, Object> completion(String model, String prompt, String content) {
+        int promptTokens = Math.max(1, prompt.length() / 4);
+        int completionTokens = Math.max(1, content.length() / 4);
+
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("role", "assistant");
+        message.put("content", content);
+
+        Map<String, Object> choice = new LinkedHashMap<>();
+        choice.put("index", 0);
+        choice.put("message", message);
+        choice.put("finish_reason", "stop");
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("id", "chatcmpl-stub-" + requests.get());
+        response.put("object", "chat.completion");
+        response.put("created", Instant.now().getEpochSecond());
+        response.put("model", model);
+        response.put("choices", List.of(choice));
+        response.put("usage", Map.of(
+                "prompt_tokens", promptTokens,
+                "completion_tokens", completionTokens,
+                "total_tokens", promptTokens + completionTokens));
+        return response;
+    }
+
+    private String lastMessage(JsonNode request) {
+        JsonNode messages = request.path("messages");
+        if (!messages.isArray() || messages.isEmpty()) {
+            return "";
+        }
+        return messages.get(messages.size() - 1).path("content").asText("");
+    }
+
+    private void sendError(HttpExchange exchange, int status, String code, String message) throws IOException {
+        send(exchange, status, Map.of("error", Map.of("message", message, "type", code, "code", code)));
+    }
+
+    private void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Latency is {@code latencyMillis} plus a uniform jitter of up to {@code jitterMillis};
+     * the error rates are fractions of all requests.
+     */
+    public record Settings(long latencyMillis, long jitterMillis, double rateLimitRate, double serverErrorRate) {
+
+        static Settings fromSystemProperties() {
+            return new Settings(
+                    Long.getLong("loadtest.stub.latency-ms", 800),
+                    Long.getLong("loadtest.stub.jitter-ms", 400),
+                    Double.parseDouble(System.getProperty("loadtest.stub.rate-limit-rate", "0.02")),
+                    Double.parseDouble(System.getProperty("loadtest.stub.server-error-rate", "0.01")));
+        }
+
+        long sampleLatencyMillis() {
+            return latencyMillis + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.profiling.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the full candidate flow against the running application: create a session, poll
+ * until the questions are generated, fetch and submit answers, generate the report and
+ * download both PDFs. OpenAI is replaced by {@link OpenAiStubServer} and MongoDB runs in
+ * a container, so the numbers reflect this service rather than the provider.
+ *
+ * Run with {@code ./gradlew loadTest}; tune with {@code -Dloadtest.users},
+ * {@code -Dloadtest.iterations} and the {@code -Dloadtest.stub.*} settings. A per-endpoint
+ * summary is printed and written to {@code build/reports/loadtest/summary.csv}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+@DisplayName("Psychometric flow load test")
+class PsychometricFlowLoadTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 10);
+    private static final int ITERATIONS = Integer.getInteger("loadtest.iterations", 2);
+    private static final long POLL_INTERVAL_MS = Long.getLong("loadtest.poll-interval-ms", 500);
+    private static final long READY_TIMEOUT_S = Long.getLong("loadtest.ready-timeout-s", 300);
+
+    @Container
+    static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    static final OpenAiStubServer STUB = startStub();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", () -> MONGO.getReplicaSetUrl("profiling_loadtest"));
+        registry.add("openai.base-url", STUB::getBaseUrl);
+        registry.add("openai.api.key", () -> "stub-key");
+        registry.add("openai.apiKey", () -> "stub-key");
+        // Measure the service itself; admission control is sized for the real provider budget
+        registry.add("app.admission.llm-calls-per-minute",
+                () -> System.getProperty("loadtest.admission.llm-calls-per-minute", "1000000"));
+        registry.add("spring.security.oauth2.client.registration.google.client-id", () -> "loadtest");
+        registry.add("spring.security.oauth2.client.registration.google.client-secret", () -> "loadtest");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    private final LoadStats stats = new LoadStats();
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @Test
+    @DisplayName("candidate flow under concurrent users")
+    void candidateFlow() throws Exception {
+        AtomicInteger completed = new AtomicInteger();
+        ExecutorService users = Executors.newFixedThreadPool(USERS);
+        List<Future<?>> runs = new ArrayList<>();
+        for (int user = 0; user < USERS; user++) {
+            int userNumber = user;
+            runs.add(users.submit(() -> {
+                for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+                    try {
+                        runFlow(userNumber, iteration);
+                        completed.incrementAndGet();
+                    } catch (Exception e) {
+                        System.err.println("Flow failed for user " + userNumber + ": " + e.getMessage());
+                    }
+                }
+            }));
+        }
+        for (Future<?> run : runs) {
+            run.get();
+        }
+        users.shutdown();
+        users.awaitTermination(1, TimeUnit.MINUTES);
+
+        List<LoadStats.Row> rows = stats.summarize();
+        System.out.println();
+        System.out.printf("%d users x %d iterations, %d flows completed, %d stub calls (%d injected errors)%n",
+                USERS, ITERATIONS, completed.get(), STUB.getRequestCount(), STUB.getInjectedErrorCount());
+        System.out.println(stats.format(rows));
+        String reportDir = System.getProperty("loadtest.report-dir");
+        if (reportDir != null) {
+            stats.writeCsv(rows, Path.of(reportDir, "summary.csv"));
+        }
+
+        assertTrue(completed.get() > 0, "no flow completed");
+    }
+
+    private void runFlow(int user, int iteration) throws Exception {
+        Map<String, Object> userInfo = new LinkedHashMap<>();
+        userInfo.put("name", "Load User " + user);
+        userInfo.put("email", "load.user" + user + "." + iteration + "@example.com");
+        userInfo.put("phone", "9876543210");
+        userInfo.put("age", 21);
+        userInfo.put("degree", "B.Tech");
+        userInfo.put("specialization", "Computer Science");
+        userInfo.put("careerInterest", "Backend engineering");
+        userInfo.put("technicalSkills", "Java, Spring Boot, MongoDB");
+        userInfo.put("softSkills", "communication, teamwork");
+
+        JsonNode created = send("create_session", "POST", "/api/psychometric/sessions", Map.of("userInfo", userInfo));
+        String sessionId = created.path("sessionId").asText();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(READY_TIMEOUT_S);
+        String status;
+        do {
+            Thread.sleep(POLL_INTERVAL_MS);
+            status = send("session_status", "GET", "/api/psychometric/sessions/" + sessionId + "/status", null)
+                    .path("status").asText();
+            if ("FAILED".equals(status)) {
+                throw new IllegalStateException("question generation failed for " + sessionId);
+            }
+        } while (!"READY".equals(status) && System.nanoTime() < deadline);
+        if (!"READY".equals(status)) {
+            throw new IllegalStateException("session " + sessionId + " not ready after " + READY_TIMEOUT_S + "s");
+        }
+
+        JsonNode questions = send("session_questions", "GET", "/api/psychometric/sessions/" + sessionId + "/questions", null);
+        List<Map<String, Object>> answers = new ArrayList<>();
+        int index = 0;
+        for (JsonNode question : questions) {
+            int options = Math.max(1, question.path("options").size());
+            answers.add(Map.of("questionId", question.path("id").asText(), "selectedOptionIndex", index++ % options));
+        }
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("totalQuestions", answers.size());
+        results.put("attempted", answers.size());
+        results.put("notAttempted", 0);
+        results.put("correct", 0);
+        results.put("wrong", 0);
+        results.put("markedForReview", 0);
+        results.put("answeredAndMarkedForReview", 0);
+        results.put("submittedAt", Instant.now().toString());
+
+        Map<String, Object> submission = new LinkedHashMap<>();
+        submission.put("sessionId", sessionId);
+        submission.put("userId", "load-user-" + user);
+        submission.put("testId", sessionId);
+        submission.put("answers", answers);
+        submission.put("results", results);
+        send("submit_test", "POST", "/api/test/submit", submission);
+
+        send("generate_report", "POST", "/api/psychometric/sessions/" + sessionId + "/generate-report", null);
+        download("report_pdf", "/api/psychometric/sessions/" + sessionId + "/report/pdf");
+        download("answers_pdf", "/api/psychometric/sessions/" + sessionId + "/answers/pdf");
+    }
+
+    private JsonNode send(String endpoint, String method, String path, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(path)).timeout(Duration.ofMinutes(10));
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        HttpResponse<String> response = timed(endpoint, request.build(), HttpResponse.BodyHandlers.ofString());
+        return response.body() == null || response.body().isEmpty()
+                ? objectMapper.nullNode()
+                : objectMapper.readTree(response.body());
+    }
+
+    private void download(String endpoint, String path) throws IOException, InterruptedException {
+        timed(endpoint, HttpRequest.newBuilder(uri(path)).timeout(Duration.ofMinutes(10)).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private <T> HttpResponse<T> timed(String endpoint, HttpRequest request, HttpResponse.BodyHandler<T> handler)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<T> response;
+        try {
+            response = http.send(request, handler);
+        } catch (IOException e) {
+            stats.record(endpoint, System.nanoTime() - start, false);
+            throw e;
+        }
+        boolean success = response.statusCode() < 400;
+        stats.record(endpoint, System.nanoTime() - start, success);
+        if (!success) {
+            throw new IllegalStateException(endpoint + " returned HTTP " + response.statusCode());
+        }
+        return response;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static OpenAiStubServer startStub() {
+        try {
+            return new OpenAiStubServer(OpenAiStubServer.Settings.fromSystemProperties()).start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start the OpenAI stub", e);
+        }
+    }
+}
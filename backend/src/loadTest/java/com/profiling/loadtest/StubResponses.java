@@ -0,0 +1,123 @@
+package com.profiling.loadtest;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Canned model replies for {@link OpenAiStubServer}, shaped like the prompts ask for so the
+ * services parse them exactly as they would parse a real answer.
+ */
+final class StubResponses {
+
+    private static final Pattern QUESTION_COUNT = Pattern.compile("Generate exactly (\\d+) questions");
+
+    private StubResponses() {
+        // utility class
+    }
+
+    static String forPrompt(String prompt, String responseFormat) {
+        if ("json_object".equals(responseFormat)) {
+            return evaluation();
+        }
+        if (prompt.contains("JSON array of exactly 15 question strings")) {
+            return chatbotQuestions();
+        }
+        if (prompt.contains("Generate a professional psychometric report in JSON format")) {
+            return report();
+        }
+        Matcher count = QUESTION_COUNT.matcher(prompt);
+        if (count.find()) {
+            int questions = Integer.parseInt(count.group(1));
+            return prompt.contains("traitImpactScore") ? situationalQuestions(questions) : multipleChoiceQuestions(questions);
+        }
+        return paragraph();
+    }
+
+    static String multipleChoiceQuestions(int count) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"prompt\": \"A train travels 360 km in 4 hours. Question ").append(i + 1)
+                    .append(": what is its average speed in km/h?\", ")
+                    .append("\"options\": [\"80\", \"90\", \"100\", \"120\"], ")
+                    .append("\"correctOptionIndex\": ").append(i % 4).append('}');
+        }
+        return json.append(']').toString();
+    }
+
+    static String situationalQuestions(int count) {
+        int[] scores = {100, 50, 25, 0};
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"scenario\": \"A teammate keeps missing review deadlines and the release is at risk.\", ")
+                    .append("\"prompt\": \"What would you most likely do?\", \"options\": [");
+            for (int o = 0; o < scores.length; o++) {
+                if (o > 0) {
+                    json.append(", ");
+                }
+                int score = scores[(o + i) % scores.length];
+                json.append("{\"text\": \"Response option ").append(o + 1).append("\", ")
+                        .append("\"traitImpactScore\": ").append(score).append(", ")
+                        .append("\"effectivenessLevel\": \"").append(score >= 75 ? "HIGH" : score >= 50 ? "MEDIUM" : "LOW")
+                        .append("\", \"rationale\": \"Stub rationale.\"}");
+            }
+            json.append("]}");
+        }
+        return json.append(']').toString();
+    }
+
+    static String report() {
+        return "{"
+                + "\"summaryBio\": \"The candidate is a computer science student aiming for a backend engineering role.\","
+                + "\"interviewSummary\": \"Overall performance was solid, with clear strengths in analytical areas.\","
+                + "\"strengths\": [\"Structured problem solving\", \"Clear written communication\", \"Attention to detail\"],"
+                + "\"weaknesses\": [\"Abstract reasoning under time pressure\", \"Delegation\"],"
+                + "\"opportunities\": [\"Backend internships\", \"Open source contributions\", \"Cloud certifications\"],"
+                + "\"threats\": [\"A competitive entry-level market\", \"Fast-moving tooling\"],"
+                + "\"swotAnalysis\": \"Strengths outweigh weaknesses; the main risk is market competition.\","
+                + "\"fitAnalysis\": \"A good fit for backend roles with some development needed.\","
+                + "\"behavioralInsights\": \"Collaborative, calm under pressure and reliable.\","
+                + "\"domainInsights\": \"Sound fundamentals in data structures and databases.\","
+                + "\"narrativeSummary\": \"A promising candidate who should focus on abstract reasoning next.\""
+                + "}";
+    }
+
+    static String evaluation() {
+        return "{"
+                + "\"interests\": {\"tech\": 82, \"design\": 41, \"management\": 55, \"entrepreneurship\": 37, \"research\": 64},"
+                + "\"pie_chart_labels\": [\"Tech\", \"Design\", \"Management\", \"Entrepreneurship\", \"Research\"],"
+                + "\"pie_chart_values\": [82, 41, 55, 37, 64],"
+                + "\"interest_persona\": \"A builder who enjoys turning ideas into working systems.\","
+                + "\"strengths\": [\"Programming\", \"Curiosity\", \"Persistence\"],"
+                + "\"weaknesses\": [\"Public speaking\", \"Visual design\"],"
+                + "\"dos\": [\"Ship small projects\", \"Read code\", \"Write tests\", \"Ask for reviews\"],"
+                + "\"donts\": [\"Skip fundamentals\", \"Work in isolation\", \"Ignore feedback\"],"
+                + "\"recommended_roles\": [\"Junior Backend Developer\", \"Software Engineering Intern\", \"QA Engineer\", \"Data Analyst Intern\"],"
+                + "\"roadmap_90_days\": \"Month one fundamentals, month two a project, month three interviews.\","
+                + "\"suggested_courses\": [\"CS50\", \"Spring Academy\", \"MongoDB University M001\", \"AWS Cloud Practitioner\"],"
+                + "\"project_ideas\": [\"URL shortener\", \"Chat service\", \"Expense tracker\"],"
+                + "\"summary\": \"Strong technical interest backed by programming skills. Enjoys building systems.\""
+                + "}";
+    }
+
+    static String chatbotQuestions() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 1; i <= 15; i++) {
+            if (i > 1) {
+                json.append(',');
+            }
+            json.append("\"Stub question ").append(i).append(": what draws you to this area?\"");
+        }
+        return json.append(']').toString();
+    }
+
+    static String paragraph() {
+        return "This is a stub paragraph returned by the local OpenAI stand-in. It is long enough to look like "
+                + "real model output in reports and PDFs, and it contains no markup.";
+    }
+}
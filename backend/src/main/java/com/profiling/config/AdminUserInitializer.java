@@ -3,19 +3,23 @@ package com.profiling.config;
 import com.profiling.model.User;
 import com.profiling.model.UserRole;
 import com.profiling.repository.UserRepository;
+import com.profiling.security.RoleVersionCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.ApplicationArguments;
-import org.springframework.boot.ApplicationRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.util.Optional;
 
+/**
+ * Creates or synchronises the configured admin account. Deferred until after readiness: the
+ * Mongo round trips and the BCrypt hash are not needed to serve traffic.
+ */
 @Component
-public class AdminUserInitializer implements ApplicationRunner {
+public class AdminUserInitializer implements DeferredInitializer {
 
     private static final Logger log = LoggerFactory.getLogger(AdminUserInitializer.class);
 
@@ -30,15 +34,18 @@ public class AdminUserInitializer implements ApplicationRunner {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final RoleVersionCache roleVersionCache;
 
     @Autowired
-    public AdminUserInitializer(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public AdminUserInitializer(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                                RoleVersionCache roleVersionCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.roleVersionCache = roleVersionCache;
     }
 
     @Override
-    public void run(ApplicationArguments args) {
+    public void initialize() {
         if (adminEmail == null || adminEmail.isBlank()) {
             log.info("Admin user initialization skipped: app.admin.email is not configured.");
             return;
@@ -53,10 +60,13 @@ public class AdminUserInitializer implements ApplicationRunner {
         if (existingAdmin.isPresent()) {
             User admin = existingAdmin.get();
             boolean dirty = false;
+            boolean promoted = false;
 
             if (!admin.isAdmin()) {
                 admin.setRole(UserRole.ADMIN);
+                admin.setRoleChangedAt(Instant.now());
                 dirty = true;
+                promoted = true;
             }
 
             if (!adminName.equals(admin.getName())) {
@@ -71,6 +81,9 @@ public class AdminUserInitializer implements ApplicationRunner {
 
             if (dirty) {
                 userRepository.save(admin);
+                if (promoted) {
+                    roleVersionCache.invalidate(admin.getId());
+                }
                 log.info("Admin user {} synchronized with configured credentials.", adminEmail);
             }
         } else {
@@ -81,7 +94,8 @@ public class AdminUserInitializer implements ApplicationRunner {
             admin.setProvider("local");
             admin.setRole(UserRole.ADMIN);
 
-            userRepository.save(admin);
+            User saved = userRepository.save(admin);
+            roleVersionCache.invalidate(saved.getId());
             log.info("Admin user {} created from configuration.", adminEmail);
         }
     }
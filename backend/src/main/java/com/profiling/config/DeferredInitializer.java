@@ -0,0 +1,11 @@
+package com.profiling.config;
+
+/**
+ * Startup work that no request depends on, such as seeding reference data. Unlike an
+ * {@code ApplicationRunner}, it runs on a background thread after the application reports
+ * itself ready, so it does not delay readiness.
+ */
+public interface DeferredInitializer {
+
+    void initialize();
+}
@@ -1,6 +1,10 @@
 package com.profiling.config;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -9,41 +13,121 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes one structured JSON access log line per request to the {@code http.access} logger,
+ * which logback ships through a bounded, non-blocking async appender.
+ *
+ * Every request gets a trace id, taken from {@code X-Request-Id} or a W3C {@code traceparent}
+ * header when present and generated otherwise. It is put in the MDC as {@code traceId} so
+ * application logs for the request carry it, and echoed in the {@code X-Request-Id} response
+ * header. Errors (4xx/5xx) and requests slower than the threshold are always logged; fast
+ * successful requests are sampled at {@code app.logging.access.sample-rate}.
+ */
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class LoggingFilter extends OncePerRequestFilter {
 
-    private static final Logger log = LoggerFactory.getLogger(LoggingFilter.class);
+    public static final String TRACE_ID_HEADER = "X-Request-Id";
+    public static final String TRACE_ID_MDC_KEY = "traceId";
+
+    private static final Logger accessLog = LoggerFactory.getLogger("http.access");
+    private static final Pattern VALID_TRACE_ID = Pattern.compile("[A-Za-z0-9._-]{8,64}");
+    private static final Pattern TRACEPARENT = Pattern.compile("[0-9a-f]{2}-([0-9a-f]{32})-[0-9a-f]{16}-[0-9a-f]{2}");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final double sampleRate;
+    private final long slowThresholdMs;
+
+    public LoggingFilter(@Value("${app.logging.access.sample-rate:0.05}") double sampleRate,
+                         @Value("${app.logging.access.slow-threshold-ms:1000}") long slowThresholdMs) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdMs = slowThresholdMs;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        long startTime = System.currentTimeMillis();
-        String method = request.getMethod();
-        String path = request.getRequestURI();
+        long startTime = System.nanoTime();
+        String traceId = resolveTraceId(request);
+        MDC.put(TRACE_ID_MDC_KEY, traceId);
+        response.setHeader(TRACE_ID_HEADER, traceId);
 
-        log.info("Incoming request: {} {}", method, path);
+        Throwable failure = null;
         try {
             filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            failure = e;
+            throw e;
         } finally {
-            long duration = System.currentTimeMillis() - startTime;
-            log.info("Completed request: {} {} with status {} in {} ms", method, path, response.getStatus(), duration);
+            long durationMs = (System.nanoTime() - startTime) / 1_000_000;
+            int status = failure != null && response.getStatus() < 400 ? 500 : response.getStatus();
+            if (shouldLog(status, durationMs)) {
+                logAccess(request, traceId, status, durationMs, failure);
+            }
+            MDC.remove(TRACE_ID_MDC_KEY);
         }
     }
-}
-
-
-
-
-
-
-
-
-
 
+    boolean shouldLog(int status, long durationMs) {
+        if (status >= 400 || durationMs >= slowThresholdMs) {
+            return true;
+        }
+        return sampleRate > 0 && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
 
+    static String resolveTraceId(HttpServletRequest request) {
+        String requestId = request.getHeader(TRACE_ID_HEADER);
+        if (requestId != null && VALID_TRACE_ID.matcher(requestId).matches()) {
+            return requestId;
+        }
+        String traceparent = request.getHeader("traceparent");
+        if (traceparent != null) {
+            var matcher = TRACEPARENT.matcher(traceparent);
+            if (matcher.matches()) {
+                return matcher.group(1);
+            }
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return String.format("%016x%016x", random.nextLong(), random.nextLong());
+    }
 
+    private void logAccess(HttpServletRequest request, String traceId, int status, long durationMs, Throwable failure) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("traceId", traceId);
+        entry.put("method", request.getMethod());
+        entry.put("path", request.getRequestURI());
+        entry.put("status", status);
+        entry.put("durationMs", durationMs);
+        entry.put("slow", durationMs >= slowThresholdMs);
+        entry.put("sampled", status < 400 && durationMs < slowThresholdMs);
+        entry.put("clientIp", request.getRemoteAddr());
+        if (failure != null) {
+            entry.put("error", failure.getClass().getName());
+        }
 
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            json = "{\"traceId\":\"" + traceId + "\",\"status\":" + status + "}";
+        }
+        if (status >= 500) {
+            accessLog.error(json);
+        } else if (status >= 400 || durationMs >= slowThresholdMs) {
+            accessLog.warn(json);
+        } else {
+            accessLog.info(json);
+        }
+    }
+}
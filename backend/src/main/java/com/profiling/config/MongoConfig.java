@@ -0,0 +1,13 @@
+package com.profiling.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.config.EnableMongoAuditing;
+
+/**
+ * Fills {@code @CreatedDate} / {@code @LastModifiedDate} fields on repository saves.
+ * Updates issued through MongoTemplate have to set {@code updatedAt} themselves.
+ */
+@Configuration
+@EnableMongoAuditing
+public class MongoConfig {
+}
@@ -1,13 +1,17 @@
 package com.profiling.config;
 
+import com.profiling.security.BCryptCostCalibrator;
+import com.profiling.security.BoundedPasswordEncoder;
 import com.profiling.security.JwtAuthenticationFilter;
 import com.profiling.security.OAuth2AuthenticationSuccessHandler;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -18,6 +22,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 public class SecurityConfig {
 
     @Autowired
@@ -29,11 +34,34 @@ public class SecurityConfig {
     @Value("${app.frontend.url:http://localhost:4000}")
     private String frontendUrl;
 
+    @Value("${app.security.bcrypt.target-ms:250}")
+    private long bcryptTargetMillis;
+
+    @Value("${app.security.bcrypt.min-strength:10}")
+    private int bcryptMinStrength;
+
+    @Value("${app.security.bcrypt.max-strength:14}")
+    private int bcryptMaxStrength;
+
+    @Value("${app.security.password-hashing.threads:0}")
+    private int hashingThreads;
+
+    @Value("${app.security.password-hashing.queue-capacity:200}")
+    private int hashingQueueCapacity;
+
+    @Value("${app.security.password-hashing.timeout-ms:10000}")
+    private long hashingTimeoutMillis;
+
+    @Value("${app.security.password-hashing.retry-after-seconds:5}")
+    private long hashingRetryAfterSeconds;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(auth -> auth
+                // SSE responses finish on an async dispatch; the request was authorized when it started
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/admin/login").permitAll()
                 .requestMatchers("/api/admin/**").authenticated()
@@ -46,6 +74,9 @@ public class SecurityConfig {
                 .requestMatchers("/api/generate-questions/**").authenticated()
                 .requestMatchers("/api/evaluate/**").authenticated()
                 .requestMatchers("/api/ai-enhance/**").authenticated()
+                // Probes stay open; metrics expose LLM usage and queue internals
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .anyRequest().permitAll()
             )
             .oauth2Login(oauth2 -> oauth2
@@ -61,9 +92,16 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * BCrypt with a cost calibrated to this host, hashed on a bounded pool sized to the cores
+     * so login spikes cannot occupy every request thread.
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int strength = BCryptCostCalibrator.calibrate(bcryptTargetMillis, bcryptMinStrength, bcryptMaxStrength);
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), threads,
+                hashingQueueCapacity, hashingTimeoutMillis, hashingRetryAfterSeconds);
     }
 
     @Bean
@@ -0,0 +1,127 @@
+package com.profiling.config;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Reports time-to-ready and then runs the {@link DeferredInitializer}s.
+ *
+ * Time-to-ready is measured from JVM start, so it includes class loading and the JIT
+ * warm-up that Spring Boot's own {@code application.ready.time} (measured from
+ * {@code SpringApplication.run}) leaves out; this is the figure class-data sharing improves.
+ * It is logged and exported as {@code application.jvm.ready.time}; each deferred
+ * initializer's duration is recorded as {@code application.deferred.init}.
+ *
+ * An initializer that throws is retried on the same thread with exponential backoff, up to
+ * {@code app.startup.deferred-init.max-attempts}; each attempt is timed with outcome
+ * {@code success}, {@code retry} or, for the last one, {@code failure}.
+ */
+@Component
+public class StartupReadinessListener {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupReadinessListener.class);
+
+    private static final long MAX_BACKOFF_MS = 60_000;
+
+    private final List<DeferredInitializer> initializers;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    @Autowired
+    public StartupReadinessListener(
+            List<DeferredInitializer> initializers,
+            MeterRegistry meterRegistry,
+            @Value("${app.startup.deferred-init.max-attempts:5}") int maxAttempts,
+            @Value("${app.startup.deferred-init.initial-backoff-ms:2000}") long initialBackoffMs) {
+        this.initializers = initializers;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = initialBackoffMs;
+    }
+
+    @EventListener
+    public void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() != ReadinessState.ACCEPTING_TRAFFIC || !started.compareAndSet(false, true)) {
+            return;
+        }
+        long readyMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        TimeGauge.builder("application.jvm.ready.time", () -> readyMillis, TimeUnit.MILLISECONDS)
+                .description("Time from JVM start until the application accepted traffic")
+                .register(meterRegistry);
+        log.info("Ready to accept traffic {} ms after JVM start", readyMillis);
+
+        Thread worker = new Thread(this::runInitializers, "deferred-init");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    void runInitializers() {
+        for (DeferredInitializer initializer : initializers) {
+            if (!runWithRetries(initializer)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Runs one initializer until it succeeds or its attempts run out. Returns false only when
+     * the thread was interrupted while backing off.
+     */
+    private boolean runWithRetries(DeferredInitializer initializer) {
+        String name = initializer.getClass().getSimpleName();
+        long backoffMs = initialBackoffMs;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            long start = System.nanoTime();
+            RuntimeException failure = null;
+            try {
+                initializer.initialize();
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+            long elapsed = System.nanoTime() - start;
+            boolean last = attempt == maxAttempts;
+            String outcome = failure == null ? "success" : last ? "failure" : "retry";
+            Timer.builder("application.deferred.init")
+                    .tag("initializer", name)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            if (failure == null) {
+                log.info("Deferred initializer {} finished in {} ms", name, TimeUnit.NANOSECONDS.toMillis(elapsed));
+                return true;
+            }
+            if (last) {
+                log.error("Deferred initializer {} failed after {} attempts; it will run again on the next start",
+                        name, maxAttempts, failure);
+                return true;
+            }
+            log.warn("Deferred initializer {} failed (attempt {} of {}), retrying in {} ms: {}",
+                    name, attempt, maxAttempts, backoffMs, failure.getMessage());
+            try {
+                Thread.sleep(backoffMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+        }
+        return true;
+    }
+}
@@ -1,16 +1,78 @@
 package com.profiling.config;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.profiling.service.LlmCallMetrics;
+import com.profiling.service.LlmResilience;
+
 @Configuration
 public class WebClientConfig {
 
+    @Value("${app.llm.resilience.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.llm.resilience.backoff-base-ms:500}")
+    private long backoffBaseMillis;
+
+    @Value("${app.llm.resilience.backoff-max-ms:10000}")
+    private long backoffMaxMillis;
+
+    @Value("${app.llm.resilience.attempt-timeout-ms:60000}")
+    private long attemptTimeoutMillis;
+
+    @Value("${app.llm.resilience.deadline-ms:150000}")
+    private long deadlineMillis;
+
+    @Value("${app.llm.resilience.hedging.enabled:false}")
+    private boolean hedgingEnabled;
+
+    @Value("${app.llm.resilience.hedging.min-delay-ms:2000}")
+    private long hedgingMinDelayMillis;
+
+    @Value("${app.llm.resilience.circuit.window-size:20}")
+    private int circuitWindowSize;
+
+    @Value("${app.llm.resilience.circuit.failure-rate-threshold:0.5}")
+    private double circuitFailureRateThreshold;
+
+    @Value("${app.llm.resilience.circuit.open-ms:30000}")
+    private long circuitOpenMillis;
+
+    @Value("${app.llm.resilience.rate-limit.initial-rpm:300}")
+    private double initialRpm;
+
+    @Value("${app.llm.resilience.rate-limit.min-rpm:10}")
+    private double minRpm;
+
+    @Value("${app.llm.resilience.rate-limit.max-rpm:3000}")
+    private double maxRpm;
+
     @Bean
-    public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+    public WebClient.Builder webClientBuilder(LlmCallMetrics llmCallMetrics) {
+        return WebClient.builder()
+                .filter(llmCallMetrics.timeToFirstByteFilter());
     }
-}
-
 
+    @Bean
+    public LlmResilience llmResilience(LlmCallMetrics llmCallMetrics) {
+        return new LlmResilience(llmCallMetrics, new LlmResilience.Settings(
+                maxAttempts,
+                Duration.ofMillis(backoffBaseMillis),
+                Duration.ofMillis(backoffMaxMillis),
+                Duration.ofMillis(attemptTimeoutMillis),
+                Duration.ofMillis(deadlineMillis),
+                hedgingEnabled,
+                Duration.ofMillis(hedgingMinDelayMillis),
+                circuitWindowSize,
+                circuitFailureRateThreshold,
+                Duration.ofMillis(circuitOpenMillis),
+                initialRpm,
+                minRpm,
+                maxRpm));
+    }
+}
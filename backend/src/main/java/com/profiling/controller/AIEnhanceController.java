@@ -4,6 +4,7 @@ import com.profiling.dto.EnhanceRequest;
 import com.profiling.dto.EnhanceResponse;
 import com.profiling.dto.ApiResponse;
 import com.profiling.exception.BadRequestException;
+import com.profiling.service.CompletionStreamService;
 import com.profiling.service.OpenAIService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,17 +13,20 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api")
 public class AIEnhanceController {
 
     private final OpenAIService openAIService;
+    private final CompletionStreamService completionStreamService;
     private static final Logger log = LoggerFactory.getLogger(AIEnhanceController.class);
 
     @Autowired
-    public AIEnhanceController(OpenAIService openAIService) {
+    public AIEnhanceController(OpenAIService openAIService, CompletionStreamService completionStreamService) {
         this.openAIService = openAIService;
+        this.completionStreamService = completionStreamService;
     }
 
     /**
@@ -47,5 +51,23 @@ public class AIEnhanceController {
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(response);
     }
+
+    /**
+     * Streaming variant of {@link #enhanceProfile}: token events while the text is generated,
+     * then a result event with the same body as the blocking endpoint.
+     */
+    @PostMapping(value = "/ai-enhance/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter enhanceProfileStream(@RequestBody EnhanceRequest request) {
+        if (request.getProfile() == null || request.getProfile().trim().isEmpty()) {
+            log.warn("Enhance profile stream request missing profile text");
+            throw new BadRequestException("Profile text is required");
+        }
+
+        log.info("Streaming AI profile enhancement");
+        return completionStreamService.stream("ai_enhance",
+                onToken -> openAIService.streamEnhanceProfile(request.getProfile(), onToken),
+                enhanced -> new ApiResponse("Profile enhanced successfully", new EnhanceResponse(enhanced)),
+                "Failed to enhance profile with AI");
+    }
 }
 
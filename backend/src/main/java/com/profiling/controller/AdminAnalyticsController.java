@@ -0,0 +1,92 @@
+package com.profiling.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.profiling.dto.ApiResponse;
+import com.profiling.dto.psychometric.CohortStatsResponse;
+import com.profiling.exception.NotFoundException;
+import com.profiling.service.psychometric.CohortAnalyticsService;
+
+/**
+ * Cohort statistics of psychometric sessions, read from the rollups maintained by
+ * {@link CohortAnalyticsService}. Dimensions: all, careerInterest, degree; granularities:
+ * day (bucket yyyy-MM-dd), month (yyyy-MM) and all.
+ */
+@RestController
+@RequestMapping("/api/admin/analytics")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminAnalyticsController {
+
+    private final CohortAnalyticsService cohortAnalyticsService;
+
+    public AdminAnalyticsController(CohortAnalyticsService cohortAnalyticsService) {
+        this.cohortAnalyticsService = cohortAnalyticsService;
+    }
+
+    /**
+     * The largest cohorts of a dimension in one bucket, e.g. a heatmap of weak categories by career interest
+     */
+    @GetMapping("/cohorts/{dimension}")
+    public ResponseEntity<List<CohortStatsResponse>> cohorts(
+            @PathVariable String dimension,
+            @RequestParam(defaultValue = "all") String granularity,
+            @RequestParam(required = false) String bucket,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(cohortAnalyticsService.cohorts(dimension, granularity, bucket, limit).stream()
+                .map(CohortStatsResponse::from)
+                .toList());
+    }
+
+    /**
+     * Funnel, average section scores, Big Five distribution and category accuracy of one cohort
+     */
+    @GetMapping("/cohorts/{dimension}/{value}")
+    public ResponseEntity<CohortStatsResponse> cohort(
+            @PathVariable String dimension,
+            @PathVariable String value,
+            @RequestParam(defaultValue = "all") String granularity,
+            @RequestParam(required = false) String bucket) {
+        return cohortAnalyticsService.find(dimension, value, granularity, bucket)
+                .map(CohortStatsResponse::from)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new NotFoundException("No sessions in cohort " + dimension + "=" + value));
+    }
+
+    /**
+     * Daily or monthly statistics of one cohort between two buckets, inclusive
+     */
+    @GetMapping("/cohorts/{dimension}/{value}/series")
+    public ResponseEntity<List<CohortStatsResponse>> series(
+            @PathVariable String dimension,
+            @PathVariable String value,
+            @RequestParam(defaultValue = "month") String granularity,
+            @RequestParam String from,
+            @RequestParam String to) {
+        return ResponseEntity.ok(cohortAnalyticsService.series(dimension, value, granularity, from, to).stream()
+                .map(CohortStatsResponse::from)
+                .toList());
+    }
+
+    /**
+     * Counts the sessions created, submitted or reported before the rollups existed (or whose
+     * live update was dropped). Safe to repeat: every event is counted once per session.
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<ApiResponse> backfill() {
+        if (!cohortAnalyticsService.startBackfill()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "A cohort backfill is already running");
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new ApiResponse("Cohort backfill started", null));
+    }
+}
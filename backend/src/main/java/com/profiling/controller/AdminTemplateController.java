@@ -3,20 +3,16 @@ package com.profiling.controller;
 import com.profiling.dto.ApiResponse;
 import com.profiling.exception.BadRequestException;
 import com.profiling.exception.NotFoundException;
-import com.profiling.exception.UnauthorizedException;
-import com.profiling.model.User;
-import com.profiling.model.UserRole;
-import com.profiling.security.SecurityUtils;
 import com.profiling.service.FileStorageService;
 import com.profiling.template.TemplateEntity;
 import com.profiling.template.TemplateService;
-import com.profiling.service.AuthService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -33,23 +29,21 @@ import java.util.List;
 
 @RestController
 @RequestMapping("/api/admin/templates")
+@PreAuthorize("hasRole('ADMIN')")
 public class AdminTemplateController {
 
     private final TemplateService templateService;
-    private final AuthService authService;
     private final FileStorageService fileStorageService;
     private static final Logger log = LoggerFactory.getLogger(AdminTemplateController.class);
 
     @Autowired
-    public AdminTemplateController(TemplateService templateService, AuthService authService, FileStorageService fileStorageService) {
+    public AdminTemplateController(TemplateService templateService, FileStorageService fileStorageService) {
         this.templateService = templateService;
-        this.authService = authService;
         this.fileStorageService = fileStorageService;
     }
 
     @GetMapping
     public ResponseEntity<ApiResponse> listTemplates() {
-        ensureAdmin();
         List<TemplateEntity> templates = templateService.listAllDefaultTemplates();
         log.info("Admin retrieved {} global templates", templates.size());
         ApiResponse response = new ApiResponse("Templates retrieved successfully", templates);
@@ -58,7 +52,6 @@ public class AdminTemplateController {
 
     @PostMapping
     public ResponseEntity<ApiResponse> createTemplate(@RequestBody TemplateEntity template) {
-        ensureAdmin();
         TemplateEntity created = templateService.saveGlobalTemplate(template);
         log.info("Admin created template {}", created.getId());
         ApiResponse response = new ApiResponse("Template created successfully", created);
@@ -67,7 +60,6 @@ public class AdminTemplateController {
 
     @PutMapping("/{type}")
     public ResponseEntity<ApiResponse> updateTemplate(@PathVariable String type, @RequestBody TemplateEntity template) {
-        ensureAdmin();
         TemplateEntity updated = templateService.updateGlobalTemplate(type, template);
         log.info("Admin updated template {}", updated.getId());
         ApiResponse response = new ApiResponse("Template updated successfully", updated);
@@ -76,7 +68,6 @@ public class AdminTemplateController {
 
     @DeleteMapping("/{type}")
     public ResponseEntity<ApiResponse> deleteTemplate(@PathVariable String type) {
-        ensureAdmin();
         templateService.deleteGlobalTemplate(type);
         log.info("Admin deleted template {}", type);
         ApiResponse response = new ApiResponse("Template deleted successfully", null);
@@ -93,8 +84,6 @@ public class AdminTemplateController {
     public ResponseEntity<ApiResponse> uploadPreviewImage(
             @PathVariable String templateId,
             @RequestPart("file") MultipartFile file) {
-        
-        ensureAdmin();
 
         if (file == null || file.isEmpty()) {
             throw new BadRequestException("File is required");
@@ -134,20 +123,4 @@ public class AdminTemplateController {
             throw new BadRequestException("Failed to upload preview image: " + e.getMessage());
         }
     }
-
-    private void ensureAdmin() {
-        String userId = SecurityUtils.getCurrentUserId();
-        if (userId == null) {
-            log.warn("Admin endpoint accessed without authentication");
-            throw new UnauthorizedException("Authentication required");
-        }
-
-        User currentUser = authService.getCurrentUser(userId);
-        if (currentUser == null || currentUser.getRole() == null
-                || !currentUser.getRole().equalsIgnoreCase(UserRole.ADMIN)) {
-            log.warn("Admin endpoint access denied for userId={}", userId);
-            throw new UnauthorizedException("Admin access required");
-        }
-    }
 }
-
@@ -3,6 +3,9 @@ package com.profiling.controller;
 import com.profiling.dto.ApiResponse;
 import com.profiling.dto.ChatRequest;
 import com.profiling.exception.BadRequestException;
+import com.profiling.model.ChatConversation;
+import com.profiling.security.SecurityUtils;
+import com.profiling.service.ChatConversationService;
 import com.profiling.service.ChatbotService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,7 +14,9 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -22,18 +27,20 @@ import java.util.Map;
 public class ChatController {
 
     private final ChatbotService chatbotService;
+    private final ChatConversationService conversationService;
     private static final Logger log = LoggerFactory.getLogger(ChatController.class);
 
     @Autowired
-    public ChatController(ChatbotService chatbotService) {
+    public ChatController(ChatbotService chatbotService, ChatConversationService conversationService) {
         this.chatbotService = chatbotService;
+        this.conversationService = conversationService;
     }
 
     // Note: ChatController endpoints are already protected by SecurityConfig
 
     /**
      * POST endpoint to process chat messages
-     * @param request Contains user message and conversation state
+     * @param request Contains user message and the conversation id (or, from older clients, the full conversation state)
      * @return Next question or completion status
      */
     @PostMapping(value = "/chat", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -43,6 +50,18 @@ public class ChatController {
             throw new BadRequestException("User message is required");
         }
 
+        if (request.getConversationId() != null) {
+            log.info("Processing chat message for conversation {}", request.getConversationId());
+            ChatConversation conversation = conversationService.applyTurn(
+                    request.getConversationId(), SecurityUtils.getCurrentUserId(), request.getUserMessage());
+            String message = conversation.isComplete()
+                ? "Conversation completed successfully"
+                : "Question processed successfully";
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(new ApiResponse(message, conversationData(conversation, false)));
+        }
+
         if (request.getConversationState() == null) {
             log.warn("Chat request missing conversation state");
             throw new BadRequestException("Conversation state is required");
@@ -67,5 +86,48 @@ public class ChatController {
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(response);
     }
-}
 
+    /**
+     * GET endpoint to resume a conversation, e.g. after a reconnect
+     * @param conversationId Id returned by /api/generate-questions
+     * @return Answered turns, next question and completion status
+     */
+    @GetMapping(value = "/chat/conversations/{conversationId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse> getConversation(@PathVariable String conversationId) {
+        ChatConversation conversation = conversationService.get(conversationId, SecurityUtils.getCurrentUserId());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ApiResponse("Conversation retrieved successfully", conversationData(conversation, true)));
+    }
+
+    /**
+     * Per-turn response: the next question, plus all answers once the conversation is complete
+     * (they feed the evaluation). A resume also gets the turns so far.
+     */
+    private Map<String, Object> conversationData(ChatConversation conversation, boolean includeTurns) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("conversationId", conversation.getId());
+        String nextQuestion = null;
+        if (!conversation.isComplete()) {
+            nextQuestion = conversation.getPendingWhyQuestion() != null
+                ? conversation.getPendingWhyQuestion()
+                : conversation.toState().getCurrentQuestion();
+        }
+        data.put("nextQuestion", nextQuestion);
+        data.put("isComplete", conversation.isComplete());
+        data.put("turn", conversation.getVersion());
+        data.put("answeredCount", conversation.getTurns().size());
+        data.put("botName", "Saathi");
+        if (conversation.isComplete()) {
+            data.put("answers", conversation.answers());
+        }
+        if (includeTurns) {
+            List<Map<String, String>> turns = new ArrayList<>();
+            for (ChatConversation.Turn turn : conversation.getTurns()) {
+                turns.add(Map.of("question", turn.getQuestion(), "answer", turn.getAnswer()));
+            }
+            data.put("turns", turns);
+        }
+        return data;
+    }
+}
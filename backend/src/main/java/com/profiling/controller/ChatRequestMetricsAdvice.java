@@ -0,0 +1,93 @@
+package com.profiling.controller;
+
+import com.profiling.dto.ChatRequest;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the size and JSON parse time of every chat turn, tagged by whether the client sent
+ * a conversation id ({@code conversation}) or the whole conversation state ({@code state}).
+ * The body is read up front so the timer covers deserialization only.
+ */
+@ControllerAdvice(assignableTypes = ChatController.class)
+public class ChatRequestMetricsAdvice extends RequestBodyAdviceAdapter {
+
+    private static final String SIZE_ATTRIBUTE = ChatRequestMetricsAdvice.class.getName() + ".size";
+    private static final String START_ATTRIBUTE = ChatRequestMetricsAdvice.class.getName() + ".start";
+
+    private final MeterRegistry registry;
+
+    public ChatRequestMetricsAdvice(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return ChatRequest.class.equals(targetType);
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                           Class<? extends HttpMessageConverter<?>> converterType) throws IOException {
+        byte[] body = inputMessage.getBody().readAllBytes();
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(SIZE_ATTRIBUTE, body.length, RequestAttributes.SCOPE_REQUEST);
+            attributes.setAttribute(START_ATTRIBUTE, System.nanoTime(), RequestAttributes.SCOPE_REQUEST);
+        }
+        HttpHeaders headers = inputMessage.getHeaders();
+        return new HttpInputMessage() {
+            @Override
+            public InputStream getBody() {
+                return new ByteArrayInputStream(body);
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null || !(body instanceof ChatRequest request)) {
+            return body;
+        }
+        Object size = attributes.getAttribute(SIZE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        Object start = attributes.getAttribute(START_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (size instanceof Integer bytes && start instanceof Long startNanos) {
+            String mode = request.getConversationId() != null ? "conversation" : "state";
+            DistributionSummary.builder("chat.turn.request.size")
+                    .description("Size of chat turn request bodies")
+                    .baseUnit("bytes")
+                    .tag("mode", mode)
+                    .register(registry)
+                    .record(bytes);
+            Timer.builder("chat.turn.parse.time")
+                    .description("Time to deserialize a chat turn request body")
+                    .tag("mode", mode)
+                    .register(registry)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+        return body;
+    }
+}
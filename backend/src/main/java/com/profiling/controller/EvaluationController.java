@@ -4,13 +4,17 @@ import com.profiling.dto.ApiResponse;
 import com.profiling.dto.EvaluateRequest;
 import com.profiling.dto.EvaluationResult;
 import com.profiling.exception.BadRequestException;
+import com.profiling.security.SecurityUtils;
+import com.profiling.service.CompletionStreamService;
 import com.profiling.service.EvaluationService;
+import com.profiling.service.SpeculativeEvaluationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Controller for evaluation endpoint
@@ -20,16 +24,22 @@ import org.springframework.web.bind.annotation.*;
 public class EvaluationController {
 
     private final EvaluationService evaluationService;
+    private final CompletionStreamService completionStreamService;
+    private final SpeculativeEvaluationService speculativeEvaluationService;
     private static final Logger log = LoggerFactory.getLogger(EvaluationController.class);
 
     @Autowired
-    public EvaluationController(EvaluationService evaluationService) {
+    public EvaluationController(EvaluationService evaluationService, CompletionStreamService completionStreamService,
+                                SpeculativeEvaluationService speculativeEvaluationService) {
         this.evaluationService = evaluationService;
+        this.completionStreamService = completionStreamService;
+        this.speculativeEvaluationService = speculativeEvaluationService;
     }
 
     /**
      * POST endpoint to evaluate user interests
-     * @param request Contains user profile and all answers
+     * @param request Contains user profile and all answers, and the chat conversation id if the
+     *                answers come from the chatbot (enables the stage evaluations done during the chat)
      * @return Comprehensive evaluation result
      */
     @PostMapping(value = "/evaluate", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -45,10 +55,10 @@ public class EvaluationController {
         }
 
         log.info("Evaluating interests for user");
-        EvaluationResult result = evaluationService.evaluate(
-                request.getUserProfile(),
-                request.getAnswers()
-        );
+        EvaluationResult result = request.getConversationId() != null
+                ? speculativeEvaluationService.evaluate(request.getUserProfile(), request.getAnswers(),
+                        request.getConversationId(), SecurityUtils.getCurrentUserId())
+                : evaluationService.evaluate(request.getUserProfile(), request.getAnswers());
 
         ApiResponse response = new ApiResponse("Evaluation completed successfully", result);
         return ResponseEntity
@@ -56,5 +66,23 @@ public class EvaluationController {
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(response);
     }
+
+    /**
+     * Streaming variant of {@link #evaluate}: the evaluation JSON is streamed as token events
+     * (useful as a progress signal), then a result event carries the parsed evaluation.
+     */
+    @PostMapping(value = "/evaluate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter evaluateStream(@RequestBody EvaluateRequest request) {
+        if (request == null || request.getUserProfile() == null) {
+            log.warn("Evaluation stream request missing user profile");
+            throw new BadRequestException("User profile is required");
+        }
+
+        log.info("Streaming interest evaluation for user");
+        return completionStreamService.stream("evaluate",
+                onToken -> evaluationService.evaluateStreaming(request.getUserProfile(), request.getAnswers(), onToken),
+                result -> new ApiResponse("Evaluation completed successfully", result),
+                "Failed to evaluate interests");
+    }
 }
 
@@ -5,6 +5,7 @@ import java.util.Map;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,7 +15,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.profiling.dto.psychometric.ProctoringCohortStatsRequest;
+import com.profiling.dto.psychometric.ProctoringViolationBatchRequest;
 import com.profiling.dto.psychometric.ProctoringViolationRequest;
+import com.profiling.dto.psychometric.SessionViolationSummary;
 import com.profiling.model.psychometric.ProctoringViolation;
 import com.profiling.service.psychometric.ProctoringService;
 
@@ -42,6 +46,17 @@ public class ProctoringController {
             .body(Map.of("message", "Violation logged successfully"));
     }
     
+    /**
+     * Log a burst of proctoring violations in one call
+     */
+    @PostMapping("/violations/batch")
+    public ResponseEntity<Map<String, Object>> logViolations(
+            @Valid @RequestBody ProctoringViolationBatchRequest request) {
+        int accepted = proctoringService.logViolations(request.getViolations());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .body(Map.of("message", "Violations accepted", "accepted", accepted));
+    }
+    
     /**
      * Get all violations for a session
      */
@@ -61,13 +76,15 @@ public class ProctoringController {
         Map<String, Long> stats = proctoringService.getViolationStats(sessionId);
         return ResponseEntity.ok(stats);
     }
+    
+    /**
+     * Get per-session violation counts by type and severity for a cohort of sessions.
+     * Admin only: unlike the per-session endpoints it reads any number of candidates' sessions.
+     */
+    @PostMapping("/violations/cohort-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<SessionViolationSummary>> getCohortViolationStats(
+            @Valid @RequestBody ProctoringCohortStatsRequest request) {
+        return ResponseEntity.ok(proctoringService.getCohortViolationStats(request.getSessionIds()));
+    }
 }
-
-
-
-
-
-
-
-
-
@@ -0,0 +1,42 @@
+package com.profiling.controller;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.profiling.dto.psychometric.ProctoringMonitorUpdate;
+import com.profiling.service.psychometric.ProctoringMonitorService;
+
+@RestController
+@RequestMapping("/api/admin/proctoring/monitor")
+@PreAuthorize("hasRole('ADMIN')")
+public class ProctoringMonitorController {
+    
+    private final ProctoringMonitorService monitorService;
+    
+    public ProctoringMonitorController(ProctoringMonitorService monitorService) {
+        this.monitorService = monitorService;
+    }
+    
+    /**
+     * Live stream of per-session violation counters and risk scores across all active sessions
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return monitorService.subscribe();
+    }
+    
+    /**
+     * Current rolling-window state of every session with recent violations
+     */
+    @GetMapping
+    public ResponseEntity<List<ProctoringMonitorUpdate>> snapshot() {
+        return ResponseEntity.ok(monitorService.snapshot());
+    }
+}
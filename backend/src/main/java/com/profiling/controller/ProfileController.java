@@ -32,6 +32,7 @@ import com.profiling.model.ProfileResponse;
 import com.profiling.exception.NotFoundException;
 import com.profiling.exception.UnauthorizedException;
 import com.profiling.security.SecurityUtils;
+import com.profiling.service.CompletionStreamService;
 import com.profiling.service.PDFService;
 import com.profiling.service.OpenAIService;
 import com.profiling.service.ProfileService;
@@ -39,6 +40,7 @@ import com.profiling.service.ResumeParserService;
 import com.profiling.template.TemplateRenderResult;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/profiles")
@@ -48,17 +50,20 @@ public class ProfileController {
     private final PDFService pdfService;
     private final ResumeParserService resumeParserService;
     private final OpenAIService openAIService;
+    private final CompletionStreamService completionStreamService;
     private static final Logger log = LoggerFactory.getLogger(ProfileController.class);
 
     @Autowired
     public ProfileController(ProfileService profileService,
                              PDFService pdfService,
                              ResumeParserService resumeParserService,
-                             OpenAIService openAIService) {
+                             OpenAIService openAIService,
+                             CompletionStreamService completionStreamService) {
         this.profileService = profileService;
         this.pdfService = pdfService;
         this.resumeParserService = resumeParserService;
         this.openAIService = openAIService;
+        this.completionStreamService = completionStreamService;
     }
 
     /**
@@ -339,6 +344,33 @@ public class ProfileController {
      */
     @PostMapping(value = "/enhance-paragraph-with-report", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ApiResponse> enhanceParagraphWithReport(@RequestBody EnhanceParagraphWithReportRequest request) {
+        String userId = validateParagraphRequest(request);
+
+        try {
+            String reportInsights = extractReportInsights(request.getReportData());
+            String enhanced = openAIService.enhanceParagraphWithReport(request.getText(), reportInsights);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(paragraphResponse(request, enhanced));
+        } catch (Exception e) {
+            log.error("Failed to enhance paragraph for userId={}: {}", userId, e.getMessage(), e);
+            throw new BadRequestException("Failed to enhance paragraph: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Streaming variant of {@link #enhanceParagraphWithReport}: token events while the paragraph is
+     * written, then a result event after the word-limit guard, which may have shortened it.
+     */
+    @PostMapping(value = "/enhance-paragraph-with-report/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter enhanceParagraphWithReportStream(@RequestBody EnhanceParagraphWithReportRequest request) {
+        validateParagraphRequest(request);
+        String reportInsights = extractReportInsights(request.getReportData());
+        return completionStreamService.stream("enhance_paragraph",
+                onToken -> openAIService.streamEnhanceParagraphWithReport(request.getText(), reportInsights, onToken),
+                enhanced -> paragraphResponse(request, enhanced),
+                "Failed to enhance paragraph");
+    }
+
+    private static String validateParagraphRequest(EnhanceParagraphWithReportRequest request) {
         String userId = SecurityUtils.getCurrentUserId();
         if (userId == null) {
             log.warn("Attempt to enhance uploaded paragraph without authentication");
@@ -351,21 +383,15 @@ public class ProfileController {
         if (request.getReportData() == null || request.getReportData().isEmpty()) {
             throw new BadRequestException("Report data is required");
         }
+        return userId;
+    }
 
-        try {
-            String reportInsights = extractReportInsights(request.getReportData());
-            String enhanced = openAIService.enhanceParagraphWithReport(request.getText(), reportInsights);
-
-            ApiResponse response = new ApiResponse("Paragraph enhanced successfully", Map.of(
-                    "originalText", request.getText(),
-                    "enhancedText", enhanced,
-                    "sessionId", request.getSessionId()
-            ));
-            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(response);
-        } catch (Exception e) {
-            log.error("Failed to enhance paragraph for userId={}: {}", userId, e.getMessage(), e);
-            throw new BadRequestException("Failed to enhance paragraph: " + e.getMessage());
-        }
+    private static ApiResponse paragraphResponse(EnhanceParagraphWithReportRequest request, String enhanced) {
+        return new ApiResponse("Paragraph enhanced successfully", Map.of(
+                "originalText", request.getText(),
+                "enhancedText", enhanced,
+                "sessionId", request.getSessionId()
+        ));
     }
 
     private String extractReportInsights(Map<String, Object> reportData) {
@@ -11,12 +11,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.profiling.dto.ApiResponse;
 import com.profiling.dto.RegenerateProfileRequest;
 import com.profiling.exception.UnauthorizedException;
 import com.profiling.model.ProfileResponse;
 import com.profiling.security.SecurityUtils;
+import com.profiling.service.CompletionStreamService;
 import com.profiling.service.ProfileService;
 
 @RestController
@@ -24,15 +26,44 @@ import com.profiling.service.ProfileService;
 public class ProfileRegenerationController {
 
     private final ProfileService profileService;
+    private final CompletionStreamService completionStreamService;
     private static final Logger log = LoggerFactory.getLogger(ProfileRegenerationController.class);
 
     @Autowired
-    public ProfileRegenerationController(ProfileService profileService) {
+    public ProfileRegenerationController(ProfileService profileService, CompletionStreamService completionStreamService) {
         this.profileService = profileService;
+        this.completionStreamService = completionStreamService;
     }
 
     @PostMapping(value = "/regenerate", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ApiResponse> regenerateProfile(@RequestBody RegenerateProfileRequest request) {
+        String userId = authorizedUserId(request);
+        ProfileResponse profileResponse = profileService.regenerateProfile(request, userId);
+        log.info("Profile regenerated for userId={}", userId);
+        ApiResponse response = new ApiResponse("Profile regenerated successfully", profileResponse);
+        return ResponseEntity
+                .ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response);
+    }
+
+    /**
+     * Streaming variant of {@link #regenerateProfile}: token events while the AI text is
+     * generated, then a result event once the profile has been saved.
+     */
+    @PostMapping(value = "/regenerate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter regenerateProfileStream(@RequestBody RegenerateProfileRequest request) {
+        String userId = authorizedUserId(request);
+        return completionStreamService.stream("profile_regenerate",
+                onToken -> profileService.regenerateProfileStreaming(request, userId, onToken),
+                profileResponse -> {
+                    log.info("Profile regenerated for userId={}", userId);
+                    return new ApiResponse("Profile regenerated successfully", profileResponse);
+                },
+                "Failed to regenerate profile");
+    }
+
+    private static String authorizedUserId(RegenerateProfileRequest request) {
         String userId = SecurityUtils.getCurrentUserId();
         if (userId == null) {
             log.warn("Regenerate attempt without authentication");
@@ -43,14 +74,7 @@ public class ProfileRegenerationController {
             log.warn("Regenerate request userId mismatch ({} vs {})", request.getUserId(), userId);
             throw new UnauthorizedException("You are not authorized to regenerate this profile");
         }
-
-        ProfileResponse profileResponse = profileService.regenerateProfile(request, userId);
-        log.info("Profile regenerated for userId={}", userId);
-        ApiResponse response = new ApiResponse("Profile regenerated successfully", profileResponse);
-        return ResponseEntity
-                .ok()
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(response);
+        return userId;
     }
 }
 
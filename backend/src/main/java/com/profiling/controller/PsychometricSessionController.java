@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -15,22 +17,32 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.profiling.dto.psychometric.AnswerBatchRequest;
+import com.profiling.dto.psychometric.AnswerBatchResponse;
+import com.profiling.dto.psychometric.CandidateQuestion;
 import com.profiling.dto.psychometric.CreateSessionRequest;
 import com.profiling.dto.psychometric.CreateSessionResponse;
 import com.profiling.dto.psychometric.PsychometricReportResponse;
 import com.profiling.dto.psychometric.PsychometricSessionResponse;
 import com.profiling.dto.psychometric.SessionStatusResponse;
+import com.profiling.exception.ServiceUnavailableException;
 import com.profiling.model.psychometric.PsychometricReport;
 import com.profiling.model.psychometric.PsychometricSession;
-import com.profiling.model.psychometric.Question;
+import com.profiling.model.psychometric.Report;
 import com.profiling.model.psychometric.SessionStatus;
 import com.profiling.service.psychometric.AnswersPdfService;
 import com.profiling.service.psychometric.PdfReportService;
 import com.profiling.service.psychometric.ProfileFromReportService;
 import com.profiling.service.psychometric.PsychometricSessionService;
-import com.profiling.service.psychometric.ReportGenerationService;
+import com.profiling.service.psychometric.ReportDeliveryService;
+import com.profiling.util.FieldSelection;
 
 import jakarta.validation.Valid;
 
@@ -39,30 +51,34 @@ import jakarta.validation.Valid;
 @Validated
 public class PsychometricSessionController {
 
+    private static final Logger log = LoggerFactory.getLogger(PsychometricSessionController.class);
+
     private final PsychometricSessionService sessionService;
-    private final ReportGenerationService reportGenerationService;
+    private final ReportDeliveryService reportDeliveryService;
     private final PdfReportService pdfReportService;
     private final AnswersPdfService answersPdfService;
     private final ProfileFromReportService profileFromReportService;
+    private final ObjectMapper objectMapper;
 
     public PsychometricSessionController(
             PsychometricSessionService sessionService,
-            ReportGenerationService reportGenerationService,
+            ReportDeliveryService reportDeliveryService,
             PdfReportService pdfReportService,
             AnswersPdfService answersPdfService,
-            ProfileFromReportService profileFromReportService) {
+            ProfileFromReportService profileFromReportService,
+            ObjectMapper objectMapper) {
         this.sessionService = sessionService;
-        this.reportGenerationService = reportGenerationService;
+        this.reportDeliveryService = reportDeliveryService;
         this.pdfReportService = pdfReportService;
         this.answersPdfService = answersPdfService;
         this.profileFromReportService = profileFromReportService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
     public ResponseEntity<CreateSessionResponse> createSession(
             @Valid @RequestBody CreateSessionRequest request) {
-        PsychometricSession session = sessionService.createSession(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(new CreateSessionResponse(session.getId()));
+        return ResponseEntity.status(HttpStatus.CREATED).body(sessionService.createSession(request));
     }
 
     @GetMapping("/{id}")
@@ -82,49 +98,67 @@ public class PsychometricSessionController {
     }
 
     @GetMapping("/{id}/questions")
-    public ResponseEntity<List<Question>> getSessionQuestions(@PathVariable String id) {
+    public ResponseEntity<List<CandidateQuestion>> getSessionQuestions(@PathVariable String id) {
         return sessionService.getSession(id)
                 // Always return whatever questions are currently available for this session.
                 // The frontend uses SessionStatusResponse.progress flags to understand which
                 // sections are ready and handles partial question sets gracefully.
-                .map(session -> ResponseEntity.ok(session.getQuestions()))
+                // Candidate projection: no answer key, trait scores or rationales.
+                .map(session -> ResponseEntity.ok(CandidateQuestion.fromAll(session.getQuestions())))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
     
+    /**
+     * Autosave: applies the answers changed since the last batch. Retries are safe, since
+     * changes older than the stored answer are ignored.
+     */
+    @PostMapping("/{id}/answers")
+    public ResponseEntity<AnswerBatchResponse> saveAnswers(@PathVariable String id,
+            @Valid @RequestBody AnswerBatchRequest request) {
+        return ResponseEntity.ok(sessionService.saveAnswers(id, request.getAnswers()));
+    }
+
+    /**
+     * Returns the stored report, creating it if needed. The deterministic report is returned
+     * immediately; while {@code narrativeStatus} is {@code PENDING} the AI narrative is being
+     * written and is announced on {@code /report/events}. Repeated calls do not regenerate the
+     * report, but they re-queue a narrative that failed.
+     */
     @PostMapping("/{sessionId}/generate-report")
-    public ResponseEntity<PsychometricReportResponse> generateReport(@PathVariable String sessionId) {
+    public ResponseEntity<Object> generateReport(@PathVariable String sessionId,
+            @RequestParam(required = false) String fields) {
         return sessionService.getSession(sessionId)
-                .map(session -> {
-                    PsychometricReport report = reportGenerationService.generateReport(session);
-                    // Store report in session
-                    session.setReport(convertToReportModel(report));
-                    sessionService.saveSession(session);
-                    return ResponseEntity.ok(PsychometricReportResponse.from(report));
-                })
+                .map(session -> reportResponse(reportDeliveryService.getOrCreate(session, true), fields))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
     
+    /**
+     * Returns the report; {@code ?fields=} (comma-separated property names) limits the
+     * response to those properties, e.g. {@code ?fields=overallScore,performanceBucket}.
+     */
     @GetMapping("/{sessionId}/report")
-    public ResponseEntity<PsychometricReportResponse> getReport(@PathVariable String sessionId) {
+    public ResponseEntity<Object> getReport(@PathVariable String sessionId,
+            @RequestParam(required = false) String fields) {
         return sessionService.getSession(sessionId)
-                .map(session -> {
-                    if (session.getReport() == null) {
-                        // Generate report if it doesn't exist
-                        PsychometricReport report = reportGenerationService.generateReport(session);
-                        session.setReport(convertToReportModel(report));
-                        sessionService.saveSession(session);
-                        return ResponseEntity.ok(PsychometricReportResponse.from(report));
-                    } else {
-                        // Convert stored report to response
-                        PsychometricReport report = convertFromReportModel(session.getReport(), session);
-                        return ResponseEntity.ok(PsychometricReportResponse.from(report));
-                    }
-                })
+                .map(session -> reportResponse(reportDeliveryService.getOrCreate(session, false), fields))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
     
+    /**
+     * Server-sent events for a report whose narrative is still being written: one
+     * {@code report} event with the full report once it changes, then the stream closes.
+     */
+    @GetMapping(path = "/{sessionId}/report/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter reportEvents(@PathVariable String sessionId) {
+        return reportDeliveryService.subscribe(sessionId);
+    }
+    
+    /**
+     * The ETag names the report version, so a cached PDF stays valid until the narrative
+     * (or anything else in the report) changes.
+     */
     @GetMapping("/{sessionId}/report/pdf")
-    public ResponseEntity<byte[]> getReportPdf(@PathVariable String sessionId) {
+    public ResponseEntity<byte[]> getReportPdf(@PathVariable String sessionId, WebRequest webRequest) {
         Optional<PsychometricSession> sessionOpt = sessionService.getSession(sessionId);
         
         if (sessionOpt.isEmpty()) {
@@ -133,16 +167,13 @@ public class PsychometricSessionController {
         
         PsychometricSession session = sessionOpt.get();
         try {
-            PsychometricReport report;
-            if (session.getReport() == null) {
-                report = reportGenerationService.generateReport(session);
-                session.setReport(convertToReportModel(report));
-                sessionService.saveSession(session);
-            } else {
-                report = convertFromReportModel(session.getReport(), session);
+            Report stored = reportDeliveryService.getOrCreate(session, false);
+            String eTag = "\"" + sessionId + "-v" + stored.getVersion() + "\"";
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
             }
             
-            byte[] pdfBytes = pdfReportService.generatePdfReport(report);
+            byte[] pdfBytes = pdfReportService.generatePdfReport(stored.getContent());
             
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_PDF);
@@ -151,6 +182,7 @@ public class PsychometricSessionController {
             
             return ResponseEntity.ok()
                     .headers(headers)
+                    .eTag(eTag)
                     .body(pdfBytes);
         } catch (IOException e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -183,10 +215,10 @@ public class PsychometricSessionController {
             return ResponseEntity.ok()
                     .headers(headers)
                     .body(pdfBytes);
+        } catch (ServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
-            // Log the full error for debugging
-            System.err.println("Error generating answers PDF for session " + sessionId + ": " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error generating answers PDF for session {}", sessionId, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -202,39 +234,20 @@ public class PsychometricSessionController {
         PsychometricSession session = sessionOpt.get();
         
         try {
-            PsychometricReport report;
-            if (session.getReport() == null) {
-                report = reportGenerationService.generateReport(session);
-                session.setReport(convertToReportModel(report));
-                sessionService.saveSession(session);
-            } else {
-                report = convertFromReportModel(session.getReport(), session);
-            }
+            PsychometricReport report = reportDeliveryService.getOrCreate(session, false).getContent();
             
             String profile = profileFromReportService.generateProfileFromReport(report);
             
             return ResponseEntity.ok(profile);
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
-            System.err.println("Error generating profile from report for session " + sessionId + ": " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error generating profile from report for session {}", sessionId, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
     
-    // Helper methods to convert between Report model and PsychometricReport
-    private com.profiling.model.psychometric.Report convertToReportModel(PsychometricReport report) {
-        com.profiling.model.psychometric.Report model = new com.profiling.model.psychometric.Report();
-        model.setSummary(report.getNarrativeSummary());
-        // Store other fields as needed - for now, just summary
-        return model;
-    }
-    
-    private PsychometricReport convertFromReportModel(com.profiling.model.psychometric.Report model, 
-                                                      PsychometricSession session) {
-        // If report exists, regenerate it to get full data
-        // In a production system, you'd store the full report JSON
-        return reportGenerationService.generateReport(session);
+    private ResponseEntity<Object> reportResponse(Report stored, String fields) {
+        return ResponseEntity.ok(FieldSelection.select(objectMapper, PsychometricReportResponse.from(stored), fields));
     }
 }
-
-
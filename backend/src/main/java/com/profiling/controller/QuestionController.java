@@ -4,8 +4,11 @@ import com.profiling.dto.ApiResponse;
 import com.profiling.dto.GenerateQuestionsRequest;
 import com.profiling.dto.UserProfile;
 import com.profiling.exception.BadRequestException;
+import com.profiling.model.ChatConversation;
+import com.profiling.security.SecurityUtils;
+import com.profiling.service.ChatConversationService;
 import com.profiling.service.ChatbotService;
-import com.profiling.service.OpenAIService;
+import com.profiling.service.QuestionSetCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,20 +27,23 @@ import java.util.Map;
 @RequestMapping("/api")
 public class QuestionController {
 
-    private final OpenAIService openAIService;
+    private final QuestionSetCache questionSetCache;
     private final ChatbotService chatbotService;
+    private final ChatConversationService conversationService;
     private static final Logger log = LoggerFactory.getLogger(QuestionController.class);
 
     @Autowired
-    public QuestionController(OpenAIService openAIService, ChatbotService chatbotService) {
-        this.openAIService = openAIService;
+    public QuestionController(QuestionSetCache questionSetCache, ChatbotService chatbotService,
+                              ChatConversationService conversationService) {
+        this.questionSetCache = questionSetCache;
         this.chatbotService = chatbotService;
+        this.conversationService = conversationService;
     }
 
     /**
      * POST endpoint to generate personalized questions
      * @param request Contains user profile
-     * @return List of 15 personalized questions
+     * @return List of 15 personalized questions and the id of the chat conversation over them
      */
     @PostMapping(value = "/generate-questions", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ApiResponse> generateQuestions(@RequestBody GenerateQuestionsRequest request) {
@@ -50,9 +56,13 @@ public class QuestionController {
         Map<String, String> profileMap = chatbotService.profileToMap(profile);
 
         log.info("Generating questions for user profile");
-        List<String> questions = openAIService.generateQuestions(profileMap);
-
+        List<String> questions = questionSetCache.questionsFor(profileMap);
         Map<String, Object> responseData = new HashMap<>();
+        // Anonymous callers keep the conversation state on the client instead
+        if (SecurityUtils.isAuthenticated()) {
+            ChatConversation conversation = conversationService.start(SecurityUtils.getCurrentUserId(), questions, profileMap);
+            responseData.put("conversationId", conversation.getId());
+        }
         responseData.put("questions", questions);
         responseData.put("totalQuestions", questions.size());
 
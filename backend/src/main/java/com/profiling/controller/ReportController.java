@@ -2,6 +2,8 @@ package com.profiling.controller;
 
 import java.io.IOException;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -26,6 +28,8 @@ import jakarta.validation.Valid;
 @RestController
 @RequestMapping("/api/report")
 public class ReportController {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportController.class);
     
     private final ReportPdfGenerationService pdfGenerationService;
     
@@ -60,14 +64,11 @@ public class ReportController {
                     .body(pdfBytes);
                     
         } catch (IOException e) {
-            // Log error (in production, use proper logging)
-            System.err.println("Failed to generate PDF: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Failed to generate PDF", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         } catch (Exception e) {
             // Handle any other errors
-            System.err.println("Unexpected error during PDF generation: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Unexpected error during PDF generation", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
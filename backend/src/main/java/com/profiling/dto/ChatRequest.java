@@ -1,15 +1,26 @@
 package com.profiling.dto;
 
 /**
- * Request DTO for chatbot chat endpoint
+ * Request DTO for chatbot chat endpoint.
+ * Clients send {@code conversationId} and the message; the full {@code conversationState}
+ * is still accepted from clients that keep the conversation themselves.
  */
 public class ChatRequest {
+    private String conversationId;
     private String userMessage;
     private ChatState conversationState;
 
     public ChatRequest() {
     }
 
+    public String getConversationId() {
+        return conversationId;
+    }
+
+    public void setConversationId(String conversationId) {
+        this.conversationId = conversationId;
+    }
+
     public String getUserMessage() {
         return userMessage;
     }
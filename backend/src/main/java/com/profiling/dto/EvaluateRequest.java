@@ -8,6 +8,7 @@ import java.util.Map;
 public class EvaluateRequest {
     private UserProfile userProfile;
     private Map<String, String> answers; // question -> answer mapping
+    private String conversationId; // chat conversation the answers come from, if any
 
     public EvaluateRequest() {
     }
@@ -27,5 +28,13 @@ public class EvaluateRequest {
     public void setAnswers(Map<String, String> answers) {
         this.answers = answers;
     }
+
+    public String getConversationId() {
+        return conversationId;
+    }
+
+    public void setConversationId(String conversationId) {
+        this.conversationId = conversationId;
+    }
 }
 
@@ -0,0 +1,70 @@
+package com.profiling.dto.psychometric;
+
+import java.time.Instant;
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public class AnswerBatchRequest {
+
+    @Valid
+    @NotEmpty
+    @Size(max = 200)
+    private List<AnswerDelta> answers;
+
+    public List<AnswerDelta> getAnswers() {
+        return answers;
+    }
+
+    public void setAnswers(List<AnswerDelta> answers) {
+        this.answers = answers;
+    }
+
+    /**
+     * One answer change; a null selectedOptionIndex clears the answer.
+     */
+    public static class AnswerDelta {
+
+        @NotBlank
+        private String questionId;
+        private Integer selectedOptionIndex;
+        // Client time of the change; an older change never overwrites a newer one
+        private Instant timestamp;
+
+        public AnswerDelta() {
+        }
+
+        public AnswerDelta(String questionId, Integer selectedOptionIndex, Instant timestamp) {
+            this.questionId = questionId;
+            this.selectedOptionIndex = selectedOptionIndex;
+            this.timestamp = timestamp;
+        }
+
+        public String getQuestionId() {
+            return questionId;
+        }
+
+        public void setQuestionId(String questionId) {
+            this.questionId = questionId;
+        }
+
+        public Integer getSelectedOptionIndex() {
+            return selectedOptionIndex;
+        }
+
+        public void setSelectedOptionIndex(Integer selectedOptionIndex) {
+            this.selectedOptionIndex = selectedOptionIndex;
+        }
+
+        public Instant getTimestamp() {
+            return timestamp;
+        }
+
+        public void setTimestamp(Instant timestamp) {
+            this.timestamp = timestamp;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.profiling.dto.psychometric;
+
+public class AnswerBatchResponse {
+    // Changes applied from this batch; stale or repeated changes are not counted
+    private int applied;
+    private int answered;
+    private long answerVersion;
+
+    public AnswerBatchResponse() {
+    }
+
+    public AnswerBatchResponse(int applied, int answered, long answerVersion) {
+        this.applied = applied;
+        this.answered = answered;
+        this.answerVersion = answerVersion;
+    }
+
+    public int getApplied() {
+        return applied;
+    }
+
+    public void setApplied(int applied) {
+        this.applied = applied;
+    }
+
+    public int getAnswered() {
+        return answered;
+    }
+
+    public void setAnswered(int answered) {
+        this.answered = answered;
+    }
+
+    public long getAnswerVersion() {
+        return answerVersion;
+    }
+
+    public void setAnswerVersion(long answerVersion) {
+        this.answerVersion = answerVersion;
+    }
+}
@@ -0,0 +1,83 @@
+package com.profiling.dto.psychometric;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.profiling.model.psychometric.Question;
+
+/**
+ * A {@link Question} as shown to the candidate. Rationales are server-only and never sent;
+ * the answer key ({@code correctOptionIndex}, {@code traitImpactScores}) is only included,
+ * via {@link #withAnswerKey}, once the session is completed and the result page reviews it.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CandidateQuestion {
+    private String id;
+    private int sectionNumber;
+    private String category;
+    private String prompt;
+    private List<String> options;
+    private String questionType;
+    private String scenario;
+    private Integer correctOptionIndex;
+    private List<Integer> traitImpactScores;
+
+    public static CandidateQuestion from(Question question) {
+        CandidateQuestion candidate = new CandidateQuestion();
+        candidate.id = question.getId();
+        candidate.sectionNumber = question.getSectionNumber();
+        candidate.category = question.getCategory();
+        candidate.prompt = question.getPrompt();
+        candidate.options = question.getOptions();
+        candidate.questionType = question.getQuestionType();
+        candidate.scenario = question.getScenario();
+        return candidate;
+    }
+
+    public static CandidateQuestion withAnswerKey(Question question) {
+        CandidateQuestion candidate = from(question);
+        candidate.correctOptionIndex = question.getCorrectOptionIndex();
+        candidate.traitImpactScores = question.getTraitImpactScores();
+        return candidate;
+    }
+
+    public static List<CandidateQuestion> fromAll(List<Question> questions) {
+        return questions == null ? List.of() : questions.stream().map(CandidateQuestion::from).toList();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getSectionNumber() {
+        return sectionNumber;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getPrompt() {
+        return prompt;
+    }
+
+    public List<String> getOptions() {
+        return options;
+    }
+
+    public String getQuestionType() {
+        return questionType;
+    }
+
+    public String getScenario() {
+        return scenario;
+    }
+
+    public Integer getCorrectOptionIndex() {
+        return correctOptionIndex;
+    }
+
+    public List<Integer> getTraitImpactScores() {
+        return traitImpactScores;
+    }
+}
@@ -0,0 +1,214 @@
+package com.profiling.dto.psychometric;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.profiling.model.psychometric.CohortRollup;
+import com.profiling.model.psychometric.RunningScores;
+
+/**
+ * Statistics of one cohort and time bucket, derived from its rollup document.
+ */
+public class CohortStatsResponse {
+
+    private String dimension;
+    private String value;
+    private String granularity;
+    private String bucket;
+    private long created;
+    private long submitted;
+    private long reported;
+    private Map<String, Double> averageScores = new LinkedHashMap<>();
+    private Map<String, Map<String, Long>> bigFive = new LinkedHashMap<>();
+    private Map<String, Long> performance = new LinkedHashMap<>();
+    /** Weakest categories first, by share of correct answers. */
+    private List<CategoryAccuracy> categories = new ArrayList<>();
+
+    // Constructors
+    public CohortStatsResponse() {}
+
+    public static CohortStatsResponse from(CohortRollup rollup) {
+        CohortStatsResponse response = new CohortStatsResponse();
+        response.setDimension(rollup.getDimension());
+        response.setValue(rollup.getValue());
+        response.setGranularity(rollup.getGranularity());
+        response.setBucket(rollup.getBucket());
+        Map<String, Long> funnel = rollup.getFunnel() != null ? rollup.getFunnel() : Map.of();
+        response.setCreated(funnel.getOrDefault("created", 0L));
+        response.setSubmitted(funnel.getOrDefault("submitted", 0L));
+        response.setReported(funnel.getOrDefault("reported", 0L));
+        if (rollup.getScores() != null) {
+            rollup.getScores().forEach((section, tally) -> {
+                if (tally.getCount() > 0) {
+                    response.getAverageScores().put(section, Math.round(tally.getSum() / tally.getCount() * 100.0) / 100.0);
+                }
+            });
+        }
+        if (rollup.getBigFive() != null) {
+            response.getBigFive().putAll(rollup.getBigFive());
+        }
+        if (rollup.getPerformance() != null) {
+            response.getPerformance().putAll(rollup.getPerformance());
+        }
+        if (rollup.getCategories() != null) {
+            for (RunningScores.CategoryTally tally : rollup.getCategories().values()) {
+                if (tally.getAttempted() > 0) {
+                    response.getCategories().add(new CategoryAccuracy(tally.getSectionNumber(), tally.getCategory(),
+                            tally.getAttempted(), tally.getCorrect()));
+                }
+            }
+            response.getCategories().sort(Comparator.comparingDouble(CategoryAccuracy::getAccuracy));
+        }
+        return response;
+    }
+
+    // Getters and Setters
+    public String getDimension() {
+        return dimension;
+    }
+
+    public void setDimension(String dimension) {
+        this.dimension = dimension;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public String getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(String granularity) {
+        this.granularity = granularity;
+    }
+
+    public String getBucket() {
+        return bucket;
+    }
+
+    public void setBucket(String bucket) {
+        this.bucket = bucket;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void setCreated(long created) {
+        this.created = created;
+    }
+
+    public long getSubmitted() {
+        return submitted;
+    }
+
+    public void setSubmitted(long submitted) {
+        this.submitted = submitted;
+    }
+
+    public long getReported() {
+        return reported;
+    }
+
+    public void setReported(long reported) {
+        this.reported = reported;
+    }
+
+    public Map<String, Double> getAverageScores() {
+        return averageScores;
+    }
+
+    public void setAverageScores(Map<String, Double> averageScores) {
+        this.averageScores = averageScores;
+    }
+
+    public Map<String, Map<String, Long>> getBigFive() {
+        return bigFive;
+    }
+
+    public void setBigFive(Map<String, Map<String, Long>> bigFive) {
+        this.bigFive = bigFive;
+    }
+
+    public Map<String, Long> getPerformance() {
+        return performance;
+    }
+
+    public void setPerformance(Map<String, Long> performance) {
+        this.performance = performance;
+    }
+
+    public List<CategoryAccuracy> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(List<CategoryAccuracy> categories) {
+        this.categories = categories;
+    }
+
+    public static class CategoryAccuracy {
+        private int sectionNumber;
+        private String category;
+        private int attempted;
+        private int correct;
+        private double accuracy;
+
+        public CategoryAccuracy() {}
+
+        public CategoryAccuracy(int sectionNumber, String category, int attempted, int correct) {
+            this.sectionNumber = sectionNumber;
+            this.category = category;
+            this.attempted = attempted;
+            this.correct = correct;
+            this.accuracy = attempted > 0 ? Math.round(correct * 10000.0 / attempted) / 100.0 : 0.0;
+        }
+
+        public int getSectionNumber() {
+            return sectionNumber;
+        }
+
+        public void setSectionNumber(int sectionNumber) {
+            this.sectionNumber = sectionNumber;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public void setCategory(String category) {
+            this.category = category;
+        }
+
+        public int getAttempted() {
+            return attempted;
+        }
+
+        public void setAttempted(int attempted) {
+            this.attempted = attempted;
+        }
+
+        public int getCorrect() {
+            return correct;
+        }
+
+        public void setCorrect(int correct) {
+            this.correct = correct;
+        }
+
+        public double getAccuracy() {
+            return accuracy;
+        }
+
+        public void setAccuracy(double accuracy) {
+            this.accuracy = accuracy;
+        }
+    }
+}
@@ -2,6 +2,9 @@ package com.profiling.dto.psychometric;
 
 public class CreateSessionResponse {
     private String sessionId;
+    // 0 when question generation started right away, otherwise the place in the waiting room
+    private int queuePosition;
+    private long estimatedWaitSeconds;
 
     public CreateSessionResponse() {
     }
@@ -10,6 +13,12 @@ public class CreateSessionResponse {
         this.sessionId = sessionId;
     }
 
+    public CreateSessionResponse(String sessionId, int queuePosition, long estimatedWaitSeconds) {
+        this.sessionId = sessionId;
+        this.queuePosition = queuePosition;
+        this.estimatedWaitSeconds = estimatedWaitSeconds;
+    }
+
     public String getSessionId() {
         return sessionId;
     }
@@ -17,6 +26,20 @@ public class CreateSessionResponse {
     public void setSessionId(String sessionId) {
         this.sessionId = sessionId;
     }
-}
 
+    public int getQueuePosition() {
+        return queuePosition;
+    }
 
+    public void setQueuePosition(int queuePosition) {
+        this.queuePosition = queuePosition;
+    }
+
+    public long getEstimatedWaitSeconds() {
+        return estimatedWaitSeconds;
+    }
+
+    public void setEstimatedWaitSeconds(long estimatedWaitSeconds) {
+        this.estimatedWaitSeconds = estimatedWaitSeconds;
+    }
+}
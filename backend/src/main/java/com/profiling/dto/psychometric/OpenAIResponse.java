@@ -2,10 +2,12 @@ package com.profiling.dto.psychometric;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 public class OpenAIResponse {
     private List<Choice> choices;
+    private Usage usage;
 
     public List<Choice> getChoices() {
         return choices;
@@ -15,6 +17,14 @@ public class OpenAIResponse {
         this.choices = choices;
     }
 
+    public Usage getUsage() {
+        return usage;
+    }
+
+    public void setUsage(Usage usage) {
+        this.usage = usage;
+    }
+
     public static class Choice {
         private Message message;
 
@@ -38,4 +48,29 @@ public class OpenAIResponse {
             this.content = content;
         }
     }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Usage {
+        @JsonProperty("prompt_tokens")
+        private Integer promptTokens;
+
+        @JsonProperty("completion_tokens")
+        private Integer completionTokens;
+
+        public Integer getPromptTokens() {
+            return promptTokens;
+        }
+
+        public void setPromptTokens(Integer promptTokens) {
+            this.promptTokens = promptTokens;
+        }
+
+        public Integer getCompletionTokens() {
+            return completionTokens;
+        }
+
+        public void setCompletionTokens(Integer completionTokens) {
+            this.completionTokens = completionTokens;
+        }
+    }
 }
@@ -0,0 +1,23 @@
+package com.profiling.dto.psychometric;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public class ProctoringCohortStatsRequest {
+    
+    @NotEmpty(message = "At least one session ID is required")
+    @Size(max = 2000, message = "At most 2000 sessions can be queried at once")
+    private List<String> sessionIds = new ArrayList<>();
+    
+    // Getters and Setters
+    public List<String> getSessionIds() {
+        return sessionIds;
+    }
+    
+    public void setSessionIds(List<String> sessionIds) {
+        this.sessionIds = sessionIds;
+    }
+}
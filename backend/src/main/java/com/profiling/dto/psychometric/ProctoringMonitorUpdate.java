@@ -0,0 +1,80 @@
+package com.profiling.dto.psychometric;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Rolling-window violation state of one session as pushed to proctor dashboards.
+ * A session that has left the window is sent once with {@code total == 0}.
+ */
+public class ProctoringMonitorUpdate {
+    
+    private String sessionId;
+    private String userId;
+    private long total;
+    private Map<String, Long> byType;
+    private int riskScore;
+    private Instant lastViolationAt;
+    
+    // Constructors
+    public ProctoringMonitorUpdate() {}
+    
+    public ProctoringMonitorUpdate(String sessionId, String userId, long total, Map<String, Long> byType,
+                                   int riskScore, Instant lastViolationAt) {
+        this.sessionId = sessionId;
+        this.userId = userId;
+        this.total = total;
+        this.byType = byType;
+        this.riskScore = riskScore;
+        this.lastViolationAt = lastViolationAt;
+    }
+    
+    // Getters and Setters
+    public String getSessionId() {
+        return sessionId;
+    }
+    
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+    
+    public String getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+    
+    public long getTotal() {
+        return total;
+    }
+    
+    public void setTotal(long total) {
+        this.total = total;
+    }
+    
+    public Map<String, Long> getByType() {
+        return byType;
+    }
+    
+    public void setByType(Map<String, Long> byType) {
+        this.byType = byType;
+    }
+    
+    public int getRiskScore() {
+        return riskScore;
+    }
+    
+    public void setRiskScore(int riskScore) {
+        this.riskScore = riskScore;
+    }
+    
+    public Instant getLastViolationAt() {
+        return lastViolationAt;
+    }
+    
+    public void setLastViolationAt(Instant lastViolationAt) {
+        this.lastViolationAt = lastViolationAt;
+    }
+}
@@ -0,0 +1,31 @@
+package com.profiling.dto.psychometric;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public class ProctoringViolationBatchRequest {
+    
+    @NotEmpty(message = "At least one violation is required")
+    @Size(max = 500, message = "At most 500 violations can be sent per batch")
+    private List<@Valid ProctoringViolationRequest> violations = new ArrayList<>();
+    
+    // Constructors
+    public ProctoringViolationBatchRequest() {}
+    
+    public ProctoringViolationBatchRequest(List<ProctoringViolationRequest> violations) {
+        this.violations = violations;
+    }
+    
+    // Getters and Setters
+    public List<ProctoringViolationRequest> getViolations() {
+        return violations;
+    }
+    
+    public void setViolations(List<ProctoringViolationRequest> violations) {
+        this.violations = violations;
+    }
+}
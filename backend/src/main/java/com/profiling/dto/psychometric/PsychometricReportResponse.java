@@ -3,8 +3,10 @@ package com.profiling.dto.psychometric;
 import java.time.Instant;
 import java.util.List;
 
+import com.profiling.model.psychometric.NarrativeStatus;
 import com.profiling.model.psychometric.PsychometricReport;
 import com.profiling.model.psychometric.PsychometricReport.ChartData;
+import com.profiling.model.psychometric.Report;
 import com.profiling.model.psychometric.UserInfo;
 
 public class PsychometricReportResponse {
@@ -42,6 +44,9 @@ public class PsychometricReportResponse {
     private ChartData chartsData;
     private Instant timestamp;
     private Instant reportGeneratedAt;
+    // Progressive delivery: PENDING until the AI narrative replaces the rule-based one
+    private Long reportVersion;
+    private NarrativeStatus narrativeStatus;
     
     public static PsychometricReportResponse from(PsychometricReport report) {
         PsychometricReportResponse response = new PsychometricReportResponse();
@@ -81,6 +86,13 @@ public class PsychometricReportResponse {
         return response;
     }
     
+    public static PsychometricReportResponse from(Report stored) {
+        PsychometricReportResponse response = from(stored.getContent());
+        response.setReportVersion(stored.getVersion());
+        response.setNarrativeStatus(stored.getNarrativeStatus());
+        return response;
+    }
+    
     // Getters and Setters
     public UserInfo getUserInfo() {
         return userInfo;
@@ -345,5 +357,20 @@ public class PsychometricReportResponse {
     public void setReportGeneratedAt(Instant reportGeneratedAt) {
         this.reportGeneratedAt = reportGeneratedAt;
     }
+    
+    public Long getReportVersion() {
+        return reportVersion;
+    }
+    
+    public void setReportVersion(Long reportVersion) {
+        this.reportVersion = reportVersion;
+    }
+    
+    public NarrativeStatus getNarrativeStatus() {
+        return narrativeStatus;
+    }
+    
+    public void setNarrativeStatus(NarrativeStatus narrativeStatus) {
+        this.narrativeStatus = narrativeStatus;
+    }
 }
-
@@ -3,7 +3,6 @@ package com.profiling.dto.psychometric;
 import java.util.List;
 
 import com.profiling.model.psychometric.PsychometricSession;
-import com.profiling.model.psychometric.Question;
 import com.profiling.model.psychometric.Report;
 import com.profiling.model.psychometric.SessionStatus;
 import com.profiling.model.psychometric.UserInfo;
@@ -12,7 +11,7 @@ public class PsychometricSessionResponse {
     private String id;
     private UserInfo userInfo;
     private SessionStatus status;
-    private List<Question> questions;
+    private List<CandidateQuestion> questions;
     private Report report;
 
     public static PsychometricSessionResponse from(PsychometricSession session) {
@@ -20,7 +19,10 @@ public class PsychometricSessionResponse {
         response.id = session.getId();
         response.userInfo = session.getUserInfo();
         response.status = session.getStatus();
-        response.questions = session.getQuestions();
+        // The answer key is only revealed for review once the test has been submitted
+        response.questions = session.getStatus() == SessionStatus.COMPLETED && session.getQuestions() != null
+                ? session.getQuestions().stream().map(CandidateQuestion::withAnswerKey).toList()
+                : CandidateQuestion.fromAll(session.getQuestions());
         response.report = session.getReport();
         return response;
     }
@@ -49,11 +51,11 @@ public class PsychometricSessionResponse {
         this.status = status;
     }
 
-    public List<Question> getQuestions() {
+    public List<CandidateQuestion> getQuestions() {
         return questions;
     }
 
-    public void setQuestions(List<Question> questions) {
+    public void setQuestions(List<CandidateQuestion> questions) {
         this.questions = questions;
     }
 
@@ -0,0 +1,110 @@
+package com.profiling.dto.psychometric;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.data.annotation.Id;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Aggregation result: violation counts for one session broken down by type and severity.
+ */
+public class SessionViolationSummary {
+    
+    @Id
+    private String sessionId;
+    
+    private long total;
+    
+    private LocalDateTime lastViolationAt;
+    
+    @JsonIgnore
+    private List<Breakdown> counts = new ArrayList<>();
+    
+    // Getters and Setters
+    public String getSessionId() {
+        return sessionId;
+    }
+    
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+    
+    public long getTotal() {
+        return total;
+    }
+    
+    public void setTotal(long total) {
+        this.total = total;
+    }
+    
+    public LocalDateTime getLastViolationAt() {
+        return lastViolationAt;
+    }
+    
+    public void setLastViolationAt(LocalDateTime lastViolationAt) {
+        this.lastViolationAt = lastViolationAt;
+    }
+    
+    public List<Breakdown> getCounts() {
+        return counts;
+    }
+    
+    public void setCounts(List<Breakdown> counts) {
+        this.counts = counts;
+    }
+    
+    public Map<String, Long> getByType() {
+        Map<String, Long> byType = new TreeMap<>();
+        for (Breakdown breakdown : counts) {
+            byType.merge(keyOrUnknown(breakdown.getViolationType()), breakdown.getCount(), Long::sum);
+        }
+        return byType;
+    }
+    
+    public Map<String, Long> getBySeverity() {
+        Map<String, Long> bySeverity = new TreeMap<>();
+        for (Breakdown breakdown : counts) {
+            bySeverity.merge(keyOrUnknown(breakdown.getSeverity()), breakdown.getCount(), Long::sum);
+        }
+        return bySeverity;
+    }
+    
+    private static String keyOrUnknown(String key) {
+        return key != null ? key : "UNKNOWN";
+    }
+    
+    public static class Breakdown {
+        private String violationType;
+        private String severity;
+        private long count;
+        
+        public String getViolationType() {
+            return violationType;
+        }
+        
+        public void setViolationType(String violationType) {
+            this.violationType = violationType;
+        }
+        
+        public String getSeverity() {
+            return severity;
+        }
+        
+        public void setSeverity(String severity) {
+            this.severity = severity;
+        }
+        
+        public long getCount() {
+            return count;
+        }
+        
+        public void setCount(long count) {
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.profiling.dto.psychometric;
+
+import org.springframework.data.annotation.Id;
+
+/**
+ * Aggregation result: number of violations of one type within a session.
+ */
+public class ViolationCount {
+    
+    @Id
+    private String violationType;
+    
+    private long count;
+    
+    // Constructors
+    public ViolationCount() {}
+    
+    public ViolationCount(String violationType, long count) {
+        this.violationType = violationType;
+        this.count = count;
+    }
+    
+    // Getters and Setters
+    public String getViolationType() {
+        return violationType;
+    }
+    
+    public void setViolationType(String violationType) {
+        this.violationType = violationType;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
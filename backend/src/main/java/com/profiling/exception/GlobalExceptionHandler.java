@@ -10,8 +10,10 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -52,6 +54,13 @@ public class GlobalExceptionHandler {
         return buildResponse(status, status.getReasonPhrase(), ex.getReason(), request);
     }
 
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<Map<String, Object>> handleAccessDenied(AccessDeniedException ex,
+                                                                  HttpServletRequest request) {
+        log.warn("Access denied at {}: {}", request.getRequestURI(), ex.getMessage());
+        return buildResponse(HttpStatus.FORBIDDEN, HttpStatus.FORBIDDEN.getReasonPhrase(), "Access denied", request);
+    }
+
     @ExceptionHandler(MongoException.class)
     public ResponseEntity<Map<String, Object>> handleMongoException(MongoException ex,
                                                                     HttpServletRequest request) {
@@ -66,6 +75,30 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.SERVICE_UNAVAILABLE, "DatabaseError", "Database access failed", request);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleServiceUnavailable(ServiceUnavailableException ex,
+                                                                        HttpServletRequest request) {
+        log.warn("Service unavailable at {}: {}", request.getRequestURI(), ex.getMessage());
+        ResponseEntity<Map<String, Object>> response = buildResponse(ex.getStatus(),
+                ex.getStatus().getReasonPhrase(), ex.getMessage(), request);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<Map<String, Object>> handleTooManyRequests(TooManyRequestsException ex,
+                                                                     HttpServletRequest request) {
+        log.warn("Request rejected at {}: {}", request.getRequestURI(), ex.getMessage());
+        ResponseEntity<Map<String, Object>> response = buildResponse(ex.getStatus(),
+                ex.getStatus().getReasonPhrase(), ex.getMessage(), request);
+        Map<String, Object> body = response.getBody();
+        body.put("retryAfterSeconds", ex.getRetryAfterSeconds());
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(body);
+    }
+
     @ExceptionHandler({
             BadRequestException.class,
             NotFoundException.class,
@@ -0,0 +1,26 @@
+package com.profiling.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Raised when a bounded resource is saturated and the client should retry later.
+ * The handler surfaces {@link #getRetryAfterSeconds()} as a Retry-After header.
+ */
+public class ServiceUnavailableException extends ApplicationException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds, Throwable cause) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
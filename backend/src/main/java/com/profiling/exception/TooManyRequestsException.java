@@ -0,0 +1,21 @@
+package com.profiling.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Raised when admission control turns a request away because the backend is at capacity.
+ * The handler surfaces {@link #getRetryAfterSeconds()} as a Retry-After header.
+ */
+public class TooManyRequestsException extends ApplicationException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(HttpStatus.TOO_MANY_REQUESTS, message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
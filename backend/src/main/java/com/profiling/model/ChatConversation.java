@@ -0,0 +1,223 @@
+package com.profiling.model;
+
+import com.profiling.dto.ChatState;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Server-side state of a career chatbot conversation.
+ * Each user message is appended to {@code turns}; the stage indices are overwritten and
+ * {@code version} is bumped so concurrent turns are detected.
+ */
+@Document(collection = "chat_conversations")
+public class ChatConversation {
+
+    @Id
+    private String id;
+
+    @Indexed
+    private String userId;
+
+    private List<String> questions = new ArrayList<>();
+
+    /** Profile the questions were generated from, for evaluating finished stages. */
+    private Map<String, String> profile;
+
+    private List<Turn> turns = new ArrayList<>();
+
+    private int currentStage = 1;
+
+    private int currentQuestionIndex;
+
+    private String pendingWhyQuestion;
+
+    private boolean complete;
+
+    private long version;
+
+    private Instant createdAt;
+
+    private Instant updatedAt;
+
+    /** Idle conversations are removed by a TTL index; every turn pushes this forward. */
+    @Indexed(name = "expires_ttl_idx", expireAfter = "0s")
+    private Instant expiresAt;
+
+    public ChatConversation() {
+    }
+
+    /**
+     * The conversation as the chatbot flow sees it. Later answers to the same question win.
+     */
+    public ChatState toState() {
+        ChatState state = new ChatState();
+        state.setCurrentStage(currentStage);
+        state.setCurrentQuestionIndex(currentQuestionIndex);
+        state.setQuestions(new ArrayList<>(questions));
+        state.setAnswers(answers());
+        state.setPendingWhyQuestion(pendingWhyQuestion);
+        state.setComplete(complete);
+        return state;
+    }
+
+    public Map<String, String> answers() {
+        Map<String, String> answers = new HashMap<>();
+        for (Turn turn : turns) {
+            answers.put(turn.getQuestion(), turn.getAnswer());
+        }
+        return answers;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public List<String> getQuestions() {
+        return questions;
+    }
+
+    public void setQuestions(List<String> questions) {
+        this.questions = questions;
+    }
+
+    public Map<String, String> getProfile() {
+        return profile;
+    }
+
+    public void setProfile(Map<String, String> profile) {
+        this.profile = profile;
+    }
+
+    public List<Turn> getTurns() {
+        return turns;
+    }
+
+    public void setTurns(List<Turn> turns) {
+        this.turns = turns;
+    }
+
+    public int getCurrentStage() {
+        return currentStage;
+    }
+
+    public void setCurrentStage(int currentStage) {
+        this.currentStage = currentStage;
+    }
+
+    public int getCurrentQuestionIndex() {
+        return currentQuestionIndex;
+    }
+
+    public void setCurrentQuestionIndex(int currentQuestionIndex) {
+        this.currentQuestionIndex = currentQuestionIndex;
+    }
+
+    public String getPendingWhyQuestion() {
+        return pendingWhyQuestion;
+    }
+
+    public void setPendingWhyQuestion(String pendingWhyQuestion) {
+        this.pendingWhyQuestion = pendingWhyQuestion;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * One answered question; WHY follow-ups are keyed "{question} [WHY]" as in {@link ChatState}.
+     */
+    public static class Turn {
+        private String question;
+        private String answer;
+        private Instant answeredAt;
+
+        public Turn() {
+        }
+
+        public Turn(String question, String answer, Instant answeredAt) {
+            this.question = question;
+            this.answer = answer;
+            this.answeredAt = answeredAt;
+        }
+
+        public String getQuestion() {
+            return question;
+        }
+
+        public void setQuestion(String question) {
+            this.question = question;
+        }
+
+        public String getAnswer() {
+            return answer;
+        }
+
+        public void setAnswer(String answer) {
+            this.answer = answer;
+        }
+
+        public Instant getAnsweredAt() {
+            return answeredAt;
+        }
+
+        public void setAnsweredAt(Instant answeredAt) {
+            this.answeredAt = answeredAt;
+        }
+    }
+}
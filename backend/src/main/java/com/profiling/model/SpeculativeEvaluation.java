@@ -0,0 +1,128 @@
+package com.profiling.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Interest evaluations computed in the background while a career chatbot conversation is
+ * still running, keyed by the conversation id.
+ * {@code stages} holds the evaluation of each finished stage's answers; {@code result} the
+ * final evaluation served by /api/evaluate. Each entry carries the fingerprint of the profile
+ * and answers it was computed from, so it is only reused for the same input.
+ */
+@Document(collection = "chat_evaluations")
+public class SpeculativeEvaluation {
+
+    @Id
+    private String id;
+
+    private String userId;
+
+    private Map<String, Entry> stages = new HashMap<>();
+
+    private Entry result;
+
+    /** Dropped by a TTL index together with (or soon after) the conversation. */
+    @Indexed(name = "expires_ttl_idx", expireAfter = "0s")
+    private Instant expiresAt;
+
+    public SpeculativeEvaluation() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public Map<String, Entry> getStages() {
+        return stages;
+    }
+
+    public void setStages(Map<String, Entry> stages) {
+        this.stages = stages;
+    }
+
+    public Entry getResult() {
+        return result;
+    }
+
+    public void setResult(Entry result) {
+        this.result = result;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * One evaluation: the JSON as returned by the model (stages) or the serialized result.
+     */
+    public static class Entry {
+        private String fingerprint;
+        private String json;
+        private int answerCount;
+        private Instant evaluatedAt;
+
+        public Entry() {
+        }
+
+        public Entry(String fingerprint, String json, int answerCount, Instant evaluatedAt) {
+            this.fingerprint = fingerprint;
+            this.json = json;
+            this.answerCount = answerCount;
+            this.evaluatedAt = evaluatedAt;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public void setFingerprint(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        public String getJson() {
+            return json;
+        }
+
+        public void setJson(String json) {
+            this.json = json;
+        }
+
+        public int getAnswerCount() {
+            return answerCount;
+        }
+
+        public void setAnswerCount(int answerCount) {
+            this.answerCount = answerCount;
+        }
+
+        public Instant getEvaluatedAt() {
+            return evaluatedAt;
+        }
+
+        public void setEvaluatedAt(Instant evaluatedAt) {
+            this.evaluatedAt = evaluatedAt;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.profiling.model;
 
+import java.time.Instant;
+
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -22,6 +24,8 @@ public class User {
     private String provider; // "local" or "google"
     private String role;
 
+    private Instant roleChangedAt; // Tokens issued before this instant lose elevated authorities
+
     public User() {
     }
 
@@ -88,6 +92,14 @@ public class User {
         this.role = role;
     }
 
+    public Instant getRoleChangedAt() {
+        return roleChangedAt;
+    }
+
+    public void setRoleChangedAt(Instant roleChangedAt) {
+        this.roleChangedAt = roleChangedAt;
+    }
+
     public boolean isAdmin() {
         return role != null && role.equalsIgnoreCase(UserRole.ADMIN);
     }
@@ -1,9 +1,13 @@
 package com.profiling.model.psychometric;
 
+import java.time.Instant;
+
 public class Answer {
     private String questionId;
     private Integer selectedOptionIndex;
     private String textResponse;
+    /** Client time the answer was given; later autosaves of the same question win. */
+    private Instant answeredAt;
 
     public String getQuestionId() {
         return questionId;
@@ -28,6 +32,12 @@ public class Answer {
     public void setTextResponse(String textResponse) {
         this.textResponse = textResponse;
     }
-}
 
+    public Instant getAnsweredAt() {
+        return answeredAt;
+    }
 
+    public void setAnsweredAt(Instant answeredAt) {
+        this.answeredAt = answeredAt;
+    }
+}
@@ -0,0 +1,131 @@
+package com.profiling.model.psychometric;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Copy of a completed session kept after the live session is removed: the candidate, the
+ * questions and their answers, the submitted scores and the stored report, without the
+ * answer sheet, running scores and proctoring violations. Reads of an archived session go
+ * through {@link #toSession()}, so its report and PDFs stay available.
+ */
+@Document(collection = "psychometric_session_archive")
+public class ArchivedSession {
+
+    /** Same id as the original session. */
+    @Id
+    private String id;
+
+    private UserInfo userInfo;
+
+    @Indexed(name = "archive_email_idx")
+    private String userEmail;
+
+    private List<Question> questions;
+
+    private List<Answer> answers;
+
+    private PsychometricSession.TestResults testResults;
+
+    private Report report;
+
+    private int questionCount;
+
+    private int violationCount;
+
+    private Instant createdAt;
+
+    private Instant completedAt;
+
+    private Instant archivedAt;
+
+    public static ArchivedSession from(PsychometricSession session, Instant archivedAt) {
+        ArchivedSession archived = new ArchivedSession();
+        archived.id = session.getId();
+        archived.userInfo = session.getUserInfo();
+        archived.userEmail = session.getUserInfo() != null ? session.getUserInfo().getEmail() : null;
+        archived.questions = session.getQuestions();
+        archived.answers = session.getAnswers();
+        archived.testResults = session.getTestResults();
+        archived.report = session.getReport();
+        archived.questionCount = session.getQuestions() != null ? session.getQuestions().size() : 0;
+        archived.violationCount = session.getProctoringViolations() != null ? session.getProctoringViolations().size() : 0;
+        archived.createdAt = session.getCreatedAt();
+        archived.completedAt = session.getUpdatedAt();
+        archived.archivedAt = archivedAt;
+        return archived;
+    }
+
+    /**
+     * The session as it was when it was archived, for read-only use.
+     */
+    public PsychometricSession toSession() {
+        PsychometricSession session = new PsychometricSession();
+        session.setId(id);
+        session.setUserInfo(userInfo);
+        session.setStatus(SessionStatus.COMPLETED);
+        session.setQuestions(questions != null ? questions : new ArrayList<>());
+        session.setAnswers(answers != null ? answers : new ArrayList<>());
+        session.setTestResults(testResults);
+        session.setReport(report);
+        session.setCreatedAt(createdAt);
+        session.setUpdatedAt(completedAt);
+        session.setAptitudeReady(true);
+        session.setBehavioralReady(true);
+        session.setDomainReady(true);
+        return session;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public UserInfo getUserInfo() {
+        return userInfo;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+
+    public List<Question> getQuestions() {
+        return questions;
+    }
+
+    public List<Answer> getAnswers() {
+        return answers;
+    }
+
+    public PsychometricSession.TestResults getTestResults() {
+        return testResults;
+    }
+
+    public Report getReport() {
+        return report;
+    }
+
+    public int getQuestionCount() {
+        return questionCount;
+    }
+
+    public int getViolationCount() {
+        return violationCount;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public Instant getArchivedAt() {
+        return archivedAt;
+    }
+}
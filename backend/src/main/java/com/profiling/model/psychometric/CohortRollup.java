@@ -0,0 +1,156 @@
+package com.profiling.model.psychometric;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Counters of one cohort (a value of a dimension such as career interest, or "all") over one
+ * time bucket, by session creation time. Maintained with {@code $inc} as sessions are created,
+ * submitted and reported, so reading cohort statistics never touches the sessions.
+ *
+ * The id is {@code dimension|granularity|bucket|value}, e.g. {@code careerInterest|month|2024-06|data science}.
+ */
+@Document(collection = "cohort_rollups")
+@CompoundIndex(name = "dimension_bucket_idx", def = "{'dimension': 1, 'granularity': 1, 'bucket': 1, 'funnel.created': -1}")
+public class CohortRollup {
+
+    @Id
+    private String id;
+
+    private String dimension;
+    private String value;
+    /** "day", "month" or "all". */
+    private String granularity;
+    /** "2024-06-01", "2024-06" or "all". */
+    private String bucket;
+
+    /** Sessions created, submitted and reported. */
+    private Map<String, Long> funnel = new HashMap<>();
+    /** Report section scores (aptitude, behavioral, domain, overall) in percent. */
+    private Map<String, ScoreTally> scores = new HashMap<>();
+    /** Per Big Five trait, reports by 10-point score band ("0" to "90"). */
+    private Map<String, Map<String, Long>> bigFive = new HashMap<>();
+    /** Reports by performance bucket (POOR, AVERAGE, GOOD, BEST). */
+    private Map<String, Long> performance = new HashMap<>();
+    /** Submitted answers per question category, keyed like {@link RunningScores#getCategories()}. */
+    private Map<String, RunningScores.CategoryTally> categories = new HashMap<>();
+
+    private Instant updatedAt;
+
+    public CohortRollup() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getDimension() {
+        return dimension;
+    }
+
+    public void setDimension(String dimension) {
+        this.dimension = dimension;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public String getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(String granularity) {
+        this.granularity = granularity;
+    }
+
+    public String getBucket() {
+        return bucket;
+    }
+
+    public void setBucket(String bucket) {
+        this.bucket = bucket;
+    }
+
+    public Map<String, Long> getFunnel() {
+        return funnel;
+    }
+
+    public void setFunnel(Map<String, Long> funnel) {
+        this.funnel = funnel;
+    }
+
+    public Map<String, ScoreTally> getScores() {
+        return scores;
+    }
+
+    public void setScores(Map<String, ScoreTally> scores) {
+        this.scores = scores;
+    }
+
+    public Map<String, Map<String, Long>> getBigFive() {
+        return bigFive;
+    }
+
+    public void setBigFive(Map<String, Map<String, Long>> bigFive) {
+        this.bigFive = bigFive;
+    }
+
+    public Map<String, Long> getPerformance() {
+        return performance;
+    }
+
+    public void setPerformance(Map<String, Long> performance) {
+        this.performance = performance;
+    }
+
+    public Map<String, RunningScores.CategoryTally> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(Map<String, RunningScores.CategoryTally> categories) {
+        this.categories = categories;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public static class ScoreTally {
+        private double sum;
+        private long count;
+
+        public double getSum() {
+            return sum;
+        }
+
+        public void setSum(double sum) {
+            this.sum = sum;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.profiling.model.psychometric;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * One question-generation task: a single section of a psychometric session.
+ * Jobs live in MongoDB so any backend instance can claim them and they survive restarts.
+ */
+@Document(collection = "generation_jobs")
+@CompoundIndexes({
+    @CompoundIndex(name = "session_section_uq", def = "{'sessionId': 1, 'sectionNumber': 1}", unique = true),
+    @CompoundIndex(name = "status_available_idx", def = "{'status': 1, 'availableAt': 1}"),
+    @CompoundIndex(name = "status_lease_idx", def = "{'status': 1, 'leaseExpiresAt': 1}")
+})
+public class GenerationJob {
+
+    @Id
+    private String id;
+
+    private String sessionId;
+
+    private int sectionNumber;
+
+    private GenerationJobStatus status = GenerationJobStatus.PENDING;
+
+    private int attempts;
+
+    private int maxAttempts;
+
+    private Instant availableAt;
+
+    private String leaseOwner;
+
+    private Instant leaseExpiresAt;
+
+    private String lastError;
+
+    /** Trace id of the request that created the session, so worker logs can be correlated. */
+    private String traceId;
+
+    private Instant createdAt;
+
+    /** Finished (DONE or DEAD) jobs are removed by a TTL index a week after completion. */
+    @Indexed(name = "completed_ttl_idx", expireAfter = "7d")
+    private Instant completedAt;
+
+    public GenerationJob() {}
+
+    public GenerationJob(String sessionId, int sectionNumber, int maxAttempts, Instant now) {
+        this.sessionId = sessionId;
+        this.sectionNumber = sectionNumber;
+        this.maxAttempts = maxAttempts;
+        this.availableAt = now;
+        this.createdAt = now;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public int getSectionNumber() {
+        return sectionNumber;
+    }
+
+    public void setSectionNumber(int sectionNumber) {
+        this.sectionNumber = sectionNumber;
+    }
+
+    public GenerationJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(GenerationJobStatus status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Instant getAvailableAt() {
+        return availableAt;
+    }
+
+    public void setAvailableAt(Instant availableAt) {
+        this.availableAt = availableAt;
+    }
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public void setLeaseOwner(String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+
+    public Instant getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(Instant leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public void setTraceId(String traceId) {
+        this.traceId = traceId;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+}
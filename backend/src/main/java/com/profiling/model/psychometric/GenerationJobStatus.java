@@ -0,0 +1,11 @@
+package com.profiling.model.psychometric;
+
+public enum GenerationJobStatus {
+    /** Waiting to be claimed once {@code availableAt} has passed. */
+    PENDING,
+    /** Claimed by a worker that holds the lease until {@code leaseExpiresAt}. */
+    RUNNING,
+    DONE,
+    /** Failed {@code maxAttempts} times; kept for inspection and not retried. */
+    DEAD
+}
@@ -0,0 +1,15 @@
+package com.profiling.model.psychometric;
+
+/**
+ * State of the AI-written narrative of a stored report. The deterministic report is stored
+ * first; the narrative replaces its rule-based text when enrichment finishes.
+ */
+public enum NarrativeStatus {
+    /** Enrichment is queued or running; the report carries the rule-based narrative. */
+    PENDING,
+    ENRICHED,
+    /** OpenAI is not configured; the rule-based narrative is final. */
+    RULE_BASED,
+    /** Enrichment failed; the rule-based narrative is kept. */
+    FAILED
+}
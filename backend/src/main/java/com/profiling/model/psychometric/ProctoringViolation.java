@@ -3,9 +3,15 @@ package com.profiling.model.psychometric;
 import java.time.LocalDateTime;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "proctoring_violations")
+@CompoundIndexes({
+    @CompoundIndex(name = "session_timestamp_idx", def = "{'sessionId': 1, 'timestamp': -1}"),
+    @CompoundIndex(name = "user_timestamp_idx", def = "{'userId': 1, 'timestamp': -1}")
+})
 public class ProctoringViolation {
     
     @Id
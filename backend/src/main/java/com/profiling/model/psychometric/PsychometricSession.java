@@ -2,17 +2,27 @@ package com.profiling.model.psychometric;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 
 @Document(collection = "psychometric_sessions")
+@CompoundIndexes({
+    @CompoundIndex(name = "email_created_idx", def = "{'userInfo.email': 1, 'createdAt': -1}"),
+    @CompoundIndex(name = "status_updated_idx", def = "{'status': 1, 'updatedAt': 1}")
+})
 public class PsychometricSession {
 
     @Id
@@ -32,10 +42,21 @@ public class PsychometricSession {
 
     private List<Question> questions = new ArrayList<>();
     private List<Answer> answers = new ArrayList<>();
+
+    // Autosaved answers keyed by question id, with the scores they add up to. Answer batches
+    // update both atomically (guarded by answerVersion); submit snapshots them into answers
+    // and testResults without rescoring.
+    private Map<String, Answer> answerSheet = new HashMap<>();
+    private RunningScores runningScores;
+    private Long answerVersion;
+
     private Report report;
     
     // Test results from frontend submission
     private TestResults testResults;
+
+    // Lifecycle events (created, submitted, reported) already counted in the cohort rollups
+    private Set<String> analyticsRecorded = new HashSet<>();
     
     // Proctoring data
     private List<ProctoringViolation> proctoringViolations = new ArrayList<>();
@@ -101,6 +122,30 @@ public class PsychometricSession {
         this.answers = answers;
     }
 
+    public Map<String, Answer> getAnswerSheet() {
+        return answerSheet;
+    }
+
+    public void setAnswerSheet(Map<String, Answer> answerSheet) {
+        this.answerSheet = answerSheet;
+    }
+
+    public RunningScores getRunningScores() {
+        return runningScores;
+    }
+
+    public void setRunningScores(RunningScores runningScores) {
+        this.runningScores = runningScores;
+    }
+
+    public Long getAnswerVersion() {
+        return answerVersion;
+    }
+
+    public void setAnswerVersion(Long answerVersion) {
+        this.answerVersion = answerVersion;
+    }
+
     public Report getReport() {
         return report;
     }
@@ -155,6 +200,14 @@ public class PsychometricSession {
     public void setTestResults(TestResults testResults) {
         this.testResults = testResults;
     }
+
+    public Set<String> getAnalyticsRecorded() {
+        return analyticsRecorded;
+    }
+
+    public void setAnalyticsRecorded(Set<String> analyticsRecorded) {
+        this.analyticsRecorded = analyticsRecorded;
+    }
     
     // Inner class to store test results
     public static class TestResults {
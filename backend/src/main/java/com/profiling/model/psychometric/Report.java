@@ -1,12 +1,22 @@
 package com.profiling.model.psychometric;
 
+import java.time.Instant;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 public class Report {
     private String summary;
     private List<String> strengths;
     private List<String> improvementAreas;
     private List<String> recommendations;
+    // Full stored report, so reads no longer regenerate it (and call OpenAI) on every request
+    @JsonIgnore
+    private PsychometricReport content;
+    // Incremented whenever content changes; identifies the version a PDF or ETag was built from
+    private long version;
+    private NarrativeStatus narrativeStatus;
+    private Instant narrativeRequestedAt;
 
     public String getSummary() {
         return summary;
@@ -39,6 +49,36 @@ public class Report {
     public void setRecommendations(List<String> recommendations) {
         this.recommendations = recommendations;
     }
-}
 
+    public PsychometricReport getContent() {
+        return content;
+    }
+
+    public void setContent(PsychometricReport content) {
+        this.content = content;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 
+    public NarrativeStatus getNarrativeStatus() {
+        return narrativeStatus;
+    }
+
+    public void setNarrativeStatus(NarrativeStatus narrativeStatus) {
+        this.narrativeStatus = narrativeStatus;
+    }
+
+    public Instant getNarrativeRequestedAt() {
+        return narrativeRequestedAt;
+    }
+
+    public void setNarrativeRequestedAt(Instant narrativeRequestedAt) {
+        this.narrativeRequestedAt = narrativeRequestedAt;
+    }
+}
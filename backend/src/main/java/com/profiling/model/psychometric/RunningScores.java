@@ -0,0 +1,182 @@
+package com.profiling.model.psychometric;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Score counters kept up to date as answers are autosaved, so that submission and report
+ * generation read totals instead of rescanning every answer. Updated by
+ * {@code ScoringService.applyAnswer}, which adds an answer's contribution and removes the
+ * contribution of the answer it replaces.
+ */
+public class RunningScores {
+
+    /** Keyed by section number ("1", "2", "3"). */
+    private Map<String, SectionTally> sections = new HashMap<>();
+    /** Keyed by {@link #categoryKey}. */
+    private Map<String, CategoryTally> categories = new HashMap<>();
+    /** Keyed by Big Five trait name. */
+    private Map<String, TraitTally> bigFive = new HashMap<>();
+
+    public SectionTally section(int sectionNumber) {
+        return sections.computeIfAbsent(String.valueOf(sectionNumber), key -> new SectionTally());
+    }
+
+    public CategoryTally category(int sectionNumber, String category) {
+        return categories.computeIfAbsent(categoryKey(sectionNumber, category),
+                key -> new CategoryTally(sectionNumber, category));
+    }
+
+    public TraitTally trait(String trait) {
+        return bigFive.computeIfAbsent(trait, key -> new TraitTally());
+    }
+
+    /**
+     * Map key for a category; Mongo field names cannot contain dots or start with '$'.
+     */
+    static String categoryKey(int sectionNumber, String category) {
+        return sectionNumber + ":" + category.replace('.', '_').replace('$', '_');
+    }
+
+    public Map<String, SectionTally> getSections() {
+        return sections;
+    }
+
+    public void setSections(Map<String, SectionTally> sections) {
+        this.sections = sections;
+    }
+
+    public Map<String, CategoryTally> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(Map<String, CategoryTally> categories) {
+        this.categories = categories;
+    }
+
+    public Map<String, TraitTally> getBigFive() {
+        return bigFive;
+    }
+
+    public void setBigFive(Map<String, TraitTally> bigFive) {
+        this.bigFive = bigFive;
+    }
+
+    public static class SectionTally {
+        private int attempted;
+        /** Answers matching the answer key. */
+        private int correct;
+        /** Answers credited by the section score rules (see ScoringService). */
+        private int credited;
+        private long impactSum;
+        private int impactCount;
+
+        public int getAttempted() {
+            return attempted;
+        }
+
+        public void setAttempted(int attempted) {
+            this.attempted = attempted;
+        }
+
+        public int getCorrect() {
+            return correct;
+        }
+
+        public void setCorrect(int correct) {
+            this.correct = correct;
+        }
+
+        public int getCredited() {
+            return credited;
+        }
+
+        public void setCredited(int credited) {
+            this.credited = credited;
+        }
+
+        public long getImpactSum() {
+            return impactSum;
+        }
+
+        public void setImpactSum(long impactSum) {
+            this.impactSum = impactSum;
+        }
+
+        public int getImpactCount() {
+            return impactCount;
+        }
+
+        public void setImpactCount(int impactCount) {
+            this.impactCount = impactCount;
+        }
+    }
+
+    public static class CategoryTally {
+        private int sectionNumber;
+        private String category;
+        private int attempted;
+        private int correct;
+
+        public CategoryTally() {
+        }
+
+        public CategoryTally(int sectionNumber, String category) {
+            this.sectionNumber = sectionNumber;
+            this.category = category;
+        }
+
+        public int getSectionNumber() {
+            return sectionNumber;
+        }
+
+        public void setSectionNumber(int sectionNumber) {
+            this.sectionNumber = sectionNumber;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public void setCategory(String category) {
+            this.category = category;
+        }
+
+        public int getAttempted() {
+            return attempted;
+        }
+
+        public void setAttempted(int attempted) {
+            this.attempted = attempted;
+        }
+
+        public int getCorrect() {
+            return correct;
+        }
+
+        public void setCorrect(int correct) {
+            this.correct = correct;
+        }
+    }
+
+    public static class TraitTally {
+        private long sum;
+        private int count;
+
+        public long getSum() {
+            return sum;
+        }
+
+        public void setSum(long sum) {
+            this.sum = sum;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+    }
+}
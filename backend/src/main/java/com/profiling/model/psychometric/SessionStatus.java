@@ -11,7 +11,12 @@ public enum SessionStatus {
     READY,
     IN_PROGRESS,
     COMPLETED,
-    FAILED
+    FAILED,
+    /**
+     * Left unfinished after the candidate started (or the questions were ready) and idle for the
+     * abandoned-session window. Kept with its answers; set by SessionLifecycleService.
+     */
+    EXPIRED
 }
 
 
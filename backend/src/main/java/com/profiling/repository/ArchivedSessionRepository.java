@@ -0,0 +1,10 @@
+package com.profiling.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.profiling.model.psychometric.ArchivedSession;
+
+@Repository
+public interface ArchivedSessionRepository extends MongoRepository<ArchivedSession, String> {
+}
@@ -1,10 +1,14 @@
 package com.profiling.repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import com.profiling.dto.psychometric.SessionViolationSummary;
+import com.profiling.dto.psychometric.ViolationCount;
 import com.profiling.model.psychometric.ProctoringViolation;
 
 @Repository
@@ -30,6 +34,28 @@ public interface ProctoringViolationRepository extends MongoRepository<Proctorin
      */
     long countBySessionId(String sessionId);
     
+    /**
+     * Count violations per type for a session, grouped server-side
+     */
+    @Aggregation(pipeline = {
+        "{ '$match': { 'sessionId': ?0 } }",
+        "{ '$group': { '_id': '$violationType', 'count': { '$sum': 1 } } }"
+    })
+    List<ViolationCount> countByViolationType(String sessionId);
+    
+    /**
+     * Per-session violation counts by type and severity for a whole cohort in one round trip
+     */
+    @Aggregation(pipeline = {
+        "{ '$match': { 'sessionId': { '$in': ?0 } } }",
+        "{ '$group': { '_id': { 'sessionId': '$sessionId', 'violationType': '$violationType', 'severity': '$severity' }, "
+            + "'count': { '$sum': 1 }, 'last': { '$max': '$timestamp' } } }",
+        "{ '$group': { '_id': '$_id.sessionId', 'total': { '$sum': '$count' }, 'lastViolationAt': { '$max': '$last' }, "
+            + "'counts': { '$push': { 'violationType': '$_id.violationType', 'severity': '$_id.severity', 'count': '$count' } } } }",
+        "{ '$sort': { 'total': -1 } }"
+    })
+    List<SessionViolationSummary> summarizeBySession(Collection<String> sessionIds);
+    
     /**
      * Delete all violations for a session
      */
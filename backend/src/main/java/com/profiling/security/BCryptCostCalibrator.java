@@ -0,0 +1,45 @@
+package com.profiling.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Picks a BCrypt cost factor so that a single hash takes roughly the target latency
+ * on the current hardware. Each cost step doubles the work, so the cost is derived
+ * from one timed measurement at a reference cost.
+ */
+public final class BCryptCostCalibrator {
+
+    private static final Logger log = LoggerFactory.getLogger(BCryptCostCalibrator.class);
+
+    private static final int REFERENCE_STRENGTH = 10;
+    private static final int SAMPLES = 3;
+
+    private BCryptCostCalibrator() {
+        // utility class
+    }
+
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder reference = new BCryptPasswordEncoder(REFERENCE_STRENGTH);
+        reference.encode("calibration-warmup");
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            reference.encode("calibration-sample");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        double referenceMillis = Math.max(best / 1_000_000.0, 0.1);
+        int strength = choose(referenceMillis, targetMillis, minStrength, maxStrength);
+        log.info("BCrypt calibrated: cost {} took {} ms, using cost {} for a {} ms target",
+                REFERENCE_STRENGTH, String.format("%.1f", referenceMillis), strength, targetMillis);
+        return strength;
+    }
+
+    static int choose(double referenceMillis, long targetMillis, int minStrength, int maxStrength) {
+        int steps = (int) Math.round(Math.log(targetMillis / referenceMillis) / Math.log(2));
+        return Math.max(minStrength, Math.min(maxStrength, REFERENCE_STRENGTH + steps));
+    }
+}
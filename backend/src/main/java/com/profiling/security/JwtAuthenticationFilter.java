@@ -1,18 +1,23 @@
 package com.profiling.security;
 
+import com.profiling.model.UserRole;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -20,6 +25,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private RoleVersionCache roleVersionCache;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
@@ -33,27 +41,47 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String requestTokenHeader = request.getHeader("Authorization");
 
-        String userId = null;
-        String jwtToken = null;
+        Claims claims = null;
 
         if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
-            jwtToken = requestTokenHeader.substring(7);
+            String jwtToken = requestTokenHeader.substring(7);
             try {
-                userId = jwtUtil.extractUserId(jwtToken);
+                // Signature and expiry are verified while parsing
+                claims = jwtUtil.extractAllClaims(jwtToken);
             } catch (Exception e) {
                 logger.error("Unable to get JWT Token");
             }
         }
 
+        String userId = claims != null ? claims.getSubject() : null;
         if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (jwtUtil.validateToken(jwtToken)) {
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userId, null, new ArrayList<>());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    userId, null, resolveAuthorities(userId, claims));
+            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
         }
         chain.doFilter(request, response);
     }
-}
 
+    /**
+     * Maps the role claim to granted authorities. Ordinary roles are trusted from the
+     * signed token; the admin role is only granted while the user still holds it.
+     */
+    private List<GrantedAuthority> resolveAuthorities(String userId, Claims claims) {
+        String role = claims.get(JwtUtil.ROLE_CLAIM, String.class);
+        if (role == null || role.isBlank()) {
+            return List.of();
+        }
+
+        if (UserRole.ADMIN.equalsIgnoreCase(role)
+                && !roleVersionCache.isRoleCurrent(userId, role, claims.getIssuedAt())) {
+            logger.warn("Admin role in token is no longer current for userId=" + userId);
+            return List.of(toAuthority(UserRole.USER));
+        }
+        return List.of(toAuthority(role));
+    }
+
+    private static GrantedAuthority toAuthority(String role) {
+        return new SimpleGrantedAuthority("ROLE_" + role.toUpperCase(Locale.ROOT));
+    }
+}
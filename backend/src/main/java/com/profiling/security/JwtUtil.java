@@ -16,6 +16,8 @@ import java.util.function.Function;
 @Component
 public class JwtUtil {
 
+    public static final String ROLE_CLAIM = "role";
+
     @Value("${jwt.secret}")
     private String secret;
 
@@ -30,6 +32,10 @@ public class JwtUtil {
         return extractClaim(token, Claims::getSubject);
     }
 
+    public String extractRole(String token) {
+        return extractClaim(token, claims -> claims.get(ROLE_CLAIM, String.class));
+    }
+
     public Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
@@ -39,7 +45,11 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
+    /**
+     * Verifies the signature and expiry of the token and returns its claims.
+     * Throws a {@link io.jsonwebtoken.JwtException} when the token is invalid or expired.
+     */
+    public Claims extractAllClaims(String token) {
         return Jwts.parser()
                 .verifyWith(getSigningKey())
                 .build()
@@ -54,7 +64,7 @@ public class JwtUtil {
     public String generateToken(String userId, String role) {
         Map<String, Object> claims = new HashMap<>();
         if (role != null && !role.isBlank()) {
-            claims.put("role", role);
+            claims.put(ROLE_CLAIM, role);
         }
         return createToken(claims, userId);
     }
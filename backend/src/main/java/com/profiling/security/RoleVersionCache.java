@@ -0,0 +1,96 @@
+package com.profiling.security;
+
+import com.mongodb.MongoException;
+import com.profiling.model.User;
+import com.profiling.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived cache of each user's current role and role-change stamp.
+ *
+ * Tokens carry the role they were issued with, so requests are normally authorized
+ * from the token alone. Elevated roles are re-checked against this cache so that a
+ * demotion (or a bumped {@link User#getRoleChangedAt()}) takes effect within one TTL,
+ * while an admin issuing many requests costs at most one user lookup per TTL.
+ */
+@Component
+public class RoleVersionCache {
+
+    private static final Logger log = LoggerFactory.getLogger(RoleVersionCache.class);
+
+    private final UserRepository userRepository;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final Clock clock;
+
+    @Autowired
+    public RoleVersionCache(UserRepository userRepository,
+                            @Value("${app.security.role-cache-ttl-seconds:30}") long ttlSeconds) {
+        this(userRepository, ttlSeconds, Clock.systemUTC());
+    }
+
+    RoleVersionCache(UserRepository userRepository, long ttlSeconds, Clock clock) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns true when the user still holds {@code tokenRole} and the role has not
+     * changed since the token was issued.
+     */
+    public boolean isRoleCurrent(String userId, String tokenRole, Date issuedAt) {
+        Entry entry = lookup(userId);
+        if (entry == null || entry.role() == null || !entry.role().equalsIgnoreCase(tokenRole)) {
+            return false;
+        }
+        if (entry.roleChangedAt() == null) {
+            return true;
+        }
+        // JWT issued-at has second precision, so compare at that granularity
+        return issuedAt != null && issuedAt.toInstant().getEpochSecond() >= entry.roleChangedAt().getEpochSecond();
+    }
+
+    /**
+     * Drops the cached entry so the next request re-reads the user. Call after changing a user's role.
+     */
+    public void invalidate(String userId) {
+        if (userId != null) {
+            entries.remove(userId);
+        }
+    }
+
+    private Entry lookup(String userId) {
+        long now = clock.millis();
+        Entry cached = entries.get(userId);
+        if (cached != null && now - cached.loadedAt() < ttlMillis) {
+            return cached;
+        }
+
+        try {
+            Entry loaded = userRepository.findById(userId)
+                    .map(user -> new Entry(user.getRole(), user.getRoleChangedAt(), now))
+                    .orElse(new Entry(null, null, now));
+            entries.put(userId, loaded);
+            return loaded;
+        } catch (DataAccessException | MongoException e) {
+            // Reuse the last known answer while the store is unavailable; with none cached this fails closed
+            log.error("Unable to refresh role for userId={}: {}", userId, e.getMessage());
+            return cached;
+        }
+    }
+
+    private record Entry(String role, Instant roleChangedAt, long loadedAt) {
+    }
+}
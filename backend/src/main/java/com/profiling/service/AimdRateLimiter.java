@@ -0,0 +1,73 @@
+package com.profiling.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Request-rate limiter for the LLM provider that learns the effective throughput with
+ * AIMD (additive increase, multiplicative decrease), as TCP does for its window.
+ *
+ * Calls reserve evenly spaced start slots at the current rate. Every success raises the
+ * rate by one request per minute; a 429 halves it, at most once per {@code decreaseCooldown}
+ * so that a burst of 429s from calls already in flight counts as a single signal. The
+ * rate stays within [minRpm, maxRpm].
+ */
+public class AimdRateLimiter {
+
+    static final double INCREASE_PER_SUCCESS_RPM = 1.0;
+    static final double DECREASE_FACTOR = 0.5;
+
+    private final double minRpm;
+    private final double maxRpm;
+    private final Duration decreaseCooldown;
+    private final Clock clock;
+
+    private double rpm;
+    private Instant nextSlot = Instant.MIN;
+    private Instant lastDecrease = Instant.MIN;
+
+    public AimdRateLimiter(double initialRpm, double minRpm, double maxRpm, Duration decreaseCooldown, Clock clock) {
+        if (minRpm <= 0 || maxRpm < minRpm) {
+            throw new IllegalArgumentException("LLM rate limits must satisfy 0 < min-rpm <= max-rpm");
+        }
+        this.minRpm = minRpm;
+        this.maxRpm = maxRpm;
+        this.decreaseCooldown = decreaseCooldown;
+        this.clock = clock;
+        this.rpm = Math.min(Math.max(initialRpm, minRpm), maxRpm);
+    }
+
+    /**
+     * Reserves the next start slot and returns how long the caller must wait for it, or
+     * empty (reserving nothing) if that wait would exceed {@code maxWait}.
+     */
+    public synchronized Optional<Duration> reserve(Duration maxWait) {
+        Instant now = clock.instant();
+        Instant slot = nextSlot.isAfter(now) ? nextSlot : now;
+        Duration wait = Duration.between(now, slot);
+        if (wait.compareTo(maxWait) > 0) {
+            return Optional.empty();
+        }
+        nextSlot = slot.plusNanos((long) (60_000_000_000L / rpm));
+        return Optional.of(wait);
+    }
+
+    public synchronized void onSuccess() {
+        rpm = Math.min(maxRpm, rpm + INCREASE_PER_SUCCESS_RPM);
+    }
+
+    public synchronized void onRateLimited() {
+        Instant now = clock.instant();
+        if (Duration.between(lastDecrease, now).compareTo(decreaseCooldown) < 0) {
+            return;
+        }
+        lastDecrease = now;
+        rpm = Math.max(minRpm, rpm * DECREASE_FACTOR);
+    }
+
+    public synchronized double getRequestsPerMinute() {
+        return rpm;
+    }
+}
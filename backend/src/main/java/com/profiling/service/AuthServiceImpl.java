@@ -7,6 +7,7 @@ import com.profiling.exception.BadRequestException;
 import com.profiling.exception.DataSaveException;
 import com.profiling.exception.DatabaseConnectionException;
 import com.profiling.exception.ResourceNotFoundException;
+import com.profiling.exception.ServiceUnavailableException;
 import com.profiling.exception.UnauthorizedException;
 import com.profiling.model.User;
 import com.profiling.model.UserRole;
@@ -75,8 +76,24 @@ public class AuthServiceImpl implements AuthService {
             throw new UnauthorizedException("Invalid email or password");
         }
 
+        boolean dirty = false;
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            // Re-hash with the current cost now that we have the plaintext; retried on a later login if busy
+            try {
+                user.setPassword(passwordEncoder.encode(request.getPassword()));
+                dirty = true;
+                log.info("Upgraded password hash for userId={}", user.getId());
+            } catch (ServiceUnavailableException e) {
+                log.warn("Skipped password hash upgrade for userId={}: {}", user.getId(), e.getMessage());
+            }
+        }
+
         if (user.getRole() == null || user.getRole().isBlank()) {
             user.setRole(DEFAULT_ROLE);
+            dirty = true;
+        }
+
+        if (dirty) {
             user = saveUser(user);
         }
 
@@ -0,0 +1,255 @@
+package com.profiling.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.mongodb.client.result.UpdateResult;
+import com.profiling.dto.ChatState;
+import com.profiling.exception.NotFoundException;
+import com.profiling.exception.UnauthorizedException;
+import com.profiling.model.ChatConversation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Server-side store for career chatbot conversations, so a turn only carries the
+ * conversation id and the new message.
+ *
+ * Conversations live in MongoDB, where a TTL index drops them {@code ttl-hours} after the
+ * last turn, with a short-lived in-memory copy in front for the node serving the
+ * conversation. A turn is written as a delta (the new answers are pushed, the stage indices
+ * set) under a {@code version} guard; if another node got there first the conversation is
+ * re-read from MongoDB and the turn applied again. A turn that finishes a stage hands the
+ * stage's answers to {@link SpeculativeEvaluationService}. Conversations belong to a signed-in
+ * user; anonymous callers have no identity to bind one to and are refused.
+ */
+@Service
+public class ChatConversationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatConversationService.class);
+
+    private static final String ANONYMOUS_USER = "anonymousUser";
+
+    static final int MAX_ATTEMPTS = 3;
+
+    private final MongoTemplate mongoTemplate;
+    private final ChatbotService chatbotService;
+    private final SpeculativeEvaluationService speculativeEvaluationService;
+    private final Duration ttl;
+    private final long cacheTtlMillis;
+    private final int cacheMaxEntries;
+    private final Clock clock;
+    private final Map<String, Cached> cache = new ConcurrentHashMap<>();
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Counter conflicts;
+
+    @Autowired
+    public ChatConversationService(
+            MongoTemplate mongoTemplate,
+            ChatbotService chatbotService,
+            SpeculativeEvaluationService speculativeEvaluationService,
+            MeterRegistry registry,
+            @Value("${app.chat.conversation.ttl-hours:24}") long ttlHours,
+            @Value("${app.chat.conversation.cache-ttl-seconds:600}") long cacheTtlSeconds,
+            @Value("${app.chat.conversation.cache-max-entries:10000}") int cacheMaxEntries) {
+        this(mongoTemplate, chatbotService, speculativeEvaluationService, registry, Duration.ofHours(ttlHours),
+                cacheTtlSeconds * 1000L, cacheMaxEntries, Clock.systemUTC());
+    }
+
+    ChatConversationService(MongoTemplate mongoTemplate, ChatbotService chatbotService,
+                            SpeculativeEvaluationService speculativeEvaluationService, MeterRegistry registry,
+                            Duration ttl, long cacheTtlMillis, int cacheMaxEntries, Clock clock) {
+        this.mongoTemplate = mongoTemplate;
+        this.chatbotService = chatbotService;
+        this.speculativeEvaluationService = speculativeEvaluationService;
+        this.ttl = ttl;
+        this.cacheTtlMillis = cacheTtlMillis;
+        this.cacheMaxEntries = cacheMaxEntries;
+        this.clock = clock;
+        this.cacheHits = Counter.builder("chat.conversations.cache")
+                .description("Conversation reads served from memory or MongoDB")
+                .tag("result", "hit")
+                .register(registry);
+        this.cacheMisses = Counter.builder("chat.conversations.cache")
+                .description("Conversation reads served from memory or MongoDB")
+                .tag("result", "miss")
+                .register(registry);
+        this.conflicts = Counter.builder("chat.conversations.conflicts")
+                .description("Chat turns re-applied after a concurrent turn on the same conversation")
+                .register(registry);
+    }
+
+    /**
+     * Starts a conversation over the questions generated for {@code profile}.
+     */
+    public ChatConversation start(String userId, List<String> questions, Map<String, String> profile) {
+        requireUser(userId);
+        Instant now = clock.instant();
+        ChatConversation conversation = new ChatConversation();
+        conversation.setId(UUID.randomUUID().toString());
+        conversation.setUserId(userId);
+        conversation.setQuestions(new ArrayList<>(questions));
+        conversation.setProfile(profile);
+        conversation.setComplete(questions.isEmpty());
+        conversation.setCreatedAt(now);
+        conversation.setUpdatedAt(now);
+        conversation.setExpiresAt(now.plus(ttl));
+        ChatConversation saved = mongoTemplate.insert(conversation);
+        remember(saved);
+        return saved;
+    }
+
+    /**
+     * Returns the user's conversation, e.g. to resume it after a reconnect.
+     */
+    public ChatConversation get(String conversationId, String userId) {
+        return load(conversationId, userId, true);
+    }
+
+    /**
+     * Applies one user message and returns the updated conversation.
+     */
+    public ChatConversation applyTurn(String conversationId, String userId, String userMessage) {
+        boolean useCache = true;
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            ChatConversation conversation = load(conversationId, userId, useCache);
+            if (conversation.isComplete()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Conversation " + conversationId + " is complete");
+            }
+
+            ChatState state = conversation.toState();
+            Map<String, String> before = new HashMap<>(state.getAnswers());
+            chatbotService.advance(state, userMessage);
+
+            Instant now = clock.instant();
+            List<ChatConversation.Turn> newTurns = new ArrayList<>();
+            state.getAnswers().forEach((question, answer) -> {
+                if (!Objects.equals(before.get(question), answer)) {
+                    newTurns.add(new ChatConversation.Turn(question, answer, now));
+                }
+            });
+
+            Update update = new Update()
+                    .set("currentStage", state.getCurrentStage())
+                    .set("currentQuestionIndex", state.getCurrentQuestionIndex())
+                    .set("pendingWhyQuestion", state.getPendingWhyQuestion())
+                    .set("complete", state.isComplete())
+                    .set("updatedAt", now)
+                    .set("expiresAt", now.plus(ttl))
+                    .inc("version", 1);
+            if (!newTurns.isEmpty()) {
+                update.push("turns").each(newTurns.toArray());
+            }
+            UpdateResult result = mongoTemplate.updateFirst(
+                    new Query(where("_id").is(conversationId).and("version").is(conversation.getVersion())),
+                    update, ChatConversation.class);
+            if (result.getModifiedCount() == 1) {
+                ChatConversation updated = copy(conversation);
+                updated.getTurns().addAll(newTurns);
+                updated.setCurrentStage(state.getCurrentStage());
+                updated.setCurrentQuestionIndex(state.getCurrentQuestionIndex());
+                updated.setPendingWhyQuestion(state.getPendingWhyQuestion());
+                updated.setComplete(state.isComplete());
+                updated.setUpdatedAt(now);
+                updated.setExpiresAt(now.plus(ttl));
+                updated.setVersion(conversation.getVersion() + 1);
+                remember(updated);
+                if (!updated.isComplete() && updated.getCurrentStage() > conversation.getCurrentStage()) {
+                    speculativeEvaluationService.stageCompleted(updated, conversation.getCurrentStage());
+                }
+                return updated;
+            }
+            conflicts.increment();
+            cache.remove(conversationId);
+            useCache = false;
+        }
+        throw new ResponseStatusException(HttpStatus.CONFLICT,
+                "Conversation " + conversationId + " is being updated concurrently; retry");
+    }
+
+    private ChatConversation load(String conversationId, String userId, boolean useCache) {
+        requireUser(userId);
+        ChatConversation conversation = null;
+        Cached cached = useCache ? cache.get(conversationId) : null;
+        if (cached != null && clock.millis() - cached.loadedAt() < cacheTtlMillis) {
+            cacheHits.increment();
+            conversation = cached.conversation();
+        } else {
+            cacheMisses.increment();
+            conversation = mongoTemplate.findById(conversationId, ChatConversation.class);
+            if (conversation != null) {
+                remember(conversation);
+            }
+        }
+        // Someone else's conversation is reported like a missing one
+        if (conversation == null || !Objects.equals(conversation.getUserId(), userId)) {
+            throw new NotFoundException("Conversation not found: " + conversationId);
+        }
+        return conversation;
+    }
+
+    private static void requireUser(String userId) {
+        if (userId == null || ANONYMOUS_USER.equals(userId)) {
+            throw new UnauthorizedException("Sign in to use the career chat");
+        }
+    }
+
+    private void remember(ChatConversation conversation) {
+        if (cache.size() >= cacheMaxEntries) {
+            long now = clock.millis();
+            cache.values().removeIf(entry -> now - entry.loadedAt() >= cacheTtlMillis);
+            if (cache.size() >= cacheMaxEntries) {
+                log.debug("Conversation cache full, serving {} from MongoDB", conversation.getId());
+                return;
+            }
+        }
+        cache.put(conversation.getId(), new Cached(conversation, clock.millis()));
+    }
+
+    /**
+     * Cached conversations are shared between requests, so turns are applied to a copy.
+     */
+    private static ChatConversation copy(ChatConversation source) {
+        ChatConversation copy = new ChatConversation();
+        copy.setId(source.getId());
+        copy.setUserId(source.getUserId());
+        copy.setQuestions(source.getQuestions());
+        copy.setProfile(source.getProfile());
+        copy.setTurns(new ArrayList<>(source.getTurns()));
+        copy.setCurrentStage(source.getCurrentStage());
+        copy.setCurrentQuestionIndex(source.getCurrentQuestionIndex());
+        copy.setPendingWhyQuestion(source.getPendingWhyQuestion());
+        copy.setComplete(source.isComplete());
+        copy.setVersion(source.getVersion());
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        copy.setExpiresAt(source.getExpiresAt());
+        return copy;
+    }
+
+    private record Cached(ChatConversation conversation, long loadedAt) {
+    }
+}
@@ -43,6 +43,13 @@ public class ChatbotService {
             throw new BadRequestException("User message is required");
         }
 
+        return advance(state, userMessage);
+    }
+
+    /**
+     * Records the user's answer in {@code state} and moves it to the next unanswered question.
+     */
+    public ChatResponse advance(ChatState state, String userMessage) {
         log.info("Processing chatbot conversation step");
         
         // Calculate current question number (0-indexed)
@@ -0,0 +1,139 @@
+package com.profiling.service;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.profiling.dto.ApiResponse;
+import com.profiling.exception.ApplicationException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Forwards a streamed AI completion to the browser over SSE.
+ *
+ * Each completion token is sent as a {@code token} event ({@code {"text": ...}}) as soon as it
+ * arrives. Once the completion has been post-processed, a {@code result} event carries the same
+ * {@link ApiResponse} the blocking endpoint returns, and the stream ends. The result may differ
+ * from the concatenated tokens (e.g. a shortened paragraph), so clients should replace the
+ * streamed text with it. A failure ends the stream with an {@code error} event.
+ *
+ * No request thread waits for the completion: the emitter is returned at once and events are
+ * sent from the WebClient and bounded-elastic threads. If the browser goes away, the upstream
+ * request is cancelled.
+ */
+@Service
+public class CompletionStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(CompletionStreamService.class);
+
+    private final MeterRegistry registry;
+    private final long timeoutMillis;
+
+    @Autowired
+    public CompletionStreamService(MeterRegistry registry,
+                                   @Value("${app.ai.stream.timeout-ms:600000}") long timeoutMillis) {
+        this.registry = registry;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Starts {@code completion} with a token callback and streams it. Exceptions thrown while
+     * starting (e.g. validation) propagate to the caller, so they get a normal error response.
+     *
+     * @param stream         name used in logs and the {@code ai.stream.duration} metric
+     * @param completion     starts the completion; tokens go to the given consumer
+     * @param toResponse     builds the {@code result} event; may block
+     * @param failureMessage error event message for failures that are not {@link ApplicationException}s
+     */
+    public <T> SseEmitter stream(String stream,
+                                 Function<Consumer<String>, Mono<T>> completion,
+                                 Function<T, ApiResponse> toResponse,
+                                 String failureMessage) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Disposable.Swap subscription = Disposables.swap();
+        AtomicBoolean finished = new AtomicBoolean();
+        long start = System.nanoTime();
+
+        Consumer<String> onToken = token -> {
+            if (!send(emitter, SseEmitter.event().name("token").data(Map.of("text", token)))) {
+                subscription.dispose();
+            }
+        };
+        Mono<T> started = completion.apply(onToken);
+
+        emitter.onTimeout(() -> {
+            if (finished.compareAndSet(false, true)) {
+                record(stream, "timeout", start);
+            }
+            subscription.dispose();
+            emitter.complete();
+        });
+        emitter.onError(error -> {
+            if (finished.compareAndSet(false, true)) {
+                record(stream, "disconnected", start);
+            }
+            subscription.dispose();
+        });
+        emitter.onCompletion(subscription::dispose);
+
+        subscription.update(started
+                .publishOn(Schedulers.boundedElastic())
+                .map(toResponse)
+                .subscribe(response -> {
+                    if (finished.compareAndSet(false, true)) {
+                        record(stream, "success", start);
+                        send(emitter, SseEmitter.event().name("result").data(response));
+                        emitter.complete();
+                    }
+                }, error -> {
+                    if (finished.compareAndSet(false, true)) {
+                        log.error("Streamed {} failed: {}", stream, error.getMessage(), error);
+                        record(stream, "error", start);
+                        String message = error instanceof ApplicationException && error.getMessage() != null
+                                ? error.getMessage()
+                                : failureMessage;
+                        send(emitter, SseEmitter.event().name("error").data(Map.of("message", message)));
+                        emitter.complete();
+                    }
+                }));
+        return emitter;
+    }
+
+    /**
+     * Returns false when the browser is gone.
+     */
+    private static boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping stream event, client disconnected: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void record(String stream, String outcome, long start) {
+        Timer.builder("ai.stream.duration")
+                .description("Duration of streamed AI responses from request to result event")
+                .tag("stream", stream)
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
@@ -19,6 +19,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+
+import reactor.core.publisher.Mono;
 
 /**
  * Service for evaluating user interests and generating results
@@ -42,14 +45,7 @@ public class EvaluationService {
      * Evaluate user profile and answers to generate comprehensive evaluation
      */
     public EvaluationResult evaluate(UserProfile userProfile, Map<String, String> answers) {
-        if (userProfile == null) {
-            log.warn("Evaluation requested with null user profile");
-            throw new BadRequestException("User profile is required");
-        }
-        if (answers == null || answers.isEmpty()) {
-            log.warn("Evaluation requested without answers");
-            throw new BadRequestException("Answers are required");
-        }
+        validate(userProfile, answers);
 
         // Convert profile to map
         Map<String, String> profileMap = profileToMap(userProfile);
@@ -58,7 +54,36 @@ public class EvaluationService {
         // Call OpenAI to get evaluation JSON
         log.info("Requesting evaluation from OpenAI");
         String evaluationJson = openAIService.evaluateInterests(profileMap, answers, invalidAnswers);
+        return toResult(evaluationJson, invalidAnswers);
+    }
+
+    /**
+     * Streaming variant of {@link #evaluate}: the raw completion goes to {@code onToken} as it
+     * arrives and the Mono emits the parsed, normalized result. Invalid input fails immediately.
+     */
+    public Mono<EvaluationResult> evaluateStreaming(UserProfile userProfile, Map<String, String> answers,
+                                                    Consumer<String> onToken) {
+        validate(userProfile, answers);
+        Map<String, String> invalidAnswers = AnswerQualityUtils.collectInvalidAnswers(answers);
+        return openAIService.streamEvaluateInterests(profileToMap(userProfile), answers, invalidAnswers, onToken)
+                .map(evaluationJson -> toResult(evaluationJson, invalidAnswers));
+    }
+
+    void validate(UserProfile userProfile, Map<String, String> answers) {
+        if (userProfile == null) {
+            log.warn("Evaluation requested with null user profile");
+            throw new BadRequestException("User profile is required");
+        }
+        if (answers == null || answers.isEmpty()) {
+            log.warn("Evaluation requested without answers");
+            throw new BadRequestException("Answers are required");
+        }
+    }
 
+    /**
+     * Parses a model evaluation (evaluateInterests format) and normalizes its scores.
+     */
+    EvaluationResult toResult(String evaluationJson, Map<String, String> invalidAnswers) {
         // Extract and clean JSON
         String cleanedJson = JsonValidator.extractJsonFromText(evaluationJson);
         if (!JsonValidator.isValidJson(cleanedJson)) {
@@ -71,20 +96,7 @@ public class EvaluationService {
 
         // Normalize scores to sum to 100
         if (result.getInterests() != null) {
-            Map<String, Double> normalized = ScoreUtils.normalizeScores(result.getInterests());
-            normalized = ScoreUtils.roundScores(normalized, 2);
-            result.setInterests(normalized);
-
-            // Update pie chart values to match normalized scores
-            if (result.getPieChartLabels() != null && result.getPieChartLabels().size() == 5) {
-                List<Double> pieValues = new ArrayList<>();
-                pieValues.add(normalized.getOrDefault("tech", 0.0));
-                pieValues.add(normalized.getOrDefault("design", 0.0));
-                pieValues.add(normalized.getOrDefault("management", 0.0));
-                pieValues.add(normalized.getOrDefault("entrepreneurship", 0.0));
-                pieValues.add(normalized.getOrDefault("research", 0.0));
-                result.setPieChartValues(pieValues);
-            }
+            applyInterests(result, result.getInterests());
         }
 
         result.setInvalidAnswers(invalidAnswers);
@@ -92,6 +104,26 @@ public class EvaluationService {
         return result;
     }
 
+    /**
+     * Sets the interests normalized to sum to 100 and the pie chart values to match.
+     */
+    static void applyInterests(EvaluationResult result, Map<String, Double> interests) {
+        Map<String, Double> normalized = ScoreUtils.normalizeScores(interests);
+        normalized = ScoreUtils.roundScores(normalized, 2);
+        result.setInterests(normalized);
+
+        // Update pie chart values to match normalized scores
+        if (result.getPieChartLabels() != null && result.getPieChartLabels().size() == 5) {
+            List<Double> pieValues = new ArrayList<>();
+            pieValues.add(normalized.getOrDefault("tech", 0.0));
+            pieValues.add(normalized.getOrDefault("design", 0.0));
+            pieValues.add(normalized.getOrDefault("management", 0.0));
+            pieValues.add(normalized.getOrDefault("entrepreneurship", 0.0));
+            pieValues.add(normalized.getOrDefault("research", 0.0));
+            result.setPieChartValues(pieValues);
+        }
+    }
+
     /**
      * Parse JSON string to EvaluationResult
      */
@@ -210,7 +242,7 @@ public class EvaluationService {
     /**
      * Convert UserProfile to Map
      */
-    private Map<String, String> profileToMap(UserProfile profile) {
+    Map<String, String> profileToMap(UserProfile profile) {
         Map<String, String> map = new HashMap<>();
         if (profile != null) {
             if (profile.getName() != null) map.put("name", profile.getName());
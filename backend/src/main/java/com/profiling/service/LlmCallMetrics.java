@@ -0,0 +1,228 @@
+package com.profiling.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.core.codec.CodecException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Micrometer instrumentation for OpenAI calls, tagged by call site and model.
+ *
+ * <ul>
+ *   <li>{@code llm.client.requests} - end-to-end latency histogram, tagged with the outcome
+ *       (success, timeout, rate_limited, client_error, server_error, connect_error,
+ *       decode_error, cancelled, error)</li>
+ *   <li>{@code llm.client.ttfb} - time until the response headers arrive</li>
+ *   <li>{@code llm.client.ttft} - for streamed completions, time until the first token</li>
+ *   <li>{@code llm.client.tokens} - prompt and completion tokens from the {@code usage} field</li>
+ *   <li>{@code llm.client.retries}, {@code llm.client.fallbacks} (by reason) and
+ *       {@code llm.client.parse.failures}</li>
+ *   <li>{@code llm.client.hedges} and {@code llm.client.rejected} (by reason), plus the
+ *       {@code llm.client.rate.limit} and {@code llm.client.circuit.state} gauges of
+ *       {@link LlmResilience}</li>
+ * </ul>
+ *
+ * Wrap the call with {@link #observe} (or {@link #observeStream}) and register {@link #timeToFirstByteFilter()} on the
+ * WebClient; the filter finds the call site through the Reactor context set by observe.
+ */
+@Component
+public class LlmCallMetrics {
+
+    private static final String CALL_KEY = LlmCallMetrics.class.getName() + ".call";
+
+    private final MeterRegistry registry;
+
+    public LlmCallMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Times {@code call} and records its outcome. Apply any {@code timeout} inside
+     * {@code call} so that timeouts are classified as such.
+     */
+    public <T> Mono<T> observe(String callSite, String model, Mono<T> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call
+                    .doOnSuccess(response -> recordLatency(callSite, model, "success", start))
+                    .doOnError(e -> recordLatency(callSite, model, classify(e), start))
+                    .doOnCancel(() -> recordLatency(callSite, model, "cancelled", start));
+        }).contextWrite(context -> context.put(CALL_KEY, new Call(callSite, model)));
+    }
+
+    /**
+     * Like {@link #observe} for a streamed completion: the latency is recorded when the stream
+     * ends, and the time to its first element as {@code llm.client.ttft}.
+     */
+    public <T> Flux<T> observeStream(String callSite, String model, Flux<T> call) {
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            AtomicBoolean first = new AtomicBoolean(true);
+            return call
+                    .doOnNext(element -> {
+                        if (first.compareAndSet(true, false)) {
+                            Timer.builder("llm.client.ttft")
+                                    .description("Time until the first token of a streamed LLM completion")
+                                    .tag("call_site", callSite)
+                                    .tag("model", model)
+                                    .publishPercentileHistogram()
+                                    .register(registry)
+                                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        }
+                    })
+                    .doOnComplete(() -> recordLatency(callSite, model, "success", start))
+                    .doOnError(e -> recordLatency(callSite, model, classify(e), start))
+                    .doOnCancel(() -> recordLatency(callSite, model, "cancelled", start));
+        }).contextWrite(context -> context.put(CALL_KEY, new Call(callSite, model)));
+    }
+
+    /**
+     * Records how long the provider took to start answering for calls made inside
+     * {@link #observe}; other requests pass through untouched.
+     */
+    public ExchangeFilterFunction timeToFirstByteFilter() {
+        return (request, next) -> Mono.deferContextual(context -> {
+            if (!context.hasKey(CALL_KEY)) {
+                return next.exchange(request);
+            }
+            Call call = context.get(CALL_KEY);
+            long start = System.nanoTime();
+            return next.exchange(request).doOnNext(response -> Timer.builder("llm.client.ttfb")
+                    .description("Time until the LLM provider returned response headers")
+                    .tag("call_site", call.callSite())
+                    .tag("model", call.model())
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    public void recordUsage(String callSite, String model, Integer promptTokens, Integer completionTokens) {
+        recordTokens(callSite, model, "prompt", promptTokens);
+        recordTokens(callSite, model, "completion", completionTokens);
+    }
+
+    public void recordRetry(String callSite, String model) {
+        Counter.builder("llm.client.retries")
+                .tag("call_site", callSite)
+                .tag("model", model)
+                .register(registry)
+                .increment();
+    }
+
+    public void recordHedge(String callSite, String model) {
+        Counter.builder("llm.client.hedges")
+                .description("Duplicate LLM requests sent because the first one was slower than p95")
+                .tag("call_site", callSite)
+                .tag("model", model)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Counts a call refused without contacting the provider, reason {@code circuit_open}
+     * or {@code rate_limit}.
+     */
+    public void recordRejected(String callSite, String reason) {
+        Counter.builder("llm.client.rejected")
+                .description("LLM calls refused locally by the circuit breaker or rate limiter")
+                .tag("call_site", callSite)
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    public void registerGauge(String name, String description, Supplier<Number> value) {
+        Gauge.builder(name, value).description(description).register(registry);
+    }
+
+    /**
+     * Counts a response replaced by placeholder or template content, e.g. reason
+     * {@code error}, {@code empty_response} or {@code parse_failure}.
+     */
+    public void recordFallback(String callSite, String reason) {
+        Counter.builder("llm.client.fallbacks")
+                .description("LLM results replaced by placeholder or template content")
+                .tag("call_site", callSite)
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    public void recordParseFailure(String callSite) {
+        Counter.builder("llm.client.parse.failures")
+                .description("LLM responses that could not be parsed")
+                .tag("call_site", callSite)
+                .register(registry)
+                .increment();
+    }
+
+    static String classify(Throwable error) {
+        Throwable cause = error;
+        while (cause != null) {
+            if (cause instanceof TimeoutException || cause.getClass().getSimpleName().contains("Timeout")) {
+                return "timeout";
+            }
+            cause = cause.getCause();
+        }
+        if (error instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            if (status == 429) {
+                return "rate_limited";
+            }
+            return status >= 500 ? "server_error" : "client_error";
+        }
+        if (error instanceof WebClientRequestException) {
+            return "connect_error";
+        }
+        if (error instanceof CodecException) {
+            return "decode_error";
+        }
+        return "error";
+    }
+
+    private void recordLatency(String callSite, String model, String outcome, long start) {
+        Timer.builder("llm.client.requests")
+                .description("LLM request latency including the response body")
+                .tag("call_site", callSite)
+                .tag("model", model)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(100))
+                .maximumExpectedValue(Duration.ofMinutes(10))
+                .register(registry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordTokens(String callSite, String model, String type, Integer tokens) {
+        if (tokens == null) {
+            return;
+        }
+        DistributionSummary.builder("llm.client.tokens")
+                .description("Tokens reported in the usage field of LLM responses")
+                .baseUnit("tokens")
+                .tag("call_site", callSite)
+                .tag("model", model)
+                .tag("type", type)
+                .register(registry)
+                .record(tokens);
+    }
+
+    private record Call(String callSite, String model) {
+    }
+}
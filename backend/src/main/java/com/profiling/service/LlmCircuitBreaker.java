@@ -0,0 +1,125 @@
+package com.profiling.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Count-based circuit breaker for the LLM provider.
+ *
+ * CLOSED: outcomes of the last {@code windowSize} calls are kept; once at least half the
+ * window has been seen and the failure rate reaches {@code failureRateThreshold}, the
+ * breaker opens. OPEN: calls are refused for {@code openDuration}, so callers fall back to
+ * bank or placeholder content at once instead of waiting on a degraded upstream. HALF_OPEN:
+ * one probe call is let through; its success closes the breaker, its failure reopens it.
+ */
+public class LlmCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final boolean[] window;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int position;
+    private int recorded;
+    private int failures;
+    private Instant openUntil = Instant.MIN;
+    private boolean probeInFlight;
+
+    public LlmCircuitBreaker(int windowSize, double failureRateThreshold, Duration openDuration, Clock clock) {
+        this.window = new boolean[Math.max(windowSize, 1)];
+        this.minimumCalls = Math.max(window.length / 2, 1);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns true if a call may go to the provider now.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && !clock.instant().isBefore(openUntil)) {
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (probeInFlight) {
+                    yield false;
+                }
+                probeInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            state = State.CLOSED;
+            reset();
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+                open();
+            }
+        }
+    }
+
+    /**
+     * Returns a permit from {@link #tryAcquire} that was not used for a call (e.g. the call
+     * was cancelled), without recording an outcome.
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == window.length) {
+            if (window[position]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[position] = failure;
+        if (failure) {
+            failures++;
+        }
+        position = (position + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openUntil = clock.instant().plus(openDuration);
+        reset();
+    }
+
+    private void reset() {
+        position = 0;
+        recorded = 0;
+        failures = 0;
+        probeInFlight = false;
+    }
+}
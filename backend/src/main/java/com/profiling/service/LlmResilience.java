@@ -0,0 +1,427 @@
+package com.profiling.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Resilience layer for OpenAI calls. {@link #execute} wraps a (cold) call with:
+ *
+ * <ul>
+ *   <li>a circuit breaker ({@link LlmCircuitBreaker}): while open, calls fail at once with
+ *       {@link CircuitOpenException} so callers switch to bank or placeholder content;</li>
+ *   <li>an AIMD rate limiter ({@link AimdRateLimiter}) that spaces out call starts and learns
+ *       the provider's effective throughput from 429s;</li>
+ *   <li>a timeout per attempt and a deadline for the whole call, retries included;</li>
+ *   <li>retries of 429, 5xx, timeouts and connection errors with jittered exponential backoff,
+ *       waiting at least as long as the provider's {@code Retry-After};</li>
+ *   <li>optional hedging: when an attempt is still running after the call site's recent p95
+ *       latency, a second identical request is sent and the first answer wins.</li>
+ * </ul>
+ *
+ * Each attempt is timed through {@link LlmCallMetrics#observe}, so {@code llm.client.requests}
+ * counts attempts; retries, hedges and rejections have their own counters.
+ *
+ * {@link #executeStream} applies the same protection to streamed completions, except that
+ * it only retries until the first element has been emitted (after that the caller has
+ * already forwarded tokens), the attempt timeout bounds the gap between elements rather
+ * than the whole stream, the deadline only bounds how long the stream may take to start, and
+ * there is no hedging.
+ */
+public class LlmResilience {
+
+    private static final Logger log = LoggerFactory.getLogger(LlmResilience.class);
+
+    private static final int LATENCY_SAMPLES = 200;
+    private static final int MIN_SAMPLES_FOR_HEDGING = 20;
+
+    /**
+     * Tuning knobs, bound from {@code app.llm.resilience.*} in WebClientConfig.
+     */
+    public record Settings(
+            int maxAttempts,
+            Duration backoffBase,
+            Duration backoffMax,
+            Duration attemptTimeout,
+            Duration deadline,
+            boolean hedgingEnabled,
+            Duration hedgingMinDelay,
+            int circuitWindowSize,
+            double circuitFailureRateThreshold,
+            Duration circuitOpenDuration,
+            double initialRpm,
+            double minRpm,
+            double maxRpm) {
+
+        public static Settings defaults() {
+            return new Settings(3, Duration.ofMillis(500), Duration.ofSeconds(10), Duration.ofSeconds(60),
+                    Duration.ofSeconds(150), false, Duration.ofSeconds(2), 20, 0.5, Duration.ofSeconds(30),
+                    300, 10, 3000);
+        }
+    }
+
+    /**
+     * Raised without calling the provider while the circuit breaker is open.
+     */
+    public static class CircuitOpenException extends RuntimeException {
+        public CircuitOpenException() {
+            super("LLM provider circuit breaker is open");
+        }
+    }
+
+    /**
+     * Raised when the rate limiter cannot start the call before its deadline.
+     */
+    public static class RateLimitExceededException extends RuntimeException {
+        public RateLimitExceededException() {
+            super("LLM request budget exhausted until the call deadline");
+        }
+    }
+
+    private final LlmCallMetrics metrics;
+    private final Settings settings;
+    private final Clock clock;
+    private final LlmCircuitBreaker circuitBreaker;
+    private final AimdRateLimiter rateLimiter;
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+    public LlmResilience(LlmCallMetrics metrics, Settings settings) {
+        this(metrics, settings, Clock.systemUTC());
+    }
+
+    LlmResilience(LlmCallMetrics metrics, Settings settings, Clock clock) {
+        this.metrics = metrics;
+        this.settings = settings;
+        this.clock = clock;
+        this.circuitBreaker = new LlmCircuitBreaker(settings.circuitWindowSize(),
+                settings.circuitFailureRateThreshold(), settings.circuitOpenDuration(), clock);
+        this.rateLimiter = new AimdRateLimiter(settings.initialRpm(), settings.minRpm(), settings.maxRpm(),
+                Duration.ofSeconds(1), clock);
+        metrics.registerGauge("llm.client.rate.limit", "Learned LLM request budget (requests per minute)",
+                rateLimiter::getRequestsPerMinute);
+        metrics.registerGauge("llm.client.circuit.state", "LLM circuit breaker state (0 closed, 1 half-open, 2 open)",
+                () -> switch (circuitBreaker.getState()) {
+                    case CLOSED -> 0;
+                    case HALF_OPEN -> 1;
+                    case OPEN -> 2;
+                });
+    }
+
+    public static LlmResilience withDefaults(LlmCallMetrics metrics) {
+        return new LlmResilience(metrics, Settings.defaults());
+    }
+
+    /**
+     * Runs {@code call} with retries, deadline, hedging, circuit breaking and rate limiting.
+     * The supplied Mono must be cold: every subscription sends a new request.
+     */
+    public <T> Mono<T> execute(String callSite, String model, Supplier<Mono<T>> call) {
+        // Attempts emit Optional so that an empty response is a value, not a missing signal
+        return Mono.defer(() -> attemptWithRetries(callSite, model, call, 1, System.nanoTime()))
+                .timeout(settings.deadline())
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    /**
+     * Runs a streamed call with circuit breaking, rate limiting and retries before the first
+     * element. The supplied Flux must be cold: every subscription sends a new request.
+     */
+    public <T> Flux<T> executeStream(String callSite, String model, Supplier<Flux<T>> call) {
+        return Flux.defer(() -> streamAttempt(callSite, model, call, 1, System.nanoTime()));
+    }
+
+    LlmCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    double getRequestsPerMinute() {
+        return rateLimiter.getRequestsPerMinute();
+    }
+
+    private <T> Mono<Optional<T>> attemptWithRetries(String callSite, String model, Supplier<Mono<T>> call,
+                                                     int attempt, long start) {
+        return hedged(callSite, model, call, start)
+                .onErrorResume(error -> {
+                    if (attempt >= settings.maxAttempts() || !isRetryable(error)) {
+                        return Mono.error(error);
+                    }
+                    Duration delay = retryDelay(error, attempt);
+                    Duration remaining = remaining(start);
+                    if (delay.compareTo(remaining) >= 0) {
+                        log.debug("Not retrying {} call: retry in {}ms would pass the deadline", callSite, delay.toMillis());
+                        return Mono.error(error);
+                    }
+                    metrics.recordRetry(callSite, model);
+                    log.debug("Retrying {} call (attempt {}) in {}ms after {}", callSite, attempt + 1,
+                            delay.toMillis(), LlmCallMetrics.classify(error));
+                    return Mono.delay(delay).then(attemptWithRetries(callSite, model, call, attempt + 1, start));
+                });
+    }
+
+    /**
+     * One attempt, plus a hedged duplicate if hedging is on and the attempt outlives the
+     * call site's p95 latency. The first value wins; the call fails only when every
+     * started request has failed.
+     */
+    private <T> Mono<Optional<T>> hedged(String callSite, String model, Supplier<Mono<T>> call, long start) {
+        Duration hedgeDelay = hedgeDelay(callSite);
+        if (hedgeDelay == null) {
+            return attempt(callSite, model, call, start);
+        }
+        return Mono.create(sink -> {
+            Disposable.Composite inFlight = Disposables.composite();
+            AtomicInteger running = new AtomicInteger(1);
+            AtomicBoolean finished = new AtomicBoolean();
+            Consumer<Optional<T>> onValue = value -> {
+                if (finished.compareAndSet(false, true)) {
+                    sink.success(value);
+                    inFlight.dispose();
+                }
+            };
+            Consumer<Throwable> onError = error -> {
+                if (running.decrementAndGet() == 0 && finished.compareAndSet(false, true)) {
+                    sink.error(error);
+                    inFlight.dispose();
+                }
+            };
+            sink.onDispose(inFlight);
+            inFlight.add(attempt(callSite, model, call, start).subscribe(onValue, onError));
+            inFlight.add(Mono.delay(hedgeDelay).subscribe(tick -> {
+                if (!finished.get() && running.incrementAndGet() > 1) {
+                    metrics.recordHedge(callSite, model);
+                    inFlight.add(attempt(callSite, model, call, start).subscribe(onValue, onError));
+                }
+            }));
+        });
+    }
+
+    private <T> Mono<Optional<T>> attempt(String callSite, String model, Supplier<Mono<T>> call, long start) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                metrics.recordRejected(callSite, "circuit_open");
+                return Mono.error(new CircuitOpenException());
+            }
+            Optional<Duration> wait = rateLimiter.reserve(remaining(start));
+            if (wait.isEmpty()) {
+                circuitBreaker.release();
+                metrics.recordRejected(callSite, "rate_limit");
+                return Mono.error(new RateLimitExceededException());
+            }
+            Mono<T> timed = metrics.observe(callSite, model, Mono.defer(call).timeout(settings.attemptTimeout()));
+            return Mono.delay(wait.get())
+                    .then(Mono.defer(() -> {
+                        long attemptStart = System.nanoTime();
+                        return timed
+                                .map(Optional::of)
+                                .defaultIfEmpty(Optional.empty())
+                                .doOnNext(value -> {
+                                    circuitBreaker.onSuccess();
+                                    rateLimiter.onSuccess();
+                                    latencies.computeIfAbsent(callSite, site -> new LatencyWindow())
+                                            .add(System.nanoTime() - attemptStart);
+                                })
+                                .doOnError(this::recordFailure);
+                    }))
+                    .doOnCancel(circuitBreaker::release);
+        });
+    }
+
+    private <T> Flux<T> streamAttempt(String callSite, String model, Supplier<Flux<T>> call,
+                                      int attempt, long start) {
+        AtomicBoolean emitted = new AtomicBoolean();
+        Flux<T> stream = Flux.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                metrics.recordRejected(callSite, "circuit_open");
+                return Flux.error(new CircuitOpenException());
+            }
+            Optional<Duration> wait = rateLimiter.reserve(remaining(start));
+            if (wait.isEmpty()) {
+                circuitBreaker.release();
+                metrics.recordRejected(callSite, "rate_limit");
+                return Flux.error(new RateLimitExceededException());
+            }
+            // Exactly one of first element, error, completion or cancel settles the breaker permit
+            AtomicBoolean settled = new AtomicBoolean();
+            Flux<T> timed = metrics.observeStream(callSite, model,
+                    Flux.defer(call).timeout(settings.attemptTimeout()));
+            return Mono.delay(wait.get())
+                    .thenMany(timed)
+                    .doOnNext(element -> {
+                        emitted.set(true);
+                        if (settled.compareAndSet(false, true)) {
+                            circuitBreaker.onSuccess();
+                            rateLimiter.onSuccess();
+                        }
+                    })
+                    .doOnComplete(() -> {
+                        if (settled.compareAndSet(false, true)) {
+                            circuitBreaker.onSuccess();
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (settled.compareAndSet(false, true)) {
+                            recordFailure(error);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (settled.compareAndSet(false, true)) {
+                            circuitBreaker.release();
+                        }
+                    });
+        });
+        return stream.onErrorResume(error -> {
+            if (emitted.get() || attempt >= settings.maxAttempts() || !isRetryable(error)) {
+                return Flux.error(error);
+            }
+            Duration delay = retryDelay(error, attempt);
+            if (delay.compareTo(remaining(start)) >= 0) {
+                return Flux.error(error);
+            }
+            metrics.recordRetry(callSite, model);
+            log.debug("Retrying streamed {} call (attempt {}) in {}ms after {}", callSite, attempt + 1,
+                    delay.toMillis(), LlmCallMetrics.classify(error));
+            return Mono.delay(delay).thenMany(streamAttempt(callSite, model, call, attempt + 1, start));
+        });
+    }
+
+    private void recordFailure(Throwable error) {
+        if (isRateLimited(error)) {
+            rateLimiter.onRateLimited();
+        }
+        if (isRetryable(error)) {
+            circuitBreaker.onFailure();
+        } else {
+            // The provider answered (e.g. 400); that says nothing about its health
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    static boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            int status = response.getStatusCode().value();
+            return status == 429 || status >= 500;
+        }
+        return error instanceof TimeoutException || error instanceof WebClientRequestException;
+    }
+
+    private static boolean isRateLimited(Throwable error) {
+        return error instanceof WebClientResponseException response && response.getStatusCode().value() == 429;
+    }
+
+    /**
+     * Upper-half jittered exponential backoff, but never shorter than the provider's Retry-After
+     * (plus up to 10% jitter so clients told the same value do not retry in lockstep).
+     */
+    Duration retryDelay(Throwable error, int attempt) {
+        long base = settings.backoffBase().toMillis() << Math.min(Math.max(attempt - 1, 0), 20);
+        long capped = Math.min(base, settings.backoffMax().toMillis());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long backoff = capped / 2 + (capped > 1 ? random.nextLong(capped / 2 + 1) : 0);
+        Duration retryAfter = retryAfter(error);
+        if (retryAfter != null && retryAfter.toMillis() >= backoff) {
+            long millis = retryAfter.toMillis();
+            return Duration.ofMillis(millis + (millis >= 10 ? random.nextLong(millis / 10 + 1) : 0));
+        }
+        return Duration.ofMillis(backoff);
+    }
+
+    /**
+     * Reads OpenAI's {@code retry-after-ms} or the standard {@code Retry-After} (seconds or
+     * HTTP date) from an error response.
+     */
+    Duration retryAfter(Throwable error) {
+        if (!(error instanceof WebClientResponseException response) || response.getHeaders() == null) {
+            return null;
+        }
+        String millis = response.getHeaders().getFirst("retry-after-ms");
+        if (millis != null) {
+            try {
+                return Duration.ofMillis((long) Double.parseDouble(millis.trim()));
+            } catch (NumberFormatException ignored) {
+                // fall through to Retry-After
+            }
+        }
+        String value = response.getHeaders().getFirst("Retry-After");
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                Duration until = Duration.between(clock.instant(),
+                        ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+                return until.isNegative() ? Duration.ZERO : until;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+
+    private Duration hedgeDelay(String callSite) {
+        if (!settings.hedgingEnabled()) {
+            return null;
+        }
+        LatencyWindow window = latencies.get(callSite);
+        if (window == null) {
+            return null;
+        }
+        long p95 = window.percentile(0.95);
+        if (p95 < 0) {
+            return null;
+        }
+        Duration delay = Duration.ofNanos(p95);
+        return delay.compareTo(settings.hedgingMinDelay()) < 0 ? settings.hedgingMinDelay() : delay;
+    }
+
+    private Duration remaining(long start) {
+        Duration left = settings.deadline().minusNanos(System.nanoTime() - start);
+        return left.isNegative() ? Duration.ZERO : left;
+    }
+
+    /**
+     * Latencies of the last successful attempts of one call site.
+     */
+    private static final class LatencyWindow {
+        private final long[] samples = new long[LATENCY_SAMPLES];
+        private int next;
+        private int size;
+
+        synchronized void add(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            size = Math.min(size + 1, samples.length);
+        }
+
+        synchronized long percentile(double quantile) {
+            if (size < MIN_SAMPLES_FOR_HEDGING) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            return sorted[Math.min(size - 1, (int) Math.ceil(quantile * size) - 1)];
+        }
+    }
+}
@@ -2,6 +2,9 @@ package com.profiling.service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+
+import reactor.core.publisher.Mono;
 
 public interface OpenAIService {
     String enhanceProfile(String profileText);
@@ -30,6 +33,18 @@ public interface OpenAIService {
      */
     String evaluateInterests(Map<String, String> userProfileData, Map<String, String> answers, Map<String, String> invalidAnswers);
 
+    /**
+     * Finish an evaluation drafted from earlier chat stages with the last stage's answers. Much
+     * smaller than {@link #evaluateInterests}: only the last stage's interest scores and the fields
+     * that need the whole picture are generated.
+     * @param draftJson evaluation merged from the earlier stages, in the evaluateInterests format
+     * @param finalAnswers answers not covered by the draft
+     * @return JSON with interests (for finalAnswers only), interest_persona, strengths,
+     *         recommended_roles, roadmap_90_days and summary
+     */
+    String reconcileEvaluation(Map<String, String> userProfileData, String draftJson,
+                               Map<String, String> finalAnswers, Map<String, String> invalidAnswers);
+
     /**
      * Enhance a single uploaded profile paragraph using psychometric report insights, without increasing word count.
      * @param originalParagraph paragraph to enhance
@@ -43,5 +58,24 @@ public interface OpenAIService {
      * Used when the caller already crafted a full instruction prompt (e.g., preserve exact template structure).
      */
     String completePrompt(String prompt, int maxTokens, double temperature);
+
+    /**
+     * Streaming variant of {@link #enhanceProfile}: completion tokens are passed to {@code onToken}
+     * as they arrive; the Mono emits the post-processed text, which may differ from the tokens.
+     */
+    Mono<String> streamEnhanceProfile(String profileText, Consumer<String> onToken);
+
+    /**
+     * Streaming variant of {@link #enhanceParagraphWithReport}; the Mono emits the paragraph after
+     * the word-limit guard, which may have shortened it.
+     */
+    Mono<String> streamEnhanceParagraphWithReport(String originalParagraph, String reportInsights,
+                                                  Consumer<String> onToken);
+
+    /**
+     * Streaming variant of {@link #evaluateInterests}; the Mono emits the complete JSON text.
+     */
+    Mono<String> streamEvaluateInterests(Map<String, String> userProfileData, Map<String, String> answers,
+                                         Map<String, String> invalidAnswers, Consumer<String> onToken);
 }
 
@@ -4,17 +4,27 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
-import java.time.Duration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -24,24 +34,63 @@ public class OpenAIServiceImpl implements OpenAIService {
 
     private final WebClient webClient;
     private final String apiKey;
+    private final LlmCallMetrics metrics;
+    private final LlmResilience resilience;
     // Note: Using gpt-4o-mini as the actual model name (user requested gpt-4.1-mini which doesn't exist)
     // If you need to use a different model, update this constant
     private static final String MODEL = "gpt-4o-mini";
-    private static final String OPENAI_API_URL = "https://api.openai.com/v1/chat/completions";
+    private static final String DEFAULT_BASE_URL = "https://api.openai.com/v1";
     private static final int MAX_TOKENS = 1000;
     private static final int MAX_TOKENS_EVALUATION = 4000;
+    private static final String STREAM_DONE = "[DONE]";
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> STREAM_EVENT =
+            new ParameterizedTypeReference<>() {};
+    /**
+     * Generic questions returned when the generated ones cannot be used.
+     */
+    static final List<String> FALLBACK_QUESTIONS = List.of(
+            "What technical skills are you most passionate about?",
+            "How do you approach solving complex problems?",
+            "What projects have you worked on that you're most proud of?",
+            "What technologies or tools do you want to learn next?",
+            "What motivates you to keep learning and growing?",
+            "How do you express your creativity in your work or hobbies?",
+            "What role does design thinking play in your projects?",
+            "How do you handle feedback and iterate on your ideas?",
+            "What innovative solutions have you come up with?",
+            "How do you balance multiple interests and priorities?",
+            "Describe a time when you took on a leadership role.",
+            "How do you manage team conflicts or disagreements?",
+            "What are your thoughts on starting your own venture?",
+            "What research areas interest you the most?",
+            "How do you see your interests and skills aligning with your future goals?");
     private final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule())
             .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     private static final Logger log = LoggerFactory.getLogger(OpenAIServiceImpl.class);
 
-    public OpenAIServiceImpl(@Value("${openai.api.key:}") String apiKey) {
+    OpenAIServiceImpl(String apiKey) {
+        this(apiKey, DEFAULT_BASE_URL, new LlmCallMetrics(new SimpleMeterRegistry()));
+    }
+
+    private OpenAIServiceImpl(String apiKey, String baseUrl, LlmCallMetrics metrics) {
+        this(apiKey, baseUrl, metrics, LlmResilience.withDefaults(metrics));
+    }
+
+    @Autowired
+    public OpenAIServiceImpl(@Value("${openai.api.key:}") String apiKey,
+                             @Value("${openai.base-url:" + DEFAULT_BASE_URL + "}") String baseUrl,
+                             LlmCallMetrics metrics,
+                             LlmResilience resilience) {
         if (apiKey == null || apiKey.trim().isEmpty()) {
             throw new IllegalArgumentException("OpenAI API key must be configured. Set OPENAI_API_KEY environment variable or openai.api.key property.");
         }
         this.apiKey = apiKey;
+        this.metrics = metrics;
+        this.resilience = resilience;
         this.webClient = WebClient.builder()
-                .baseUrl(OPENAI_API_URL)
+                .baseUrl(baseUrl + "/chat/completions")
+                .filter(metrics.timeToFirstByteFilter())
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
                 .build();
@@ -72,13 +121,7 @@ public class OpenAIServiceImpl implements OpenAIService {
             log.info("Sending request to OpenAI with model: {}, max_tokens: {}", MODEL, MAX_TOKENS);
             log.debug("Request body: {}", requestBody);
             
-            OpenAIResponse response = webClient.post()
-                    .uri(OPENAI_API_URL)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(OpenAIResponse.class)
-                    .block(Duration.ofSeconds(600));
+            OpenAIResponse response = post("enhance_profile", requestBody);
 
             if (response == null || response.getChoices() == null || response.getChoices().isEmpty()) {
                 throw new RuntimeException("No choices returned from OpenAI API");
@@ -118,17 +161,20 @@ public class OpenAIServiceImpl implements OpenAIService {
         int maxWords = normalizedOriginal.isEmpty() ? 0 : normalizedOriginal.split("\\s+").length;
 
         String prompt = buildParagraphWithReportPrompt(normalizedOriginal, reportInsights, maxWords);
-        String enhanced = callChatCompletions(prompt, 900, 0.6);
+        String enhanced = callChatCompletions("enhance_paragraph", prompt, 900, 0.6);
+        return finishParagraph(enhanced, maxWords);
+    }
 
-        // Hard guard: if the model exceeds maxWords, do a quick second pass to shorten.
+    /**
+     * Hard guard on the paragraph length (a quick second pass to shorten when the model
+     * exceeded maxWords), then a single paragraph with collapsed spaces.
+     */
+    private String finishParagraph(String enhanced, int maxWords) {
         if (countWords(enhanced) > maxWords) {
             String shortenPrompt = buildShortenPrompt(enhanced, maxWords);
-            enhanced = callChatCompletions(shortenPrompt, 700, 0.4);
+            enhanced = callChatCompletions("shorten_paragraph", shortenPrompt, 700, 0.4);
         }
-
-        // Final normalization: single paragraph, collapsed spaces.
-        enhanced = enhanced == null ? "" : enhanced.replaceAll("[\\r\\n]+", " ").replaceAll("\\s+", " ").trim();
-        return enhanced;
+        return enhanced == null ? "" : enhanced.replaceAll("[\\r\\n]+", " ").replaceAll("\\s+", " ").trim();
     }
 
     private int countWords(String text) {
@@ -179,7 +225,7 @@ public class OpenAIServiceImpl implements OpenAIService {
         );
     }
 
-    private String callChatCompletions(String userPrompt, int maxTokens, double temperature) {
+    private String callChatCompletions(String callSite, String userPrompt, int maxTokens, double temperature) {
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("model", MODEL);
 
@@ -195,13 +241,7 @@ public class OpenAIServiceImpl implements OpenAIService {
             log.debug("OpenAI request - Model: {}, Max tokens: {}, Temp: {}, Prompt length: {}", 
                 MODEL, maxTokens, temperature, userPrompt.length());
             
-            OpenAIResponse response = webClient.post()
-                    .uri(OPENAI_API_URL)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(OpenAIResponse.class)
-                    .block(Duration.ofSeconds(600));
+            OpenAIResponse response = post(callSite, requestBody);
 
             if (response == null || response.getChoices() == null || response.getChoices().isEmpty()) {
                 throw new RuntimeException("No choices returned from OpenAI API");
@@ -230,7 +270,112 @@ public class OpenAIServiceImpl implements OpenAIService {
         }
         int tokens = maxTokens > 0 ? maxTokens : MAX_TOKENS;
         double temp = temperature >= 0 ? temperature : 0.7;
-        return callChatCompletions(prompt, tokens, temp);
+        return callChatCompletions("complete_prompt", prompt, tokens, temp);
+    }
+
+    private OpenAIResponse post(String callSite, Map<String, Object> requestBody) {
+        // Attempt timeout, overall deadline and retries come from the resilience layer
+        OpenAIResponse response = resilience.execute(callSite, MODEL, () -> webClient.post()
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                        .bodyValue(requestBody)
+                        .retrieve()
+                        .bodyToMono(OpenAIResponse.class))
+                .block();
+        if (response != null && response.getUsage() != null) {
+            metrics.recordUsage(callSite, MODEL, response.getUsage().getPromptTokens(),
+                    response.getUsage().getCompletionTokens());
+        }
+        return response;
+    }
+
+    @Override
+    public Mono<String> streamEnhanceProfile(String profileText, Consumer<String> onToken) {
+        if (profileText == null || profileText.trim().isEmpty()) {
+            throw new IllegalArgumentException("Profile text cannot be empty");
+        }
+        log.info("Streaming OpenAI profile enhancement");
+        return streamCompletion("enhance_profile", streamRequest(buildPrompt(profileText), MAX_TOKENS, 0.7), onToken)
+                .map(enhancedText -> removeUnwantedYearMentions(profileText, enhancedText));
+    }
+
+    @Override
+    public Mono<String> streamEnhanceParagraphWithReport(String originalParagraph, String reportInsights,
+                                                         Consumer<String> onToken) {
+        if (originalParagraph == null || originalParagraph.trim().isEmpty()) {
+            throw new IllegalArgumentException("Original paragraph cannot be empty");
+        }
+        String normalizedOriginal = originalParagraph.trim().replaceAll("\\s+", " ");
+        int maxWords = normalizedOriginal.split("\\s+").length;
+        String prompt = buildParagraphWithReportPrompt(normalizedOriginal,
+                reportInsights == null ? "" : reportInsights, maxWords);
+        // The shortening pass is a blocking call, so it runs off the WebClient event loop
+        return streamCompletion("enhance_paragraph", streamRequest(prompt, 900, 0.6), onToken)
+                .publishOn(Schedulers.boundedElastic())
+                .map(enhanced -> finishParagraph(enhanced, maxWords));
+    }
+
+    @Override
+    public Mono<String> streamEvaluateInterests(Map<String, String> userProfileData, Map<String, String> answers,
+                                                Map<String, String> invalidAnswers, Consumer<String> onToken) {
+        Map<String, Object> requestBody = streamRequest(
+                buildEvaluationPrompt(userProfileData, answers, invalidAnswers), MAX_TOKENS_EVALUATION, 0.7);
+        requestBody.put("response_format", Map.of("type", "json_object"));
+        log.info("Streaming interest evaluation via OpenAI");
+        return streamCompletion("evaluate_interests", requestBody, onToken);
+    }
+
+    private Map<String, Object> streamRequest(String prompt, int maxTokens, double temperature) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("model", MODEL);
+        requestBody.put("messages", List.of(Map.of("role", "user", "content", prompt)));
+        requestBody.put("max_tokens", maxTokens);
+        requestBody.put("temperature", temperature);
+        requestBody.put("stream", true);
+        // The last chunk then carries the usage, as a non-streamed response would
+        requestBody.put("stream_options", Map.of("include_usage", true));
+        return requestBody;
+    }
+
+    /**
+     * Streams a chat completion: every content delta goes to {@code onToken} as it arrives and
+     * the returned Mono emits the whole (trimmed) completion.
+     */
+    private Mono<String> streamCompletion(String callSite, Map<String, Object> requestBody, Consumer<String> onToken) {
+        return resilience.executeStream(callSite, MODEL, () -> webClient.post()
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .bodyValue(requestBody)
+                        .retrieve()
+                        .bodyToFlux(STREAM_EVENT))
+                .map(ServerSentEvent::data)
+                .takeWhile(data -> !STREAM_DONE.equals(data))
+                .concatMap(data -> Mono.justOrEmpty(contentDelta(callSite, data)))
+                .doOnNext(onToken)
+                .collect(StringBuilder::new, StringBuilder::append)
+                .map(text -> text.toString().trim())
+                .filter(text -> !text.isEmpty())
+                .switchIfEmpty(Mono.error(new RuntimeException("No content returned from OpenAI API")));
+    }
+
+    private String contentDelta(String callSite, String data) {
+        if (data == null || data.isBlank()) {
+            return null;
+        }
+        OpenAIResponse chunk;
+        try {
+            chunk = objectMapper.readValue(data, OpenAIResponse.class);
+        } catch (Exception e) {
+            metrics.recordParseFailure(callSite);
+            throw new RuntimeException("Unreadable chunk in OpenAI stream: " + e.getMessage(), e);
+        }
+        if (chunk.getUsage() != null) {
+            metrics.recordUsage(callSite, MODEL, chunk.getUsage().getPromptTokens(),
+                    chunk.getUsage().getCompletionTokens());
+        }
+        if (chunk.getChoices() == null || chunk.getChoices().isEmpty() || chunk.getChoices().get(0).getDelta() == null) {
+            return null;
+        }
+        String content = chunk.getChoices().get(0).getDelta().getContent();
+        return content == null || content.isEmpty() ? null : content;
     }
 
     /**
@@ -370,13 +515,7 @@ public class OpenAIServiceImpl implements OpenAIService {
 
         log.info("Generating personalized questions via OpenAI");
         try {
-            OpenAIResponse response = webClient.post()
-                    .uri(OPENAI_API_URL)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(OpenAIResponse.class)
-                    .block(Duration.ofSeconds(600));
+            OpenAIResponse response = post("generate_questions", requestBody);
 
             if (response == null || response.getChoices() == null || response.getChoices().isEmpty()) {
                 throw new RuntimeException("No choices returned from OpenAI API");
@@ -420,13 +559,7 @@ public class OpenAIServiceImpl implements OpenAIService {
 
         try {
             log.info("Generating WHY question via OpenAI");
-            OpenAIResponse response = webClient.post()
-                    .uri(OPENAI_API_URL)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(OpenAIResponse.class)
-                    .block(Duration.ofSeconds(600));
+            OpenAIResponse response = post("why_question", requestBody);
 
             if (response == null || response.getChoices() == null || response.getChoices().isEmpty()) {
                 return null;
@@ -461,13 +594,7 @@ public class OpenAIServiceImpl implements OpenAIService {
 
         try {
             log.info("Evaluating interests via OpenAI");
-            OpenAIResponse response = webClient.post()
-                    .uri(OPENAI_API_URL)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(OpenAIResponse.class)
-                    .block(Duration.ofSeconds(600));
+            OpenAIResponse response = post("evaluate_interests", requestBody);
 
             if (response == null || response.getChoices() == null || response.getChoices().isEmpty()) {
                 throw new RuntimeException("No choices returned from OpenAI API");
@@ -480,6 +607,94 @@ public class OpenAIServiceImpl implements OpenAIService {
         }
     }
 
+    @Override
+    public String reconcileEvaluation(Map<String, String> userProfileData, String draftJson,
+                                      Map<String, String> finalAnswers, Map<String, String> invalidAnswers) {
+        String prompt = buildReconciliationPrompt(userProfileData, draftJson, finalAnswers, invalidAnswers);
+
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("model", MODEL);
+
+        Map<String, String> message = new HashMap<>();
+        message.put("role", "user");
+        message.put("content", prompt);
+
+        requestBody.put("messages", java.util.List.of(message));
+        requestBody.put("max_tokens", 900);
+        requestBody.put("temperature", 0.7);
+        requestBody.put("response_format", Map.of("type", "json_object"));
+
+        try {
+            log.info("Reconciling speculative evaluation via OpenAI");
+            OpenAIResponse response = post("reconcile_evaluation", requestBody);
+
+            if (response == null || response.getChoices() == null || response.getChoices().isEmpty()) {
+                throw new RuntimeException("No choices returned from OpenAI API");
+            }
+
+            return response.getChoices().get(0).getMessage().getContent().trim();
+        } catch (Exception e) {
+            log.error("Failed to reconcile evaluation: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to reconcile evaluation: " + e.getMessage(), e);
+        }
+    }
+
+    private String buildReconciliationPrompt(Map<String, String> userProfileData, String draftJson,
+                                             Map<String, String> finalAnswers, Map<String, String> invalidAnswers) {
+        StringBuilder context = new StringBuilder();
+        context.append("User Profile:\n");
+        userProfileData.forEach((key, value) -> {
+            if (value != null && !value.trim().isEmpty()) {
+                context.append("- ").append(key).append(": ").append(value).append("\n");
+            }
+        });
+
+        context.append("\nDraft evaluation from the user's earlier answers:\n").append(draftJson).append("\n");
+
+        context.append("\nUser's remaining answers:\n");
+        finalAnswers.forEach((question, answer) -> {
+            context.append("Q: ").append(question).append("\n");
+            context.append("A: ").append(answer).append("\n\n");
+        });
+
+        if (invalidAnswers != null && !invalidAnswers.isEmpty()) {
+            context.append("Invalid or placeholder answers detected for the following questions:\n");
+            invalidAnswers.forEach((question, answer) -> {
+                context.append("- ").append(question).append(": ");
+                context.append(answer == null || answer.trim().isEmpty() ? "[no response]" : answer.trim()).append("\n");
+            });
+            context.append("Rely mostly on the rest of the answers.\n\n");
+        }
+
+        return String.format(
+            "You are Saathi, an expert AI career counselor. An interest evaluation was drafted from the user's earlier answers. " +
+            "Complete it using the user's remaining answers.\n\n" +
+            "%s\n" +
+            "Return ONLY valid JSON in the following format (all fields are required):\n\n" +
+            "{\n" +
+            "  \"interests\": {\n" +
+            "    \"tech\": <number 0-100>,\n" +
+            "    \"design\": <number 0-100>,\n" +
+            "    \"management\": <number 0-100>,\n" +
+            "    \"entrepreneurship\": <number 0-100>,\n" +
+            "    \"research\": <number 0-100>\n" +
+            "  },\n" +
+            "  \"interest_persona\": \"<A 2-3 sentence description of their primary interest persona>\",\n" +
+            "  \"strengths\": [\"<strength1>\", \"<strength2>\", \"<strength3>\"],\n" +
+            "  \"recommended_roles\": [\"<role1>\", \"<role2>\", \"<role3>\", \"<role4>\"],\n" +
+            "  \"roadmap_90_days\": \"<A detailed 90-day roadmap as a single paragraph>\",\n" +
+            "  \"summary\": \"<A short, crisp 2-sentence summary (max) that highlights their interests, key skills, and hobbies>\"\n" +
+            "}\n\n" +
+            "IMPORTANT:\n" +
+            "- interests must score ONLY the remaining answers above; the draft's scores are merged separately\n" +
+            "- interest_persona, strengths, recommended_roles, roadmap_90_days and summary must cover the whole picture: the draft and the remaining answers\n" +
+            "- Keep the draft's points that still hold and do not repeat them verbatim if the remaining answers refine them\n" +
+            "- Recommended roles should be achievable within 1-2 years (entry-level, associate, internship, or junior titles)\n" +
+            "- All scores should be numbers (not strings); no markdown, no explanations",
+            context.toString()
+        );
+    }
+
     private String buildQuestionGenerationPrompt(Map<String, String> userProfileData) {
         StringBuilder profileContext = new StringBuilder();
         profileContext.append("User Profile Information:\n");
@@ -562,6 +777,8 @@ public class OpenAIServiceImpl implements OpenAIService {
             
             // Remove duplicates (case-insensitive, normalized) FIRST
             questions = removeDuplicateQuestions(questions);
+            Set<String> seen = new HashSet<>();
+            questions.forEach(q -> seen.add(normalizeQuestion(q)));
             
             // Check if "interests and goals" question already exists
             boolean hasInterestsGoalsQuestion = questions.stream()
@@ -580,9 +797,7 @@ public class OpenAIServiceImpl implements OpenAIService {
                                              (fallbackQ.toLowerCase().contains("goals") || fallbackQ.toLowerCase().contains("goal"));
                     if (!isInterestsGoals || !hasInterestsGoalsQuestion) {
                         // Also check if this question is already in the list
-                        boolean isDuplicate = questions.stream()
-                            .anyMatch(q -> normalizeQuestion(q).equals(normalizeQuestion(fallbackQ)));
-                        if (!isDuplicate) {
+                        if (seen.add(normalizeQuestion(fallbackQ))) {
                             questions.add(fallbackQ);
                         }
                     }
@@ -610,10 +825,7 @@ public class OpenAIServiceImpl implements OpenAIService {
                         genericQ = "Tell me more about your interests and goals.";
                     }
                     
-                    final String normalizedGenericQ = normalizeQuestion(genericQ);
-                    boolean isDuplicate = questions.stream()
-                        .anyMatch(q -> normalizeQuestion(q).equals(normalizedGenericQ));
-                    if (!isDuplicate) {
+                    if (seen.add(normalizeQuestion(genericQ))) {
                         questions.add(genericQ);
                     }
                     genericIndex++;
@@ -627,35 +839,22 @@ public class OpenAIServiceImpl implements OpenAIService {
             // Verify we have exactly 15 questions before returning
             if (questions.size() != 15) {
                 log.warn("Question count mismatch: expected 15, got {}. Using fallback questions.", questions.size());
+                metrics.recordFallback("generate_questions", "incomplete_response");
                 return generateFallbackQuestions();
             }
             
             return questions;
         } catch (Exception e) {
             log.warn("Failed to parse generated questions, using fallback: {}", e.getMessage());
+            metrics.recordParseFailure("generate_questions");
+            metrics.recordFallback("generate_questions", "parse_failure");
             // Fallback: return generic questions
             return generateFallbackQuestions();
         }
     }
 
     private List<String> generateFallbackQuestions() {
-        List<String> questions = new ArrayList<>();
-        questions.add("What technical skills are you most passionate about?");
-        questions.add("How do you approach solving complex problems?");
-        questions.add("What projects have you worked on that you're most proud of?");
-        questions.add("What technologies or tools do you want to learn next?");
-        questions.add("What motivates you to keep learning and growing?");
-        questions.add("How do you express your creativity in your work or hobbies?");
-        questions.add("What role does design thinking play in your projects?");
-        questions.add("How do you handle feedback and iterate on your ideas?");
-        questions.add("What innovative solutions have you come up with?");
-        questions.add("How do you balance multiple interests and priorities?");
-        questions.add("Describe a time when you took on a leadership role.");
-        questions.add("How do you manage team conflicts or disagreements?");
-        questions.add("What are your thoughts on starting your own venture?");
-        questions.add("What research areas interest you the most?");
-        questions.add("How do you see your interests and skills aligning with your future goals?");
-        return questions;
+        return new ArrayList<>(FALLBACK_QUESTIONS);
     }
 
     /**
@@ -663,12 +862,10 @@ public class OpenAIServiceImpl implements OpenAIService {
      */
     private List<String> removeDuplicateQuestions(List<String> questions) {
         List<String> uniqueQuestions = new ArrayList<>();
-        List<String> normalizedSeen = new ArrayList<>();
+        Set<String> normalizedSeen = new HashSet<>();
         
         for (String question : questions) {
-            String normalized = normalizeQuestion(question);
-            if (!normalizedSeen.contains(normalized)) {
-                normalizedSeen.add(normalized);
+            if (normalizedSeen.add(normalizeQuestion(question))) {
                 uniqueQuestions.add(question);
             }
         }
@@ -756,6 +953,9 @@ public class OpenAIServiceImpl implements OpenAIService {
         @JsonProperty("choices")
         private java.util.List<Choice> choices;
 
+        @JsonProperty("usage")
+        private Usage usage;
+
         public java.util.List<Choice> getChoices() {
             return choices;
         }
@@ -763,6 +963,39 @@ public class OpenAIServiceImpl implements OpenAIService {
         public void setChoices(java.util.List<Choice> choices) {
             this.choices = choices;
         }
+
+        public Usage getUsage() {
+            return usage;
+        }
+
+        public void setUsage(Usage usage) {
+            this.usage = usage;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class Usage {
+        @JsonProperty("prompt_tokens")
+        private Integer promptTokens;
+
+        @JsonProperty("completion_tokens")
+        private Integer completionTokens;
+
+        public Integer getPromptTokens() {
+            return promptTokens;
+        }
+
+        public void setPromptTokens(Integer promptTokens) {
+            this.promptTokens = promptTokens;
+        }
+
+        public Integer getCompletionTokens() {
+            return completionTokens;
+        }
+
+        public void setCompletionTokens(Integer completionTokens) {
+            this.completionTokens = completionTokens;
+        }
     }
 
     @JsonIgnoreProperties(ignoreUnknown = true)
@@ -770,6 +1003,10 @@ public class OpenAIServiceImpl implements OpenAIService {
         @JsonProperty("message")
         private Message message;
 
+        /** Set instead of message on the chunks of a streamed completion. */
+        @JsonProperty("delta")
+        private Message delta;
+
         public Message getMessage() {
             return message;
         }
@@ -777,6 +1014,14 @@ public class OpenAIServiceImpl implements OpenAIService {
         public void setMessage(Message message) {
             this.message = message;
         }
+
+        public Message getDelta() {
+            return delta;
+        }
+
+        public void setDelta(Message delta) {
+            this.delta = delta;
+        }
     }
 
     @JsonIgnoreProperties(ignoreUnknown = true)
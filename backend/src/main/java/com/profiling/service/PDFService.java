@@ -1,6 +1,5 @@
 package com.profiling.service;
 
-import java.io.ByteArrayOutputStream;
 import java.time.LocalDate;
 import java.time.format.TextStyle;
 import java.util.ArrayList;
@@ -16,7 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.util.HtmlUtils;
 
-import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
+import com.profiling.exception.ServiceUnavailableException;
 import com.profiling.model.Profile;
 import com.profiling.template.TemplateRenderResult;
 
@@ -24,6 +23,12 @@ import com.profiling.template.TemplateRenderResult;
 public class PDFService {
 
     private static final Logger log = LoggerFactory.getLogger(PDFService.class);
+
+    private final PdfRenderingService pdfRenderingService;
+
+    public PDFService(PdfRenderingService pdfRenderingService) {
+        this.pdfRenderingService = pdfRenderingService;
+    }
     
     public byte[] generateProfilePDF(Profile profile, TemplateRenderResult renderResult) {
         if (profile == null) {
@@ -35,16 +40,11 @@ public class PDFService {
 
         log.info("Generating styled PDF for profileId={} template={}", profile.getId(), profile.getTemplateType());
 
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+        try {
             String html = buildHtmlDocument(profile, renderResult);
-
-            PdfRendererBuilder builder = new PdfRendererBuilder();
-            builder.useFastMode();
-            builder.withHtmlContent(html, null);
-            builder.toStream(outputStream);
-            builder.run();
-
-            return outputStream.toByteArray();
+            return pdfRenderingService.renderHtml("profile", html);
+        } catch (ServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error generating PDF document for profileId={}: {}", profile.getId(), e.getMessage(), e);
             throw new RuntimeException("Error generating PDF document", e);
@@ -84,7 +84,7 @@ public class PDFService {
 
     private String buildCombinedCss(String templateCss) {
         StringBuilder cssBuilder = new StringBuilder();
-        cssBuilder.append(basePdfCss());
+        cssBuilder.append(BASE_PDF_CSS);
         if (StringUtils.hasText(templateCss)) {
             cssBuilder.append("\n").append(templateCss);
         }
@@ -410,8 +410,8 @@ public class PDFService {
         return value == null ? "" : value;
     }
 
-    private String basePdfCss() {
-        return """
+    /** Built once and shared by every profile render; the template CSS is appended per document. */
+    private static final String BASE_PDF_CSS = """
                 @page { size: A4; margin: 20mm; }
                 * {
                   box-sizing: border-box;
@@ -458,6 +458,5 @@ public class PDFService {
                   margin-bottom: 16px;
                 }
                 """;
-    }
 }
 
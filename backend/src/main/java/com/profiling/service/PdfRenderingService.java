@@ -0,0 +1,222 @@
+package com.profiling.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.openhtmltopdf.extend.impl.FSDefaultCacheStore;
+import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
+import com.profiling.exception.ApplicationException;
+import com.profiling.exception.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Shared PDF rendering for every document type.
+ *
+ * Renders run on a dedicated, bounded pool so that a burst of downloads uses at most
+ * {@code app.pdf.render.threads} cores and {@code queue-capacity} buffered documents; beyond
+ * that requests fail fast with a 503 and a Retry-After hint. Font metrics resolved by
+ * openhtmltopdf are kept in one cache shared by all renders instead of per builder.
+ *
+ * Per document type ({@code type} tag) the service records {@code pdf.render.time},
+ * {@code pdf.render.queue.wait}, {@code pdf.render.size} and {@code pdf.render.rejected}.
+ */
+@Service
+public class PdfRenderingService {
+
+    private static final Logger log = LoggerFactory.getLogger(PdfRenderingService.class);
+
+    private final MeterRegistry registry;
+    private final ExecutorService executor;
+    private final long timeoutMillis;
+    private final long retryAfterSeconds;
+    private final FSDefaultCacheStore fontMetrics = new FSDefaultCacheStore();
+
+    /**
+     * Writes one document to the given stream.
+     */
+    @FunctionalInterface
+    public interface PdfWriterTask {
+        void writeTo(OutputStream outputStream) throws Exception;
+    }
+
+    @Autowired
+    public PdfRenderingService(
+            MeterRegistry registry,
+            @Value("${app.pdf.render.threads:0}") int threads,
+            @Value("${app.pdf.render.queue-capacity:20}") int queueCapacity,
+            @Value("${app.pdf.render.timeout-ms:30000}") long timeoutMillis,
+            @Value("${app.pdf.render.retry-after-seconds:5}") long retryAfterSeconds) {
+        this(registry, renderPool(threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+                queueCapacity), timeoutMillis, retryAfterSeconds);
+    }
+
+    PdfRenderingService(MeterRegistry registry, ExecutorService executor, long timeoutMillis, long retryAfterSeconds) {
+        this.registry = registry;
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    private static ExecutorService renderPool(int threads, int queueCapacity) {
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "pdf-render-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Number of render threads, i.e. how many documents can render at the same time.
+     */
+    public int getThreads() {
+        return executor instanceof ThreadPoolExecutor pool ? pool.getMaximumPoolSize() : 1;
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * Renders an HTML document with openhtmltopdf on the render pool.
+     */
+    public byte[] renderHtml(String documentType, String html) throws IOException {
+        return render(documentType, htmlWriter(html));
+    }
+
+    /**
+     * Renders several HTML documents concurrently on the render pool and returns them in order.
+     * If one is rejected or fails, the ones still pending are cancelled.
+     */
+    public List<byte[]> renderHtmlAll(String documentType, List<String> htmlDocuments) throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        List<Future<byte[]>> futures = new ArrayList<>(htmlDocuments.size());
+        try {
+            for (String html : htmlDocuments) {
+                futures.add(submit(documentType, htmlWriter(html)));
+            }
+            List<byte[]> pdfs = new ArrayList<>(futures.size());
+            for (Future<byte[]> future : futures) {
+                pdfs.add(await(documentType, future, deadline));
+            }
+            return pdfs;
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Runs a document writer on the render pool and returns the bytes it wrote. Failures of the
+     * writer surface as {@link IOException}; a full pool or a render that outlasts
+     * {@code app.pdf.render.timeout-ms} as {@link ServiceUnavailableException}.
+     */
+    public byte[] render(String documentType, PdfWriterTask task) throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        return await(documentType, submit(documentType, task), deadline);
+    }
+
+    private PdfWriterTask htmlWriter(String html) {
+        return outputStream -> {
+            PdfRendererBuilder builder = new PdfRendererBuilder();
+            builder.useFastMode();
+            builder.useCacheStore(PdfRendererBuilder.CacheStore.PDF_FONT_METRICS, fontMetrics);
+            builder.withHtmlContent(html, null);
+            builder.toStream(outputStream);
+            builder.run();
+        };
+    }
+
+    private Future<byte[]> submit(String documentType, PdfWriterTask task) {
+        long enqueued = System.nanoTime();
+        try {
+            return executor.submit(() -> {
+                long started = System.nanoTime();
+                Timer.builder("pdf.render.queue.wait")
+                        .description("Time a PDF render waited for a render thread")
+                        .tag("type", documentType)
+                        .register(registry)
+                        .record(started - enqueued, TimeUnit.NANOSECONDS);
+
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                task.writeTo(outputStream);
+                byte[] pdf = outputStream.toByteArray();
+
+                Timer.builder("pdf.render.time")
+                        .description("Time spent rendering a PDF")
+                        .tag("type", documentType)
+                        .register(registry)
+                        .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                DistributionSummary.builder("pdf.render.size")
+                        .description("Size of rendered PDFs")
+                        .baseUnit("bytes")
+                        .tag("type", documentType)
+                        .register(registry)
+                        .record(pdf.length);
+                return pdf;
+            });
+        } catch (RejectedExecutionException e) {
+            rejected(documentType).increment();
+            log.warn("PDF render pool saturated, rejecting {} render", documentType);
+            throw new ServiceUnavailableException("PDF rendering is busy, please retry shortly", retryAfterSeconds, e);
+        }
+    }
+
+    private byte[] await(String documentType, Future<byte[]> future, long deadline) throws IOException {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected(documentType).increment();
+            log.warn("{} PDF render timed out after {} ms", documentType, timeoutMillis);
+            throw new ServiceUnavailableException("PDF rendering is busy, please retry shortly", retryAfterSeconds, e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IOException("PDF rendering was interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof ApplicationException applicationException) {
+                throw applicationException;
+            }
+            throw new IOException("Failed to render " + documentType + " PDF: " + cause.getMessage(), cause);
+        }
+    }
+
+    private Counter rejected(String documentType) {
+        return Counter.builder("pdf.render.rejected")
+                .description("PDF renders turned away by a full pool or timed out")
+                .tag("type", documentType)
+                .register(registry);
+    }
+}
@@ -2,6 +2,7 @@ package com.profiling.service;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.profiling.dto.ProfileRequestDTO;
 import com.profiling.model.Profile;
@@ -10,6 +11,8 @@ import com.profiling.dto.RegenerateProfileRequest;
 import com.profiling.dto.EnhanceProfileRequest;
 import com.profiling.template.TemplateRenderResult;
 
+import reactor.core.publisher.Mono;
+
 public interface ProfileService {
     
     /**
@@ -74,6 +77,13 @@ public interface ProfileService {
      */
     ProfileResponse regenerateProfile(RegenerateProfileRequest request, String userId);
 
+    /**
+     * Streaming variant of {@link #regenerateProfile}: the AI text goes to {@code onToken} as it is
+     * generated and the Mono emits the saved profile. Invalid requests fail before anything is streamed.
+     */
+    Mono<ProfileResponse> regenerateProfileStreaming(RegenerateProfileRequest request, String userId,
+                                                     Consumer<String> onToken);
+
     /**
      * Enhance profile with psychometric report data insights
      * @param request The enhance profile request containing profile and report data
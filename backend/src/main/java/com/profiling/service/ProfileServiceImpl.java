@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -38,6 +39,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 @Service
 public class ProfileServiceImpl implements ProfileService {
 
@@ -186,6 +190,36 @@ public class ProfileServiceImpl implements ProfileService {
 
     @Override
     public ProfileResponse regenerateProfile(RegenerateProfileRequest request, String userId) {
+        Regeneration regeneration = prepareRegeneration(request, userId);
+
+        String enhancedText;
+        try {
+            enhancedText = openAIService.enhanceProfile(regeneration.prompt());
+        } catch (RuntimeException ex) {
+            log.error("Failed to regenerate profile for userId={}: {}", userId, ex.getMessage(), ex);
+            throw new DataSaveException("Failed to regenerate profile using AI", ex);
+        }
+        return completeRegeneration(regeneration, enhancedText);
+    }
+
+    @Override
+    public Mono<ProfileResponse> regenerateProfileStreaming(RegenerateProfileRequest request, String userId,
+                                                            Consumer<String> onToken) {
+        Regeneration regeneration = prepareRegeneration(request, userId);
+        return openAIService.streamEnhanceProfile(regeneration.prompt(), onToken)
+                .onErrorMap(ex -> {
+                    log.error("Failed to regenerate profile for userId={}: {}", userId, ex.getMessage(), ex);
+                    return new DataSaveException("Failed to regenerate profile using AI", ex);
+                })
+                // Saving and re-rendering block, so they run off the WebClient event loop
+                .publishOn(Schedulers.boundedElastic())
+                .map(enhancedText -> completeRegeneration(regeneration, enhancedText));
+    }
+
+    /**
+     * Validates a regeneration request and builds the profile and AI prompt for it.
+     */
+    private Regeneration prepareRegeneration(RegenerateProfileRequest request, String userId) {
         ensureUserContext(userId);
 
         if (request == null || request.getFormData() == null || request.getFormData().isEmpty()) {
@@ -250,23 +284,22 @@ public class ProfileServiceImpl implements ProfileService {
 
         TemplateRenderResult baseRender = templateFactory.generate(templateId, profile);
         String prompt = buildRegenerationPrompt(formData, request, baseRender.getRenderedText(), templateId);
+        return new Regeneration(profile, templateId, prompt);
+    }
 
-        String enhancedText;
-        try {
-            enhancedText = openAIService.enhanceProfile(prompt);
-        } catch (RuntimeException ex) {
-            log.error("Failed to regenerate profile for userId={}: {}", userId, ex.getMessage(), ex);
-            throw new DataSaveException("Failed to regenerate profile using AI", ex);
-        }
-
+    private ProfileResponse completeRegeneration(Regeneration regeneration, String enhancedText) {
+        Profile profile = regeneration.profile();
         profile.setAiEnhancedTemplateText(enhancedText);
         Profile savedProfile = persistProfile(profile);
         TemplateRenderResult renderResult = applyAiOverride(
-                templateFactory.generate(templateId, savedProfile),
+                templateFactory.generate(regeneration.templateId(), savedProfile),
                 savedProfile);
         return new ProfileResponse(savedProfile, renderResult);
     }
 
+    private record Regeneration(Profile profile, String templateId, String prompt) {
+    }
+
     @Override
     public String saveProfileAsJson(String id, String userId) {
         ensureUserContext(userId);
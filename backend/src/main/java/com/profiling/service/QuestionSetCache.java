@@ -0,0 +1,324 @@
+package com.profiling.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pools of generated chatbot question sets shared by students with the same profile cohort.
+ *
+ * Questions are generated from the cohort fields of the profile only (degree, branch, year,
+ * skills, hobbies, interests, goals), so a set fits everyone in the cohort. The cohort is
+ * fingerprinted after normalizing those fields: case, whitespace and punctuation are ignored
+ * and list fields such as skills are compared as sets. Each fingerprint keeps up to
+ * {@code variants} question sets, served round-robin for variety; a set is retired after
+ * {@code max-uses} conversations or {@code ttl-hours}. A miss pools only the set generated for
+ * that request; missing variants are generated on a small background pool once the cohort is
+ * served from its pool, so one-off cohorts (most of them, given free-text skills and goals)
+ * never cost more than one generation.
+ *
+ * Pools are per node and hold at most {@code max-profiles} fingerprints; past that, new cohorts
+ * are generated without caching. Fallback questions are never pooled.
+ */
+@Service
+public class QuestionSetCache {
+
+    private static final Logger log = LoggerFactory.getLogger(QuestionSetCache.class);
+
+    /** Profile fields the questions are generated from; the rest stays out of shared sets. */
+    static final List<String> COHORT_FIELDS = List.of("currentDegree", "branch", "yearOfStudy",
+            "technicalSkills", "softSkills", "hobbies", "interests", "goals");
+    /** Fields holding comma-separated items, compared regardless of order. */
+    private static final List<String> LIST_FIELDS = List.of("technicalSkills", "softSkills", "hobbies", "interests");
+
+    private final OpenAIService openAIService;
+    private final Executor executor;
+    private final boolean enabled;
+    private final int variants;
+    private final int maxUses;
+    private final long ttlMillis;
+    private final int maxProfiles;
+    private final Clock clock;
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final MeterRegistry registry;
+
+    @Autowired
+    public QuestionSetCache(
+            OpenAIService openAIService,
+            MeterRegistry registry,
+            @Value("${app.questions.cache.enabled:true}") boolean enabled,
+            @Value("${app.questions.cache.variants:3}") int variants,
+            @Value("${app.questions.cache.max-uses:50}") int maxUses,
+            @Value("${app.questions.cache.ttl-hours:24}") long ttlHours,
+            @Value("${app.questions.cache.max-profiles:5000}") int maxProfiles,
+            @Value("${app.questions.cache.threads:2}") int threads,
+            @Value("${app.questions.cache.queue-capacity:100}") int queueCapacity) {
+        this(openAIService, registry, replenishPool(threads, queueCapacity), enabled, variants, maxUses,
+                Duration.ofHours(ttlHours), maxProfiles, Clock.systemUTC());
+    }
+
+    QuestionSetCache(OpenAIService openAIService, MeterRegistry registry, Executor executor, boolean enabled,
+                     int variants, int maxUses, Duration ttl, int maxProfiles, Clock clock) {
+        this.openAIService = openAIService;
+        this.registry = registry;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.variants = variants;
+        this.maxUses = maxUses;
+        this.ttlMillis = ttl.toMillis();
+        this.maxProfiles = maxProfiles;
+        this.clock = clock;
+        this.hits = Counter.builder("questions.cache")
+                .description("Question sets served from a cohort pool or generated for the request")
+                .tag("result", "hit")
+                .register(registry);
+        this.misses = Counter.builder("questions.cache")
+                .description("Question sets served from a cohort pool or generated for the request")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("questions.cache.profiles", pools, Map::size)
+                .description("Profile cohorts with pooled question sets")
+                .register(registry);
+    }
+
+    private static ExecutorService replenishPool(int threads, int queueCapacity) {
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "question-pool-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor instanceof ExecutorService service) {
+            service.shutdown();
+        }
+    }
+
+    /**
+     * Returns the 15 chatbot questions for a profile, from the cohort's pool when it has one.
+     */
+    public List<String> questionsFor(Map<String, String> profile) {
+        if (!enabled) {
+            return openAIService.generateQuestions(profile);
+        }
+        Map<String, String> cohort = cohortProfile(profile);
+        String fingerprint = fingerprint(cohort);
+        Pool pool = pools.get(fingerprint);
+        List<String> pooled = pool == null ? null : pool.next(clock.millis());
+        if (pooled != null) {
+            hits.increment();
+            replenish(fingerprint, cohort, pool);
+            return new ArrayList<>(pooled);
+        }
+
+        misses.increment();
+        List<String> questions = openAIService.generateQuestions(cohort);
+        if (cacheable(questions)) {
+            pool = poolFor(fingerprint);
+            if (pool != null) {
+                // No variants ahead of a repeat: most cohorts are never seen again
+                pool.add(questions, 1, clock.millis());
+            }
+        }
+        return questions;
+    }
+
+    private Pool poolFor(String fingerprint) {
+        Pool pool = pools.get(fingerprint);
+        if (pool != null) {
+            return pool;
+        }
+        if (pools.size() >= maxProfiles) {
+            long now = clock.millis();
+            pools.values().removeIf(entry -> entry.isStale(now));
+            if (pools.size() >= maxProfiles) {
+                log.debug("Question pools full, not pooling cohort {}", fingerprint);
+                return null;
+            }
+        }
+        return pools.computeIfAbsent(fingerprint, key -> new Pool());
+    }
+
+    /**
+     * Tops the pool up to {@code variants} sets in the background.
+     */
+    private void replenish(String fingerprint, Map<String, String> cohort, Pool pool) {
+        int missing = pool.reserveMissing(variants, clock.millis());
+        for (int i = 0; i < missing; i++) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        List<String> questions = openAIService.generateQuestions(cohort);
+                        if (cacheable(questions)) {
+                            pool.add(questions, 0, clock.millis());
+                            countReplenish("success");
+                        } else {
+                            countReplenish("fallback");
+                        }
+                    } catch (RuntimeException e) {
+                        log.warn("Generating a pooled question set for cohort {} failed: {}", fingerprint, e.getMessage());
+                        countReplenish("failed");
+                    } finally {
+                        pool.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                pool.release();
+                countReplenish("rejected");
+            }
+        }
+    }
+
+    private boolean cacheable(List<String> questions) {
+        return questions != null && !questions.isEmpty() && !questions.equals(OpenAIServiceImpl.FALLBACK_QUESTIONS);
+    }
+
+    /**
+     * The cohort fields of a profile, in a fixed order.
+     */
+    static Map<String, String> cohortProfile(Map<String, String> profile) {
+        Map<String, String> cohort = new LinkedHashMap<>();
+        for (String field : COHORT_FIELDS) {
+            String value = profile.get(field);
+            if (value != null && !value.isBlank()) {
+                cohort.put(field, value.trim());
+            }
+        }
+        return cohort;
+    }
+
+    static String fingerprint(Map<String, String> cohort) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String field : COHORT_FIELDS) {
+                String value = cohort.get(field);
+                digest.update(field.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                if (value != null) {
+                    digest.update(normalize(field, value).getBytes(StandardCharsets.UTF_8));
+                }
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String normalize(String field, String value) {
+        String normalized = value.toLowerCase().replaceAll("[^\\p{L}\\p{N},;/+#]+", " ").trim();
+        if (!LIST_FIELDS.contains(field)) {
+            return normalized.replaceAll("[,;/]", " ").replaceAll("\\s+", " ");
+        }
+        TreeSet<String> items = new TreeSet<>();
+        for (String item : normalized.split("[,;/]")) {
+            String trimmed = item.trim().replaceAll("\\s+", " ");
+            if (!trimmed.isEmpty()) {
+                items.add(trimmed);
+            }
+        }
+        return String.join(",", items);
+    }
+
+    private void countReplenish(String outcome) {
+        Counter.builder("questions.cache.replenish")
+                .description("Background generations of pooled question sets")
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Question sets of one cohort, handed out in turn.
+     */
+    private final class Pool {
+        private final List<Variant> sets = new ArrayList<>();
+        private int next;
+        private int pending;
+        private long lastUsed;
+
+        synchronized List<String> next(long now) {
+            sets.removeIf(variant -> variant.uses >= maxUses || now - variant.createdAt >= ttlMillis);
+            if (sets.isEmpty()) {
+                return null;
+            }
+            Variant variant = sets.get(next++ % sets.size());
+            variant.uses++;
+            lastUsed = now;
+            return variant.questions;
+        }
+
+        synchronized void add(List<String> questions, int uses, long now) {
+            if (sets.size() < variants) {
+                Variant variant = new Variant(List.copyOf(questions), now);
+                variant.uses = uses;
+                sets.add(variant);
+                lastUsed = Math.max(lastUsed, now);
+            }
+        }
+
+        /**
+         * Reserves generations for the sets still missing, counting those already running.
+         */
+        synchronized int reserveMissing(int target, long now) {
+            sets.removeIf(variant -> variant.uses >= maxUses || now - variant.createdAt >= ttlMillis);
+            int missing = Math.max(0, target - sets.size() - pending);
+            pending += missing;
+            return missing;
+        }
+
+        synchronized void release() {
+            pending--;
+        }
+
+        synchronized boolean isStale(long now) {
+            return pending == 0 && now - lastUsed >= ttlMillis;
+        }
+    }
+
+    private static final class Variant {
+        private final List<String> questions;
+        private final long createdAt;
+        private int uses;
+
+        Variant(List<String> questions, long createdAt) {
+            this.questions = questions;
+            this.createdAt = createdAt;
+        }
+    }
+}
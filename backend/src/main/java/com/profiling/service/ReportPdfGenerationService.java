@@ -1,13 +1,29 @@
 package com.profiling.service;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
 import com.lowagie.text.Document;
 import com.lowagie.text.DocumentException;
 import com.lowagie.text.Element;
@@ -23,6 +39,10 @@ import com.lowagie.text.pdf.PdfPTable;
 import com.lowagie.text.pdf.PdfWriter;
 import com.profiling.dto.ReportDownloadRequest;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Production-ready PDF generation service using OpenPDF
  * 
@@ -32,6 +52,11 @@ import com.profiling.dto.ReportDownloadRequest;
  * - Proper page headers and footers
  * - Consistent spacing and typography
  * - A4 page size with proper margins
+ *
+ * Downloads are keyed by a hash of the canonical request JSON. The most recently used
+ * rendered PDFs are kept in memory (bounded by {@code cache-max-entries} and
+ * {@code cache-max-bytes}), and identical requests arriving while one renders wait for that
+ * render instead of starting their own.
  */
 @Service
 public class ReportPdfGenerationService {
@@ -49,48 +74,66 @@ public class ReportPdfGenerationService {
     private static final Color COLOR_TEXT_LIGHT = new Color(102, 102, 102); // #666666
     private static final Color COLOR_BG_LIGHT = new Color(248, 249, 250); // #f8f9fa
     private static final Color COLOR_BG_DARK = new Color(240, 240, 240); // #f0f0f0
+    private static final Color COLOR_BG_SCORE = new Color(232, 232, 232); // #e8e8e8
     
     // Spacing
     private static final float SPACING_SMALL = 8f;
     private static final float SPACING_MEDIUM = 12f;
     private static final float SPACING_LARGE = 20f;
     
-    // Fonts - Using system fonts with fallback
-    private Font fontTitle;
-    private Font fontHeading;
-    private Font fontSubheading;
-    private Font fontBody;
-    private Font fontSmall;
-    private Font fontBold;
-    private Font fontBoldPrimary;
-    
-    public ReportPdfGenerationService() {
-        initializeFonts();
+    // Fonts - resolved once and shared by every render; never modified after creation
+    private static final Font FONT_TITLE = font(FontFactory.HELVETICA_BOLD, FONT_SIZE_TITLE, Font.BOLD, COLOR_TEXT);
+    private static final Font FONT_HEADING = font(FontFactory.HELVETICA_BOLD, FONT_SIZE_HEADING, Font.BOLD, COLOR_PRIMARY);
+    private static final Font FONT_SUBHEADING = font(FontFactory.HELVETICA_BOLD, FONT_SIZE_SUBHEADING, Font.BOLD, COLOR_TEXT);
+    private static final Font FONT_BODY = font(FontFactory.HELVETICA, FONT_SIZE_BODY, Font.NORMAL, COLOR_TEXT);
+    private static final Font FONT_SMALL = font(FontFactory.HELVETICA, FONT_SIZE_SMALL, Font.NORMAL, COLOR_TEXT_LIGHT);
+    private static final Font FONT_BOLD = font(FontFactory.HELVETICA_BOLD, FONT_SIZE_BODY, Font.BOLD, COLOR_TEXT);
+    private static final Font FONT_BOLD_PRIMARY = font(FontFactory.HELVETICA_BOLD, FONT_SIZE_BODY, Font.BOLD, COLOR_PRIMARY);
+    private static final Font FONT_SCORE_VALUE = new Font(Font.HELVETICA, 20f, Font.BOLD, COLOR_PRIMARY);
+
+    private final PdfRenderingService pdfRenderingService;
+    private final ObjectMapper canonicalMapper = JsonMapper.builder()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build();
+    private final RenderedReports rendered;
+    private final Map<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter joined;
+
+    @Autowired
+    public ReportPdfGenerationService(
+            PdfRenderingService pdfRenderingService,
+            MeterRegistry registry,
+            @Value("${app.pdf.report-download.cache-max-entries:200}") int cacheMaxEntries,
+            @Value("${app.pdf.report-download.cache-max-bytes:67108864}") long cacheMaxBytes) {
+        this.pdfRenderingService = pdfRenderingService;
+        this.rendered = new RenderedReports(cacheMaxEntries, cacheMaxBytes);
+        this.hits = cacheCounter(registry, "hit");
+        this.misses = cacheCounter(registry, "miss");
+        this.joined = cacheCounter(registry, "joined");
+        Gauge.builder("pdf.report.cache.bytes", rendered, RenderedReports::bytes)
+                .description("Bytes of rendered report PDFs held in memory")
+                .baseUnit("bytes")
+                .register(registry);
     }
-    
+
+    private static Counter cacheCounter(MeterRegistry registry, String result) {
+        return Counter.builder("pdf.report.cache")
+                .description("Report downloads served from rendered PDFs, rendered, or joined to a running render")
+                .tag("result", result)
+                .register(registry);
+    }
+
     /**
-     * Initialize fonts with fallback chain
-     * Tries Inter -> Roboto -> Arial -> Helvetica
+     * Helvetica through FontFactory, or the built-in font if the factory cannot provide it.
      */
-    private void initializeFonts() {
+    private static Font font(String factoryName, float size, int style, Color color) {
         try {
-            // Try to use system fonts, fallback to Arial if not available
-            fontTitle = FontFactory.getFont(FontFactory.HELVETICA_BOLD, FONT_SIZE_TITLE, COLOR_TEXT);
-            fontHeading = FontFactory.getFont(FontFactory.HELVETICA_BOLD, FONT_SIZE_HEADING, COLOR_PRIMARY);
-            fontSubheading = FontFactory.getFont(FontFactory.HELVETICA_BOLD, FONT_SIZE_SUBHEADING, COLOR_TEXT);
-            fontBody = FontFactory.getFont(FontFactory.HELVETICA, FONT_SIZE_BODY, COLOR_TEXT);
-            fontSmall = FontFactory.getFont(FontFactory.HELVETICA, FONT_SIZE_SMALL, COLOR_TEXT_LIGHT);
-            fontBold = FontFactory.getFont(FontFactory.HELVETICA_BOLD, FONT_SIZE_BODY, COLOR_TEXT);
-            fontBoldPrimary = FontFactory.getFont(FontFactory.HELVETICA_BOLD, FONT_SIZE_BODY, COLOR_PRIMARY);
+            return FontFactory.getFont(factoryName, size, color);
         } catch (Exception e) {
-            // Fallback to default fonts
-            fontTitle = new Font(Font.HELVETICA, FONT_SIZE_TITLE, Font.BOLD, COLOR_TEXT);
-            fontHeading = new Font(Font.HELVETICA, FONT_SIZE_HEADING, Font.BOLD, COLOR_PRIMARY);
-            fontSubheading = new Font(Font.HELVETICA, FONT_SIZE_SUBHEADING, Font.BOLD, COLOR_TEXT);
-            fontBody = new Font(Font.HELVETICA, FONT_SIZE_BODY, Font.NORMAL, COLOR_TEXT);
-            fontSmall = new Font(Font.HELVETICA, FONT_SIZE_SMALL, Font.NORMAL, COLOR_TEXT_LIGHT);
-            fontBold = new Font(Font.HELVETICA, FONT_SIZE_BODY, Font.BOLD, COLOR_TEXT);
-            fontBoldPrimary = new Font(Font.HELVETICA, FONT_SIZE_BODY, Font.BOLD, COLOR_PRIMARY);
+            return new Font(Font.HELVETICA, size, style, color);
         }
     }
     
@@ -102,7 +145,74 @@ public class ReportPdfGenerationService {
      * @throws IOException if PDF generation fails
      */
     public byte[] generatePdfReport(ReportDownloadRequest request) throws IOException {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        String key = cacheKey(request);
+        byte[] cached = rendered.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        CompletableFuture<byte[]> render = new CompletableFuture<>();
+        CompletableFuture<byte[]> running = inFlight.putIfAbsent(key, render);
+        if (running != null) {
+            joined.increment();
+            return await(running);
+        }
+        try {
+            // A render of the same payload may have finished since the lookup above
+            byte[] pdf = rendered.get(key);
+            if (pdf != null) {
+                hits.increment();
+                render.complete(pdf);
+                return pdf;
+            }
+            misses.increment();
+            pdf = pdfRenderingService.render("report-download", outputStream -> writeReport(request, outputStream));
+            rendered.put(key, pdf);
+            render.complete(pdf);
+            return pdf;
+        } catch (IOException | RuntimeException e) {
+            render.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, render);
+        }
+    }
+
+    /**
+     * SHA-256 of the request as JSON with properties and map entries in sorted order, so equal
+     * payloads get the same key however the client ordered them.
+     */
+    String cacheKey(ReportDownloadRequest request) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonicalMapper.writeValueAsBytes(request)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Waits for the identical render another request started, failing the same way it did.
+     */
+    private static byte[] await(CompletableFuture<byte[]> running) throws IOException {
+        try {
+            return running.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the report PDF", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException("Failed to generate PDF document", e.getCause());
+        }
+    }
+
+    private void writeReport(ReportDownloadRequest request, OutputStream outputStream) throws IOException {
         Document document = new Document(PageSize.A4, 50, 50, 60, 60); // margins: left, right, top, bottom
         
         try {
@@ -134,8 +244,6 @@ public class ReportPdfGenerationService {
             
             document.close();
             
-            return outputStream.toByteArray();
-            
         } catch (DocumentException e) {
             throw new IOException("Failed to generate PDF document", e);
         }
@@ -145,7 +253,7 @@ public class ReportPdfGenerationService {
      * Add page header with title
      */
     private void addPageHeader(Document document) throws DocumentException {
-        Paragraph title = new Paragraph("CANDIDATE REPORT", fontTitle);
+        Paragraph title = new Paragraph("CANDIDATE REPORT", FONT_TITLE);
         title.setAlignment(Element.ALIGN_LEFT);
         title.setSpacingAfter(SPACING_LARGE);
         document.add(title);
@@ -172,20 +280,20 @@ public class ReportPdfGenerationService {
         String email = request.getUserInfo() != null && request.getUserInfo().getEmail() != null 
             ? request.getUserInfo().getEmail() : "connect@crezam.com";
         
-        Paragraph nameLabel = new Paragraph("CANDIDATE NAME", fontSmall);
+        Paragraph nameLabel = new Paragraph("CANDIDATE NAME", FONT_SMALL);
         nameLabel.setSpacingAfter(4);
         leftCell.addElement(nameLabel);
         
-        Paragraph name = new Paragraph(candidateName, fontSubheading);
+        Paragraph name = new Paragraph(candidateName, FONT_SUBHEADING);
         name.setSpacingAfter(SPACING_MEDIUM);
         leftCell.addElement(name);
         
-        Paragraph emailLabel = new Paragraph("LINK FOR RESUME", fontSmall);
+        Paragraph emailLabel = new Paragraph("LINK FOR RESUME", FONT_SMALL);
         emailLabel.setSpacingAfter(4);
         leftCell.addElement(emailLabel);
         
-        Paragraph emailPara = new Paragraph(email, fontBody);
-        emailPara.setFont(fontBoldPrimary);
+        Paragraph emailPara = new Paragraph(email, FONT_BODY);
+        emailPara.setFont(FONT_BOLD_PRIMARY);
         leftCell.addElement(emailPara);
         
         // Add date if available
@@ -194,7 +302,7 @@ public class ReportPdfGenerationService {
                 LocalDate date = LocalDate.parse(request.getReportGeneratedAt().substring(0, 10));
                 Paragraph datePara = new Paragraph(
                     date.format(DateTimeFormatter.ofPattern("dd/MM/yyyy")), 
-                    fontSmall
+                    FONT_SMALL
                 );
                 datePara.setSpacingBefore(SPACING_SMALL);
                 leftCell.addElement(datePara);
@@ -245,16 +353,16 @@ public class ReportPdfGenerationService {
         PdfPCell cell = new PdfPCell();
         cell.setBorder(PdfPCell.NO_BORDER);
         cell.setPadding(12);
-        cell.setBackgroundColor(new Color(232, 232, 232));
+        cell.setBackgroundColor(COLOR_BG_SCORE);
         cell.setHorizontalAlignment(Element.ALIGN_CENTER);
         
-        Paragraph labelPara = new Paragraph(label, fontSmall);
+        Paragraph labelPara = new Paragraph(label, FONT_SMALL);
         labelPara.setAlignment(Element.ALIGN_CENTER);
         labelPara.setSpacingAfter(6);
         cell.addElement(labelPara);
         
-        Paragraph valuePara = new Paragraph(value, fontSubheading);
-        valuePara.setFont(new Font(Font.HELVETICA, 20f, Font.BOLD, COLOR_PRIMARY));
+        Paragraph valuePara = new Paragraph(value, FONT_SUBHEADING);
+        valuePara.setFont(FONT_SCORE_VALUE);
         valuePara.setAlignment(Element.ALIGN_CENTER);
         cell.addElement(valuePara);
         
@@ -270,7 +378,7 @@ public class ReportPdfGenerationService {
         String bio = request.getAnalysis() != null && request.getAnalysis().getSummaryBio() != null
             ? request.getAnalysis().getSummaryBio() : "No bio available.";
         
-        Paragraph bioPara = new Paragraph(bio, fontBody);
+        Paragraph bioPara = new Paragraph(bio, FONT_BODY);
         bioPara.setSpacingAfter(SPACING_LARGE);
         document.add(bioPara);
     }
@@ -298,7 +406,7 @@ public class ReportPdfGenerationService {
             eduText.append("N/A");
         }
         
-        Paragraph eduPara = new Paragraph(eduText.toString(), fontBody);
+        Paragraph eduPara = new Paragraph(eduText.toString(), FONT_BODY);
         eduPara.setSpacingAfter(SPACING_LARGE);
         document.add(eduPara);
     }
@@ -316,7 +424,7 @@ public class ReportPdfGenerationService {
         String[] paragraphs = summary.split("\n\n");
         for (String para : paragraphs) {
             if (!para.trim().isEmpty()) {
-                Paragraph p = new Paragraph(para.trim(), fontBody);
+                Paragraph p = new Paragraph(para.trim(), FONT_BODY);
                 p.setSpacingAfter(SPACING_SMALL);
                 document.add(p);
             }
@@ -360,7 +468,7 @@ public class ReportPdfGenerationService {
             String[] paragraphs = request.getSwot().getSwotAnalysis().split("\n\n");
             for (String para : paragraphs) {
                 if (!para.trim().isEmpty()) {
-                    Paragraph p = new Paragraph(para.trim(), fontBody);
+                    Paragraph p = new Paragraph(para.trim(), FONT_BODY);
                     p.setSpacingAfter(SPACING_SMALL);
                     document.add(p);
                 }
@@ -377,18 +485,18 @@ public class ReportPdfGenerationService {
         cell.setPadding(12);
         cell.setBackgroundColor(Color.WHITE);
         
-        Paragraph titlePara = new Paragraph(title.toUpperCase(), fontHeading);
+        Paragraph titlePara = new Paragraph(title.toUpperCase(), FONT_HEADING);
         titlePara.setSpacingAfter(SPACING_SMALL);
         cell.addElement(titlePara);
         
         if (items != null && !items.isEmpty()) {
             for (String item : items) {
-                Paragraph itemPara = new Paragraph("• " + item, fontBody);
+                Paragraph itemPara = new Paragraph("• " + item, FONT_BODY);
                 itemPara.setSpacingAfter(4);
                 cell.addElement(itemPara);
             }
         } else {
-            Paragraph noData = new Paragraph("No " + title.toLowerCase() + " identified", fontBody);
+            Paragraph noData = new Paragraph("No " + title.toLowerCase() + " identified", FONT_BODY);
             cell.addElement(noData);
         }
         
@@ -417,7 +525,7 @@ public class ReportPdfGenerationService {
         String[] paragraphs = fitAnalysis.split("\n\n");
         for (String para : paragraphs) {
             if (!para.trim().isEmpty()) {
-                Paragraph p = new Paragraph(para.trim(), fontBody);
+                Paragraph p = new Paragraph(para.trim(), FONT_BODY);
                 p.setSpacingAfter(SPACING_SMALL);
                 textCell.addElement(p);
             }
@@ -475,9 +583,9 @@ public class ReportPdfGenerationService {
         if (isBest && request.getUserInfo() != null && request.getUserInfo().getName() != null) {
             Paragraph indicator = new Paragraph(
                 "↑ " + request.getUserInfo().getName().toUpperCase() + " IS HERE",
-                fontSmall
+                FONT_SMALL
             );
-            indicator.setFont(fontBoldPrimary);
+            indicator.setFont(FONT_BOLD_PRIMARY);
             indicator.setAlignment(Element.ALIGN_CENTER);
             indicator.setSpacingBefore(SPACING_SMALL);
             cell.addElement(indicator);
@@ -494,7 +602,7 @@ public class ReportPdfGenerationService {
         cell.setHorizontalAlignment(Element.ALIGN_CENTER);
         cell.setVerticalAlignment(Element.ALIGN_BOTTOM);
         
-        Paragraph labelPara = new Paragraph(label, fontSmall);
+        Paragraph labelPara = new Paragraph(label, FONT_SMALL);
         labelPara.setAlignment(Element.ALIGN_CENTER);
         labelPara.setSpacingAfter(6);
         cell.addElement(labelPara);
@@ -531,7 +639,7 @@ public class ReportPdfGenerationService {
         String[] paragraphs = narrative.split("\n\n");
         for (String para : paragraphs) {
             if (!para.trim().isEmpty()) {
-                Paragraph p = new Paragraph(para.trim(), fontBody);
+                Paragraph p = new Paragraph(para.trim(), FONT_BODY);
                 p.setSpacingAfter(SPACING_SMALL);
                 document.add(p);
             }
@@ -549,7 +657,7 @@ public class ReportPdfGenerationService {
         String insights = request.getAnalysis() != null && request.getAnalysis().getBehavioralInsights() != null
             ? request.getAnalysis().getBehavioralInsights() : "No behavioral insights available.";
         
-        Paragraph para = new Paragraph(insights, fontBody);
+        Paragraph para = new Paragraph(insights, FONT_BODY);
         para.setSpacingAfter(SPACING_LARGE);
         document.add(para);
     }
@@ -563,7 +671,7 @@ public class ReportPdfGenerationService {
         String insights = request.getAnalysis() != null && request.getAnalysis().getDomainInsights() != null
             ? request.getAnalysis().getDomainInsights() : "No domain insights available.";
         
-        Paragraph para = new Paragraph(insights, fontBody);
+        Paragraph para = new Paragraph(insights, FONT_BODY);
         para.setSpacingAfter(SPACING_LARGE);
         document.add(para);
     }
@@ -602,8 +710,8 @@ public class ReportPdfGenerationService {
         cell.setBackgroundColor(Color.WHITE);
         
         String text = trait + ": " + (value != null ? value : 0) + "/100";
-        Paragraph para = new Paragraph(text, fontBody);
-        para.setFont(fontBold);
+        Paragraph para = new Paragraph(text, FONT_BODY);
+        para.setFont(FONT_BOLD);
         cell.addElement(para);
         
         return cell;
@@ -642,8 +750,8 @@ public class ReportPdfGenerationService {
         cell.setBackgroundColor(Color.WHITE);
         
         String text = label + ": " + String.format("%.1f", value != null ? value : 0.0) + "%";
-        Paragraph para = new Paragraph(text, fontBody);
-        para.setFont(fontBold);
+        Paragraph para = new Paragraph(text, FONT_BODY);
+        para.setFont(FONT_BOLD);
         cell.addElement(para);
         
         return cell;
@@ -664,7 +772,7 @@ public class ReportPdfGenerationService {
         
         Paragraph title = new Paragraph(
             "Our Talent 360° report will give you a holistic overview of candidates with:",
-            fontBold
+            FONT_BOLD
         );
         title.setSpacingAfter(SPACING_MEDIUM);
         footerCell.addElement(title);
@@ -690,7 +798,7 @@ public class ReportPdfGenerationService {
             itemCell.setBorder(PdfPCell.NO_BORDER);
             itemCell.setPadding(4);
             
-            Paragraph itemPara = new Paragraph("✓ " + item, fontBody);
+            Paragraph itemPara = new Paragraph("✓ " + item, FONT_BODY);
             itemCell.addElement(itemPara);
             listTable.addCell(itemCell);
         }
@@ -705,34 +813,73 @@ public class ReportPdfGenerationService {
      * Add a section header
      */
     private void addSectionHeader(Document document, String title) throws DocumentException {
-        Paragraph header = new Paragraph(title, fontHeading);
+        Paragraph header = new Paragraph(title, FONT_HEADING);
         header.setSpacingBefore(SPACING_MEDIUM);
         header.setSpacingAfter(SPACING_MEDIUM);
         document.add(header);
     }
     
+    /**
+     * Rendered PDFs by request key, least recently used first out once there are more than
+     * {@code maxEntries} of them or they hold more than {@code maxBytes}.
+     */
+    private static final class RenderedReports {
+        private final int maxEntries;
+        private final long maxBytes;
+        private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long bytes;
+
+        RenderedReports(int maxEntries, long maxBytes) {
+            this.maxEntries = maxEntries;
+            this.maxBytes = maxBytes;
+        }
+
+        synchronized byte[] get(String key) {
+            return entries.get(key);
+        }
+
+        synchronized void put(String key, byte[] pdf) {
+            if (maxEntries <= 0 || pdf.length > maxBytes) {
+                return;
+            }
+            byte[] previous = entries.put(key, pdf);
+            bytes += pdf.length - (previous != null ? previous.length : 0);
+            Iterator<byte[]> eldest = entries.values().iterator();
+            while (entries.size() > maxEntries || bytes > maxBytes) {
+                bytes -= eldest.next().length;
+                eldest.remove();
+            }
+        }
+
+        synchronized long bytes() {
+            return bytes;
+        }
+    }
+
     /**
      * Page event handler for headers and footers
      */
     private static class PdfPageEventHandler extends com.lowagie.text.pdf.PdfPageEventHelper {
+        // Resolved once; createFont on every page re-reads the AFM metrics
+        private static final BaseFont FOOTER_FONT = footerFont();
+
+        private static BaseFont footerFont() {
+            try {
+                return BaseFont.createFont(BaseFont.HELVETICA, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+            } catch (DocumentException | IOException e) {
+                throw new IllegalStateException("Helvetica is not available", e);
+            }
+        }
+
         @Override
         public void onEndPage(PdfWriter writer, Document document) {
             // Add page number in footer
             PdfContentByte cb = writer.getDirectContent();
             cb.beginText();
-            try {
-                cb.setFontAndSize(com.lowagie.text.pdf.BaseFont.createFont(
-                    com.lowagie.text.pdf.BaseFont.HELVETICA,
-                    com.lowagie.text.pdf.BaseFont.WINANSI,
-                    false
-                ), 9);
-            } catch (Exception e) {
-                // Fallback
-            }
+            cb.setFontAndSize(FOOTER_FONT, 9);
             cb.showTextAligned(Element.ALIGN_CENTER, "Page " + writer.getPageNumber(),
                 document.getPageSize().getWidth() / 2, 30, 0);
             cb.endText();
         }
     }
 }
-
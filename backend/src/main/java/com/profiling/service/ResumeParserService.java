@@ -26,13 +26,25 @@ public class ResumeParserService {
 
     private static final Logger log = LoggerFactory.getLogger(ResumeParserService.class);
     
+    private static final String MODEL = "gpt-3.5-turbo";
+    private static final String RESUME_CALL_SITE = "resume_parse";
+    private static final String PROFILE_CALL_SITE = "profile_pdf_parse";
+    
     private final WebClient webClient;
+    private final LlmCallMetrics metrics;
+    private final LlmResilience resilience;
     
     @Value("${openai.api.key:}")
     private String openaiApiKey;
 
-    public ResumeParserService(WebClient.Builder webClientBuilder) {
+    @Value("${openai.base-url:https://api.openai.com/v1}")
+    private String openaiBaseUrl;
+
+    public ResumeParserService(WebClient.Builder webClientBuilder, LlmCallMetrics metrics,
+                               LlmResilience resilience) {
         this.webClient = webClientBuilder.build();
+        this.metrics = metrics;
+        this.resilience = resilience;
     }
 
     /**
@@ -123,7 +135,7 @@ public class ResumeParserService {
             String prompt = buildProfilePrompt(profileText);
             
             Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("model", "gpt-3.5-turbo");
+            requestBody.put("model", MODEL);
             requestBody.put("messages", List.of(
                 Map.of("role", "system", "content", "You are a profile parser. Extract information from profile documents and return it in a structured JSON format."),
                 Map.of("role", "user", "content", prompt)
@@ -131,31 +143,25 @@ public class ResumeParserService {
             requestBody.put("temperature", 0.3);
             requestBody.put("max_tokens", 1000);
 
-            Mono<Map> responseMono = webClient.post()
-                    .uri("https://api.openai.com/v1/chat/completions")
-                    .header("Authorization", "Bearer " + openaiApiKey)
-                    .header("Content-Type", "application/json")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(Map.class);
-
-            Map<String, Object> response = responseMono.block();
+            Map<String, Object> response = callOpenAI(PROFILE_CALL_SITE, requestBody);
             
             if (response != null && response.containsKey("choices")) {
                 List<Map<String, Object>> choices = (List<Map<String, Object>>) response.get("choices");
                 if (!choices.isEmpty()) {
                     Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
                     String content = (String) message.get("content");
-                    return parseAIResponse(content);
+                    return parseAIResponse(PROFILE_CALL_SITE, content);
                 }
             }
             
             // Fallback to regex if AI parsing fails
             log.warn("AI parsing failed. Falling back to regex-based parsing.");
+            metrics.recordFallback(PROFILE_CALL_SITE, "empty_response");
             return parseTextWithRegex(profileText);
             
         } catch (Exception e) {
             log.error("Error parsing profile PDF with AI: {}", e.getMessage());
+            metrics.recordFallback(PROFILE_CALL_SITE, "error");
             // Fallback to regex-based parsing
             return parseTextWithRegex(profileText);
         }
@@ -208,7 +214,7 @@ public class ResumeParserService {
             String prompt = buildPrompt(resumeText);
             
             Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("model", "gpt-3.5-turbo");
+            requestBody.put("model", MODEL);
             requestBody.put("messages", List.of(
                 Map.of("role", "system", "content", "You are a resume parser. Extract information from resumes and return it in a structured JSON format."),
                 Map.of("role", "user", "content", prompt)
@@ -216,31 +222,25 @@ public class ResumeParserService {
             requestBody.put("temperature", 0.3);
             requestBody.put("max_tokens", 1000);
 
-            Mono<Map> responseMono = webClient.post()
-                    .uri("https://api.openai.com/v1/chat/completions")
-                    .header("Authorization", "Bearer " + openaiApiKey)
-                    .header("Content-Type", "application/json")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(Map.class);
-
-            Map<String, Object> response = responseMono.block();
+            Map<String, Object> response = callOpenAI(RESUME_CALL_SITE, requestBody);
             
             if (response != null && response.containsKey("choices")) {
                 List<Map<String, Object>> choices = (List<Map<String, Object>>) response.get("choices");
                 if (!choices.isEmpty()) {
                     Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
                     String content = (String) message.get("content");
-                    return parseAIResponse(content);
+                    return parseAIResponse(RESUME_CALL_SITE, content);
                 }
             }
             
             // Fallback to regex if AI parsing fails
             log.warn("AI parsing failed. Falling back to regex-based parsing.");
+            metrics.recordFallback(RESUME_CALL_SITE, "empty_response");
             return parseTextWithRegex(resumeText);
             
         } catch (Exception e) {
             log.error("Error parsing resume with AI: {}", e.getMessage());
+            metrics.recordFallback(RESUME_CALL_SITE, "error");
             // Fallback to regex-based parsing
             return parseTextWithRegex(resumeText);
         }
@@ -277,7 +277,29 @@ public class ResumeParserService {
             """ + resumeText;
     }
 
-    private ResumeDataDTO parseAIResponse(String aiResponse) {
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> callOpenAI(String callSite, Map<String, Object> requestBody) {
+        Mono<Map> call = webClient.post()
+                .uri(openaiBaseUrl + "/chat/completions")
+                .header("Authorization", "Bearer " + openaiApiKey)
+                .header("Content-Type", "application/json")
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(Map.class);
+
+        Map<String, Object> response = resilience.execute(callSite, MODEL, () -> call).block();
+        if (response != null && response.get("usage") instanceof Map<?, ?> usage) {
+            metrics.recordUsage(callSite, MODEL, tokenCount(usage.get("prompt_tokens")),
+                    tokenCount(usage.get("completion_tokens")));
+        }
+        return response;
+    }
+
+    private static Integer tokenCount(Object value) {
+        return value instanceof Number number ? number.intValue() : null;
+    }
+
+    private ResumeDataDTO parseAIResponse(String callSite, String aiResponse) {
         try {
             // Extract JSON from the response (handle markdown code blocks)
             String jsonContent = aiResponse;
@@ -319,6 +341,7 @@ public class ResumeParserService {
             return dto;
         } catch (Exception e) {
             log.error("Error parsing AI response: {}", e.getMessage());
+            metrics.recordParseFailure(callSite);
             // Fallback to regex
             return new ResumeDataDTO();
         }
@@ -0,0 +1,480 @@
+package com.profiling.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.profiling.dto.EvaluationResult;
+import com.profiling.dto.UserProfile;
+import com.profiling.model.ChatConversation;
+import com.profiling.model.SpeculativeEvaluation;
+import com.profiling.util.AnswerQualityUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Evaluates career chatbot answers stage by stage while the chat is still running, so the
+ * final /api/evaluate does not wait on one large completion over all 15 answers.
+ *
+ * When a turn finishes a 5-question stage (other than the last), that stage's answers are
+ * evaluated on a small background pool and stored in {@code chat_evaluations}. At the end the
+ * stage evaluations are folded into a draft (interests weighted by answer count, lists merged)
+ * and one reconciliation call adds the last stage and the fields that need the whole picture;
+ * the merged interests are normalized once. The result is stored too, so asking again with
+ * unchanged answers is served without a model call.
+ *
+ * Every stored evaluation carries a fingerprint of the profile and answers it was computed
+ * from. If any stage is missing or stale (edited answers, a failed or rejected background
+ * call, a stage still running after {@code wait-ms}) the full single-call evaluation is used.
+ */
+@Service
+public class SpeculativeEvaluationService {
+
+    private static final Logger log = LoggerFactory.getLogger(SpeculativeEvaluationService.class);
+
+    static final int QUESTIONS_PER_STAGE = 5;
+    static final int MAX_QUESTIONS = 15;
+    private static final List<String> PIE_CHART_LABELS =
+            List.of("Tech", "Design", "Management", "Entrepreneurship", "Research");
+
+    private final MongoTemplate mongoTemplate;
+    private final OpenAIService openAIService;
+    private final EvaluationService evaluationService;
+    private final MeterRegistry registry;
+    private final Executor executor;
+    private final boolean enabled;
+    private final long waitMillis;
+    private final Duration ttl;
+    private final Clock clock;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SpeculativeEvaluationService(
+            MongoTemplate mongoTemplate,
+            OpenAIService openAIService,
+            EvaluationService evaluationService,
+            MeterRegistry registry,
+            @Value("${app.evaluation.speculative.enabled:true}") boolean enabled,
+            @Value("${app.evaluation.speculative.threads:2}") int threads,
+            @Value("${app.evaluation.speculative.queue-capacity:100}") int queueCapacity,
+            @Value("${app.evaluation.speculative.wait-ms:20000}") long waitMillis,
+            @Value("${app.chat.conversation.ttl-hours:24}") long ttlHours) {
+        this(mongoTemplate, openAIService, evaluationService, registry, stagePool(threads, queueCapacity),
+                enabled, waitMillis, Duration.ofHours(ttlHours), Clock.systemUTC());
+    }
+
+    SpeculativeEvaluationService(MongoTemplate mongoTemplate, OpenAIService openAIService,
+                                 EvaluationService evaluationService, MeterRegistry registry, Executor executor,
+                                 boolean enabled, long waitMillis, Duration ttl, Clock clock) {
+        this.mongoTemplate = mongoTemplate;
+        this.openAIService = openAIService;
+        this.evaluationService = evaluationService;
+        this.registry = registry;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.waitMillis = waitMillis;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    private static ExecutorService stagePool(int threads, int queueCapacity) {
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "speculative-eval-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor instanceof ExecutorService service) {
+            service.shutdown();
+        }
+    }
+
+    /**
+     * Starts evaluating {@code stage} of the conversation in the background. Never throws: a
+     * stage that cannot be evaluated only means the final evaluation takes the full path.
+     */
+    public void stageCompleted(ChatConversation conversation, int stage) {
+        Map<String, String> profile = conversation.getProfile();
+        if (!enabled || profile == null) {
+            return;
+        }
+        Map<String, String> stageAnswers = stageAnswers(conversation.getQuestions(), conversation.answers(), stage);
+        if (stageAnswers.isEmpty()) {
+            return;
+        }
+        String key = conversation.getId() + ":" + stage;
+        try {
+            CompletableFuture<Void> task = CompletableFuture.runAsync(
+                    () -> evaluateStage(conversation.getId(), conversation.getUserId(), stage, profile, stageAnswers),
+                    executor);
+            inFlight.put(key, task);
+            task.whenComplete((ignored, error) -> inFlight.remove(key, task));
+        } catch (RejectedExecutionException e) {
+            log.debug("Speculative evaluation pool full, skipping stage {} of {}", stage, conversation.getId());
+            countStage("rejected");
+        }
+    }
+
+    private void evaluateStage(String conversationId, String userId, int stage,
+                               Map<String, String> profile, Map<String, String> stageAnswers) {
+        try {
+            Map<String, String> invalidAnswers = AnswerQualityUtils.collectInvalidAnswers(stageAnswers);
+            String json = openAIService.evaluateInterests(profile, stageAnswers, invalidAnswers);
+            // Fail here rather than at the end if the stage evaluation cannot be used
+            evaluationService.toResult(json, invalidAnswers);
+            Instant now = clock.instant();
+            store(conversationId, userId, "stages." + stage,
+                    new SpeculativeEvaluation.Entry(fingerprint(profile, stageAnswers), json, stageAnswers.size(), now));
+            countStage("success");
+        } catch (RuntimeException e) {
+            log.warn("Speculative evaluation of stage {} of conversation {} failed: {}",
+                    stage, conversationId, e.getMessage());
+            countStage("failed");
+        }
+    }
+
+    /**
+     * Evaluates the answers of a chatbot conversation, reusing the stage evaluations computed
+     * during the chat when they still match the answers.
+     */
+    public EvaluationResult evaluate(UserProfile userProfile, Map<String, String> answers,
+                                     String conversationId, String userId) {
+        evaluationService.validate(userProfile, answers);
+        ChatConversation conversation = enabled ? mongoTemplate.findById(conversationId, ChatConversation.class) : null;
+        // Someone else's conversation is evaluated like one without speculative results
+        if (conversation == null || !Objects.equals(conversation.getUserId(), userId)) {
+            count("full");
+            return evaluationService.evaluate(userProfile, answers);
+        }
+
+        Map<String, String> profile = evaluationService.profileToMap(userProfile);
+        String fingerprint = fingerprint(profile, answers);
+        SpeculativeEvaluation speculative = mongoTemplate.findById(conversationId, SpeculativeEvaluation.class);
+        EvaluationResult cached = cachedResult(speculative, fingerprint);
+        if (cached != null) {
+            count("cached");
+            return cached;
+        }
+
+        int lastStage = lastStage(conversation.getQuestions());
+        if (awaitStages(conversationId, lastStage)) {
+            speculative = mongoTemplate.findById(conversationId, SpeculativeEvaluation.class);
+        }
+        EvaluationResult result = reconcile(speculative, conversation.getQuestions(), lastStage, profile, answers);
+        if (result != null) {
+            count("reconciled");
+        } else {
+            count("full");
+            result = evaluationService.evaluate(userProfile, answers);
+        }
+        storeResult(conversationId, userId, fingerprint, answers.size(), result);
+        return result;
+    }
+
+    private EvaluationResult cachedResult(SpeculativeEvaluation speculative, String fingerprint) {
+        if (speculative == null || speculative.getResult() == null
+                || !fingerprint.equals(speculative.getResult().getFingerprint())) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(speculative.getResult().getJson(), EvaluationResult.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring unreadable cached evaluation {}: {}", speculative.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Waits, up to {@code wait-ms} in total, for stage evaluations still running on this node.
+     * Returns true if there were any.
+     */
+    private boolean awaitStages(String conversationId, int lastStage) {
+        List<CompletableFuture<Void>> running = new ArrayList<>();
+        for (int stage = 1; stage < lastStage; stage++) {
+            CompletableFuture<Void> task = inFlight.get(conversationId + ":" + stage);
+            if (task != null) {
+                running.add(task);
+            }
+        }
+        if (running.isEmpty()) {
+            return false;
+        }
+        try {
+            CompletableFuture.allOf(running.toArray(CompletableFuture[]::new)).get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.info("Stage evaluations of {} still running after {} ms", conversationId, waitMillis);
+        } catch (ExecutionException e) {
+            log.debug("Stage evaluation of {} failed: {}", conversationId, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return true;
+    }
+
+    /**
+     * Folds the stage evaluations and reconciles them with the last stage's answers, or returns
+     * null if that is not possible.
+     */
+    private EvaluationResult reconcile(SpeculativeEvaluation speculative, List<String> questions, int lastStage,
+                                       Map<String, String> profile, Map<String, String> answers) {
+        if (speculative == null || lastStage < 2) {
+            return null;
+        }
+        List<EvaluationResult> partials = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        Map<String, String> finalAnswers = new LinkedHashMap<>(answers);
+        for (int stage = 1; stage < lastStage; stage++) {
+            Map<String, String> stageAnswers = stageAnswers(questions, answers, stage);
+            if (stageAnswers.isEmpty()) {
+                continue;
+            }
+            SpeculativeEvaluation.Entry entry = speculative.getStages().get(String.valueOf(stage));
+            if (entry == null || !fingerprint(profile, stageAnswers).equals(entry.getFingerprint())) {
+                log.debug("Stage {} of {} has no current evaluation", stage, speculative.getId());
+                return null;
+            }
+            partials.add(evaluationService.toResult(entry.getJson(), Map.of()));
+            weights.add(stageAnswers.size());
+            stageAnswers.keySet().forEach(finalAnswers::remove);
+        }
+        if (partials.isEmpty() || finalAnswers.isEmpty()) {
+            return null;
+        }
+
+        try {
+            EvaluationResult result = fold(partials, weights);
+            String reconciliationJson = openAIService.reconcileEvaluation(profile,
+                    objectMapper.writeValueAsString(draftJson(result)), finalAnswers,
+                    AnswerQualityUtils.collectInvalidAnswers(finalAnswers));
+            EvaluationResult finalStage = evaluationService.toResult(reconciliationJson, Map.of());
+
+            int draftWeight = weights.stream().mapToInt(Integer::intValue).sum();
+            applyInterests(result, List.of(result.getInterests(), finalStage.getInterests()),
+                    List.of(draftWeight, finalAnswers.size()));
+            if (finalStage.getInterestPersona() != null) {
+                result.setInterestPersona(finalStage.getInterestPersona());
+            }
+            if (finalStage.getStrengths() != null && !finalStage.getStrengths().isEmpty()) {
+                result.setStrengths(finalStage.getStrengths());
+            }
+            if (finalStage.getRecommendedRoles() != null && !finalStage.getRecommendedRoles().isEmpty()) {
+                result.setRecommendedRoles(finalStage.getRecommendedRoles());
+            }
+            if (finalStage.getRoadmap90Days() != null) {
+                result.setRoadmap90Days(finalStage.getRoadmap90Days());
+            }
+            if (finalStage.getSummary() != null) {
+                result.setSummary(finalStage.getSummary());
+            }
+            result.setInvalidAnswers(AnswerQualityUtils.collectInvalidAnswers(answers));
+            return result;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Evaluation reconciliation for {} failed, evaluating all answers: {}",
+                    speculative.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Draft from the stage evaluations: interests averaged by answer count, lists merged in
+     * stage order without duplicates, texts from the latest stage.
+     */
+    static EvaluationResult fold(List<EvaluationResult> partials, List<Integer> weights) {
+        EvaluationResult draft = new EvaluationResult();
+        draft.setPieChartLabels(PIE_CHART_LABELS);
+        applyInterests(draft, partials.stream().map(EvaluationResult::getInterests).toList(), weights);
+        EvaluationResult latest = partials.get(partials.size() - 1);
+        draft.setInterestPersona(latest.getInterestPersona());
+        draft.setRoadmap90Days(latest.getRoadmap90Days());
+        draft.setSummary(latest.getSummary());
+        draft.setStrengths(merge(partials, EvaluationResult::getStrengths, 3));
+        draft.setWeaknesses(merge(partials, EvaluationResult::getWeaknesses, 3));
+        draft.setDos(merge(partials, EvaluationResult::getDos, 4));
+        draft.setDonts(merge(partials, EvaluationResult::getDonts, 3));
+        draft.setRecommendedRoles(merge(partials, EvaluationResult::getRecommendedRoles, 3));
+        draft.setSuggestedCourses(merge(partials, EvaluationResult::getSuggestedCourses, 4));
+        draft.setProjectIdeas(merge(partials, EvaluationResult::getProjectIdeas, 3));
+        return draft;
+    }
+
+    private static void applyInterests(EvaluationResult result, List<Map<String, Double>> interests,
+                                       List<Integer> weights) {
+        Map<String, Double> weighted = new HashMap<>();
+        for (int i = 0; i < interests.size(); i++) {
+            if (interests.get(i) == null) {
+                continue;
+            }
+            int weight = weights.get(i);
+            interests.get(i).forEach((category, score) -> weighted.merge(category, score * weight, Double::sum));
+        }
+        EvaluationService.applyInterests(result, weighted);
+    }
+
+    /**
+     * Takes the stages' items in turn, so every stage is represented within {@code max}.
+     */
+    private static List<String> merge(List<EvaluationResult> partials, Function<EvaluationResult, List<String>> field,
+                                      int max) {
+        Set<String> seen = new LinkedHashSet<>();
+        List<String> merged = new ArrayList<>();
+        for (int position = 0; merged.size() < max; position++) {
+            boolean any = false;
+            for (EvaluationResult partial : partials) {
+                List<String> items = field.apply(partial);
+                if (items != null && position < items.size()) {
+                    any = true;
+                    String item = items.get(position);
+                    if (merged.size() < max && seen.add(item.trim().toLowerCase())) {
+                        merged.add(item);
+                    }
+                }
+            }
+            if (!any) {
+                break;
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * The draft in the evaluateInterests JSON format the reconciliation prompt refers to.
+     */
+    private static Map<String, Object> draftJson(EvaluationResult draft) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("interests", draft.getInterests());
+        json.put("interest_persona", draft.getInterestPersona());
+        json.put("strengths", draft.getStrengths());
+        json.put("weaknesses", draft.getWeaknesses());
+        json.put("dos", draft.getDos());
+        json.put("donts", draft.getDonts());
+        json.put("recommended_roles", draft.getRecommendedRoles());
+        json.put("roadmap_90_days", draft.getRoadmap90Days());
+        json.put("suggested_courses", draft.getSuggestedCourses());
+        json.put("project_ideas", draft.getProjectIdeas());
+        json.put("summary", draft.getSummary());
+        return json;
+    }
+
+    /**
+     * Answers to the questions of {@code stage}, including follow-up (WHY) answers, in question order.
+     */
+    static Map<String, String> stageAnswers(List<String> questions, Map<String, String> answers, int stage) {
+        Map<String, String> stageAnswers = new LinkedHashMap<>();
+        int from = (stage - 1) * QUESTIONS_PER_STAGE;
+        int to = Math.min(from + QUESTIONS_PER_STAGE, Math.min(questions.size(), MAX_QUESTIONS));
+        for (int i = from; i < to; i++) {
+            for (String key : List.of(questions.get(i), questions.get(i) + " [WHY]")) {
+                String answer = answers.get(key);
+                if (answer != null) {
+                    stageAnswers.put(key, answer);
+                }
+            }
+        }
+        return stageAnswers;
+    }
+
+    static int lastStage(List<String> questions) {
+        int asked = Math.min(questions.size(), MAX_QUESTIONS);
+        return asked == 0 ? 0 : (asked - 1) / QUESTIONS_PER_STAGE + 1;
+    }
+
+    static String fingerprint(Map<String, String> profile, Map<String, String> answers) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Map<String, String> map : List.of(profile, answers)) {
+                new TreeMap<>(map).forEach((key, value) -> {
+                    digest.update(key.getBytes(StandardCharsets.UTF_8));
+                    digest.update((byte) 0);
+                    digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+                    digest.update((byte) 0);
+                });
+                digest.update((byte) 1);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private void storeResult(String conversationId, String userId, String fingerprint, int answerCount,
+                             EvaluationResult result) {
+        try {
+            store(conversationId, userId, "result", new SpeculativeEvaluation.Entry(fingerprint,
+                    objectMapper.writeValueAsString(result), answerCount, clock.instant()));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Could not cache evaluation of {}: {}", conversationId, e.getMessage());
+        }
+    }
+
+    private void store(String conversationId, String userId, String field, SpeculativeEvaluation.Entry entry) {
+        Update update = new Update()
+                .set("userId", userId)
+                .set(field, entry)
+                .set("expiresAt", clock.instant().plus(ttl));
+        mongoTemplate.upsert(new Query(where("_id").is(conversationId)), update, SpeculativeEvaluation.class);
+    }
+
+    private void count(String result) {
+        Counter.builder("evaluation.speculative.requests")
+                .description("Chatbot evaluations by how they were produced")
+                .tag("result", result)
+                .register(registry)
+                .increment();
+    }
+
+    private void countStage(String outcome) {
+        Counter.builder("evaluation.speculative.stages")
+                .description("Background evaluations of finished chatbot stages")
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+}
@@ -0,0 +1,329 @@
+package com.profiling.service.psychometric;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.mongodb.client.result.UpdateResult;
+import com.profiling.dto.psychometric.AnswerBatchRequest.AnswerDelta;
+import com.profiling.dto.psychometric.AnswerBatchResponse;
+import com.profiling.exception.NotFoundException;
+import com.profiling.model.psychometric.Answer;
+import com.profiling.model.psychometric.PsychometricSession;
+import com.profiling.model.psychometric.Question;
+import com.profiling.model.psychometric.RunningScores;
+import com.profiling.model.psychometric.SessionStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Incremental answer autosave with server-side running scores.
+ *
+ * A batch of answer changes is applied to the session's answer sheet and running scores in
+ * one conditional update guarded by {@code answerVersion} (optimistic concurrency: on a
+ * concurrent write the batch is re-read and re-applied). Changes are ordered by client
+ * timestamp and one older than the stored answer is dropped, so retried or reordered
+ * batches are harmless. Submission then only snapshots the sheet and the counters.
+ *
+ * Only READY and IN_PROGRESS sessions take answers; anything else (still generating,
+ * submitted, expired, failed) is a 409. The question list cannot change once a session is
+ * open, so it is kept in memory per session and batches read only the answer sheet.
+ */
+@Service
+public class AnswerAutosaveService {
+
+    private static final Logger log = LoggerFactory.getLogger(AnswerAutosaveService.class);
+
+    static final int MAX_ATTEMPTS = 5;
+
+    static final Set<SessionStatus> OPEN = EnumSet.of(SessionStatus.READY, SessionStatus.IN_PROGRESS);
+
+    private final MongoTemplate mongoTemplate;
+    private final ScoringService scoringService;
+    private final Clock clock;
+    private final long answerKeyTtlMillis;
+    private final int answerKeyMaxEntries;
+    private final Map<String, AnswerKey> answerKeys = new ConcurrentHashMap<>();
+    private final Counter saved;
+    private final Counter conflicts;
+
+    @Autowired
+    public AnswerAutosaveService(MongoTemplate mongoTemplate, ScoringService scoringService, MeterRegistry registry,
+            @Value("${app.sessions.answer-key-cache-ttl-minutes:180}") long answerKeyTtlMinutes,
+            @Value("${app.sessions.answer-key-cache-max-entries:5000}") int answerKeyMaxEntries) {
+        this(mongoTemplate, scoringService, registry, Clock.systemUTC(), answerKeyTtlMinutes * 60_000L,
+                answerKeyMaxEntries);
+    }
+
+    AnswerAutosaveService(MongoTemplate mongoTemplate, ScoringService scoringService, MeterRegistry registry,
+            Clock clock, long answerKeyTtlMillis, int answerKeyMaxEntries) {
+        this.mongoTemplate = mongoTemplate;
+        this.scoringService = scoringService;
+        this.clock = clock;
+        this.answerKeyTtlMillis = answerKeyTtlMillis;
+        this.answerKeyMaxEntries = answerKeyMaxEntries;
+        this.saved = Counter.builder("sessions.answers.saved")
+                .description("Answer changes applied by autosave and submit")
+                .register(registry);
+        this.conflicts = Counter.builder("sessions.answers.conflicts")
+                .description("Answer batches and submissions re-applied after a concurrent write to the same session")
+                .register(registry);
+    }
+
+    public AnswerBatchResponse saveAnswers(String sessionId, List<AnswerDelta> deltas) {
+        List<AnswerDelta> ordered = new ArrayList<>(deltas);
+        Instant now = clock.instant();
+        ordered.sort(Comparator.comparing(delta -> delta.getTimestamp() != null ? delta.getTimestamp() : now));
+
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            PsychometricSession session = load(sessionId);
+            requireOpen(sessionId, session.getStatus());
+            Map<String, Question> questions = answerKey(session).byId();
+            Map<String, Answer> sheet = session.getAnswerSheet() != null ? session.getAnswerSheet() : new HashMap<>();
+            RunningScores scores = session.getRunningScores() != null ? session.getRunningScores() : new RunningScores();
+
+            Update update = new Update();
+            int applied = 0;
+            for (AnswerDelta delta : ordered) {
+                Question question = questions.get(delta.getQuestionId());
+                if (question == null) {
+                    log.debug("Ignoring answer to unknown question {} in session {}", delta.getQuestionId(), sessionId);
+                    continue;
+                }
+                Instant answeredAt = delta.getTimestamp() != null ? delta.getTimestamp() : now;
+                Answer previous = sheet.get(question.getId());
+                if (previous != null && (Objects.equals(previous.getSelectedOptionIndex(), delta.getSelectedOptionIndex())
+                        || previous.getAnsweredAt() != null && answeredAt.isBefore(previous.getAnsweredAt()))) {
+                    continue;
+                }
+                if (previous == null && delta.getSelectedOptionIndex() == null) {
+                    continue;
+                }
+                scoringService.applyAnswer(scores, question, previous != null ? previous.getSelectedOptionIndex() : null, -1);
+                scoringService.applyAnswer(scores, question, delta.getSelectedOptionIndex(), 1);
+
+                Answer answer = new Answer();
+                answer.setQuestionId(question.getId());
+                answer.setSelectedOptionIndex(delta.getSelectedOptionIndex());
+                answer.setAnsweredAt(answeredAt);
+                sheet.put(question.getId(), answer);
+                update.set("answerSheet." + question.getId(), answer);
+                applied++;
+            }
+
+            long version = session.getAnswerVersion() != null ? session.getAnswerVersion() : 0;
+            if (applied == 0) {
+                return new AnswerBatchResponse(0, answered(sheet), version);
+            }
+            update.set("runningScores", scores).inc("answerVersion", 1).set("updatedAt", now);
+            UpdateResult result = mongoTemplate.updateFirst(
+                    new Query(where("_id").is(sessionId)
+                            .and("answerVersion").is(session.getAnswerVersion())
+                            .and("status").in(OPEN)),
+                    update, PsychometricSession.class);
+            if (result.getModifiedCount() == 1) {
+                saved.increment(applied);
+                return new AnswerBatchResponse(applied, answered(sheet), version + 1);
+            }
+            conflicts.increment();
+        }
+        throw new ResponseStatusException(HttpStatus.CONFLICT,
+                "Answers for session " + sessionId + " are being saved concurrently; retry");
+    }
+
+    /**
+     * Applies the answers sent with the submission (normally only those changed since the last
+     * autosave) and completes the session. Submitting an already completed session returns
+     * its stored results; a session that is not open is a 409.
+     */
+    public PsychometricSession.TestResults submit(String sessionId, List<Answer> answers, int markedForReview,
+            int answeredAndMarkedForReview, String submittedAt) {
+        List<AnswerDelta> deltas = new ArrayList<>();
+        if (answers != null) {
+            for (Answer answer : answers) {
+                if (answer.getQuestionId() != null) {
+                    deltas.add(new AnswerDelta(answer.getQuestionId(), answer.getSelectedOptionIndex(),
+                            answer.getAnsweredAt()));
+                }
+            }
+        }
+        if (!deltas.isEmpty() && status(sessionId) != SessionStatus.COMPLETED) {
+            saveAnswers(sessionId, deltas);
+        }
+        return finalizeSession(sessionId, markedForReview, answeredAndMarkedForReview, submittedAt);
+    }
+
+    /**
+     * Completes the session: copies the answer sheet into {@code answers} in question order
+     * and derives the test results from the running scores, without rescoring. Only the
+     * review marks, which exist only in the browser, come from the client. The update is
+     * guarded by {@code answerVersion} like an autosave, so an autosave that lands between the
+     * read and the write makes finalize re-read instead of dropping that answer.
+     */
+    public PsychometricSession.TestResults finalizeSession(String sessionId, int markedForReview,
+            int answeredAndMarkedForReview, String submittedAt) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            PsychometricSession session = load(sessionId);
+            PsychometricSession.TestResults results = testResults(session, markedForReview, answeredAndMarkedForReview,
+                    submittedAt);
+            if (session.getStatus() == SessionStatus.COMPLETED) {
+                log.info("Session {} was already submitted", sessionId);
+                answerKeys.remove(sessionId);
+                return session.getTestResults() != null ? session.getTestResults() : results;
+            }
+            requireOpen(sessionId, session.getStatus());
+
+            Map<String, Answer> sheet = session.getAnswerSheet() != null ? session.getAnswerSheet() : Map.of();
+            List<Answer> answers = new ArrayList<>(sheet.size());
+            for (Question question : session.getQuestions()) {
+                Answer answer = sheet.get(question.getId());
+                if (answer != null) {
+                    answers.add(answer);
+                }
+            }
+            UpdateResult result = mongoTemplate.updateFirst(
+                    new Query(where("_id").is(sessionId)
+                            .and("answerVersion").is(session.getAnswerVersion())
+                            .and("status").in(OPEN)),
+                    new Update()
+                            .set("status", SessionStatus.COMPLETED)
+                            .set("answers", answers)
+                            .set("testResults", results)
+                            .set("runningScores", session.getRunningScores() != null
+                                    ? session.getRunningScores() : new RunningScores())
+                            .set("updatedAt", clock.instant()),
+                    PsychometricSession.class);
+            if (result.getModifiedCount() == 1) {
+                answerKeys.remove(sessionId);
+                return results;
+            }
+            conflicts.increment();
+        }
+        throw new ResponseStatusException(HttpStatus.CONFLICT,
+                "Answers for session " + sessionId + " are being saved concurrently; retry");
+    }
+
+    /**
+     * Objective results (aptitude and domain; the behavioral section has no right answer).
+     */
+    static PsychometricSession.TestResults testResults(PsychometricSession session, int markedForReview,
+            int answeredAndMarkedForReview, String submittedAt) {
+        int total = 0;
+        for (Question question : session.getQuestions()) {
+            if (question.getSectionNumber() != 2) {
+                total++;
+            }
+        }
+        RunningScores scores = session.getRunningScores() != null ? session.getRunningScores() : new RunningScores();
+        int attempted = scores.section(1).getAttempted() + scores.section(3).getAttempted();
+        int correct = scores.section(1).getCorrect() + scores.section(3).getCorrect();
+        return new PsychometricSession.TestResults(total, attempted, total - attempted, correct, attempted - correct,
+                markedForReview, answeredAndMarkedForReview, submittedAt);
+    }
+
+    /**
+     * Reads what a batch needs. The question list is only projected when this node has no
+     * answer key for the session yet.
+     */
+    private PsychometricSession load(String sessionId) {
+        AnswerKey cached = answerKeys.get(sessionId);
+        boolean fresh = cached != null && clock.millis() - cached.loadedAt() < answerKeyTtlMillis;
+        Query query = new Query(where("_id").is(sessionId));
+        query.fields().include("status", "answerSheet", "runningScores", "answerVersion", "testResults");
+        if (!fresh) {
+            query.fields().include("questions");
+        }
+        PsychometricSession session = mongoTemplate.findOne(query, PsychometricSession.class);
+        if (session == null) {
+            throw new NotFoundException("Session not found: " + sessionId);
+        }
+        if (fresh) {
+            session.setQuestions(cached.questions());
+        } else if (session.getQuestions() == null) {
+            session.setQuestions(List.of());
+        }
+        return session;
+    }
+
+    private SessionStatus status(String sessionId) {
+        Query query = new Query(where("_id").is(sessionId));
+        query.fields().include("status");
+        PsychometricSession session = mongoTemplate.findOne(query, PsychometricSession.class);
+        if (session == null) {
+            throw new NotFoundException("Session not found: " + sessionId);
+        }
+        return session.getStatus();
+    }
+
+    /**
+     * Returns the session's questions by id, keeping them for later batches while the
+     * session is open.
+     */
+    private AnswerKey answerKey(PsychometricSession session) {
+        AnswerKey cached = answerKeys.get(session.getId());
+        if (cached != null && cached.questions() == session.getQuestions()) {
+            return cached;
+        }
+        Map<String, Question> byId = new LinkedHashMap<>();
+        for (Question question : session.getQuestions()) {
+            byId.put(question.getId(), question);
+        }
+        AnswerKey key = new AnswerKey(session.getQuestions(), byId, clock.millis());
+        if (OPEN.contains(session.getStatus()) && session.getId() != null) {
+            if (answerKeys.size() >= answerKeyMaxEntries) {
+                long now = clock.millis();
+                answerKeys.values().removeIf(entry -> now - entry.loadedAt() >= answerKeyTtlMillis);
+            }
+            if (answerKeys.size() < answerKeyMaxEntries) {
+                answerKeys.put(session.getId(), key);
+            }
+        }
+        return key;
+    }
+
+    private static void requireOpen(String sessionId, SessionStatus status) {
+        if (status == SessionStatus.COMPLETED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Session " + sessionId + " is already submitted");
+        }
+        if (!OPEN.contains(status)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Session " + sessionId + " is not open for answers (" + status + ")");
+        }
+    }
+
+    private static int answered(Map<String, Answer> sheet) {
+        int answered = 0;
+        for (Answer answer : sheet.values()) {
+            if (answer.getSelectedOptionIndex() != null) {
+                answered++;
+            }
+        }
+        return answered;
+    }
+
+    private record AnswerKey(List<Question> questions, Map<String, Question> byId, long loadedAt) {
+    }
+}
@@ -1,32 +1,71 @@
 package com.profiling.service.psychometric;
 
-import java.io.ByteArrayOutputStream;
+import java.awt.Color;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.multipdf.PDFMergerUtility;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
+import com.profiling.exception.ServiceUnavailableException;
 import com.profiling.model.psychometric.Answer;
 import com.profiling.model.psychometric.PsychometricSession;
 import com.profiling.model.psychometric.Question;
 import com.profiling.model.psychometric.UserInfo;
+import com.profiling.service.PdfRenderingService;
 
 /**
  * Service to generate PDF containing all psychometric test questions with user responses
  */
 @Service
 public class AnswersPdfService {
+
+    private static final Logger log = LoggerFactory.getLogger(AnswersPdfService.class);
     
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MMMM dd, yyyy")
             .withZone(ZoneId.systemDefault());
+
+    /** Built once and shared by every answers render. */
+    private static final String STYLES = buildStyles();
+
+    private static final float PAGE_NUMBER_FONT_SIZE = 9f;
+    private static final Color PAGE_NUMBER_COLOR = new Color(102, 102, 102); // #666666
+
+    private final PdfRenderingService pdfRenderingService;
+    private final int chunkSize;
+    private final long mergeMaxMemoryBytes;
+
+    @Autowired
+    public AnswersPdfService(
+            PdfRenderingService pdfRenderingService,
+            @Value("${app.pdf.answers.chunk-size:40}") int chunkSize,
+            @Value("${app.pdf.answers.merge-max-memory-bytes:16777216}") long mergeMaxMemoryBytes) {
+        this.pdfRenderingService = pdfRenderingService;
+        this.chunkSize = chunkSize > 0 ? chunkSize : Integer.MAX_VALUE;
+        this.mergeMaxMemoryBytes = mergeMaxMemoryBytes;
+    }
     
     /**
-     * Generate a PDF with all questions and user's answers
+     * Generate a PDF with all questions and user's answers.
+     * 
+     * The questions are split into chunks of at least {@code app.pdf.answers.chunk-size}, no more
+     * chunks than the PDF render pool has threads, which are rendered concurrently and merged in
+     * order. Page numbers are stamped on the merged document so they run across chunks.
      * 
      * @param session The psychometric session containing questions and answers
      * @return PDF bytes
@@ -34,102 +73,145 @@ public class AnswersPdfService {
      */
     public byte[] generateAnswersPdf(PsychometricSession session) throws IOException {
         try {
-            System.out.println("=== ANSWERS PDF GENERATION START ===");
-            System.out.println("Session ID: " + session.getId());
-            System.out.println("Session Status: " + session.getStatus());
-            
             // Validate session data
             if (session.getQuestions() == null) {
-                System.err.println("ERROR: Session has null questions list");
                 throw new IOException("Session has no questions data");
             }
             
-            System.out.println("Questions count: " + session.getQuestions().size());
-            
-            if (session.getAnswers() == null) {
-                System.out.println("WARNING: Session has null answers list, will show all as unanswered");
-            } else {
-                System.out.println("Answers count: " + session.getAnswers().size());
-            }
-            
             if (session.getUserInfo() == null) {
-                System.err.println("ERROR: Session has null userInfo");
                 throw new IOException("Session has no user information");
             }
             
-            System.out.println("User: " + session.getUserInfo().getName());
-            System.out.println("Generating HTML content...");
-            
-            String htmlContent = generateHtmlContent(session);
-            System.out.println("HTML generated successfully, length: " + htmlContent.length() + " characters");
-            
-            // Debug: Print first 500 characters of HTML
-            System.out.println("HTML preview: " + htmlContent.substring(0, Math.min(500, htmlContent.length())));
-            
-            System.out.println("Creating PDF builder...");
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            PdfRendererBuilder builder = new PdfRendererBuilder();
-            builder.useFastMode();
-            builder.withHtmlContent(htmlContent, null);
-            builder.toStream(outputStream);
-            
-            System.out.println("Running PDF renderer...");
-            builder.run();
+            if (session.getAnswers() == null) {
+                log.debug("Session {} has no answers list, all questions will show as unanswered", session.getId());
+            }
             
-            byte[] result = outputStream.toByteArray();
-            System.out.println("=== PDF GENERATED SUCCESSFULLY ===");
-            System.out.println("PDF size: " + result.length + " bytes");
+            List<String> chunks = generateHtmlChunks(session);
+            List<byte[]> renderedChunks = pdfRenderingService.renderHtmlAll("answers-chunk", chunks);
+            byte[] result = pdfRenderingService.render("answers",
+                    outputStream -> mergeWithPageNumbers(renderedChunks, outputStream));
+            log.debug("Generated answers PDF for session {}: {} questions in {} chunks, {} bytes",
+                    session.getId(), session.getQuestions().size(), chunks.size(), result.length);
             return result;
             
+        } catch (ServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
-            System.err.println("=== ERROR GENERATING ANSWERS PDF ===");
-            System.err.println("Error type: " + e.getClass().getName());
-            System.err.println("Error message: " + e.getMessage());
-            System.err.println("Stack trace:");
-            e.printStackTrace();
+            log.error("Error generating answers PDF for session {}", session.getId(), e);
             throw new IOException("Failed to generate answers PDF: " + e.getMessage(), e);
         }
     }
     
-    private String generateHtmlContent(PsychometricSession session) {
-        StringBuilder html = new StringBuilder();
-        
-        html.append("<!DOCTYPE html>\n");
-        html.append("<html>\n");
-        html.append("<head>\n");
-        html.append("<meta charset='UTF-8'/>\n");
-        html.append("<style>\n");
-        html.append(getStyles());
-        html.append("</style>\n");
-        html.append("</head>\n");
-        html.append("<body>\n");
+    /**
+     * One HTML document per chunk. The candidate header opens the first chunk; a chunk that
+     * starts inside a section repeats the section header marked as continued.
+     */
+    List<String> generateHtmlChunks(PsychometricSession session) {
+        List<String> chunks = new ArrayList<>();
         
         // Create answer lookup map
         Map<String, Answer> answerMap = createAnswerMap(session.getAnswers());
         
+        // More chunks than render threads would only add merge work
+        int questionCount = session.getQuestions().size();
+        int threads = pdfRenderingService.getThreads();
+        int perChunk = Math.max(chunkSize, (questionCount + threads - 1) / threads);
+        
         // Header
-        html.append(generateHeader(session));
+        StringBuilder body = new StringBuilder(generateHeader(session));
+        int inChunk = 0;
         
         // Group questions by section
         Map<Integer, List<Question>> questionsBySection = groupQuestionsBySection(session.getQuestions());
         
-        // Generate content for each section
         for (int sectionNum = 1; sectionNum <= 3; sectionNum++) {
-            if (questionsBySection.containsKey(sectionNum)) {
-                html.append(generateSectionContent(
-                    sectionNum, 
-                    questionsBySection.get(sectionNum), 
-                    answerMap
-                ));
+            List<Question> questions = questionsBySection.get(sectionNum);
+            if (questions == null) {
+                continue;
+            }
+            if (inChunk >= perChunk) {
+                chunks.add(wrapDocument(body));
+                body = new StringBuilder();
+                inChunk = 0;
+            }
+            body.append(generateSectionHeader(sectionNum, false));
+            for (int i = 0; i < questions.size(); i++) {
+                if (inChunk >= perChunk) {
+                    chunks.add(wrapDocument(body));
+                    body = new StringBuilder(generateSectionHeader(sectionNum, true));
+                    inChunk = 0;
+                }
+                Question question = questions.get(i);
+                body.append(generateQuestionBlock(i + 1, question, answerMap.get(question.getId())));
+                inChunk++;
             }
         }
+        chunks.add(wrapDocument(body));
         
+        return chunks;
+    }
+    
+    private String wrapDocument(CharSequence body) {
+        StringBuilder html = new StringBuilder(body.length() + STYLES.length() + 200);
+        
+        html.append("<!DOCTYPE html>\n");
+        html.append("<html>\n");
+        html.append("<head>\n");
+        html.append("<meta charset='UTF-8'/>\n");
+        html.append("<style>\n");
+        html.append(STYLES);
+        html.append("</style>\n");
+        html.append("</head>\n");
+        html.append("<body>\n");
+        html.append(body);
         html.append("</body>\n");
         html.append("</html>\n");
         
         return html.toString();
     }
     
+    /**
+     * Appends the rendered chunks with PDFMergerUtility and numbers the pages of the result.
+     * Documents beyond {@code app.pdf.answers.merge-max-memory-bytes} spill to temp files.
+     */
+    private void mergeWithPageNumbers(List<byte[]> chunks, OutputStream outputStream) throws IOException {
+        PDFMergerUtility merger = new PDFMergerUtility();
+        List<PDDocument> sources = new ArrayList<>(chunks.size());
+        try (PDDocument merged = new PDDocument(MemoryUsageSetting.setupMixed(mergeMaxMemoryBytes))) {
+            for (byte[] chunk : chunks) {
+                PDDocument source = PDDocument.load(chunk, "", null, null,
+                        MemoryUsageSetting.setupMixed(mergeMaxMemoryBytes));
+                sources.add(source);
+                merger.appendDocument(merged, source);
+            }
+            addPageNumbers(merged);
+            merged.save(outputStream);
+        } finally {
+            for (PDDocument source : sources) {
+                source.close();
+            }
+        }
+    }
+    
+    private void addPageNumbers(PDDocument document) throws IOException {
+        int total = document.getNumberOfPages();
+        int pageNumber = 0;
+        for (PDPage page : document.getPages()) {
+            pageNumber++;
+            String label = "Page " + pageNumber + " of " + total;
+            float width = PDType1Font.HELVETICA.getStringWidth(label) / 1000 * PAGE_NUMBER_FONT_SIZE;
+            try (PDPageContentStream content = new PDPageContentStream(document, page,
+                    PDPageContentStream.AppendMode.APPEND, true, true)) {
+                content.beginText();
+                content.setFont(PDType1Font.HELVETICA, PAGE_NUMBER_FONT_SIZE);
+                content.setNonStrokingColor(PAGE_NUMBER_COLOR);
+                content.newLineAtOffset((page.getMediaBox().getWidth() - width) / 2, 30);
+                content.showText(label);
+                content.endText();
+            }
+        }
+    }
+    
     private String generateHeader(PsychometricSession session) {
         StringBuilder html = new StringBuilder();
         UserInfo userInfo = session.getUserInfo();
@@ -162,20 +244,18 @@ public class AnswersPdfService {
         return html.toString();
     }
     
-    private String generateSectionContent(int sectionNum, List<Question> questions, Map<String, Answer> answerMap) {
+    private String generateSectionHeader(int sectionNum, boolean continued) {
         StringBuilder html = new StringBuilder();
         
         String sectionName = getSectionName(sectionNum);
         
         html.append("<div class='section-header'>\n");
-        html.append("  <h2>Section ").append(sectionNum).append(": ").append(sectionName).append("</h2>\n");
-        html.append("</div>\n");
-        
-        int questionNum = 1;
-        for (Question question : questions) {
-            html.append(generateQuestionBlock(questionNum, question, answerMap.get(question.getId())));
-            questionNum++;
+        html.append("  <h2>Section ").append(sectionNum).append(": ").append(sectionName);
+        if (continued) {
+            html.append(" (continued)");
         }
+        html.append("</h2>\n");
+        html.append("</div>\n");
         
         return html.toString();
     }
@@ -304,7 +384,7 @@ public class AnswersPdfService {
         if (questions != null) {
             for (Question question : questions) {
                 int section = question.getSectionNumber();
-                grouped.computeIfAbsent(section, k -> new java.util.ArrayList<>()).add(question);
+                grouped.computeIfAbsent(section, k -> new ArrayList<>()).add(question);
             }
         }
         return grouped;
@@ -321,7 +401,7 @@ public class AnswersPdfService {
             .replace("\n", "<br/>");
     }
     
-    private String getStyles() {
+    private static String buildStyles() {
         StringBuilder css = new StringBuilder();
         css.append("@page { size: A4; margin: 20mm; }\n");
         css.append("body { font-family: Arial, sans-serif; font-size: 11pt; line-height: 1.6; color: #1a1a1a; }\n");
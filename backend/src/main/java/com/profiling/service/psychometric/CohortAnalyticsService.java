@@ -0,0 +1,505 @@
+package com.profiling.service.psychometric;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.profiling.exception.BadRequestException;
+import com.profiling.model.psychometric.CohortRollup;
+import com.profiling.model.psychometric.PsychometricReport;
+import com.profiling.model.psychometric.PsychometricSession;
+import com.profiling.model.psychometric.RunningScores;
+import com.profiling.model.psychometric.SessionStatus;
+import com.profiling.model.psychometric.UserInfo;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Cohort statistics kept as rollup documents in {@code cohort_rollups}.
+ *
+ * Each lifecycle event of a session (created, submitted, reported) adds its counters to the
+ * rollups of every dimension value of the session ("all", career interest, degree) for its
+ * creation day, month and all time, in one unordered bulk upsert. Reads are a lookup by id
+ * (or an indexed query over the values of one bucket), independent of the number of sessions.
+ *
+ * An event is counted at most once per session: the event name is claimed in the session's
+ * {@code analyticsRecorded} with the same conditional update that reads the fields it needs,
+ * and released again if the rollup write then fails. Live events are recorded on a small background pool; events dropped there (queue full,
+ * node stopped) and sessions that predate the rollups are picked up by {@link #backfill()},
+ * which streams the sessions still missing an event through a cursor with a projection.
+ */
+@Service
+public class CohortAnalyticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(CohortAnalyticsService.class);
+
+    static final List<String> DIMENSIONS = List.of("all", "careerInterest", "degree");
+    static final List<String> GRANULARITIES = List.of("day", "month", "all");
+    static final int MAX_SERIES_BUCKETS = 366;
+    static final int MAX_VALUES = 100;
+    private static final int MAX_VALUE_LENGTH = 100;
+
+    /** Lifecycle events counted in the funnel, with the session state that makes them countable. */
+    enum Event {
+        CREATED("created"),
+        SUBMITTED("submitted"),
+        REPORTED("reported");
+
+        final String key;
+
+        Event(String key) {
+            this.key = key;
+        }
+
+        Criteria unrecorded(String sessionId) {
+            Criteria criteria = where("_id").is(sessionId).and("analyticsRecorded").ne(key);
+            return switch (this) {
+                case CREATED -> criteria;
+                case SUBMITTED -> criteria.and("status").is(SessionStatus.COMPLETED);
+                case REPORTED -> criteria.and("report.content").exists(true);
+            };
+        }
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry registry;
+    private final Executor executor;
+    private final Executor backfillExecutor;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Clock clock;
+    private final AtomicBoolean backfillRunning = new AtomicBoolean();
+
+    @Autowired
+    public CohortAnalyticsService(
+            MongoTemplate mongoTemplate,
+            MeterRegistry registry,
+            @Value("${app.analytics.enabled:true}") boolean enabled,
+            @Value("${app.analytics.threads:1}") int threads,
+            @Value("${app.analytics.queue-capacity:1000}") int queueCapacity,
+            @Value("${app.analytics.backfill.batch-size:500}") int batchSize) {
+        this(mongoTemplate, registry, recordingPool(threads, queueCapacity), Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cohort-backfill");
+            thread.setDaemon(true);
+            return thread;
+        }), enabled, batchSize, Clock.systemUTC());
+    }
+
+    CohortAnalyticsService(MongoTemplate mongoTemplate, MeterRegistry registry, Executor executor,
+                           Executor backfillExecutor, boolean enabled, int batchSize, Clock clock) {
+        this.mongoTemplate = mongoTemplate;
+        this.registry = registry;
+        this.executor = executor;
+        this.backfillExecutor = backfillExecutor;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.clock = clock;
+    }
+
+    private static ExecutorService recordingPool(int threads, int queueCapacity) {
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cohort-analytics-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor instanceof ExecutorService service) {
+            service.shutdown();
+        }
+        if (backfillExecutor instanceof ExecutorService service) {
+            service.shutdownNow();
+        }
+    }
+
+    public void sessionCreated(String sessionId) {
+        recordLater(sessionId, Event.CREATED);
+    }
+
+    public void sessionSubmitted(String sessionId) {
+        recordLater(sessionId, Event.SUBMITTED);
+    }
+
+    public void reportStored(String sessionId) {
+        recordLater(sessionId, Event.REPORTED);
+    }
+
+    private void recordLater(String sessionId, Event event) {
+        if (!enabled || sessionId == null) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    record(sessionId, event);
+                } catch (DataAccessException e) {
+                    log.warn("Recording {} of session {} in the cohort rollups failed: {}", event.key, sessionId,
+                            e.getMessage());
+                    countEvent(event, "failed");
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Left unclaimed, so the next backfill counts it
+            countEvent(event, "rejected");
+        }
+    }
+
+    /**
+     * Claims the event on the session and adds it to the rollups. Returns false when the event
+     * was already counted or the session is not (yet) in a state where it applies.
+     */
+    boolean record(String sessionId, Event event) {
+        Query claim = new Query(event.unrecorded(sessionId));
+        claim.fields().include("userInfo.careerInterest", "userInfo.degree", "createdAt");
+        if (event == Event.SUBMITTED) {
+            claim.fields().include("runningScores.categories");
+        } else if (event == Event.REPORTED) {
+            claim.fields().include("report.content.aptitudeScore", "report.content.behavioralScore",
+                    "report.content.domainScore", "report.content.overallScore", "report.content.performanceBucket",
+                    "report.content.openness", "report.content.conscientiousness", "report.content.extraversion",
+                    "report.content.agreeableness", "report.content.neuroticism");
+        }
+        PsychometricSession session = mongoTemplate.findAndModify(claim,
+                new Update().addToSet("analyticsRecorded", event.key), PsychometricSession.class);
+        if (session == null) {
+            countEvent(event, "skipped");
+            return false;
+        }
+
+        Instant now = clock.instant();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CohortRollup.class);
+        for (String[] cohort : cohorts(session)) {
+            for (String granularity : GRANULARITIES) {
+                String bucket = bucket(granularity, createdAt(session));
+                bulk.upsert(new Query(where("_id").is(rollupId(cohort[0], granularity, bucket, cohort[1]))),
+                        counters(session, event)
+                                .set("updatedAt", now)
+                                .setOnInsert("dimension", cohort[0])
+                                .setOnInsert("value", cohort[1])
+                                .setOnInsert("granularity", granularity)
+                                .setOnInsert("bucket", bucket));
+            }
+        }
+        try {
+            bulk.execute();
+        } catch (DataAccessException e) {
+            release(sessionId, event);
+            throw e;
+        }
+        countEvent(event, "recorded");
+        return true;
+    }
+
+    /**
+     * Takes back the claim of an event whose rollup write failed, so the next backfill counts
+     * it. Rollups the failed bulk did update are then counted twice for this session.
+     */
+    private void release(String sessionId, Event event) {
+        try {
+            mongoTemplate.updateFirst(new Query(where("_id").is(sessionId)),
+                    new Update().pull("analyticsRecorded", event.key), PsychometricSession.class);
+        } catch (DataAccessException e) {
+            log.warn("Releasing the {} claim of session {} failed, it will not be backfilled: {}", event.key,
+                    sessionId, e.getMessage());
+        }
+    }
+
+    /**
+     * The {@code $inc} of one event, the same for every rollup the session belongs to.
+     */
+    static Update counters(PsychometricSession session, Event event) {
+        Update update = new Update().inc("funnel." + event.key, 1);
+        if (event == Event.SUBMITTED && session.getRunningScores() != null) {
+            for (Map.Entry<String, RunningScores.CategoryTally> entry : session.getRunningScores().getCategories().entrySet()) {
+                RunningScores.CategoryTally tally = entry.getValue();
+                // The behavioral section has no right answers, so it has no weak categories either
+                if (tally.getSectionNumber() == 2 || tally.getAttempted() == 0) {
+                    continue;
+                }
+                String field = "categories." + entry.getKey();
+                update.inc(field + ".attempted", tally.getAttempted())
+                        .inc(field + ".correct", tally.getCorrect())
+                        .set(field + ".sectionNumber", tally.getSectionNumber())
+                        .set(field + ".category", tally.getCategory());
+            }
+        } else if (event == Event.REPORTED && session.getReport() != null && session.getReport().getContent() != null) {
+            PsychometricReport report = session.getReport().getContent();
+            score(update, "aptitude", report.getAptitudeScore());
+            score(update, "behavioral", report.getBehavioralScore());
+            score(update, "domain", report.getDomainScore());
+            score(update, "overall", report.getOverallScore());
+            trait(update, "openness", report.getOpenness());
+            trait(update, "conscientiousness", report.getConscientiousness());
+            trait(update, "extraversion", report.getExtraversion());
+            trait(update, "agreeableness", report.getAgreeableness());
+            trait(update, "neuroticism", report.getNeuroticism());
+            if (report.getPerformanceBucket() != null && !report.getPerformanceBucket().isBlank()) {
+                update.inc("performance." + report.getPerformanceBucket().replace('.', '_').replace('$', '_'), 1);
+            }
+        }
+        return update;
+    }
+
+    private static void score(Update update, String section, Double value) {
+        if (value != null && !value.isNaN()) {
+            update.inc("scores." + section + ".sum", value).inc("scores." + section + ".count", 1);
+        }
+    }
+
+    private static void trait(Update update, String trait, Integer value) {
+        if (value != null) {
+            int band = Math.max(0, Math.min(9, value / 10)) * 10;
+            update.inc("bigFive." + trait + "." + band, 1);
+        }
+    }
+
+    /**
+     * Records every event still missing from the rollups, streaming the sessions concerned
+     * with only the fields needed to tell which events apply. Returns the number recorded.
+     */
+    public long backfill() {
+        Query query = new Query(new Criteria().orOperator(
+                where("analyticsRecorded").ne(Event.CREATED.key),
+                where("status").is(SessionStatus.COMPLETED).and("analyticsRecorded").ne(Event.SUBMITTED.key),
+                where("report.content").exists(true).and("analyticsRecorded").ne(Event.REPORTED.key)));
+        query.fields().include("status", "analyticsRecorded", "report.version");
+        query.cursorBatchSize(batchSize);
+
+        long recorded = 0;
+        long scanned = 0;
+        try (Stream<PsychometricSession> sessions = mongoTemplate.stream(query, PsychometricSession.class)) {
+            for (PsychometricSession session : (Iterable<PsychometricSession>) sessions::iterator) {
+                if (Thread.currentThread().isInterrupted()) {
+                    log.info("Cohort backfill interrupted after {} sessions", scanned);
+                    break;
+                }
+                scanned++;
+                List<String> done = session.getAnalyticsRecorded() != null
+                        ? List.copyOf(session.getAnalyticsRecorded()) : List.of();
+                for (Event event : Event.values()) {
+                    boolean applies = event == Event.CREATED
+                            || event == Event.SUBMITTED && session.getStatus() == SessionStatus.COMPLETED
+                            || event == Event.REPORTED && session.getReport() != null;
+                    if (!applies || done.contains(event.key)) {
+                        continue;
+                    }
+                    try {
+                        if (record(session.getId(), event)) {
+                            recorded++;
+                        }
+                    } catch (DataAccessException e) {
+                        // Released again, so the next backfill retries it
+                        log.warn("Backfilling {} of session {} failed: {}", event.key, session.getId(), e.getMessage());
+                        countEvent(event, "failed");
+                    }
+                }
+            }
+        }
+        log.info("Cohort backfill scanned {} sessions and recorded {} events", scanned, recorded);
+        return recorded;
+    }
+
+    /**
+     * Starts {@link #backfill()} in the background; false if one is already running on this node.
+     */
+    public boolean startBackfill() {
+        if (!backfillRunning.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            backfillExecutor.execute(() -> {
+                try {
+                    backfill();
+                } catch (DataAccessException e) {
+                    log.warn("Cohort backfill failed: {}", e.getMessage());
+                } finally {
+                    backfillRunning.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            backfillRunning.set(false);
+            return false;
+        }
+        return true;
+    }
+
+    public boolean isBackfillRunning() {
+        return backfillRunning.get();
+    }
+
+    /**
+     * The rollup of one cohort value and bucket.
+     */
+    public Optional<CohortRollup> find(String dimension, String value, String granularity, String bucket) {
+        validate(dimension, granularity);
+        String normalized = "all".equals(dimension) ? "all" : normalize(value);
+        return Optional.ofNullable(mongoTemplate.findById(
+                rollupId(dimension, granularity, validBucket(granularity, bucket), normalized), CohortRollup.class));
+    }
+
+    /**
+     * The largest cohorts of a dimension in one bucket, by sessions created.
+     */
+    public List<CohortRollup> cohorts(String dimension, String granularity, String bucket, int limit) {
+        validate(dimension, granularity);
+        Query query = new Query(where("dimension").is(dimension).and("granularity").is(granularity)
+                .and("bucket").is(validBucket(granularity, bucket)))
+                .with(Sort.by(Sort.Direction.DESC, "funnel.created"))
+                .limit(Math.max(1, Math.min(limit, MAX_VALUES)));
+        return mongoTemplate.find(query, CohortRollup.class);
+    }
+
+    /**
+     * Daily or monthly rollups of one cohort value from {@code from} to {@code to}, inclusive,
+     * fetched by id. Buckets without sessions are left out.
+     */
+    public List<CohortRollup> series(String dimension, String value, String granularity, String from, String to) {
+        validate(dimension, granularity);
+        if ("all".equals(granularity)) {
+            throw new BadRequestException("A series needs the day or month granularity");
+        }
+        List<String> buckets = new ArrayList<>();
+        try {
+            if ("day".equals(granularity)) {
+                for (LocalDate day = LocalDate.parse(from); !day.isAfter(LocalDate.parse(to))
+                        && buckets.size() <= MAX_SERIES_BUCKETS; day = day.plusDays(1)) {
+                    buckets.add(day.toString());
+                }
+            } else {
+                for (YearMonth month = YearMonth.parse(from); !month.isAfter(YearMonth.parse(to))
+                        && buckets.size() <= MAX_SERIES_BUCKETS; month = month.plusMonths(1)) {
+                    buckets.add(month.toString());
+                }
+            }
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new BadRequestException("from and to must be " + ("day".equals(granularity) ? "yyyy-MM-dd" : "yyyy-MM"));
+        }
+        if (buckets.size() > MAX_SERIES_BUCKETS) {
+            throw new BadRequestException("A series covers at most " + MAX_SERIES_BUCKETS + " buckets");
+        }
+        String normalized = "all".equals(dimension) ? "all" : normalize(value);
+        List<String> ids = buckets.stream().map(bucket -> rollupId(dimension, granularity, bucket, normalized)).toList();
+        Map<String, CohortRollup> byId = new LinkedHashMap<>();
+        ids.forEach(id -> byId.put(id, null));
+        mongoTemplate.find(new Query(where("_id").in(ids)), CohortRollup.class)
+                .forEach(rollup -> byId.put(rollup.getId(), rollup));
+        return byId.values().stream().filter(Objects::nonNull).toList();
+    }
+
+    private static void validate(String dimension, String granularity) {
+        if (!DIMENSIONS.contains(dimension)) {
+            throw new BadRequestException("Unknown dimension " + dimension + "; expected one of " + DIMENSIONS);
+        }
+        if (!GRANULARITIES.contains(granularity)) {
+            throw new BadRequestException("Unknown granularity " + granularity + "; expected one of " + GRANULARITIES);
+        }
+    }
+
+    private static String validBucket(String granularity, String bucket) {
+        if ("all".equals(granularity)) {
+            return "all";
+        }
+        try {
+            return "day".equals(granularity) ? LocalDate.parse(bucket).toString() : YearMonth.parse(bucket).toString();
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new BadRequestException("bucket must be " + ("day".equals(granularity) ? "yyyy-MM-dd" : "yyyy-MM"));
+        }
+    }
+
+    /**
+     * (dimension, value) pairs of the cohorts a session belongs to.
+     */
+    static List<String[]> cohorts(PsychometricSession session) {
+        UserInfo userInfo = session.getUserInfo();
+        return List.of(
+                new String[] {"all", "all"},
+                new String[] {"careerInterest", normalize(userInfo != null ? userInfo.getCareerInterest() : null)},
+                new String[] {"degree", normalize(userInfo != null ? userInfo.getDegree() : null)});
+    }
+
+    static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return "unspecified";
+        }
+        String normalized = value.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        return normalized.length() > MAX_VALUE_LENGTH ? normalized.substring(0, MAX_VALUE_LENGTH) : normalized;
+    }
+
+    static String bucket(String granularity, Instant time) {
+        return switch (granularity) {
+            case "day" -> LocalDate.ofInstant(time, ZoneOffset.UTC).toString();
+            case "month" -> YearMonth.from(time.atZone(ZoneOffset.UTC)).toString();
+            default -> "all";
+        };
+    }
+
+    static String rollupId(String dimension, String granularity, String bucket, String value) {
+        return dimension + "|" + granularity + "|" + bucket + "|" + value;
+    }
+
+    /**
+     * Sessions written before auditing have no createdAt; the ObjectId carries it.
+     */
+    private Instant createdAt(PsychometricSession session) {
+        if (session.getCreatedAt() != null) {
+            return session.getCreatedAt();
+        }
+        if (session.getId() != null && ObjectId.isValid(session.getId())) {
+            return new ObjectId(session.getId()).getDate().toInstant();
+        }
+        return clock.instant();
+    }
+
+    private void countEvent(Event event, String outcome) {
+        Counter.builder("analytics.cohort.events")
+                .description("Session lifecycle events offered to the cohort rollups")
+                .tag("event", event.key)
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+}
@@ -0,0 +1,216 @@
+package com.profiling.service.psychometric;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.profiling.model.psychometric.GenerationJob;
+import com.profiling.model.psychometric.GenerationJobStatus;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * MongoDB-backed queue of question-generation jobs shared by all backend instances.
+ *
+ * A worker claims a job with a single findAndModify that flips it to RUNNING and gives
+ * the worker a lease; while it works it renews the lease with {@link #heartbeat}. A job
+ * whose lease expires (the node died or stalled) is claimable again. Failed attempts
+ * are retried with exponential backoff and jitter, and after {@code maxAttempts} the job
+ * is dead-lettered (status DEAD) and left in the collection for inspection.
+ */
+@Component
+public class GenerationJobQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(GenerationJobQueue.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration leaseDuration;
+    private final int maxAttempts;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final Clock clock;
+
+    @Autowired
+    public GenerationJobQueue(
+            MongoTemplate mongoTemplate,
+            @Value("${app.generation.queue.lease-seconds:120}") long leaseSeconds,
+            @Value("${app.generation.queue.max-attempts:4}") int maxAttempts,
+            @Value("${app.generation.queue.backoff-base-ms:2000}") long backoffBaseMs,
+            @Value("${app.generation.queue.backoff-max-ms:60000}") long backoffMaxMs) {
+        this(mongoTemplate, Duration.ofSeconds(leaseSeconds), maxAttempts,
+                Duration.ofMillis(backoffBaseMs), Duration.ofMillis(backoffMaxMs), Clock.systemUTC());
+    }
+
+    GenerationJobQueue(MongoTemplate mongoTemplate, Duration leaseDuration, int maxAttempts,
+                       Duration backoffBase, Duration backoffMax, Clock clock) {
+        this.mongoTemplate = mongoTemplate;
+        this.leaseDuration = leaseDuration;
+        this.maxAttempts = maxAttempts;
+        this.backoffBase = backoffBase;
+        this.backoffMax = backoffMax;
+        this.clock = clock;
+    }
+
+    public Duration getLeaseDuration() {
+        return leaseDuration;
+    }
+
+    /**
+     * Queues one job per section. Sections that already have a job are skipped, so this
+     * is safe to call again for the same session.
+     */
+    public int enqueue(String sessionId, List<Integer> sectionNumbers, String traceId) {
+        return enqueue(sessionId, sectionNumbers, traceId, Duration.ZERO);
+    }
+
+    /**
+     * Like {@link #enqueue(String, List, String)}, but the jobs only become claimable after
+     * {@code delay}; used by admission control to hold sessions in the waiting room.
+     */
+    public int enqueue(String sessionId, List<Integer> sectionNumbers, String traceId, Duration delay) {
+        int created = 0;
+        Instant now = clock.instant();
+        for (Integer sectionNumber : sectionNumbers) {
+            GenerationJob job = new GenerationJob(sessionId, sectionNumber, maxAttempts, now);
+            job.setAvailableAt(now.plus(delay));
+            job.setTraceId(traceId);
+            try {
+                mongoTemplate.insert(job);
+                created++;
+            } catch (DuplicateKeyException e) {
+                log.debug("Generation job for session {} section {} already exists", sessionId, sectionNumber);
+            }
+        }
+        return created;
+    }
+
+    /**
+     * Atomically claims the oldest job that is due, or one whose lease has expired.
+     */
+    public Optional<GenerationJob> claim(String workerId) {
+        Instant now = clock.instant();
+        Query query = new Query(new Criteria().orOperator(
+                where("status").is(GenerationJobStatus.PENDING).and("availableAt").lte(now),
+                where("status").is(GenerationJobStatus.RUNNING).and("leaseExpiresAt").lte(now)))
+                .with(Sort.by(Sort.Direction.ASC, "availableAt"));
+        Update update = new Update()
+                .set("status", GenerationJobStatus.RUNNING)
+                .set("leaseOwner", workerId)
+                .set("leaseExpiresAt", now.plus(leaseDuration))
+                .inc("attempts", 1);
+        GenerationJob job = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), GenerationJob.class);
+        return Optional.ofNullable(job);
+    }
+
+    /**
+     * Extends the lease. Returns false when the worker no longer owns the job, in which case
+     * it should stop and let the current owner finish.
+     */
+    public boolean heartbeat(GenerationJob job, String workerId) {
+        return mongoTemplate.updateFirst(ownedBy(job, workerId),
+                new Update().set("leaseExpiresAt", clock.instant().plus(leaseDuration)),
+                GenerationJob.class).getModifiedCount() > 0;
+    }
+
+    public void complete(GenerationJob job, String workerId) {
+        mongoTemplate.updateFirst(ownedBy(job, workerId), new Update()
+                .set("status", GenerationJobStatus.DONE)
+                .set("completedAt", clock.instant())
+                .unset("leaseOwner")
+                .unset("leaseExpiresAt"),
+                GenerationJob.class);
+    }
+
+    /**
+     * Records a failed attempt and schedules a retry, or dead-letters the job once it has
+     * used all its attempts. Returns true if the job was dead-lettered.
+     */
+    public boolean fail(GenerationJob job, String workerId, Throwable error) {
+        String message = truncate(error.getClass().getSimpleName() + ": " + error.getMessage());
+        boolean dead = job.getAttempts() >= job.getMaxAttempts();
+        Update update = new Update()
+                .set("lastError", message)
+                .unset("leaseOwner")
+                .unset("leaseExpiresAt");
+        if (dead) {
+            update.set("status", GenerationJobStatus.DEAD).set("completedAt", clock.instant());
+        } else {
+            update.set("status", GenerationJobStatus.PENDING)
+                    .set("availableAt", clock.instant().plus(backoff(job.getAttempts())));
+        }
+        boolean updated = mongoTemplate.updateFirst(ownedBy(job, workerId), update, GenerationJob.class)
+                .getModifiedCount() > 0;
+        return updated && dead;
+    }
+
+    /**
+     * Dead-letters a job that was claimed again after it had already used all its attempts,
+     * e.g. because every attempt ended with the worker's node dying.
+     */
+    public void deadLetter(GenerationJob job, String workerId, String reason) {
+        mongoTemplate.updateFirst(ownedBy(job, workerId), new Update()
+                .set("status", GenerationJobStatus.DEAD)
+                .set("lastError", truncate(reason))
+                .set("completedAt", clock.instant())
+                .unset("leaseOwner")
+                .unset("leaseExpiresAt"),
+                GenerationJob.class);
+    }
+
+    /**
+     * Puts a job the worker could not finish (e.g. on shutdown) back in the queue right away,
+     * without counting the attempt.
+     */
+    public void release(GenerationJob job, String workerId) {
+        mongoTemplate.updateFirst(ownedBy(job, workerId), new Update()
+                .set("status", GenerationJobStatus.PENDING)
+                .set("availableAt", clock.instant())
+                .inc("attempts", -1)
+                .unset("leaseOwner")
+                .unset("leaseExpiresAt"),
+                GenerationJob.class);
+    }
+
+    public List<GenerationJob> findBySessionIds(List<String> sessionIds) {
+        return mongoTemplate.find(new Query(where("sessionId").in(sessionIds)), GenerationJob.class);
+    }
+
+    /**
+     * Delay after failed attempt {@code attempt}: drawn from the upper half of
+     * min(base * 2^(attempt - 1), max), so retries from a burst of failures spread out.
+     */
+    Duration backoff(int attempt) {
+        long base = backoffBase.toMillis() << Math.min(Math.max(attempt - 1, 0), 20);
+        long capped = Math.min(base, backoffMax.toMillis());
+        long jitter = capped > 1 ? ThreadLocalRandom.current().nextLong(capped / 2 + 1) : 0;
+        return Duration.ofMillis(capped / 2 + jitter);
+    }
+
+    private Query ownedBy(GenerationJob job, String workerId) {
+        return new Query(where("_id").is(job.getId())
+                .and("status").is(GenerationJobStatus.RUNNING)
+                .and("leaseOwner").is(workerId));
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -1,6 +1,5 @@
 package com.profiling.service.psychometric;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -8,27 +7,25 @@ import java.util.List;
 
 import org.springframework.stereotype.Service;
 
-import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
 import com.profiling.model.psychometric.PsychometricReport;
 import com.profiling.model.psychometric.UserInfo;
+import com.profiling.service.PdfRenderingService;
 
 @Service
 public class PdfReportService {
+
+    private final PdfRenderingService pdfRenderingService;
+
+    public PdfReportService(PdfRenderingService pdfRenderingService) {
+        this.pdfRenderingService = pdfRenderingService;
+    }
     
     /**
      * Generate a 2-page PDF report from PsychometricReport
      */
     public byte[] generatePdfReport(PsychometricReport report) throws IOException {
         String htmlContent = generateHtmlReport(report);
-        
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        PdfRendererBuilder builder = new PdfRendererBuilder();
-        builder.useFastMode();
-        builder.withHtmlContent(htmlContent, null);
-        builder.toStream(outputStream);
-        builder.run();
-        
-        return outputStream.toByteArray();
+        return pdfRenderingService.renderHtml("psychometric-report", htmlContent);
     }
     
     private String generateHtmlReport(PsychometricReport report) {
@@ -36,9 +33,9 @@ public class PdfReportService {
         html.append("<!DOCTYPE html>\n");
         html.append("<html>\n");
         html.append("<head>\n");
-        html.append("<meta charset='UTF-8'>\n");
+        html.append("<meta charset='UTF-8'/>\n");
         html.append("<style>\n");
-        html.append(getReportStyles());
+        html.append(REPORT_STYLES);
         html.append("</style>\n");
         html.append("</head>\n");
         html.append("<body>\n");
@@ -500,7 +497,7 @@ public class PdfReportService {
         content.append("<li>Candidate Performance</li>\n");
         content.append("<li>Job Fit analysis summary</li>\n");
         content.append("<li>Comparative analysis</li>\n");
-        content.append("<li>Proctoring & Integrity check</li>\n");
+        content.append("<li>Proctoring &amp; Integrity check</li>\n");
         content.append("<li>Resume validation</li>\n");
         content.append("<li>Hiring recommendation</li>\n");
         content.append("<li>Psychometric analysis</li>\n");
@@ -552,8 +549,8 @@ public class PdfReportService {
         return chart.toString();
     }
     
-    private String getReportStyles() {
-        return """
+    /** Built once and shared by every report render. */
+    private static final String REPORT_STYLES = """
             * {
                 margin: 0;
                 padding: 0;
@@ -1016,7 +1013,6 @@ public class PdfReportService {
                 color: #4CAF50;
             }
             """;
-    }
     
     private String escapeHtml(String text) {
         if (text == null) return "";
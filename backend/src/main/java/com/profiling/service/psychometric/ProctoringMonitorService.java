@@ -0,0 +1,296 @@
+package com.profiling.service.psychometric;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.MessageListener;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.profiling.dto.psychometric.ProctoringMonitorUpdate;
+import com.profiling.model.psychometric.ProctoringViolation;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Live proctoring monitor.
+ *
+ * Keeps a rolling window of violations per session in memory and pushes the sessions
+ * that changed since the last tick to every connected proctor dashboard over SSE, so
+ * one connection covers all candidates without polling.
+ *
+ * In a single-node deployment violations are recorded as they are accepted. With
+ * {@code app.proctoring.monitor.change-stream.enabled=true} every node instead consumes
+ * the insert change stream of {@code proctoring_violations}, so each node sees the
+ * violations written by all of them (requires a replica set).
+ */
+@Service
+public class ProctoringMonitorService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProctoringMonitorService.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final long windowMillis;
+    private final long emitterTimeoutMillis;
+    private final boolean changeStreamEnabled;
+    private final Clock clock;
+
+    private final Map<String, SessionWindow> sessions = new ConcurrentHashMap<>();
+    private final Set<String> dirtySessions = ConcurrentHashMap.newKeySet();
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private MessageListenerContainer changeStreamContainer;
+    private volatile long lastSentAt;
+
+    @Autowired
+    public ProctoringMonitorService(
+            MongoTemplate mongoTemplate,
+            @Value("${app.proctoring.monitor.window-seconds:300}") long windowSeconds,
+            @Value("${app.proctoring.monitor.emitter-timeout-minutes:60}") long emitterTimeoutMinutes,
+            @Value("${app.proctoring.monitor.change-stream.enabled:false}") boolean changeStreamEnabled) {
+        this(mongoTemplate, windowSeconds, emitterTimeoutMinutes, changeStreamEnabled, Clock.systemUTC());
+    }
+
+    ProctoringMonitorService(MongoTemplate mongoTemplate, long windowSeconds, long emitterTimeoutMinutes,
+                             boolean changeStreamEnabled, Clock clock) {
+        this.mongoTemplate = mongoTemplate;
+        this.windowMillis = windowSeconds * 1000L;
+        this.emitterTimeoutMillis = emitterTimeoutMinutes * 60_000L;
+        this.changeStreamEnabled = changeStreamEnabled;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!changeStreamEnabled) {
+            return;
+        }
+        changeStreamContainer = new DefaultMessageListenerContainer(mongoTemplate);
+        MessageListener<ChangeStreamDocument<Document>, ProctoringViolation> listener = message -> {
+            if (message.getBody() != null) {
+                record(message.getBody());
+            }
+        };
+        ChangeStreamRequest<ProctoringViolation> request = ChangeStreamRequest.builder(listener)
+                .collection("proctoring_violations")
+                .filter(newAggregation(match(where("operationType").is("insert"))))
+                .build();
+        changeStreamContainer.register(request, ProctoringViolation.class);
+        changeStreamContainer.start();
+        log.info("Proctoring monitor consuming the proctoring_violations change stream");
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (changeStreamContainer != null) {
+            changeStreamContainer.stop();
+        }
+        emitters.forEach(SseEmitter::complete);
+    }
+
+    /**
+     * Records violations accepted on this node. Ignored when the change stream is the source,
+     * since every insert will arrive through it.
+     */
+    public void recordAccepted(Collection<ProctoringViolation> violations) {
+        if (changeStreamEnabled) {
+            return;
+        }
+        violations.forEach(this::record);
+    }
+
+    void record(ProctoringViolation violation) {
+        if (violation.getSessionId() == null) {
+            return;
+        }
+        long now = clock.millis();
+        // Added inside compute so it cannot race with broadcast() dropping an emptied window
+        sessions.compute(violation.getSessionId(), (id, window) -> {
+            SessionWindow target = window != null ? window : new SessionWindow(id);
+            target.add(now, violation.getUserId(), violation.getViolationType(), severityWeight(violation.getSeverity()));
+            return target;
+        });
+        dirtySessions.add(violation.getSessionId());
+    }
+
+    /**
+     * Opens a dashboard stream. The first event is a {@code snapshot} of every session in
+     * the window; afterwards only {@code delta} events for sessions that changed are sent.
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+
+        try {
+            emitter.send(SseEmitter.event().name("snapshot").data(snapshot()));
+        } catch (IOException e) {
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    public List<ProctoringMonitorUpdate> snapshot() {
+        List<ProctoringMonitorUpdate> updates = new ArrayList<>();
+        for (SessionWindow window : sessions.values()) {
+            // Expiry is left to broadcast() so that removals still go out as deltas
+            ProctoringMonitorUpdate update = window.toUpdate();
+            if (update.getTotal() > 0) {
+                updates.add(update);
+            }
+        }
+        updates.sort((a, b) -> Integer.compare(b.getRiskScore(), a.getRiskScore()));
+        return updates;
+    }
+
+    public int getSubscriberCount() {
+        return emitters.size();
+    }
+
+    /**
+     * Expires old events and pushes the sessions that changed since the last tick.
+     */
+    @Scheduled(fixedDelayString = "${app.proctoring.monitor.broadcast-interval-ms:1000}")
+    public void broadcast() {
+        long now = clock.millis();
+        long cutoff = now - windowMillis;
+
+        // Sessions whose oldest events fell out of the window changed too
+        sessions.values().forEach(window -> {
+            if (window.expire(cutoff)) {
+                dirtySessions.add(window.sessionId);
+            }
+        });
+
+        List<ProctoringMonitorUpdate> deltas = new ArrayList<>();
+        for (String sessionId : List.copyOf(dirtySessions)) {
+            dirtySessions.remove(sessionId);
+            SessionWindow window = sessions.get(sessionId);
+            if (window == null) {
+                continue;
+            }
+            ProctoringMonitorUpdate update = window.toUpdate();
+            deltas.add(update);
+            if (update.getTotal() == 0) {
+                sessions.computeIfPresent(sessionId, (id, current) -> current.isEmpty() ? null : current);
+            }
+        }
+
+        if (emitters.isEmpty()) {
+            return;
+        }
+        if (!deltas.isEmpty()) {
+            send(() -> SseEmitter.event().name("delta").data(deltas));
+        } else if (now - lastSentAt > 15_000) {
+            // Keeps idle connections from being closed by proxies
+            send(() -> SseEmitter.event().comment("keep-alive"));
+        }
+    }
+
+    /**
+     * Sends an event to every subscriber. A builder appends its terminating line each time it
+     * is sent, so every emitter gets one of its own.
+     */
+    private void send(Supplier<SseEmitter.SseEventBuilder> event) {
+        lastSentAt = clock.millis();
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(event.get());
+            } catch (IOException | IllegalStateException e) {
+                emitters.remove(emitter);
+            }
+        }
+    }
+
+    static int severityWeight(String severity) {
+        if (severity == null) {
+            return 2;
+        }
+        switch (severity.toUpperCase()) {
+            case "LOW":
+                return 1;
+            case "HIGH":
+                return 4;
+            case "CRITICAL":
+                return 8;
+            default:
+                return 2;
+        }
+    }
+
+    private static final class SessionWindow {
+        private final String sessionId;
+        private final Deque<Event> events = new ArrayDeque<>();
+        private final Map<String, Long> byType = new TreeMap<>();
+        private String userId;
+        private int riskScore;
+
+        SessionWindow(String sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        synchronized void add(long at, String userId, String type, int weight) {
+            String key = type != null ? type : "UNKNOWN";
+            if (userId != null) {
+                this.userId = userId;
+            }
+            events.addLast(new Event(at, key, weight));
+            byType.merge(key, 1L, Long::sum);
+            riskScore += weight;
+        }
+
+        synchronized boolean isEmpty() {
+            return events.isEmpty();
+        }
+
+        synchronized boolean expire(long cutoff) {
+            boolean changed = false;
+            while (!events.isEmpty() && events.peekFirst().at() < cutoff) {
+                Event event = events.removeFirst();
+                byType.computeIfPresent(event.type(), (k, v) -> v > 1 ? v - 1 : null);
+                riskScore -= event.weight();
+                changed = true;
+            }
+            return changed;
+        }
+
+        synchronized ProctoringMonitorUpdate toUpdate() {
+            Instant last = events.isEmpty() ? null : Instant.ofEpochMilli(events.peekLast().at());
+            return new ProctoringMonitorUpdate(sessionId, userId, events.size(), new TreeMap<>(byType),
+                    riskScore, last);
+        }
+    }
+
+    private record Event(long at, String type, int weight) {
+    }
+}
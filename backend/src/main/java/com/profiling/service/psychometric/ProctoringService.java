@@ -1,6 +1,8 @@
 package com.profiling.service.psychometric;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -9,6 +11,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.profiling.dto.psychometric.ProctoringViolationRequest;
+import com.profiling.dto.psychometric.SessionViolationSummary;
+import com.profiling.dto.psychometric.ViolationCount;
 import com.profiling.model.psychometric.ProctoringViolation;
 import com.profiling.repository.ProctoringViolationRepository;
 
@@ -17,15 +21,42 @@ import com.profiling.repository.ProctoringViolationRepository;
 public class ProctoringService {
     
     private final ProctoringViolationRepository violationRepository;
+    private final ProctoringViolationWriteBuffer writeBuffer;
+    private final ProctoringMonitorService monitorService;
     
-    public ProctoringService(ProctoringViolationRepository violationRepository) {
+    public ProctoringService(ProctoringViolationRepository violationRepository,
+                             ProctoringViolationWriteBuffer writeBuffer,
+                             ProctoringMonitorService monitorService) {
         this.violationRepository = violationRepository;
+        this.writeBuffer = writeBuffer;
+        this.monitorService = monitorService;
     }
     
     /**
-     * Log a proctoring violation
+     * Log a proctoring violation. The write is buffered and batched with other events,
+     * so it becomes visible to the read methods within one flush interval.
      */
     public ProctoringViolation logViolation(ProctoringViolationRequest request) {
+        ProctoringViolation violation = toViolation(request);
+        writeBuffer.enqueue(List.of(violation));
+        monitorService.recordAccepted(List.of(violation));
+        return violation;
+    }
+    
+    /**
+     * Log a batch of proctoring violations with a single buffered write
+     */
+    public int logViolations(List<ProctoringViolationRequest> requests) {
+        List<ProctoringViolation> violations = requests.stream()
+            .map(this::toViolation)
+            .collect(Collectors.toList());
+        // All or nothing: a rejected batch throws before any of it is queued or shown to proctors
+        writeBuffer.enqueue(violations);
+        monitorService.recordAccepted(violations);
+        return violations.size();
+    }
+    
+    private ProctoringViolation toViolation(ProctoringViolationRequest request) {
         ProctoringViolation violation = new ProctoringViolation();
         violation.setSessionId(request.getSessionId());
         violation.setUserId(request.getUserId());
@@ -33,8 +64,7 @@ public class ProctoringService {
         violation.setDescription(request.getDescription());
         violation.setTimestamp(LocalDateTime.now());
         violation.setSeverity(request.getSeverity() != null ? request.getSeverity() : "MEDIUM");
-        
-        return violationRepository.save(violation);
+        return violation;
     }
     
     /**
@@ -50,14 +80,21 @@ public class ProctoringService {
      */
     @Transactional(readOnly = true)
     public Map<String, Long> getViolationStats(String sessionId) {
-        List<ProctoringViolation> violations = violationRepository.findBySessionId(sessionId);
-        
-        // Group by violation type and count
-        return violations.stream()
-            .collect(Collectors.groupingBy(
-                ProctoringViolation::getViolationType,
-                Collectors.counting()
-            ));
+        // Grouped by violation type in Mongo rather than loading every violation
+        Map<String, Long> stats = new LinkedHashMap<>();
+        for (ViolationCount count : violationRepository.countByViolationType(sessionId)) {
+            String type = count.getViolationType() != null ? count.getViolationType() : "UNKNOWN";
+            stats.merge(type, count.getCount(), Long::sum);
+        }
+        return stats;
+    }
+    
+    /**
+     * Get per-session violation counts by type and severity for a cohort of sessions
+     */
+    @Transactional(readOnly = true)
+    public List<SessionViolationSummary> getCohortViolationStats(List<String> sessionIds) {
+        return violationRepository.summarizeBySession(new LinkedHashSet<>(sessionIds));
     }
     
     /**
@@ -0,0 +1,252 @@
+package com.profiling.service.psychometric;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.profiling.exception.ServiceUnavailableException;
+import com.profiling.model.psychometric.ProctoringViolation;
+import com.profiling.repository.ProctoringViolationRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Write-behind buffer for proctoring violations.
+ *
+ * Violations arrive in bursts from every candidate at once, so instead of one insert per
+ * event they are queued in memory and written with a single insertMany when either
+ * {@code batchSize} events are waiting or {@code flushIntervalMs} has passed since the
+ * first one arrived. The queue is bounded and a request's events are admitted all or
+ * nothing: when there is no room for the whole batch the caller waits briefly and is then
+ * rejected with a 503, so the client's retry does not write any of them twice. A failed
+ * insert is retried {@code MAX_WRITE_ATTEMPTS} times before the events are logged and
+ * dropped. On shutdown the writer finishes its current batch and the rest is flushed.
+ */
+@Component
+public class ProctoringViolationWriteBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(ProctoringViolationWriteBuffer.class);
+
+    static final int MAX_WRITE_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MS = 200;
+
+    private final ProctoringViolationRepository violationRepository;
+    private final BlockingQueue<ProctoringViolation> queue;
+    /** Free queue slots; taken for a whole batch before any of it is queued. */
+    private final Semaphore slots;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public ProctoringViolationWriteBuffer(
+            ProctoringViolationRepository violationRepository,
+            @Value("${app.proctoring.write-buffer.capacity:20000}") int capacity,
+            @Value("${app.proctoring.write-buffer.batch-size:500}") int batchSize,
+            @Value("${app.proctoring.write-buffer.flush-interval-ms:1000}") long flushIntervalMs,
+            @Value("${app.proctoring.write-buffer.offer-timeout-ms:50}") long offerTimeoutMs) {
+        this.violationRepository = violationRepository;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.slots = new Semaphore(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::runWriter, "proctoring-violation-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        // Not interrupted: an insert in progress completes, and the writer sees the flag within
+        // one flush interval
+        running = false;
+        if (writer != null) {
+            try {
+                writer.join(10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Anything still queued (e.g. writer timed out) is flushed on the caller's thread
+        drainAll();
+        log.info("Proctoring violation buffer stopped: accepted={}, written={}, failed={}, rejected={}",
+                accepted.get(), written.get(), failed.get(), rejected.get());
+    }
+
+    /**
+     * Queues violations for the next batch write. If there is no room for all of them within
+     * the offer timeout a {@link ServiceUnavailableException} is thrown and none is queued.
+     */
+    public void enqueue(Collection<ProctoringViolation> violations) {
+        int count = violations.size();
+        if (count == 0) {
+            return;
+        }
+        boolean reserved;
+        try {
+            reserved = slots.tryAcquire(count, offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reserved = false;
+        }
+        if (!reserved) {
+            rejected.addAndGet(count);
+            log.warn("Proctoring violation buffer full ({} queued), rejecting {} events", queue.size(), count);
+            throw new ServiceUnavailableException("Violation buffer is full, please retry", 1);
+        }
+        // Cannot fail: slots are only released once events have left the queue
+        queue.addAll(violations);
+        accepted.addAndGet(count);
+    }
+
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getFlushCount() {
+        return flushes.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    private void runWriter() {
+        List<ProctoringViolation> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                ProctoringViolation first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.currentTimeMillis() + flushIntervalMs;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    ProctoringViolation next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                slots.release(batch.size());
+                write(batch);
+                batch = new ArrayList<>(batchSize);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        write(batch);
+    }
+
+    private void drainAll() {
+        List<ProctoringViolation> batch = new ArrayList<>(batchSize);
+        int drained;
+        while ((drained = queue.drainTo(batch, batchSize)) > 0) {
+            slots.release(drained);
+            write(batch);
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    /**
+     * Inserts a batch, retrying failures. Ids are assigned before the first attempt, so a retry
+     * can skip the violations a failed insert had already written instead of duplicating them.
+     */
+    private void write(List<ProctoringViolation> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        for (ProctoringViolation violation : batch) {
+            if (violation.getId() == null) {
+                violation.setId(new ObjectId().toHexString());
+            }
+        }
+        List<ProctoringViolation> pending = batch;
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            try {
+                if (attempt > 1) {
+                    pending = unwritten(pending);
+                }
+                if (!pending.isEmpty()) {
+                    violationRepository.insert(pending);
+                }
+                written.addAndGet(batch.size());
+                flushes.incrementAndGet();
+                return;
+            } catch (Exception e) {
+                if (attempt == MAX_WRITE_ATTEMPTS) {
+                    failed.addAndGet(pending.size());
+                    written.addAndGet(batch.size() - pending.size());
+                    log.error("Failed to write {} proctoring violations after {} attempts: {}", pending.size(),
+                            attempt, e.getMessage(), e);
+                    for (ProctoringViolation violation : pending) {
+                        log.error("Dropped proctoring violation: session={}, user={}, type={}, severity={}, at={}",
+                                violation.getSessionId(), violation.getUserId(), violation.getViolationType(),
+                                violation.getSeverity(), violation.getTimestamp());
+                    }
+                    return;
+                }
+                log.warn("Writing {} proctoring violations failed (attempt {}), retrying: {}", pending.size(),
+                        attempt, e.getMessage());
+                try {
+                    Thread.sleep(RETRY_BACKOFF_MS * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * The violations of a batch that a failed insert did not write. An ordered insert stops at
+     * the first error, so anything before it may already be stored.
+     */
+    private List<ProctoringViolation> unwritten(List<ProctoringViolation> batch) {
+        Set<String> stored = new HashSet<>();
+        violationRepository.findAllById(batch.stream().map(ProctoringViolation::getId).toList())
+                .forEach(violation -> stored.add(violation.getId()));
+        return batch.stream().filter(violation -> !stored.contains(violation.getId())).toList();
+    }
+}
@@ -4,50 +4,101 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.profiling.config.LoggingFilter;
+import com.profiling.dto.psychometric.AnswerBatchRequest;
+import com.profiling.dto.psychometric.AnswerBatchResponse;
 import com.profiling.dto.psychometric.CheatEventRequest;
 import com.profiling.dto.psychometric.CreateSessionRequest;
+import com.profiling.dto.psychometric.CreateSessionResponse;
 import com.profiling.dto.psychometric.SubmitTestRequest;
 import com.profiling.dto.psychometric.SubmitTestResponse;
+import com.profiling.model.psychometric.ArchivedSession;
 import com.profiling.model.psychometric.PsychometricSession;
+import com.profiling.model.psychometric.Question;
 import com.profiling.model.psychometric.SessionStatus;
+import com.profiling.repository.ArchivedSessionRepository;
 import com.profiling.repository.PsychometricSessionRepository;
 
 @Service
 public class PsychometricSessionService {
 
+    private static final Logger log = LoggerFactory.getLogger(PsychometricSessionService.class);
+
     private final PsychometricSessionRepository repository;
-    private final PsychometricAsyncService asyncService;
+    private final ArchivedSessionRepository archivedSessionRepository;
+    private final GenerationJobQueue generationJobQueue;
+    private final SessionAdmissionControl admissionControl;
+    private final QuestionGeneratorService questionGeneratorService;
+    private final AnswerAutosaveService answerAutosaveService;
+    private final CohortAnalyticsService cohortAnalyticsService;
 
     public PsychometricSessionService(
             PsychometricSessionRepository repository,
-            PsychometricAsyncService asyncService) {
+            ArchivedSessionRepository archivedSessionRepository,
+            GenerationJobQueue generationJobQueue,
+            SessionAdmissionControl admissionControl,
+            QuestionGeneratorService questionGeneratorService,
+            AnswerAutosaveService answerAutosaveService,
+            CohortAnalyticsService cohortAnalyticsService) {
         this.repository = repository;
-        this.asyncService = asyncService;
+        this.archivedSessionRepository = archivedSessionRepository;
+        this.generationJobQueue = generationJobQueue;
+        this.admissionControl = admissionControl;
+        this.questionGeneratorService = questionGeneratorService;
+        this.answerAutosaveService = answerAutosaveService;
+        this.cohortAnalyticsService = cohortAnalyticsService;
     }
 
+    /**
+     * Creates a session and queues its question generation. Admission control runs first, so a
+     * rejected request (429) writes nothing; a session admitted into the waiting room has its
+     * generation deferred and the response carries its queue position and estimated wait. If
+     * the session cannot be saved, its admission is released again.
+     */
     @Transactional
-    public PsychometricSession createSession(CreateSessionRequest request) {
-        PsychometricSession session = new PsychometricSession();
-        session.setUserInfo(request.getUserInfo());
-        session.setStatus(SessionStatus.CREATED);
-        PsychometricSession savedSession = repository.save(session);
-        
-        savedSession.setStatus(SessionStatus.GENERATING);
-        repository.save(savedSession);
+    public CreateSessionResponse createSession(CreateSessionRequest request) {
+        SessionAdmissionControl.Admission admission =
+                admissionControl.admit(questionGeneratorService.llmCallsPerSession());
+
+        PsychometricSession savedSession;
+        try {
+            PsychometricSession session = new PsychometricSession();
+            session.setUserInfo(request.getUserInfo());
+            session.setStatus(SessionStatus.CREATED);
+            savedSession = repository.save(session);
+
+            savedSession.setStatus(SessionStatus.GENERATING);
+            repository.save(savedSession);
+        } catch (RuntimeException e) {
+            admissionControl.release(admission);
+            throw e;
+        }
         
-        com.profiling.model.psychometric.UserInfo userInfo = request.getUserInfo();
-        asyncService.generateSection1Questions(savedSession.getId(), userInfo);
-        asyncService.generateSection2Questions(savedSession.getId(), userInfo);
-        asyncService.generateSection3Questions(savedSession.getId(), userInfo);
+        // Picked up by QuestionGenerationWorker on any instance
+        generationJobQueue.enqueue(savedSession.getId(), List.of(1, 2, 3), MDC.get(LoggingFilter.TRACE_ID_MDC_KEY),
+                admission.estimatedWait());
+        if (admission.isQueued()) {
+            log.info("Session {} admitted to the waiting room at position {}, generation starts in {}s",
+                    savedSession.getId(), admission.queuePosition(), admission.estimatedWait().toSeconds());
+        }
+        cohortAnalyticsService.sessionCreated(savedSession.getId());
         
-        return savedSession;
+        return new CreateSessionResponse(savedSession.getId(), admission.queuePosition(),
+                (admission.estimatedWait().toMillis() + 999) / 1000);
     }
 
+    /**
+     * The live session, or a read-only copy of it once it has been archived.
+     */
     public Optional<PsychometricSession> getSession(String id) {
-        return repository.findById(id);
+        return repository.findById(id)
+                .or(() -> archivedSessionRepository.findById(id).map(ArchivedSession::toSession));
     }
     
     @Transactional
@@ -55,53 +106,46 @@ public class PsychometricSessionService {
         return repository.save(session);
     }
 
-    public List<com.profiling.model.psychometric.Question> getQuestions(String sessionId) {
-        return repository.findById(sessionId)
+    public List<Question> getQuestions(String sessionId) {
+        return getSession(sessionId)
                 .map(PsychometricSession::getQuestions)
                 .orElse(java.util.Collections.emptyList());
     }
 
+    public AnswerBatchResponse saveAnswers(String sessionId, List<AnswerBatchRequest.AnswerDelta> answers) {
+        return answerAutosaveService.saveAnswers(sessionId, answers);
+    }
+
     @Transactional
     public SubmitTestResponse submitTest(SubmitTestRequest request) {
-        Optional<PsychometricSession> sessionOpt = repository.findById(request.getSessionId());
-        
-        if (sessionOpt.isEmpty()) {
-            throw new IllegalArgumentException("Session not found: " + request.getSessionId());
-        }
-
-        PsychometricSession session = sessionOpt.get();
-        
-        session.setAnswers(request.getAnswers());
-        session.setStatus(SessionStatus.COMPLETED);
-        
-        // Save test results from frontend to ensure consistency
-        PsychometricSession.TestResults testResults = new PsychometricSession.TestResults(
-            request.getResults().getTotalQuestions(),
-            request.getResults().getAttempted(),
-            request.getResults().getNotAttempted(),
-            request.getResults().getCorrect(),
-            request.getResults().getWrong(),
-            request.getResults().getMarkedForReview(),
-            request.getResults().getAnsweredAndMarkedForReview(),
-            request.getResults().getSubmittedAt()
-        );
-        session.setTestResults(testResults);
-        
-        repository.save(session);
-
-        Instant submittedAt = Instant.parse(request.getResults().getSubmittedAt());
+        // Candidates never receive the answer key: the answers were scored incrementally as they
+        // were autosaved, so only the review marks, which exist only in the browser, are taken
+        // from the request.
+        SubmitTestRequest.TestResults submitted = request.getResults();
+        int markedForReview = submitted != null ? submitted.getMarkedForReview() : 0;
+        int answeredAndMarkedForReview = submitted != null ? submitted.getAnsweredAndMarkedForReview() : 0;
+        String submittedAtText = submitted != null && submitted.getSubmittedAt() != null
+                ? submitted.getSubmittedAt()
+                : Instant.now().toString();
+
+        PsychometricSession.TestResults results = answerAutosaveService.submit(request.getSessionId(),
+                request.getAnswers(), markedForReview, answeredAndMarkedForReview, submittedAtText);
+        // Counted once per session, so a repeated submit is harmless
+        cohortAnalyticsService.sessionSubmitted(request.getSessionId());
+
+        Instant submittedAt = Instant.parse(results.getSubmittedAt());
 
         SubmitTestResponse response = new SubmitTestResponse(
             request.getSessionId(),
             request.getUserId(),
             request.getTestId(),
-            request.getResults().getTotalQuestions(),
-            request.getResults().getAttempted(),
-            request.getResults().getNotAttempted(),
-            request.getResults().getCorrect(),
-            request.getResults().getWrong(),
-            request.getResults().getMarkedForReview(),
-            request.getResults().getAnsweredAndMarkedForReview(),
+            results.getTotalQuestions(),
+            results.getAttempted(),
+            results.getNotAttempted(),
+            results.getCorrect(),
+            results.getWrong(),
+            results.getMarkedForReview(),
+            results.getAnsweredAndMarkedForReview(),
             request.getWarnings(),
             request.getSubmittedBy(),
             submittedAt
@@ -111,13 +155,11 @@ public class PsychometricSessionService {
     }
 
     public void logCheatEvent(CheatEventRequest request) {
-        System.out.println(String.format(
-            "Cheat Event Logged - Session: %s, Reason: %s, Warning Count: %d, Timestamp: %s",
+        log.info("Cheat Event Logged - Session: {}, Reason: {}, Warning Count: {}, Timestamp: {}",
             request.getSessionId(),
             request.getReason(),
             request.getWarningCount(),
-            request.getTimestamp()
-        ));
+            request.getTimestamp());
     }
 }
 
@@ -0,0 +1,357 @@
+package com.profiling.service.psychometric;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.profiling.config.LoggingFilter;
+import com.profiling.model.psychometric.GenerationJob;
+import com.profiling.model.psychometric.GenerationJobStatus;
+import com.profiling.model.psychometric.PsychometricSession;
+import com.profiling.model.psychometric.Question;
+import com.profiling.model.psychometric.SessionStatus;
+import com.profiling.model.psychometric.UserInfo;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Runs question-generation jobs from {@link GenerationJobQueue}.
+ *
+ * Every backend instance starts {@code workers} threads that claim jobs, renew the lease
+ * while the model is generating, and write the section into the session with a conditional
+ * update, so a job that is run twice (after a lost lease) never adds its questions twice.
+ * Adding instances adds workers; jobs are spread across them by the atomic claim.
+ *
+ * A periodic sweep recovers sessions left generating without a live job, e.g. when a node
+ * died between saving the session and queueing its jobs.
+ */
+@Service
+public class QuestionGenerationWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(QuestionGenerationWorker.class);
+
+    static final List<SessionStatus> GENERATING_STATUSES =
+            List.of(SessionStatus.CREATED, SessionStatus.GENERATING, SessionStatus.PARTIAL_READY);
+
+    private final GenerationJobQueue queue;
+    private final MongoTemplate mongoTemplate;
+    private final QuestionGeneratorService questionGeneratorService;
+    private final int workerCount;
+    private final long pollIntervalMs;
+    private final int recoveryBatchSize;
+    private final String workerId;
+
+    private final List<Thread> workers = new ArrayList<>();
+    private ScheduledExecutorService heartbeats;
+    private volatile boolean running;
+    private volatile boolean stopping;
+    /** Id of the last session the previous recovery sweep looked at; null starts over. */
+    private volatile String recoveryCursor;
+
+    public QuestionGenerationWorker(
+            GenerationJobQueue queue,
+            MongoTemplate mongoTemplate,
+            QuestionGeneratorService questionGeneratorService,
+            @Value("${app.generation.queue.workers:3}") int workerCount,
+            @Value("${app.generation.queue.poll-interval-ms:1000}") long pollIntervalMs,
+            @Value("${app.generation.queue.recovery-batch-size:200}") int recoveryBatchSize) {
+        this.queue = queue;
+        this.mongoTemplate = mongoTemplate;
+        this.questionGeneratorService = questionGeneratorService;
+        this.workerCount = workerCount;
+        this.pollIntervalMs = pollIntervalMs;
+        this.recoveryBatchSize = recoveryBatchSize;
+        this.workerId = ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (workerCount <= 0) {
+            log.info("Question generation workers disabled on this instance");
+            return;
+        }
+        running = true;
+        heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "question-gen-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::runWorker, "question-gen-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("Started {} question generation workers as {}", workerCount, workerId);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        stopping = true;
+        workers.forEach(Thread::interrupt);
+        for (Thread worker : workers) {
+            try {
+                worker.join(10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (heartbeats != null) {
+            heartbeats.shutdownNow();
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            Optional<GenerationJob> job;
+            try {
+                job = queue.claim(workerId);
+            } catch (DataAccessException e) {
+                log.warn("Could not claim a generation job: {}", e.getMessage());
+                job = Optional.empty();
+            }
+            if (job.isPresent()) {
+                process(job.get());
+                continue;
+            }
+            try {
+                // Jitter keeps idle workers on many instances from polling in lockstep
+                Thread.sleep(pollIntervalMs + ThreadLocalRandom.current().nextLong(pollIntervalMs / 2 + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    void process(GenerationJob job) {
+        if (job.getTraceId() != null) {
+            MDC.put(LoggingFilter.TRACE_ID_MDC_KEY, job.getTraceId());
+        }
+        String sessionId = job.getSessionId();
+        int section = job.getSectionNumber();
+        if (job.getAttempts() > job.getMaxAttempts()) {
+            log.error("Generation job for session {} section {} exceeded {} attempts, dead-lettering",
+                    sessionId, section, job.getMaxAttempts());
+            queue.deadLetter(job, workerId, "Lease expired on every attempt");
+            markSessionFailed(sessionId);
+            MDC.remove(LoggingFilter.TRACE_ID_MDC_KEY);
+            return;
+        }
+
+        long heartbeatMs = Math.max(1000, queue.getLeaseDuration().toMillis() / 3);
+        ScheduledFuture<?> heartbeat = heartbeats == null ? null : heartbeats.scheduleAtFixedRate(() -> {
+            try {
+                if (!queue.heartbeat(job, workerId)) {
+                    log.warn("Lost lease on generation job for session {} section {}", sessionId, section);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Heartbeat failed for generation job {}: {}", job.getId(), e.getMessage());
+            }
+        }, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+
+        try {
+            PsychometricSession session = mongoTemplate.findById(sessionId, PsychometricSession.class);
+            if (session == null) {
+                log.warn("Session not found: {}", sessionId);
+            } else if (!isSectionReady(session, section)) {
+                // On the last attempt failed batches fall back to bank content instead of failing the session
+                boolean lastAttempt = job.getAttempts() >= job.getMaxAttempts();
+                List<Question> questions = generate(section, session.getUserInfo(), lastAttempt);
+                applySection(sessionId, section, questions);
+            }
+            queue.complete(job, workerId);
+        } catch (Exception e) {
+            if (stopping) {
+                log.info("Releasing generation job for session {} section {} on shutdown", sessionId, section);
+                queue.release(job, workerId);
+            } else if (queue.fail(job, workerId, e)) {
+                log.error("Error generating section {} questions for session {}, giving up after {} attempts",
+                        section, sessionId, job.getAttempts(), e);
+                markSessionFailed(sessionId);
+            } else {
+                log.warn("Error generating section {} questions for session {} (attempt {} of {}), will retry",
+                        section, sessionId, job.getAttempts(), job.getMaxAttempts(), e);
+            }
+        } finally {
+            if (heartbeat != null) {
+                heartbeat.cancel(false);
+            }
+            MDC.remove(LoggingFilter.TRACE_ID_MDC_KEY);
+        }
+    }
+
+    private List<Question> generate(int section, UserInfo userInfo, boolean fallbackOnFailure) {
+        switch (section) {
+            case 1:
+                return questionGeneratorService.generateSection1Questions(userInfo, fallbackOnFailure);
+            case 2:
+                return questionGeneratorService.generateSection2Questions(userInfo, fallbackOnFailure);
+            case 3:
+                return questionGeneratorService.generateSection3Questions(userInfo, fallbackOnFailure);
+            default:
+                throw new IllegalArgumentException("Unknown section " + section);
+        }
+    }
+
+    /**
+     * Appends the section's questions and sets its ready flag in one update that only matches
+     * while the flag is still unset, then moves the status forward (never backward).
+     */
+    void applySection(String sessionId, int section, List<Question> questions) {
+        String readyField = readyField(section);
+        PsychometricSession updated = mongoTemplate.findAndModify(
+                new Query(where("_id").is(sessionId).and(readyField).ne(true)),
+                new Update().push("questions").each(questions.toArray()).set(readyField, true).set("updatedAt", Instant.now()),
+                FindAndModifyOptions.options().returnNew(true),
+                PsychometricSession.class);
+        if (updated == null) {
+            log.info("Section {} of session {} was already generated", section, sessionId);
+            return;
+        }
+        advanceStatus(updated);
+    }
+
+    /**
+     * Re-queues sections of sessions that are still generating but have no job, fixes the
+     * status of sessions whose sections are all ready, and fails sessions with a dead job.
+     * Each run checks the next {@code recovery-batch-size} sessions by id, so a backlog larger
+     * than one batch is worked through across runs instead of re-reading the same sessions.
+     */
+    @Scheduled(fixedDelayString = "${app.generation.queue.recovery-interval-ms:60000}",
+            initialDelayString = "${app.generation.queue.recovery-interval-ms:60000}")
+    public void recoverStuckSessions() {
+        if (running) {
+            sweepStuckSessions();
+        }
+    }
+
+    void sweepStuckSessions() {
+        try {
+            Query query = new Query(where("status").in(GENERATING_STATUSES))
+                    .with(Sort.by(Sort.Direction.ASC, "id"))
+                    .limit(recoveryBatchSize);
+            String cursor = recoveryCursor;
+            if (cursor != null) {
+                query.addCriteria(where("id").gt(cursor));
+            }
+            query.fields().include("status", "aptitudeReady", "behavioralReady", "domainReady");
+            List<PsychometricSession> sessions = mongoTemplate.find(query, PsychometricSession.class);
+            // A short page means the sweep reached the end; the next run starts from the beginning
+            recoveryCursor = sessions.size() < recoveryBatchSize ? null : sessions.get(sessions.size() - 1).getId();
+            if (sessions.isEmpty()) {
+                return;
+            }
+
+            Map<String, Map<Integer, GenerationJobStatus>> jobs = new HashMap<>();
+            queue.findBySessionIds(sessions.stream().map(PsychometricSession::getId).toList())
+                    .forEach(job -> jobs.computeIfAbsent(job.getSessionId(), id -> new HashMap<>())
+                            .put(job.getSectionNumber(), job.getStatus()));
+
+            int requeued = 0;
+            for (PsychometricSession session : sessions) {
+                Map<Integer, GenerationJobStatus> sessionJobs = jobs.getOrDefault(session.getId(), Map.of());
+                List<Integer> missing = new ArrayList<>();
+                Set<GenerationJobStatus> states = new HashSet<>();
+                for (int section = 1; section <= 3; section++) {
+                    if (isSectionReady(session, section)) {
+                        continue;
+                    }
+                    GenerationJobStatus status = sessionJobs.get(section);
+                    if (status == null) {
+                        missing.add(section);
+                    } else {
+                        states.add(status);
+                    }
+                }
+                if (states.contains(GenerationJobStatus.DEAD)) {
+                    markSessionFailed(session.getId());
+                } else if (!missing.isEmpty()) {
+                    requeued += queue.enqueue(session.getId(), missing, null);
+                } else {
+                    advanceStatus(session);
+                }
+            }
+            if (requeued > 0) {
+                log.warn("Recovered {} generation jobs for stuck sessions", requeued);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Stuck session recovery failed: {}", e.getMessage());
+        }
+    }
+
+    private void advanceStatus(PsychometricSession session) {
+        SessionStatus next;
+        List<SessionStatus> from;
+        if (session.isAptitudeReady() && session.isBehavioralReady() && session.isDomainReady()) {
+            next = SessionStatus.READY;
+            from = GENERATING_STATUSES;
+        } else if (session.isAptitudeReady()) {
+            // Aptitude is ready, so the UI can start while the other sections generate
+            next = SessionStatus.PARTIAL_READY;
+            from = List.of(SessionStatus.CREATED, SessionStatus.GENERATING);
+        } else {
+            return;
+        }
+        mongoTemplate.updateFirst(new Query(where("_id").is(session.getId()).and("status").in(from)),
+                new Update().set("status", next).set("updatedAt", Instant.now()), PsychometricSession.class);
+    }
+
+    private void markSessionFailed(String sessionId) {
+        mongoTemplate.updateFirst(new Query(where("_id").is(sessionId).and("status").in(GENERATING_STATUSES)),
+                new Update().set("status", SessionStatus.FAILED).set("updatedAt", Instant.now()), PsychometricSession.class);
+    }
+
+    private static boolean isSectionReady(PsychometricSession session, int section) {
+        switch (section) {
+            case 1:
+                return session.isAptitudeReady();
+            case 2:
+                return session.isBehavioralReady();
+            default:
+                return session.isDomainReady();
+        }
+    }
+
+    private static String readyField(int section) {
+        switch (section) {
+            case 1:
+                return "aptitudeReady";
+            case 2:
+                return "behavioralReady";
+            case 3:
+                return "domainReady";
+            default:
+                throw new IllegalArgumentException("Unknown section " + section);
+        }
+    }
+}
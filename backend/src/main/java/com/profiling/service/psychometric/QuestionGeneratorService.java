@@ -10,6 +10,8 @@ import java.util.UUID;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -19,6 +21,8 @@ import com.profiling.dto.psychometric.OpenAIRequest;
 import com.profiling.dto.psychometric.OpenAIResponse;
 import com.profiling.model.psychometric.Question;
 import com.profiling.model.psychometric.UserInfo;
+import com.profiling.service.LlmCallMetrics;
+import com.profiling.service.LlmResilience;
 
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Flux;
@@ -26,13 +30,21 @@ import reactor.core.publisher.Flux;
 @Service
 public class QuestionGeneratorService {
 
+    private static final Logger log = LoggerFactory.getLogger(QuestionGeneratorService.class);
+    private static final String CALL_SITE = "question_batch";
+
     private final WebClient.Builder webClientBuilder;
+    private final LlmCallMetrics metrics;
+    private final LlmResilience resilience;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Value("${openai.api.key:}")
     private String openAiApiKey;
 
-    private static final String OPENAI_API_URL = "https://api.openai.com/v1/chat/completions";
+    @Value("${openai.base-url:https://api.openai.com/v1}")
+    private String openAiBaseUrl;
+
+    private static final String CHAT_COMPLETIONS_PATH = "/chat/completions";
     private static final int QUESTIONS_PER_BATCH = 10;
     private static final int TOTAL_QUESTIONS_PER_SECTION = 40;
 
@@ -45,58 +57,62 @@ public class QuestionGeneratorService {
     private static final List<Question> SECTION2_BEHAVIORAL_BACKUP_TEMPLATES = buildSection2BehavioralBackupTemplates();
     private static final Map<String, Question> SECTION2_BEHAVIORAL_BACKUP_BY_CATEGORY = indexBackupByCategory(SECTION2_BEHAVIORAL_BACKUP_TEMPLATES);
 
-    public QuestionGeneratorService(WebClient.Builder webClientBuilder) {
+    public QuestionGeneratorService(WebClient.Builder webClientBuilder, LlmCallMetrics metrics,
+                                    LlmResilience resilience) {
         this.webClientBuilder = webClientBuilder;
+        this.metrics = metrics;
+        this.resilience = resilience;
     }
 
-    public List<Question> generateSection1Questions(UserInfo userInfo) {
+    /**
+     * Number of OpenAI calls generating all three sections of a session makes, or 0 when no
+     * API key is configured and the questions come from the bank and templates.
+     */
+    public int llmCallsPerSession() {
         if (openAiApiKey == null || openAiApiKey.isEmpty()) {
-            return buildAptitudeSectionPlaceholder();
+            return 0;
         }
-        try {
-            return buildAptitudeSection(userInfo);
-        } catch (Exception e) {
-            System.err.println("Error generating section 1 questions with OpenAI: " + e.getMessage());
-            e.printStackTrace();
+        int batchesPerSection = (TOTAL_QUESTIONS_PER_SECTION + QUESTIONS_PER_BATCH - 1) / QUESTIONS_PER_BATCH;
+        return 3 * batchesPerSection;
+    }
+
+    /**
+     * Generates a section's questions with OpenAI, or from the bank and templates when no API
+     * key is configured. Batches that OpenAI answered are kept; failed batches are replaced by
+     * bank or placeholder questions when the circuit is open, when some batches succeeded, or
+     * when {@code fallbackOnFailure} is set (the job's last attempt). Only when every batch
+     * failed otherwise does it throw {@link GenerationFailedException}, so the job is retried.
+     */
+    public List<Question> generateSection1Questions(UserInfo userInfo, boolean fallbackOnFailure) {
+        if (openAiApiKey == null || openAiApiKey.isEmpty()) {
             return buildAptitudeSectionPlaceholder();
         }
+        return buildAptitudeSection(userInfo, fallbackOnFailure);
     }
 
-    public List<Question> generateSection2Questions(UserInfo userInfo) {
+    public List<Question> generateSection2Questions(UserInfo userInfo, boolean fallbackOnFailure) {
         if (openAiApiKey == null || openAiApiKey.isEmpty()) {
             return buildPersonalitySectionPlaceholder(userInfo);
         }
-        try {
-            return buildPersonalitySection(userInfo);
-        } catch (Exception e) {
-            System.err.println("Error generating section 2 questions with OpenAI: " + e.getMessage());
-            e.printStackTrace();
-            return buildPersonalitySectionPlaceholder(userInfo);
-        }
+        return buildPersonalitySection(userInfo, fallbackOnFailure);
     }
 
-    public List<Question> generateSection3Questions(UserInfo userInfo) {
+    public List<Question> generateSection3Questions(UserInfo userInfo, boolean fallbackOnFailure) {
         if (openAiApiKey == null || openAiApiKey.isEmpty()) {
             return buildDomainSectionPlaceholder(userInfo);
         }
-        try {
-            return buildDomainSection(userInfo);
-        } catch (Exception e) {
-            System.err.println("Error generating section 3 questions with OpenAI: " + e.getMessage());
-            e.printStackTrace();
-            return buildDomainSectionPlaceholder(userInfo);
-        }
+        return buildDomainSection(userInfo, fallbackOnFailure);
     }
 
-    private List<Question> buildAptitudeSection(UserInfo userInfo) {
+    private List<Question> buildAptitudeSection(UserInfo userInfo, boolean fallbackOnFailure) {
         // Aptitude topics (equal distribution across categories):
         // With 40 questions total and 5 categories below, each topic will receive 8 questions.
         List<String> categories = Arrays.asList(
                 "numerical", "verbal", "situational", "abstract", "logical");
-        return generateSectionQuestionsWithOpenAI(1, categories, "MCQ", userInfo);
+        return generateSectionQuestionsWithOpenAI(1, categories, "MCQ", userInfo, fallbackOnFailure);
     }
 
-    private List<Question> buildPersonalitySection(UserInfo userInfo) {
+    private List<Question> buildPersonalitySection(UserInfo userInfo, boolean fallbackOnFailure) {
         List<String> categories = new ArrayList<>();
         
         // Core personality categories (keep existing ones)
@@ -167,10 +183,10 @@ public class QuestionGeneratorService {
             categories.add("coordination_and_expression");
         }
         
-        return generateSectionQuestionsWithOpenAI(2, categories, "LIKERT", userInfo);
+        return generateSectionQuestionsWithOpenAI(2, categories, "LIKERT", userInfo, fallbackOnFailure);
     }
 
-    private List<Question> buildDomainSection(UserInfo userInfo) {
+    private List<Question> buildDomainSection(UserInfo userInfo, boolean fallbackOnFailure) {
         // Create categories based on skills and specialization (most questions from these)
         // Also include education and interests for comprehensive coverage
         List<String> categories = new ArrayList<>();
@@ -259,7 +275,7 @@ public class QuestionGeneratorService {
             categories.add("general_career_alignment");
         }
         
-        return generateSectionQuestionsWithOpenAI(3, categories, "SCENARIO", userInfo);
+        return generateSectionQuestionsWithOpenAI(3, categories, "SCENARIO", userInfo, fallbackOnFailure);
     }
 
     private List<Question> buildAptitudeSectionPlaceholder() {
@@ -355,13 +371,15 @@ public class QuestionGeneratorService {
     }
 
     private List<Question> generateSectionQuestionsWithOpenAI(int sectionNumber, List<String> categories, 
-                                                               String questionType, UserInfo userInfo) {
+                                                               String questionType, UserInfo userInfo,
+                                                               boolean fallbackOnFailure) {
         int total = TOTAL_QUESTIONS_PER_SECTION;
         // Use consistent batch size of 10 for all sections for optimal performance
         int maxBatchSize = QUESTIONS_PER_BATCH;
         
-        // Create all batch requests as Monos for parallel execution
-        List<Mono<List<Question>>> batchMonos = new ArrayList<>();
+        // Create all batch requests as Monos for parallel execution; a failed batch is kept as
+        // a result so it does not discard the batches that succeeded
+        List<Mono<BatchResult>> batchMonos = new ArrayList<>();
         
         for (int batchStart = 0; batchStart < total; batchStart += maxBatchSize) {
             int batchSize = Math.min(maxBatchSize, total - batchStart);
@@ -370,93 +388,87 @@ public class QuestionGeneratorService {
                 batchCategories.add(categories.get((batchStart + i) % categories.size()));
             }
             
-            int finalBatchStart = batchStart;
-            // Create async mono for each batch (non-blocking)
-            Mono<List<Question>> batchMono = generateBatchWithOpenAIAsync(
-                sectionNumber, batchCategories, questionType, finalBatchStart + 1, userInfo);
-            batchMonos.add(batchMono);
+            int startIndex = batchStart + 1;
+            batchMonos.add(generateBatchWithOpenAIAsync(sectionNumber, batchCategories, questionType, startIndex, userInfo)
+                .map(questions -> new BatchResult(startIndex, batchCategories, questions, null))
+                .onErrorResume(e -> Mono.just(new BatchResult(startIndex, batchCategories, null, e))));
+        }
+        
+        // Execute all batches in parallel and collect results in batch order
+        List<BatchResult> batches = Flux.mergeSequential(batchMonos)
+            .collectList()
+            .block();
+        
+        List<BatchResult> failed = batches.stream().filter(BatchResult::failed).toList();
+        String fallbackReason = null;
+        if (!failed.isEmpty()) {
+            boolean circuitOpen = failed.stream()
+                .anyMatch(batch -> batch.error() instanceof LlmResilience.CircuitOpenException);
+            if (failed.size() == batches.size() && !circuitOpen && !fallbackOnFailure) {
+                throw new GenerationFailedException("All " + failed.size() + " OpenAI batches of section "
+                    + sectionNumber + " failed", failed.get(0).error());
+            }
+            fallbackReason = circuitOpen ? "circuit_open" : "error";
+            log.warn("Section {}: {} of {} OpenAI batches failed ({}), using bank/placeholder questions for them",
+                    sectionNumber, failed.size(), batches.size(), fallbackReason);
         }
         
-        // Execute all batches in parallel and collect results
         List<Question> results = new ArrayList<>();
-        try {
-            List<List<Question>> allBatches = Flux.merge(batchMonos)
-                .collectList()
-                .block();
-            
-            if (allBatches != null) {
-                for (List<Question> batch : allBatches) {
-                    results.addAll(batch);
-                }
+        for (BatchResult batch : batches) {
+            if (batch.failed()) {
+                metrics.recordFallback(CALL_SITE, fallbackReason);
+                results.addAll(generateSectionQuestionsPlaceholderBatch(
+                    sectionNumber, batch.categories(), questionType, batch.startIndex()));
+            } else {
+                results.addAll(batch.questions());
             }
-            
-            // Validation: Ensure exactly 40 questions are generated
-            System.out.println("Section " + sectionNumber + " generated " + results.size() + " questions (expected: " + total + ")");
-            
-            // If we don't have exactly 40 questions, fill with placeholders for missing ones
-            if (results.size() < total) {
-                System.err.println("WARNING: Section " + sectionNumber + " only generated " + results.size() + 
-                                 " questions. Filling remaining " + (total - results.size()) + " with placeholders.");
-                int missing = total - results.size();
+        }
+        
+        // Validation: Ensure exactly 40 questions are generated
+        log.info("Section {} generated {} questions (expected: {})", sectionNumber, results.size(), total);
+        
+        // If we don't have exactly 40 questions, fill with placeholders for missing ones
+        if (results.size() < total) {
+            log.warn("Section {} only generated {} questions. Filling remaining {} with placeholders.",
+                    sectionNumber, results.size(), total - results.size());
+            metrics.recordFallback(CALL_SITE, "incomplete_response");
+            int missing = total - results.size();
 
-                // Section 2: prefer the curated backup bank instead of generic "Placeholder prompt..." questions.
-                if (sectionNumber == 2) {
-                    List<Question> backup = generateSection2BehavioralBackupQuestions(missing, questionType);
-                    results.addAll(backup);
-                    missing -= backup.size();
-                }
+            // Section 2: prefer the curated backup bank instead of generic "Placeholder prompt..." questions.
+            if (sectionNumber == 2) {
+                List<Question> backup = generateSection2BehavioralBackupQuestions(missing, questionType);
+                results.addAll(backup);
+                missing -= backup.size();
+            }
 
-                if (missing > 0) {
-                    List<String> missingCategories = new ArrayList<>();
-                    for (int i = 0; i < missing; i++) {
-                        missingCategories.add(categories.get((results.size() + i) % categories.size()));
-                    }
-                    List<Question> placeholders = generateSectionQuestionsPlaceholderBatch(
-                        sectionNumber, missingCategories, questionType, results.size() + 1);
-                    results.addAll(placeholders);
+            if (missing > 0) {
+                List<String> missingCategories = new ArrayList<>();
+                for (int i = 0; i < missing; i++) {
+                    missingCategories.add(categories.get((results.size() + i) % categories.size()));
                 }
-
-                System.out.println("Section " + sectionNumber + " now has " + results.size() + " questions after adding placeholders.");
+                List<Question> placeholders = generateSectionQuestionsPlaceholderBatch(
+                    sectionNumber, missingCategories, questionType, results.size() + 1);
+                results.addAll(placeholders);
             }
-            
-        } catch (Exception e) {
-            System.err.println("Error in parallel question generation: " + e.getMessage());
-            e.printStackTrace();
-            // Fallback: generate placeholder questions
-            return generateSectionQuestionsPlaceholder(sectionNumber, categories, questionType);
+
+            log.info("Section {} now has {} questions after adding placeholders.", sectionNumber, results.size());
         }
         
         return results;
     }
 
+    /**
+     * One OpenAI batch of a section: its questions, or the error that made it fail.
+     */
+    private record BatchResult(int startIndex, List<String> categories, List<Question> questions, Throwable error) {
+        boolean failed() {
+            return error != null;
+        }
+    }
+
     private List<Question> generateBatchWithOpenAI(int sectionNumber, List<String> categories, 
                                                     String questionType, int startIndex, UserInfo userInfo) {
-        try {
-            String prompt = buildPromptForBatch(sectionNumber, categories, questionType, startIndex, userInfo);
-            OpenAIRequest request = new OpenAIRequest(prompt);
-            
-            WebClient webClient = webClientBuilder
-                .baseUrl(OPENAI_API_URL)
-                .defaultHeader("Authorization", "Bearer " + openAiApiKey)
-                .defaultHeader("Content-Type", "application/json")
-                .build();
-            
-            OpenAIResponse response = webClient.post()
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(OpenAIResponse.class)
-                .block();
-            
-            if (response != null && response.getChoices() != null && !response.getChoices().isEmpty()) {
-                String content = response.getChoices().get(0).getMessage().getContent();
-                return parseQuestionsFromResponse(content, sectionNumber, categories, questionType, startIndex);
-            }
-        } catch (Exception e) {
-            System.err.println("Error calling OpenAI API: " + e.getMessage());
-            e.printStackTrace();
-        }
-        
-        return generateSectionQuestionsPlaceholderBatch(sectionNumber, categories, questionType, startIndex);
+        return generateBatchWithOpenAIAsync(sectionNumber, categories, questionType, startIndex, userInfo).block();
     }
 
     /**
@@ -469,26 +481,35 @@ public class QuestionGeneratorService {
         OpenAIRequest request = new OpenAIRequest(prompt);
         
         WebClient webClient = webClientBuilder
-            .baseUrl(OPENAI_API_URL)
+            .baseUrl(openAiBaseUrl + CHAT_COMPLETIONS_PATH)
             .defaultHeader("Authorization", "Bearer " + openAiApiKey)
             .defaultHeader("Content-Type", "application/json")
             .build();
         
-        return webClient.post()
+        Mono<OpenAIResponse> call = webClient.post()
             .bodyValue(request)
             .retrieve()
-            .bodyToMono(OpenAIResponse.class)
+            .bodyToMono(OpenAIResponse.class);
+
+        // Retries, deadline and circuit breaking; once the call gives up the batch counts as failed
+        return resilience.execute(CALL_SITE, request.getModel(), () -> call)
             .map(response -> {
-                if (response != null && response.getChoices() != null && !response.getChoices().isEmpty()) {
+                if (response.getUsage() != null) {
+                    metrics.recordUsage(CALL_SITE, request.getModel(), response.getUsage().getPromptTokens(),
+                        response.getUsage().getCompletionTokens());
+                }
+                if (response.getChoices() != null && !response.getChoices().isEmpty()) {
                     String content = response.getChoices().get(0).getMessage().getContent();
                     return parseQuestionsFromResponse(content, sectionNumber, categories, questionType, startIndex);
                 }
-                return generateSectionQuestionsPlaceholderBatch(sectionNumber, categories, questionType, startIndex);
+                throw new GenerationFailedException("OpenAI returned no choices for batch starting at " + startIndex);
             })
-            .onErrorResume(e -> {
-                System.err.println("Error calling OpenAI API for batch starting at " + startIndex + ": " + e.getMessage());
-                e.printStackTrace();
-                return Mono.just(generateSectionQuestionsPlaceholderBatch(sectionNumber, categories, questionType, startIndex));
+            .doOnError(e -> {
+                if (e instanceof LlmResilience.CircuitOpenException) {
+                    log.warn("OpenAI circuit open, skipping batch starting at {}", startIndex);
+                } else {
+                    log.warn("Error calling OpenAI API for batch starting at {}: {}", startIndex, e.getMessage());
+                }
             });
     }
 
@@ -721,7 +742,7 @@ public class QuestionGeneratorService {
         return prompt.toString();
     }
 
-    private List<Question> parseQuestionsFromResponse(String content, int sectionNumber, 
+    List<Question> parseQuestionsFromResponse(String content, int sectionNumber, 
                                                        List<String> categories, String questionType, int startIndex) {
         List<Question> questions = new ArrayList<>();
         
@@ -849,7 +870,9 @@ public class QuestionGeneratorService {
                 questions.add(question);
             }
         } catch (Exception e) {
-            System.err.println("Error parsing OpenAI response: " + e.getMessage());
+            log.warn("Error parsing OpenAI response: {}", e.getMessage());
+            metrics.recordParseFailure(CALL_SITE);
+            metrics.recordFallback(CALL_SITE, "parse_failure");
             return generateSectionQuestionsPlaceholderBatch(sectionNumber, categories, questionType, startIndex);
         }
         
@@ -1111,6 +1134,17 @@ public class QuestionGeneratorService {
 
         return out;
     }
-}
 
+    /**
+     * OpenAI could not produce a section's questions; the generation job retries it.
+     */
+    public static class GenerationFailedException extends RuntimeException {
+        public GenerationFailedException(String message) {
+            super(message);
+        }
 
+        public GenerationFailedException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
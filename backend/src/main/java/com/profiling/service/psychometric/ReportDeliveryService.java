@@ -0,0 +1,330 @@
+package com.profiling.service.psychometric;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.mongodb.client.result.UpdateResult;
+import com.profiling.dto.psychometric.PsychometricReportResponse;
+import com.profiling.exception.NotFoundException;
+import com.profiling.model.psychometric.NarrativeStatus;
+import com.profiling.model.psychometric.PsychometricReport;
+import com.profiling.model.psychometric.PsychometricSession;
+import com.profiling.model.psychometric.Report;
+import com.profiling.model.psychometric.SessionStatus;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Progressive report delivery.
+ *
+ * The first request for a report stores the deterministic report (scores, statistics and the
+ * rule-based narrative) and returns it straight away. When OpenAI is configured the
+ * AI-written narrative is then generated on a background pool, patched into the stored report
+ * under a version guard, and pushed to the report page over SSE.
+ *
+ * Enrichment runs on the node that stored the report. If that node stops first, the report
+ * stays {@code PENDING} until a read finds it older than
+ * {@code app.report.narrative.stale-after-seconds} and claims it again. Subscribers on
+ * other nodes pick up the result when their stream times out and the browser reconnects.
+ */
+@Service
+public class ReportDeliveryService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportDeliveryService.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final ReportGenerationService reportGenerationService;
+    private final CohortAnalyticsService cohortAnalyticsService;
+    private final Executor executor;
+    private final Duration staleAfter;
+    private final long emitterTimeoutMillis;
+    private final Clock clock;
+    private final MeterRegistry registry;
+    private final Timer firstReport;
+
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ReportDeliveryService(
+            MongoTemplate mongoTemplate,
+            ReportGenerationService reportGenerationService,
+            CohortAnalyticsService cohortAnalyticsService,
+            MeterRegistry registry,
+            @Value("${app.report.narrative.threads:2}") int threads,
+            @Value("${app.report.narrative.queue-capacity:200}") int queueCapacity,
+            @Value("${app.report.narrative.stale-after-seconds:300}") long staleAfterSeconds,
+            @Value("${app.report.events.emitter-timeout-seconds:60}") long emitterTimeoutSeconds) {
+        this(mongoTemplate, reportGenerationService, cohortAnalyticsService, registry, narrativePool(threads, queueCapacity),
+                Duration.ofSeconds(staleAfterSeconds), emitterTimeoutSeconds * 1000L, Clock.systemUTC());
+    }
+
+    ReportDeliveryService(MongoTemplate mongoTemplate, ReportGenerationService reportGenerationService,
+                          CohortAnalyticsService cohortAnalyticsService, MeterRegistry registry, Executor executor,
+                          Duration staleAfter, long emitterTimeoutMillis, Clock clock) {
+        this.mongoTemplate = mongoTemplate;
+        this.reportGenerationService = reportGenerationService;
+        this.cohortAnalyticsService = cohortAnalyticsService;
+        this.registry = registry;
+        this.executor = executor;
+        this.staleAfter = staleAfter;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.clock = clock;
+        this.firstReport = Timer.builder("reports.first.time")
+                .description("Time to store and return the deterministic report")
+                .register(registry);
+    }
+
+    private static Executor narrativePool(int threads, int queueCapacity) {
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "report-narrative-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor instanceof ThreadPoolExecutor pool) {
+            pool.shutdown();
+        }
+        emitters.values().forEach(list -> list.forEach(SseEmitter::complete));
+    }
+
+    /**
+     * Returns the stored report, creating the deterministic one if the session has none.
+     * With {@code retryFailedNarrative} a report whose enrichment failed is queued again.
+     * Only a submitted session gets a report; asking for one earlier is a 409.
+     */
+    public Report getOrCreate(PsychometricSession session, boolean retryFailedNarrative) {
+        Report stored = session.getReport();
+        if (stored != null && stored.getContent() != null) {
+            resumeNarrative(session.getId(), stored, retryFailedNarrative);
+            return stored;
+        }
+        if (session.getStatus() != SessionStatus.COMPLETED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Session " + session.getId() + " has not been submitted yet");
+        }
+
+        long start = System.nanoTime();
+        PsychometricReport base = reportGenerationService.generateBaseReport(session);
+        Report report = new Report();
+        applyContent(report, base);
+        report.setVersion(stored != null ? stored.getVersion() + 1 : 1);
+        boolean enrich = reportGenerationService.isNarrativeEnrichmentEnabled();
+        report.setNarrativeStatus(enrich ? NarrativeStatus.PENDING : NarrativeStatus.RULE_BASED);
+        report.setNarrativeRequestedAt(clock.instant());
+
+        UpdateResult result = mongoTemplate.updateFirst(
+                new Query(where("_id").is(session.getId())
+                        .and("status").is(SessionStatus.COMPLETED)
+                        .and("report.content").exists(false)),
+                new Update().set("report", report).set("updatedAt", clock.instant()),
+                PsychometricSession.class);
+        if (result.getModifiedCount() == 0) {
+            // Another request stored a report first; serve that one
+            return reload(session.getId());
+        }
+        session.setReport(report);
+        firstReport.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        cohortAnalyticsService.reportStored(session.getId());
+        if (enrich) {
+            schedule(session.getId(), report.getVersion());
+        }
+        return report;
+    }
+
+    /**
+     * Opens the report event stream of a session. A report that is no longer {@code PENDING}
+     * is sent immediately and the stream completes; otherwise a {@code report} event follows
+     * when the narrative is patched in.
+     */
+    public SseEmitter subscribe(String sessionId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        List<SseEmitter> subscribers = emitters.computeIfAbsent(sessionId, id -> new CopyOnWriteArrayList<>());
+        subscribers.add(emitter);
+        Runnable remove = () -> emitters.computeIfPresent(sessionId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        // Read after registering, so a narrative patched in meanwhile is not missed
+        Report current;
+        try {
+            current = reload(sessionId);
+        } catch (RuntimeException e) {
+            remove.run();
+            throw e;
+        }
+        if (current.getContent() != null && current.getNarrativeStatus() != NarrativeStatus.PENDING) {
+            remove.run();
+            send(emitter, PsychometricReportResponse.from(current));
+        }
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return emitters.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Re-queues enrichment that failed (when asked) or whose owner seems to have stopped.
+     * The conditional update lets only one node claim it.
+     */
+    private void resumeNarrative(String sessionId, Report stored, boolean retryFailed) {
+        NarrativeStatus status = stored.getNarrativeStatus();
+        Instant requestedAt = stored.getNarrativeRequestedAt();
+        boolean stale = status == NarrativeStatus.PENDING
+                && (requestedAt == null || requestedAt.isBefore(clock.instant().minus(staleAfter)));
+        boolean retry = retryFailed && status == NarrativeStatus.FAILED
+                && reportGenerationService.isNarrativeEnrichmentEnabled();
+        if (!stale && !retry) {
+            return;
+        }
+        Criteria claim = where("_id").is(sessionId)
+                .and("report.version").is(stored.getVersion())
+                .and("report.narrativeStatus").is(status)
+                .and("report.narrativeRequestedAt").is(requestedAt);
+        Instant now = clock.instant();
+        UpdateResult result = mongoTemplate.updateFirst(new Query(claim),
+                new Update().set("report.narrativeStatus", NarrativeStatus.PENDING)
+                        .set("report.narrativeRequestedAt", now),
+                PsychometricSession.class);
+        if (result.getModifiedCount() == 1) {
+            stored.setNarrativeStatus(NarrativeStatus.PENDING);
+            stored.setNarrativeRequestedAt(now);
+            log.info("Re-queued report narrative for session {} ({})", sessionId, stale ? "stale" : "retry");
+            schedule(sessionId, stored.getVersion());
+        }
+    }
+
+    private void schedule(String sessionId, long version) {
+        try {
+            executor.execute(() -> enrich(sessionId, version));
+        } catch (RejectedExecutionException e) {
+            log.warn("Report narrative queue full, keeping the rule-based narrative for session {}", sessionId);
+            finish(sessionId, version, null, "rejected");
+        }
+    }
+
+    void enrich(String sessionId, long version) {
+        PsychometricSession session = mongoTemplate.findById(sessionId, PsychometricSession.class);
+        if (session == null || session.getReport() == null || session.getReport().getVersion() != version
+                || session.getReport().getNarrativeStatus() != NarrativeStatus.PENDING) {
+            return;
+        }
+        PsychometricReport enriched;
+        try {
+            enriched = reportGenerationService.generateEnrichedReport(session);
+        } catch (RuntimeException e) {
+            log.warn("Report narrative failed for session {}, keeping the rule-based narrative: {}",
+                    sessionId, e.getMessage());
+            finish(sessionId, version, null, "failure");
+            return;
+        }
+        finish(sessionId, version, enriched, "success");
+    }
+
+    /**
+     * Patches the narrative in (or marks it failed) if the report is still the version that
+     * was enriched, then notifies subscribers.
+     */
+    private void finish(String sessionId, long version, PsychometricReport enriched, String outcome) {
+        Update update = new Update().set("updatedAt", clock.instant());
+        if (enriched != null) {
+            Report patched = new Report();
+            applyContent(patched, enriched);
+            update.set("report.content", patched.getContent())
+                    .set("report.summary", patched.getSummary())
+                    .set("report.strengths", patched.getStrengths())
+                    .set("report.improvementAreas", patched.getImprovementAreas())
+                    .set("report.recommendations", patched.getRecommendations())
+                    .set("report.version", version + 1)
+                    .set("report.narrativeStatus", NarrativeStatus.ENRICHED);
+        } else {
+            update.set("report.narrativeStatus", NarrativeStatus.FAILED);
+        }
+        UpdateResult result = mongoTemplate.updateFirst(
+                new Query(where("_id").is(sessionId)
+                        .and("report.version").is(version)
+                        .and("report.narrativeStatus").is(NarrativeStatus.PENDING)),
+                update, PsychometricSession.class);
+        registry.counter("reports.narrative.enrichment", "outcome",
+                result.getModifiedCount() == 1 ? outcome : "superseded").increment();
+        if (result.getModifiedCount() == 1) {
+            publish(sessionId);
+        }
+    }
+
+    private void publish(String sessionId) {
+        List<SseEmitter> subscribers = emitters.remove(sessionId);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        PsychometricReportResponse response = PsychometricReportResponse.from(reload(sessionId));
+        subscribers.forEach(emitter -> send(emitter, response));
+    }
+
+    private static void send(SseEmitter emitter, PsychometricReportResponse response) {
+        try {
+            emitter.send(SseEmitter.event().name("report").data(response));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private Report reload(String sessionId) {
+        Query query = new Query(where("_id").is(sessionId));
+        query.fields().include("report");
+        PsychometricSession session = mongoTemplate.findOne(query, PsychometricSession.class);
+        if (session == null) {
+            throw new NotFoundException("Session not found: " + sessionId);
+        }
+        return session.getReport() != null ? session.getReport() : new Report();
+    }
+
+    private static void applyContent(Report report, PsychometricReport content) {
+        report.setContent(content);
+        report.setSummary(content.getNarrativeSummary());
+        report.setStrengths(content.getStrengths());
+        report.setImprovementAreas(content.getWeaknesses());
+        report.setRecommendations(content.getOpportunities());
+    }
+}
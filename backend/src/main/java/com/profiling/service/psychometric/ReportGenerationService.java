@@ -7,6 +7,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -20,25 +22,39 @@ import com.profiling.model.psychometric.Question;
 import com.profiling.model.psychometric.PsychometricReport;
 import com.profiling.model.psychometric.PsychometricSession;
 import com.profiling.model.psychometric.UserInfo;
+import com.profiling.service.LlmCallMetrics;
+import com.profiling.service.LlmResilience;
 
 import reactor.core.publisher.Mono;
 
 @Service
 public class ReportGenerationService {
     
+    private static final Logger log = LoggerFactory.getLogger(ReportGenerationService.class);
+    private static final String REPORT_CALL_SITE = "report_content";
+    private static final String NARRATIVE_CALL_SITE = "report_category_narrative";
+    
     private final WebClient.Builder webClientBuilder;
     private final ScoringService scoringService;
+    private final LlmCallMetrics llmMetrics;
+    private final LlmResilience llmResilience;
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final Random random = new Random();
     
     @Value("${openai.apiKey:}")
     private String openAiApiKey;
     
-    private static final String OPENAI_API_URL = "https://api.openai.com/v1/chat/completions";
+    @Value("${openai.base-url:https://api.openai.com/v1}")
+    private String openAiBaseUrl;
+    
+    private static final String CHAT_COMPLETIONS_PATH = "/chat/completions";
     
-    public ReportGenerationService(WebClient.Builder webClientBuilder, ScoringService scoringService) {
+    public ReportGenerationService(WebClient.Builder webClientBuilder, ScoringService scoringService,
+                                   LlmCallMetrics llmMetrics, LlmResilience llmResilience) {
         this.webClientBuilder = webClientBuilder;
         this.scoringService = scoringService;
+        this.llmMetrics = llmMetrics;
+        this.llmResilience = llmResilience;
     }
     
     /**
@@ -101,6 +117,56 @@ public class ReportGenerationService {
      * Generate a comprehensive psychometric report for a completed session
      */
     public PsychometricReport generateReport(PsychometricSession session) {
+        ReportInputs inputs = computeScores(session);
+        PsychometricReport report = inputs.report();
+        
+        // Generate AI-powered content using OpenAI
+        if (isNarrativeEnrichmentEnabled()) {
+            try {
+                generateAIReportContent(report, session, inputs);
+            } catch (Exception e) {
+                log.error("Error generating AI report content: {}", e.getMessage(), e);
+                llmMetrics.recordFallback(REPORT_CALL_SITE, fallbackReason(e));
+                // Fallback to default content
+                generateDefaultReportContent(inputs);
+            }
+        } else {
+            // Fallback to default content if OpenAI is not configured
+            generateDefaultReportContent(inputs);
+        }
+        
+        addChartData(report);
+        return report;
+    }
+    
+    /**
+     * First phase of progressive delivery: scores, Big Five, category statistics and the
+     * rule-based narrative and SWOT. No LLM call, so it completes in milliseconds.
+     */
+    public PsychometricReport generateBaseReport(PsychometricSession session) {
+        ReportInputs inputs = computeScores(session);
+        generateDefaultReportContent(inputs);
+        addChartData(inputs.report());
+        return inputs.report();
+    }
+    
+    /**
+     * Second phase: the same scores with the AI-written narrative. Unlike
+     * {@link #generateReport}, a failed LLM call is thrown rather than replaced by the default
+     * content, so the caller can keep the report it already delivered.
+     */
+    public PsychometricReport generateEnrichedReport(PsychometricSession session) {
+        ReportInputs inputs = computeScores(session);
+        generateAIReportContent(inputs.report(), session, inputs);
+        addChartData(inputs.report());
+        return inputs.report();
+    }
+    
+    public boolean isNarrativeEnrichmentEnabled() {
+        return openAiApiKey != null && !openAiApiKey.isEmpty();
+    }
+    
+    private ReportInputs computeScores(PsychometricSession session) {
         if (session.getStatus() != com.profiling.model.psychometric.SessionStatus.COMPLETED) {
             throw new IllegalArgumentException("Session must be completed before generating report");
         }
@@ -285,37 +351,24 @@ public class ReportGenerationService {
                 }
             }
         }
-        
-        // Generate AI-powered content using OpenAI
-        if (openAiApiKey != null && !openAiApiKey.isEmpty()) {
-            try {
-                generateAIReportContent(report, session, bigFiveScores, sectionScores,
-                    aptitudeStats, behavioralStats, domainStats,
-                    aptitudeCategoryStats, behavioralCategoryStats, domainCategoryStats);
-            } catch (Exception e) {
-                System.err.println("Error generating AI report content: " + e.getMessage());
-                e.printStackTrace();
-                // Fallback to default content
-                generateDefaultReportContent(report, userInfo, sectionScores,
-                    aptitudeStats, behavioralStats, domainStats,
-                    aptitudeCategoryStats, behavioralCategoryStats, domainCategoryStats);
-            }
-        } else {
-            // Fallback to default content if OpenAI is not configured
-            generateDefaultReportContent(report, userInfo, sectionScores,
-                aptitudeStats, behavioralStats, domainStats,
-                aptitudeCategoryStats, behavioralCategoryStats, domainCategoryStats);
-        }
-        
-        // Generate chart data
+
+        return new ReportInputs(report, bigFiveScores, sectionScores, aptitudeStats, behavioralStats, domainStats,
+            aptitudeCategoryStats, behavioralCategoryStats, domainCategoryStats);
+    }
+    
+    private static void addChartData(PsychometricReport report) {
         PsychometricReport.ChartData chartData = new PsychometricReport.ChartData();
         chartData.setPoorScore(30);
         chartData.setAverageScore(60);
         chartData.setBestScore(90);
         chartData.setCandidatePosition(report.getPerformanceBucket());
         report.setChartsData(chartData);
-        
-        return report;
+    }
+    
+    private void generateDefaultReportContent(ReportInputs inputs) {
+        generateDefaultReportContent(inputs.report(), inputs.report().getUserInfo(), inputs.sectionScores(),
+            inputs.aptitudeStats(), inputs.behavioralStats(), inputs.domainStats(),
+            inputs.aptitudeCategoryStats(), inputs.behavioralCategoryStats(), inputs.domainCategoryStats());
     }
     
     private int calculateCorrectAnswers(PsychometricSession session) {
@@ -350,12 +403,15 @@ public class ReportGenerationService {
         return correct;
     }
     
-    private void generateAIReportContent(PsychometricReport report, PsychometricSession session,
-                                         Map<String, Integer> bigFiveScores, Map<String, Double> sectionScores,
-                                         SectionStats aptitudeStats, SectionStats behavioralStats, SectionStats domainStats,
-                                         Map<String, CategoryStats> aptitudeCategoryStats,
-                                         Map<String, CategoryStats> behavioralCategoryStats,
-                                         Map<String, CategoryStats> domainCategoryStats) {
+    private void generateAIReportContent(PsychometricReport report, PsychometricSession session, ReportInputs inputs) {
+        Map<String, Integer> bigFiveScores = inputs.bigFiveScores();
+        Map<String, Double> sectionScores = inputs.sectionScores();
+        SectionStats aptitudeStats = inputs.aptitudeStats();
+        SectionStats behavioralStats = inputs.behavioralStats();
+        SectionStats domainStats = inputs.domainStats();
+        Map<String, CategoryStats> aptitudeCategoryStats = inputs.aptitudeCategoryStats();
+        Map<String, CategoryStats> behavioralCategoryStats = inputs.behavioralCategoryStats();
+        Map<String, CategoryStats> domainCategoryStats = inputs.domainCategoryStats();
         String prompt = buildReportGenerationPrompt(report, session, bigFiveScores, sectionScores,
             aptitudeStats, behavioralStats, domainStats,
             aptitudeCategoryStats, behavioralCategoryStats, domainCategoryStats);
@@ -364,22 +420,19 @@ public class ReportGenerationService {
         request.setTemperature(0.8); // Higher temperature for more variety and uniqueness
         
         WebClient webClient = webClientBuilder
-            .baseUrl(OPENAI_API_URL)
+            .baseUrl(openAiBaseUrl + CHAT_COMPLETIONS_PATH)
             .defaultHeader("Authorization", "Bearer " + openAiApiKey)
             .defaultHeader("Content-Type", "application/json")
             .build();
         
-        OpenAIResponse response = webClient.post()
-            .bodyValue(request)
-            .retrieve()
-            .bodyToMono(OpenAIResponse.class)
-            .block();
+        OpenAIResponse response = callOpenAI(REPORT_CALL_SITE, webClient, request);
         
         if (response != null && response.getChoices() != null && !response.getChoices().isEmpty()) {
             String content = response.getChoices().get(0).getMessage().getContent();
             parseAIResponse(content, report, sectionScores, aptitudeStats, behavioralStats, domainStats,
                 aptitudeCategoryStats, behavioralCategoryStats, domainCategoryStats);
         } else {
+            llmMetrics.recordFallback(REPORT_CALL_SITE, "empty_response");
             Map<String, Double> emptyScores = new HashMap<>();
             emptyScores.put("aptitude", report.getAptitudeScore() != null ? report.getAptitudeScore() : 0.0);
             emptyScores.put("behavioral", report.getBehavioralScore() != null ? report.getBehavioralScore() : 0.0);
@@ -390,6 +443,24 @@ public class ReportGenerationService {
         }
     }
     
+    private OpenAIResponse callOpenAI(String callSite, WebClient webClient, OpenAIRequest request) {
+        Mono<OpenAIResponse> call = webClient.post()
+            .bodyValue(request)
+            .retrieve()
+            .bodyToMono(OpenAIResponse.class);
+        // Bounded by the resilience deadline, so block() cannot hang on a stalled provider
+        OpenAIResponse response = llmResilience.execute(callSite, request.getModel(), () -> call).block();
+        if (response != null && response.getUsage() != null) {
+            llmMetrics.recordUsage(callSite, request.getModel(), response.getUsage().getPromptTokens(),
+                response.getUsage().getCompletionTokens());
+        }
+        return response;
+    }
+    
+    private static String fallbackReason(Exception e) {
+        return e instanceof LlmResilience.CircuitOpenException ? "circuit_open" : "error";
+    }
+    
     private String buildReportGenerationPrompt(PsychometricReport report, PsychometricSession session,
                                               Map<String, Integer> bigFiveScores, Map<String, Double> sectionScores,
                                               SectionStats aptitudeStats, SectionStats behavioralStats, SectionStats domainStats,
@@ -853,14 +924,16 @@ public class ReportGenerationService {
                     aptitudeStats, behavioralStats, domainStats,
                     aptitudeCategoryStats, behavioralCategoryStats, domainCategoryStats);
             } catch (Exception ex) {
-                System.err.println("Error generating unique narrative: " + ex.getMessage());
+                log.warn("Error generating unique narrative: {}", ex.getMessage());
                 // Fallback to AI-generated narrative if individual generation fails
                 if (root.has("narrativeSummary")) {
                     report.setNarrativeSummary(root.get("narrativeSummary").asText());
                 }
             }
         } catch (Exception e) {
-            System.err.println("Error parsing AI response: " + e.getMessage());
+            log.warn("Error parsing AI response: {}", e.getMessage());
+            llmMetrics.recordParseFailure(REPORT_CALL_SITE);
+            llmMetrics.recordFallback(REPORT_CALL_SITE, "parse_failure");
             Map<String, Double> emptyScores = new HashMap<>();
             emptyScores.put("aptitude", report.getAptitudeScore() != null ? report.getAptitudeScore() : 0.0);
             emptyScores.put("behavioral", report.getBehavioralScore() != null ? report.getBehavioralScore() : 0.0);
@@ -1601,7 +1674,7 @@ public class ReportGenerationService {
                     aptitudeCategoryStats, behavioralCategoryStats, domainCategoryStats));
             }
         } catch (Exception e) {
-            System.err.println("Error generating unique narrative in fallback: " + e.getMessage());
+            log.warn("Error generating unique narrative in fallback: {}", e.getMessage());
             report.setNarrativeSummary(buildSectionPerformanceNarrative(sectionScores, aptitudeStats, behavioralStats, domainStats,
                 aptitudeCategoryStats, behavioralCategoryStats, domainCategoryStats));
         }
@@ -1968,16 +2041,12 @@ public class ReportGenerationService {
             request.setTemperature(0.85 + (categoryIndex % 3) * 0.033); // 0.85, 0.883, 0.916, cycling
             
             WebClient webClient = webClientBuilder
-                .baseUrl(OPENAI_API_URL)
+                .baseUrl(openAiBaseUrl + CHAT_COMPLETIONS_PATH)
                 .defaultHeader("Authorization", "Bearer " + openAiApiKey)
                 .defaultHeader("Content-Type", "application/json")
                 .build();
             
-            OpenAIResponse response = webClient.post()
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(OpenAIResponse.class)
-                .block();
+            OpenAIResponse response = callOpenAI(NARRATIVE_CALL_SITE, webClient, request);
             
             if (response != null && response.getChoices() != null && !response.getChoices().isEmpty()) {
                 String content = response.getChoices().get(0).getMessage().getContent().trim();
@@ -1985,8 +2054,10 @@ public class ReportGenerationService {
                 content = content.replaceAll("^```[\\w]*\\n?", "").replaceAll("\\n?```$", "").trim();
                 return content;
             }
+            llmMetrics.recordFallback(NARRATIVE_CALL_SITE, "empty_response");
         } catch (Exception e) {
-            System.err.println("Error generating unique narrative for category " + categoryName + ": " + e.getMessage());
+            log.warn("Error generating unique narrative for category {}: {}", categoryName, e.getMessage());
+            llmMetrics.recordFallback(NARRATIVE_CALL_SITE, fallbackReason(e));
         }
         
         // Fallback to a simple unique statement if AI fails
@@ -2563,6 +2634,14 @@ public class ReportGenerationService {
         }
     }
 
+    private record ReportInputs(PsychometricReport report, Map<String, Integer> bigFiveScores,
+                                Map<String, Double> sectionScores,
+                                SectionStats aptitudeStats, SectionStats behavioralStats, SectionStats domainStats,
+                                Map<String, CategoryStats> aptitudeCategoryStats,
+                                Map<String, CategoryStats> behavioralCategoryStats,
+                                Map<String, CategoryStats> domainCategoryStats) {
+    }
+    
     private static class SectionStats {
         int total = 0;
         int attempted = 0;
@@ -4,12 +4,14 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.springframework.stereotype.Service;
 
 import com.profiling.model.psychometric.Answer;
 import com.profiling.model.psychometric.Question;
 import com.profiling.model.psychometric.PsychometricSession;
+import com.profiling.model.psychometric.RunningScores;
 
 @Service
 public class ScoringService {
@@ -26,6 +28,15 @@ public class ScoringService {
         scores.put("agreeableness", 50);
         scores.put("neuroticism", 50);
         
+        if (session.getRunningScores() != null) {
+            session.getRunningScores().getBigFive().forEach((trait, tally) -> {
+                if (tally.getCount() > 0) {
+                    scores.put(trait, (int) Math.max(0, Math.min(100, tally.getSum() / tally.getCount())));
+                }
+            });
+            return scores;
+        }
+        
         if (session.getQuestions() == null || session.getAnswers() == null) {
             return scores;
         }
@@ -58,34 +69,9 @@ public class ScoringService {
                 continue;
             }
             
-            // Map category to trait (case-insensitive)
-            String trait = null;
-            String categoryLower = category.toLowerCase();
-            if (categoryLower.contains("openness")) {
-                trait = "openness";
-            } else if (categoryLower.contains("conscientiousness")) {
-                trait = "conscientiousness";
-            } else if (categoryLower.contains("extraversion")) {
-                trait = "extraversion";
-            } else if (categoryLower.contains("agreeableness")) {
-                trait = "agreeableness";
-            } else if (categoryLower.contains("neuroticism")) {
-                trait = "neuroticism";
-            }
-            
+            String trait = traitFor(category);
             if (trait != null) {
-                int index = answer.getSelectedOptionIndex();
-                int score;
-                // Prefer SJT-style per-option impact scores when available
-                if (question.getTraitImpactScores() != null
-                        && index >= 0
-                        && index < question.getTraitImpactScores().size()) {
-                    score = question.getTraitImpactScores().get(index);
-                } else {
-                    // Fallback for legacy Likert questions: 0-4 mapped to 0-100
-                    score = index * 25;
-                }
-                traitAnswers.get(trait).add(score);
+                traitAnswers.get(trait).add(traitScore(question, answer.getSelectedOptionIndex()));
             }
         }
         
@@ -111,6 +97,25 @@ public class ScoringService {
         sectionScores.put("behavioral", 0.0);
         sectionScores.put("domain", 0.0);
         
+        if (session.getRunningScores() != null && session.getQuestions() != null) {
+            Map<Integer, Integer> questionsPerSection = new HashMap<>();
+            for (Question question : session.getQuestions()) {
+                questionsPerSection.merge(question.getSectionNumber(), 1, Integer::sum);
+            }
+            for (int sectionNum = 1; sectionNum <= 3; sectionNum++) {
+                RunningScores.SectionTally tally = session.getRunningScores().section(sectionNum);
+                int total = questionsPerSection.getOrDefault(sectionNum, 0);
+                double score;
+                if (sectionNum == 2 && tally.getImpactCount() > 0) {
+                    score = (double) tally.getImpactSum() / tally.getImpactCount();
+                } else {
+                    score = total == 0 || tally.getAttempted() == 0 ? 0.0 : tally.getCredited() * 100.0 / total;
+                }
+                sectionScores.put(sectionName(sectionNum), score);
+            }
+            return sectionScores;
+        }
+        
         if (session.getQuestions() == null || session.getAnswers() == null) {
             return sectionScores;
         }
@@ -184,6 +189,94 @@ public class ScoringService {
         return sectionScores;
     }
     
+    /**
+     * Adds ({@code sign} = 1) or removes ({@code sign} = -1) one answer's contribution to the
+     * running scores, using the same rules as the full rescoring above. A null
+     * {@code selectedOptionIndex} (no answer) contributes nothing.
+     */
+    public void applyAnswer(RunningScores scores, Question question, Integer selectedOptionIndex, int sign) {
+        if (selectedOptionIndex == null) {
+            return;
+        }
+        int section = question.getSectionNumber();
+        boolean matchesKey = Objects.equals(selectedOptionIndex, question.getCorrectOptionIndex());
+
+        RunningScores.SectionTally tally = scores.section(section);
+        tally.setAttempted(tally.getAttempted() + sign);
+        if (matchesKey) {
+            tally.setCorrect(tally.getCorrect() + sign);
+        }
+        if (section == 1) {
+            if (matchesKey) {
+                tally.setCredited(tally.getCredited() + sign);
+            }
+        } else if (section == 2) {
+            Integer impact = impactScore(question, selectedOptionIndex);
+            if (impact != null) {
+                tally.setImpactSum(tally.getImpactSum() + (long) sign * impact);
+                tally.setImpactCount(tally.getImpactCount() + sign);
+            } else {
+                tally.setCredited(tally.getCredited() + sign);
+            }
+        } else if (section == 3) {
+            tally.setCredited(tally.getCredited() + sign);
+        }
+
+        String category = question.getCategory();
+        if (category != null && !category.isEmpty()) {
+            RunningScores.CategoryTally categoryTally = scores.category(section, category);
+            categoryTally.setAttempted(categoryTally.getAttempted() + sign);
+            if (matchesKey) {
+                categoryTally.setCorrect(categoryTally.getCorrect() + sign);
+            }
+            String trait = section == 2 ? traitFor(category) : null;
+            if (trait != null) {
+                RunningScores.TraitTally traitTally = scores.trait(trait);
+                traitTally.setSum(traitTally.getSum() + (long) sign * traitScore(question, selectedOptionIndex));
+                traitTally.setCount(traitTally.getCount() + sign);
+            }
+        }
+    }
+
+    /**
+     * Big Five trait a behavioral category measures (case-insensitive), or null.
+     */
+    static String traitFor(String category) {
+        String categoryLower = category.toLowerCase();
+        if (categoryLower.contains("openness")) {
+            return "openness";
+        } else if (categoryLower.contains("conscientiousness")) {
+            return "conscientiousness";
+        } else if (categoryLower.contains("extraversion")) {
+            return "extraversion";
+        } else if (categoryLower.contains("agreeableness")) {
+            return "agreeableness";
+        } else if (categoryLower.contains("neuroticism")) {
+            return "neuroticism";
+        }
+        return null;
+    }
+
+    private static Integer impactScore(Question question, int index) {
+        if (question.getTraitImpactScores() != null
+                && index >= 0
+                && index < question.getTraitImpactScores().size()) {
+            return question.getTraitImpactScores().get(index);
+        }
+        return null;
+    }
+
+    private static int traitScore(Question question, int index) {
+        // Prefer SJT-style per-option impact scores when available
+        Integer impact = impactScore(question, index);
+        // Fallback for legacy Likert questions: 0-4 mapped to 0-100
+        return impact != null ? impact : index * 25;
+    }
+
+    private static String sectionName(int sectionNumber) {
+        return sectionNumber == 1 ? "aptitude" : sectionNumber == 2 ? "behavioral" : "domain";
+    }
+
     /**
      * Calculate overall percentile based on performance
      */
@@ -0,0 +1,173 @@
+package com.profiling.service.psychometric;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.profiling.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Admission control for session creation, sized to the LLM throughput budget.
+ *
+ * A token bucket holds LLM calls: it refills at {@code llm-calls-per-minute} up to
+ * {@code burst-calls}, and each session costs the calls its question generation will make.
+ * A session that finds enough tokens starts generating at once. Otherwise it enters a
+ * bounded waiting room: the tokens are borrowed from the future, and its generation jobs
+ * are deferred until the bucket would have refilled, so the LLM never sees more than the
+ * budget. When the waiting room is full the request is rejected with a 429 and a
+ * Retry-After of when the next waiting session starts.
+ *
+ * Sessions that need no LLM calls (served entirely from the question bank and templates)
+ * bypass the bucket and are never rejected. The limiter is per instance; with several
+ * instances, divide the provider budget between them.
+ */
+@Component
+public class SessionAdmissionControl {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionAdmissionControl.class);
+
+    /**
+     * Outcome of an admission: position 0 means generation starts immediately. The calls and
+     * start time identify what {@link #release(Admission)} gives back.
+     */
+    public record Admission(int queuePosition, Duration estimatedWait, int llmCalls, Instant startsAt) {
+
+        public boolean isQueued() {
+            return queuePosition > 0;
+        }
+    }
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final int waitingRoomSize;
+    private final Clock clock;
+
+    private double tokens;
+    private Instant lastRefill;
+    // Start times of admitted sessions that are still waiting, in admission (and start) order
+    private final Deque<Instant> waiting = new ArrayDeque<>();
+
+    private final Counter admitted;
+    private final Counter queued;
+    private final Counter rejected;
+    private final Counter bypassed;
+    private final Counter released;
+
+    @Autowired
+    public SessionAdmissionControl(
+            MeterRegistry registry,
+            @Value("${app.admission.llm-calls-per-minute:120}") double llmCallsPerMinute,
+            @Value("${app.admission.burst-calls:60}") int burstCalls,
+            @Value("${app.admission.waiting-room-size:200}") int waitingRoomSize) {
+        this(registry, llmCallsPerMinute, burstCalls, waitingRoomSize, Clock.systemUTC());
+    }
+
+    SessionAdmissionControl(MeterRegistry registry, double llmCallsPerMinute, int burstCalls,
+                            int waitingRoomSize, Clock clock) {
+        if (llmCallsPerMinute <= 0) {
+            throw new IllegalArgumentException("app.admission.llm-calls-per-minute must be positive");
+        }
+        this.capacity = Math.max(burstCalls, 1);
+        this.tokensPerNano = llmCallsPerMinute / Duration.ofMinutes(1).toNanos();
+        this.waitingRoomSize = waitingRoomSize;
+        this.clock = clock;
+        this.tokens = capacity;
+        this.lastRefill = clock.instant();
+
+        this.admitted = outcome(registry, "admitted");
+        this.queued = outcome(registry, "queued");
+        this.rejected = outcome(registry, "rejected");
+        this.bypassed = outcome(registry, "bypassed");
+        this.released = outcome(registry, "released");
+        Gauge.builder("sessions.admission.waiting", this, SessionAdmissionControl::getWaitingCount)
+                .description("Admitted sessions waiting for LLM budget before generation starts")
+                .register(registry);
+    }
+
+    /**
+     * Admits a session that will make {@code llmCalls} LLM calls, or throws
+     * {@link TooManyRequestsException} when the waiting room is full.
+     */
+    public synchronized Admission admit(int llmCalls) {
+        if (llmCalls <= 0) {
+            bypassed.increment();
+            return new Admission(0, Duration.ZERO, 0, null);
+        }
+        Instant now = clock.instant();
+        refill(now);
+        while (!waiting.isEmpty() && !waiting.peekFirst().isAfter(now)) {
+            waiting.pollFirst();
+        }
+
+        // First come, first served: nobody overtakes a waiting session
+        if (waiting.isEmpty() && tokens >= llmCalls) {
+            tokens -= llmCalls;
+            admitted.increment();
+            return new Admission(0, Duration.ZERO, llmCalls, now);
+        }
+        if (waiting.size() >= waitingRoomSize) {
+            rejected.increment();
+            long retryAfter = Math.max(1, (long) Math.ceil(
+                    Duration.between(now, waiting.peekFirst()).toMillis() / 1000.0));
+            log.warn("Session admission rejected: waiting room full ({} sessions), retry in {}s",
+                    waiting.size(), retryAfter);
+            throw new TooManyRequestsException(
+                    "Too many test sessions are starting right now, please retry shortly", retryAfter);
+        }
+
+        tokens -= llmCalls;
+        Duration wait = Duration.ofNanos((long) Math.ceil(-tokens / tokensPerNano));
+        Instant startsAt = now.plus(wait);
+        waiting.addLast(startsAt);
+        queued.increment();
+        return new Admission(waiting.size(), wait, llmCalls, startsAt);
+    }
+
+    /**
+     * Gives back the calls of an admission whose session was never created, and its place in
+     * the waiting room if it had one. Sessions admitted after it keep their start times.
+     */
+    public synchronized void release(Admission admission) {
+        if (admission.llmCalls() <= 0) {
+            return;
+        }
+        refill(clock.instant());
+        tokens = Math.min(capacity, tokens + admission.llmCalls());
+        if (admission.isQueued()) {
+            waiting.remove(admission.startsAt());
+        }
+        released.increment();
+    }
+
+    public synchronized int getWaitingCount() {
+        Instant now = clock.instant();
+        return (int) waiting.stream().filter(start -> start.isAfter(now)).count();
+    }
+
+    private void refill(Instant now) {
+        long elapsed = Duration.between(lastRefill, now).toNanos();
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+            lastRefill = now;
+        }
+    }
+
+    private static Counter outcome(MeterRegistry registry, String outcome) {
+        return Counter.builder("sessions.admission")
+                .description("Session creation requests by admission outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
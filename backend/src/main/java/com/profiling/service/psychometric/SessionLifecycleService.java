@@ -0,0 +1,329 @@
+package com.profiling.service.psychometric;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.profiling.model.SavedPsychometricReport;
+import com.profiling.model.psychometric.ArchivedSession;
+import com.profiling.model.psychometric.GenerationJob;
+import com.profiling.model.psychometric.PsychometricSession;
+import com.profiling.model.psychometric.SessionStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Keeps {@code psychometric_sessions} from growing without bound.
+ *
+ * <ul>
+ *   <li>Reaper: sessions unchanged for {@code abandoned-after-hours} that never started
+ *       (CREATED, GENERATING or PARTIAL_READY without a single answer) are deleted together
+ *       with their generation jobs. Other unfinished sessions (READY, IN_PROGRESS, FAILED, or
+ *       with answers) are only marked EXPIRED, so no candidate answers are lost.</li>
+ *   <li>Archiver: COMPLETED sessions older than {@code archive-after-days} are copied to
+ *       {@code psychometric_session_archive} (answers, scores and report only, in a
+ *       zstd-compressed collection) and removed. Sessions referenced by a saved report
+ *       are left in place.</li>
+ *   <li>Storage report: document counts and sizes of the session collections and the
+ *       WiredTiger cache hit ratio are published as gauges and logged.</li>
+ * </ul>
+ *
+ * Sessions written before auditing was enabled have no {@code updatedAt}; for those the
+ * creation time encoded in the ObjectId is used. All steps are idempotent, so running them
+ * on several instances at once is safe.
+ */
+@Service
+public class SessionLifecycleService {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionLifecycleService.class);
+
+    static final String SESSIONS = "psychometric_sessions";
+    static final String ARCHIVE = "psychometric_session_archive";
+    static final String JOBS = "generation_jobs";
+
+    /** Statuses a session has before the candidate can answer; without answers these are deleted. */
+    static final List<SessionStatus> NEVER_STARTED_STATUSES = List.of(
+            SessionStatus.CREATED, SessionStatus.GENERATING, SessionStatus.PARTIAL_READY);
+    /** Unfinished statuses that may hold candidate work; these are expired, never deleted. */
+    static final List<SessionStatus> STARTED_STATUSES = List.of(
+            SessionStatus.READY, SessionStatus.IN_PROGRESS, SessionStatus.FAILED);
+
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry registry;
+    private final Duration abandonedAfter;
+    private final Duration archiveAfter;
+    private final int batchSize;
+    private final Clock clock;
+
+    private final Counter reaped;
+    private final Counter expired;
+    private final Counter archived;
+    private final Map<String, CollectionStats> collectionStats = new ConcurrentHashMap<>();
+    private final AtomicLong cacheHitRatioPermille = new AtomicLong(-1);
+    private volatile boolean archiveCollectionChecked;
+
+    @Autowired
+    public SessionLifecycleService(
+            MongoTemplate mongoTemplate,
+            MeterRegistry registry,
+            @Value("${app.sessions.lifecycle.abandoned-after-hours:168}") long abandonedAfterHours,
+            @Value("${app.sessions.lifecycle.archive-after-days:180}") long archiveAfterDays,
+            @Value("${app.sessions.lifecycle.batch-size:200}") int batchSize) {
+        this(mongoTemplate, registry, Duration.ofHours(abandonedAfterHours), Duration.ofDays(archiveAfterDays),
+                batchSize, Clock.systemUTC());
+    }
+
+    SessionLifecycleService(MongoTemplate mongoTemplate, MeterRegistry registry, Duration abandonedAfter,
+                            Duration archiveAfter, int batchSize, Clock clock) {
+        this.mongoTemplate = mongoTemplate;
+        this.registry = registry;
+        this.abandonedAfter = abandonedAfter;
+        this.archiveAfter = archiveAfter;
+        this.batchSize = batchSize;
+        this.clock = clock;
+        this.reaped = Counter.builder("sessions.lifecycle.reaped")
+                .description("Abandoned psychometric sessions deleted")
+                .register(registry);
+        this.expired = Counter.builder("sessions.lifecycle.expired")
+                .description("Abandoned psychometric sessions with candidate work marked EXPIRED")
+                .register(registry);
+        this.archived = Counter.builder("sessions.lifecycle.archived")
+                .description("Completed psychometric sessions moved to the archive")
+                .register(registry);
+        Gauge.builder("mongo.cache.hit.ratio", cacheHitRatioPermille, value -> value.get() < 0 ? Double.NaN : value.get() / 1000.0)
+                .description("WiredTiger cache hit ratio (pages requested that were already in cache)")
+                .register(registry);
+    }
+
+    /**
+     * Deletes abandoned sessions that never started and expires the other abandoned ones, one
+     * batch of each per run. Disabled when abandoned-after-hours is 0.
+     */
+    @Scheduled(fixedDelayString = "${app.sessions.lifecycle.interval-ms:3600000}",
+            initialDelayString = "${app.sessions.lifecycle.initial-delay-ms:300000}")
+    public void reapAbandonedSessions() {
+        if (abandonedAfter.isZero()) {
+            return;
+        }
+        try {
+            Criteria neverStarted = where("status").in(NEVER_STARTED_STATUSES.stream().map(Enum::name).toList())
+                    .and("answerVersion").exists(false)
+                    .and("answers.0").exists(false)
+                    .andOperator(olderThan(abandonedAfter));
+            List<String> ids = findIds(neverStarted);
+            if (!ids.isEmpty()) {
+                // Re-check the condition so a session that moved on since the find is kept
+                long deleted = mongoTemplate.remove(new Query(where("_id").in(ids).andOperator(neverStarted)),
+                        PsychometricSession.class).getDeletedCount();
+                mongoTemplate.remove(new Query(where("sessionId").in(ids)), GenerationJob.class);
+                reaped.increment(deleted);
+                log.info("Deleted {} abandoned psychometric sessions that never started", deleted);
+            }
+
+            Criteria started = new Criteria().orOperator(
+                    where("status").in(STARTED_STATUSES.stream().map(Enum::name).toList()),
+                    where("status").in(NEVER_STARTED_STATUSES.stream().map(Enum::name).toList())
+                            .orOperator(where("answerVersion").exists(true), where("answers.0").exists(true)))
+                    .andOperator(olderThan(abandonedAfter));
+            ids = findIds(started);
+            if (!ids.isEmpty()) {
+                long updated = mongoTemplate.updateMulti(new Query(where("_id").in(ids).andOperator(started)),
+                        new Update().set("status", SessionStatus.EXPIRED).set("updatedAt", clock.instant()),
+                        PsychometricSession.class).getModifiedCount();
+                // Pending generation would move the session on again
+                mongoTemplate.remove(new Query(where("sessionId").in(ids)), GenerationJob.class);
+                expired.increment(updated);
+                log.info("Expired {} abandoned psychometric sessions", updated);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Abandoned session cleanup failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Moves old completed sessions into the archive, one batch per run. Only sessions with a
+     * stored report are moved, since reading the archive never writes one. Disabled when
+     * archive-after-days is 0.
+     */
+    @Scheduled(fixedDelayString = "${app.sessions.lifecycle.interval-ms:3600000}",
+            initialDelayString = "${app.sessions.lifecycle.initial-delay-ms:300000}")
+    public void archiveCompletedSessions() {
+        if (archiveAfter.isZero()) {
+            return;
+        }
+        try {
+            ensureArchiveCollection();
+            Criteria criteria = where("status").is(SessionStatus.COMPLETED.name()).and("report.content").exists(true)
+                    .andOperator(olderThan(archiveAfter));
+            List<String> ids = findIds(criteria);
+            if (ids.isEmpty()) {
+                return;
+            }
+            Set<String> saved = mongoTemplate.find(new Query(where("sessionId").in(ids)), SavedPsychometricReport.class)
+                    .stream().map(SavedPsychometricReport::getSessionId).collect(Collectors.toSet());
+
+            Instant now = clock.instant();
+            int moved = 0;
+            for (String id : ids) {
+                if (saved.contains(id)) {
+                    continue;
+                }
+                PsychometricSession session = mongoTemplate.findById(id, PsychometricSession.class);
+                if (session == null) {
+                    continue;
+                }
+                // Archive first, then delete: a crash in between leaves a session that is
+                // archived again (same id) on the next run
+                mongoTemplate.save(ArchivedSession.from(session, now));
+                mongoTemplate.remove(new Query(where("_id").is(id).and("status").is(SessionStatus.COMPLETED)),
+                        PsychometricSession.class);
+                moved++;
+            }
+            archived.increment(moved);
+            if (moved > 0) {
+                log.info("Archived {} completed psychometric sessions", moved);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Session archiving failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Refreshes the storage gauges ({@code mongo.collection.*} per collection and
+     * {@code mongo.cache.hit.ratio}) and logs a one-line summary.
+     */
+    @Scheduled(fixedDelayString = "${app.sessions.lifecycle.stats-interval-ms:600000}",
+            initialDelayString = "${app.sessions.lifecycle.initial-delay-ms:300000}")
+    public void reportStorage() {
+        StringBuilder summary = new StringBuilder("Session storage:");
+        for (String collection : List.of(SESSIONS, ARCHIVE, JOBS)) {
+            try {
+                Document stats = mongoTemplate.executeCommand(new Document("collStats", collection));
+                CollectionStats target = collectionStats.computeIfAbsent(collection, this::registerCollectionGauges);
+                target.documents.set(number(stats.get("count")));
+                target.dataBytes.set(number(stats.get("size")));
+                target.storageBytes.set(number(stats.get("storageSize")));
+                target.indexBytes.set(number(stats.get("totalIndexSize")));
+                summary.append(String.format(" %s=%d docs/%d KB data/%d KB on disk;", collection,
+                        target.documents.get(), target.dataBytes.get() / 1024, target.storageBytes.get() / 1024));
+            } catch (DataAccessException e) {
+                log.debug("collStats failed for {}: {}", collection, e.getMessage());
+            }
+        }
+        try {
+            Document cache = (Document) ((Document) mongoTemplate.executeCommand(new Document("serverStatus", 1))
+                    .get("wiredTiger")).get("cache");
+            Double ratio = cacheHitRatio(cache);
+            if (ratio != null) {
+                cacheHitRatioPermille.set(Math.round(ratio * 1000));
+                summary.append(String.format(" cache hit ratio=%.3f", ratio));
+            }
+        } catch (DataAccessException | NullPointerException | ClassCastException e) {
+            // serverStatus needs the clusterMonitor role and is not available on every deployment
+            log.debug("serverStatus unavailable: {}", e.getMessage());
+        }
+        log.info(summary.toString());
+    }
+
+    /**
+     * 1 - (pages read into cache / pages requested from cache), or null when the counters are missing.
+     */
+    static Double cacheHitRatio(Document cache) {
+        if (cache == null) {
+            return null;
+        }
+        long requested = number(cache.get("pages requested from the cache"));
+        long readIn = number(cache.get("pages read into cache"));
+        if (requested <= 0) {
+            return null;
+        }
+        return Math.max(0.0, 1.0 - (double) readIn / requested);
+    }
+
+    /**
+     * Matches documents last updated before now - age. Documents without updatedAt fall back
+     * to the ObjectId timestamp. Values are given in their stored form because the id lookups
+     * query the raw collection, without entity mapping.
+     */
+    Criteria olderThan(Duration age) {
+        Instant cutoff = clock.instant().minus(age);
+        return new Criteria().orOperator(
+                where("updatedAt").lt(Date.from(cutoff)),
+                where("updatedAt").exists(false).and("_id").lt(new ObjectId(Date.from(cutoff))));
+    }
+
+    private List<String> findIds(Criteria criteria) {
+        Query query = new Query(criteria).limit(batchSize);
+        query.fields().include("_id");
+        return mongoTemplate.find(query, Document.class, SESSIONS).stream()
+                .map(document -> document.get("_id").toString())
+                .toList();
+    }
+
+    private void ensureArchiveCollection() {
+        if (archiveCollectionChecked) {
+            return;
+        }
+        if (!mongoTemplate.collectionExists(ARCHIVE)) {
+            try {
+                mongoTemplate.executeCommand(new Document("create", ARCHIVE)
+                        .append("storageEngine", new Document("wiredTiger",
+                                new Document("configString", "block_compressor=zstd"))));
+                log.info("Created {} with zstd block compression", ARCHIVE);
+            } catch (DataAccessException e) {
+                // Created concurrently by another instance, or zstd unsupported; the default is fine
+                log.debug("Could not create {} with zstd: {}", ARCHIVE, e.getMessage());
+            }
+        }
+        archiveCollectionChecked = true;
+    }
+
+    private CollectionStats registerCollectionGauges(String collection) {
+        CollectionStats stats = new CollectionStats();
+        Gauge.builder("mongo.collection.documents", stats.documents, AtomicLong::get)
+                .tag("collection", collection).register(registry);
+        Gauge.builder("mongo.collection.data.size", stats.dataBytes, AtomicLong::get)
+                .tag("collection", collection).baseUnit("bytes").register(registry);
+        Gauge.builder("mongo.collection.storage.size", stats.storageBytes, AtomicLong::get)
+                .tag("collection", collection).baseUnit("bytes").register(registry);
+        Gauge.builder("mongo.collection.index.size", stats.indexBytes, AtomicLong::get)
+                .tag("collection", collection).baseUnit("bytes").register(registry);
+        return stats;
+    }
+
+    private static long number(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    private static final class CollectionStats {
+        final AtomicLong documents = new AtomicLong();
+        final AtomicLong dataBytes = new AtomicLong();
+        final AtomicLong storageBytes = new AtomicLong();
+        final AtomicLong indexBytes = new AtomicLong();
+    }
+}
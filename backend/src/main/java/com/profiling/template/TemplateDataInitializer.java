@@ -1,32 +1,90 @@
 package com.profiling.template;
 
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
 import java.time.Instant;
+import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
-
-import org.springframework.boot.ApplicationArguments;
-import org.springframework.boot.ApplicationRunner;
+import java.util.Set;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import com.mongodb.bulk.BulkWriteResult;
+import com.profiling.config.DeferredInitializer;
+
+/**
+ * Seeds the built-in global templates once the application is ready.
+ *
+ * A SHA-256 of the shipped template definitions is stored in {@code seed_checksums}; when it
+ * matches and every default template is still present, startup costs one lookup and one
+ * count. Otherwise the deprecated templates are removed and the defaults inserted or
+ * refreshed in a single ordered bulk write, and the new checksum is stored.
+ */
 @Component
-public class TemplateDataInitializer implements ApplicationRunner {
+public class TemplateDataInitializer implements DeferredInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(TemplateDataInitializer.class);
+
+    static final String SEED_COLLECTION = "seed_checksums";
+    static final String SEED_ID = "templates";
+    /** Bump when the seeding rules change but the template text does not, to force a reseed. */
+    static final int SEED_VERSION = 1;
 
-    private final TemplateRepository templateRepository;
+    static final List<String> DEPRECATED_TEMPLATE_IDS = List.of("formal-letter", "portfolio");
+    /** Templates whose CSS is always reset to the shipped styling; the others keep customised CSS. */
+    static final Set<String> MANAGED_CSS_TEMPLATE_IDS = Set.of("cover", "professional-profile", "designer-portrait");
 
-    public TemplateDataInitializer(TemplateRepository templateRepository) {
-        this.templateRepository = templateRepository;
+    private final MongoTemplate mongoTemplate;
+    private final Clock clock;
+
+    @Autowired
+    public TemplateDataInitializer(MongoTemplate mongoTemplate) {
+        this(mongoTemplate, Clock.systemUTC());
     }
 
-    @Override
-    public void run(ApplicationArguments args) {
-        Instant now = Instant.now();
-        String defaultCss = getDefaultCss();
+    TemplateDataInitializer(MongoTemplate mongoTemplate, Clock clock) {
+        this.mongoTemplate = mongoTemplate;
+        this.clock = clock;
+    }
 
-        List<String> deprecatedTemplateIds = List.of("formal-letter", "portfolio");
-        for (String deprecatedId : deprecatedTemplateIds) {
-            templateRepository.findByIdAndUserIdIsNull(deprecatedId)
-                    .ifPresent(templateRepository::delete);
+    @Override
+    public void initialize() {
+        Instant now = clock.instant();
+        List<TemplateEntity> defaults = defaultTemplates(now);
+        String checksum = checksum(defaults);
+
+        if (isSeeded(checksum, defaults)) {
+            log.info("Default templates unchanged (checksum {}), seeding skipped", checksum.substring(0, 12));
+            return;
         }
 
+        BulkWriteResult result = seed(defaults, now);
+        mongoTemplate.upsert(query(where("_id").is(SEED_ID)),
+                new Update().set("checksum", checksum).set("seededAt", Date.from(now)), SEED_COLLECTION);
+        log.info("Default templates seeded (checksum {}): {} inserted, {} updated, {} deprecated removed",
+                checksum.substring(0, 12), result.getUpserts().size(), result.getModifiedCount(),
+                result.getDeletedCount());
+    }
+
+    /**
+     * The built-in global templates as shipped with this build.
+     */
+    public static List<TemplateEntity> defaultTemplates(Instant now) {
+        String defaultCss = getDefaultCss();
         List<TemplateEntity> defaults = List.of(
                 createTemplateEntity("professional", "Professional", "Extremely professional with fluent English",
                         "\uD83D\uDCBC", professionalTemplate(), defaultCss, now, now),
@@ -49,41 +107,82 @@ public class TemplateDataInitializer implements ApplicationRunner {
                         "Magazine-style profile with vertical name stack, photo, and quick portfolio highlights.",
                         "\uD83C\uDFA8", designerPortraitTemplate(), designerPortraitCss(), now, now));
         for (TemplateEntity template : defaults) {
-            // Set userId to null for global templates
+            // Global templates have no owner
             template.setUserId(null);
             template.setIsUserCustomTemplate(false);
-            
-            // Check if global template exists (userId is null)
-            if (!templateRepository.findByIdAndUserIdIsNull(template.getId()).isPresent()) {
-                templateRepository.save(template);
-                } else {
-                    // Update existing template with appropriate CSS (user can customize later via API)
-                    TemplateEntity existing = templateRepository.findByIdAndUserIdIsNull(template.getId()).orElse(null);
-                    if (existing != null) {
-                        boolean updated = false;
-                        // Always update CSS for cover letter and professional-profile templates to get latest styling
-                        // For other templates, only update if CSS is empty to preserve custom CSS
-                        if ("cover".equals(template.getId()) || "professional-profile".equals(template.getId())
-                                || "designer-portrait".equals(template.getId())
-                                || existing.getCss() == null || existing.getCss().trim().isEmpty()) {
-                            // Use the CSS from the template object (which has the correct CSS for each type)
-                            existing.setCss(template.getCss());
-                            updated = true;
-                        }
-                        if (existing.getEnabled() == null) {
-                            existing.setEnabled(true);
-                            updated = true;
-                        }
-                        if (updated) {
-                            existing.setUpdatedAt(Instant.now());
-                            templateRepository.save(existing);
-                        }
-                    }
-                }
+            template.setEnabled(true);
+        }
+        return defaults;
+    }
+
+    static String checksum(List<TemplateEntity> defaults) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        update(digest, String.valueOf(SEED_VERSION));
+        DEPRECATED_TEMPLATE_IDS.forEach(id -> update(digest, id));
+        for (TemplateEntity template : defaults) {
+            update(digest, template.getId());
+            update(digest, template.getName());
+            update(digest, template.getDescription());
+            update(digest, template.getIcon());
+            update(digest, template.getContent());
+            update(digest, template.getCss());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private boolean isSeeded(String checksum, List<TemplateEntity> defaults) {
+        Document state = mongoTemplate.findById(SEED_ID, Document.class, SEED_COLLECTION);
+        if (state == null || !checksum.equals(state.getString("checksum"))) {
+            return false;
+        }
+        // A default deleted by hand since the last seed is restored even if nothing changed.
+        List<String> ids = defaults.stream().map(TemplateEntity::getId).toList();
+        long present = mongoTemplate.count(query(where("id").in(ids).and("userId").is(null)), TemplateEntity.class);
+        return present == defaults.size();
+    }
+
+    private BulkWriteResult seed(List<TemplateEntity> defaults, Instant now) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, TemplateEntity.class);
+        bulk.remove(query(where("id").in(DEPRECATED_TEMPLATE_IDS).and("userId").is(null)));
+
+        for (TemplateEntity template : defaults) {
+            String id = template.getId();
+            bulk.upsert(query(where("id").is(id)), new Update()
+                    .setOnInsert("name", template.getName())
+                    .setOnInsert("description", template.getDescription())
+                    .setOnInsert("icon", template.getIcon())
+                    .setOnInsert("content", template.getContent())
+                    .setOnInsert("css", template.getCss())
+                    .setOnInsert("userId", null)
+                    .setOnInsert("isUserCustomTemplate", false)
+                    .setOnInsert("enabled", true)
+                    .setOnInsert("createdAt", now)
+                    .setOnInsert("updatedAt", now));
+
+            // Existing templates: always refresh managed CSS, fill in CSS only where it is blank
+            // so user-customised styling survives, and enable templates that predate the flag.
+            Criteria staleCss = MANAGED_CSS_TEMPLATE_IDS.contains(id)
+                    ? where("id").is(id).and("userId").is(null).and("css").ne(template.getCss())
+                    : where("id").is(id).and("userId").is(null)
+                            .orOperator(where("css").is(null), where("css").regex("^\\s*$"));
+            bulk.updateOne(query(staleCss), new Update().set("css", template.getCss()).set("updatedAt", now));
+            bulk.updateOne(query(where("id").is(id).and("userId").is(null).and("enabled").is(null)),
+                    new Update().set("enabled", true).set("updatedAt", now));
         }
+        return bulk.execute();
     }
 
-    private TemplateEntity createTemplateEntity(String id, String name, String description, String icon,
+    private static TemplateEntity createTemplateEntity(String id, String name, String description, String icon,
             String content, String css, Instant createdAt, Instant updatedAt) {
         TemplateEntity template = new TemplateEntity();
         template.setId(id);
@@ -97,7 +196,7 @@ public class TemplateDataInitializer implements ApplicationRunner {
         return template;
     }
 
-    private String getDefaultCss() {
+    private static String getDefaultCss() {
         return """
                 /* Overall container */
                 .profile-container {
@@ -207,25 +306,25 @@ public class TemplateDataInitializer implements ApplicationRunner {
                 """;
     }
 
-    private String professionalTemplate() {
+    private static String professionalTemplate() {
         return """
                 I am {{name}}, a dedicated and accomplished student currently pursuing a {{currentDegree}} degree with a specialization in {{branch}} at {{institute}}. Presently in my {{yearOfStudy}} year of academic tenure, I have demonstrated exceptional commitment to professional development through the successful completion of distinguished certifications including {{certifications}}. Throughout my educational journey, I have achieved notable recognition for {{achievements}}, which underscores my unwavering dedication to excellence. My technical proficiencies encompass {{technicalSkills}}, complemented by refined soft skills such as {{softSkills}}, which collectively position me as a well-rounded professional.{{professionalInternshipSentence}}{{professionalExperienceSentence}} For professional correspondence, I can be reached at {{email}}, and I invite you to explore my comprehensive professional profile at {{linkedin}}. Date of Birth: {{dob}}.
                 """;
     }
 
-    private String bioTemplate() {
+    private static String bioTemplate() {
         return """
                 Hey there! I'm {{name}} 👋 I'm a {{yearOfStudy}} year student studying {{branch}} in {{currentDegree}} at {{institute}}. I've picked up some cool certifications along the way like {{certifications}}, and I'm pretty proud of {{achievements}}! I love working with {{technicalSkills}}, and people tell me I'm good at {{softSkills}}. Want to connect? Drop me a line at {{email}} or check out my LinkedIn: {{linkedin}}.{{internshipClause}}{{experienceClause}} Let's chat!
                 """;
     }
 
-    private String storyTemplate() {
+    private static String storyTemplate() {
         return """
                 This is the story of {{name}}, born on {{dob}}. From a young age, there was always a passion for learning and growth. Today, that journey has led to pursuing a {{currentDegree}} degree in {{branch}} at {{institute}}, now in the {{yearOfStudy}} year. Along this path, several milestones were reached - certifications earned in {{certifications}}, and memorable achievements like {{achievements}}. The skills developed include {{technicalSkills}}, paired with personal strengths in {{softSkills}}.{{internshipNarrative}}{{experienceNarrative}} This journey continues to unfold, and new chapters are being written every day. To be part of this story, reach out at {{email}} or connect through {{linkedin}}.
                 """;
     }
 
-    private String coverLetterTemplate() {
+    private static String coverLetterTemplate() {
         return """
                 {{companyName}}
                 {{companyAddress}}
@@ -245,7 +344,7 @@ public class TemplateDataInitializer implements ApplicationRunner {
                 """;
     }
 
-    private String coverLetterCss() {
+    private static String coverLetterCss() {
         return """
                 /* Cover Letter Container */
                 .profile-container {
@@ -460,7 +559,7 @@ public class TemplateDataInitializer implements ApplicationRunner {
                 """;
     }
 
-    private String industryTemplate() {
+    private static String industryTemplate() {
         return """
                 {{name}} is a dedicated and growth-oriented student currently pursuing a {{currentDegree}} degree in {{branch}} at {{institute}}.
 
@@ -484,7 +583,7 @@ public class TemplateDataInitializer implements ApplicationRunner {
                 """;
     }
 
-    private String modernProfessionalTemplate() {
+    private static String modernProfessionalTemplate() {
         return """
                 {{name}} is an ambitious and dedicated student currently pursuing a {{currentDegree}} degree in {{branch}} at {{institute}}. With a strong academic foundation and {{yearOfStudy}} year(s) of experience in structured learning, {{name}} consistently demonstrates curiosity, discipline, and an eagerness to master new concepts.
 
@@ -508,19 +607,19 @@ public class TemplateDataInitializer implements ApplicationRunner {
                 """;
     }
 
-    private String executiveTemplate() {
+    private static String executiveTemplate() {
         return """
                 My name is {{name}}, a results-driven and ambitious student currently pursuing a {{currentDegree}} in {{branch}} at {{institute}}. As a {{yearOfStudy}} year student, I have consistently demonstrated excellence in academics and practical learning. I hold certifications in {{certifications}}, which have strengthened my technical foundation and problem-solving capabilities. Recognized for {{achievements}}, I continue to seek opportunities to expand my expertise and make meaningful contributions. My core technical skills include {{technicalSkills}}, complemented by strong interpersonal and organizational abilities such as {{softSkills}}.{{internshipDetails}}{{experienceDetails}} I am eager to collaborate in dynamic environments where innovation meets execution. For any professional inquiries, please contact me at {{email}} or connect with me on LinkedIn: {{linkedin}}. Date of Birth: {{dob}}.
                 """;
     }
 
-    private String professionalProfileTemplate() {
+    private static String professionalProfileTemplate() {
         return """
                 {{name}} is a dedicated and accomplished student currently pursuing a {{currentDegree}} degree with a specialization in {{branch}} at {{institute}}. Presently in my {{yearOfStudy}} year of academic tenure, I have demonstrated exceptional commitment to professional development through the successful completion of distinguished certifications including {{certifications}}. Throughout my educational journey, I have achieved notable recognition for {{achievements}}, which underscores my unwavering dedication to excellence. My technical proficiencies encompass {{technicalSkills}}, complemented by refined soft skills such as {{softSkills}}, which collectively position me as a well-rounded professional.{{internshipDetails}}{{experienceDetails}} For professional correspondence, I can be reached at {{email}}, and I invite you to explore my comprehensive professional profile at {{linkedin}}. Date of Birth: {{dob}}.
                 """;
     }
 
-    private String professionalProfileCss() {
+    private static String professionalProfileCss() {
         return """
                 /* Professional Profile Template Container */
                 .profile-container {
@@ -712,13 +811,13 @@ public class TemplateDataInitializer implements ApplicationRunner {
                 """;
     }
 
-    private String designerPortraitTemplate() {
+    private static String designerPortraitTemplate() {
         return """
                 Welcome! I am {{name}}, currently pursuing a {{currentDegree}} focused on {{branch}} at {{institute}}. In my {{yearOfStudy}} year, I balance research-driven learning with hands-on studio projects to translate ideas into elegant, functional outcomes. My creative toolkit spans {{technicalSkills}} while I rely on strengths such as {{softSkills}} to guide collaborations from concept to delivery. Recent highlights include {{achievements}} and certifications like {{certifications}} that keep me curious and industry-ready.{{professionalInternshipSentence}}{{professionalExperienceSentence}} Let’s connect via {{email}} or {{phone}} to explore new projects together.
                 """;
     }
 
-    private String designerPortraitCss() {
+    private static String designerPortraitCss() {
         return """
                 .profile-container {
                   max-width: 960px;
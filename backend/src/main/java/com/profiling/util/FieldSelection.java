@@ -0,0 +1,42 @@
+package com.profiling.util;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Sparse fieldsets for JSON responses: {@code ?fields=overallScore,strengths} keeps only the
+ * named top-level properties. Unknown names are ignored.
+ */
+public final class FieldSelection {
+
+    private FieldSelection() {
+    }
+
+    /**
+     * Returns {@code body} unchanged when {@code fields} is blank, otherwise a JSON object
+     * holding only the requested top-level properties of {@code body}.
+     */
+    public static Object select(ObjectMapper objectMapper, Object body, String fields) {
+        Set<String> names = parse(fields);
+        if (body == null || names.isEmpty()) {
+            return body;
+        }
+        ObjectNode node = objectMapper.valueToTree(body);
+        node.retain(names);
+        return node;
+    }
+
+    static Set<String> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+    }
+}
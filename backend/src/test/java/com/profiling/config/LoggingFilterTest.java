@@ -0,0 +1,70 @@
+package com.profiling.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LoggingFilter Tests")
+class LoggingFilterTest {
+
+    @Test
+    @DisplayName("shouldLog should always log errors and slow requests and never sample at rate 0")
+    void testShouldLog_NoSampling() {
+        LoggingFilter filter = new LoggingFilter(0.0, 1000);
+
+        assertFalse(filter.shouldLog(200, 10));
+        assertTrue(filter.shouldLog(200, 1500));
+        assertTrue(filter.shouldLog(404, 10));
+        assertTrue(filter.shouldLog(503, 10));
+    }
+
+    @Test
+    @DisplayName("shouldLog should log every request at rate 1")
+    void testShouldLog_FullSampling() {
+        assertTrue(new LoggingFilter(1.0, 1000).shouldLog(200, 1));
+    }
+
+    @Test
+    @DisplayName("resolveTraceId should reuse X-Request-Id or traceparent and generate one otherwise")
+    void testResolveTraceId() {
+        MockHttpServletRequest withRequestId = new MockHttpServletRequest();
+        withRequestId.addHeader(LoggingFilter.TRACE_ID_HEADER, "req-12345678");
+        assertEquals("req-12345678", LoggingFilter.resolveTraceId(withRequestId));
+
+        MockHttpServletRequest withTraceparent = new MockHttpServletRequest();
+        withTraceparent.addHeader("traceparent", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", LoggingFilter.resolveTraceId(withTraceparent));
+
+        MockHttpServletRequest invalid = new MockHttpServletRequest();
+        invalid.addHeader(LoggingFilter.TRACE_ID_HEADER, "bad id\nwith newline");
+        assertTrue(LoggingFilter.resolveTraceId(invalid).matches("[0-9a-f]{32}"));
+    }
+
+    @Test
+    @DisplayName("doFilter should expose the trace id in the MDC and the response header")
+    void testDoFilter_SetsTraceId() throws Exception {
+        LoggingFilter filter = new LoggingFilter(0.0, 1000);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/psychometric/sessions/1");
+        request.addHeader(LoggingFilter.TRACE_ID_HEADER, "trace-abcdef12");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> traceIdInChain = new AtomicReference<>();
+
+        filter.doFilter(request, response, new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                traceIdInChain.set(MDC.get(LoggingFilter.TRACE_ID_MDC_KEY));
+            }
+        });
+
+        assertEquals("trace-abcdef12", traceIdInChain.get());
+        assertEquals("trace-abcdef12", response.getHeader(LoggingFilter.TRACE_ID_HEADER));
+        assertNull(MDC.get(LoggingFilter.TRACE_ID_MDC_KEY));
+    }
+}
@@ -0,0 +1,69 @@
+package com.profiling.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StartupReadinessListener Tests")
+class StartupReadinessListenerTest {
+
+    @Test
+    @DisplayName("runInitializers should keep going after a failing initializer and time each one")
+    void testRunInitializers_ContinuesAfterFailure() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        List<String> ran = new ArrayList<>();
+        DeferredInitializer failing = () -> {
+            ran.add("failing");
+            throw new IllegalStateException("mongo down");
+        };
+        DeferredInitializer working = () -> ran.add("working");
+        StartupReadinessListener listener = new StartupReadinessListener(List.of(failing, working), registry, 1, 0);
+
+        listener.runInitializers();
+
+        assertEquals(List.of("failing", "working"), ran);
+        assertEquals(1L, registry.get("application.deferred.init").tag("outcome", "failure").timer().count());
+        assertEquals(1L, registry.get("application.deferred.init").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("runInitializers should retry a failing initializer until it succeeds")
+    void testRunInitializers_RetriesFailure() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AtomicInteger attempts = new AtomicInteger();
+        DeferredInitializer flaky = () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("mongo not reachable yet");
+            }
+        };
+        StartupReadinessListener listener = new StartupReadinessListener(List.of(flaky), registry, 5, 1);
+
+        listener.runInitializers();
+
+        assertEquals(3, attempts.get());
+        assertEquals(2L, registry.get("application.deferred.init").tag("outcome", "retry").timer().count());
+        assertEquals(1L, registry.get("application.deferred.init").tag("outcome", "success").timer().count());
+        assertNull(registry.find("application.deferred.init").tag("outcome", "failure").timer());
+    }
+
+    @Test
+    @DisplayName("onReadinessChange should record time-to-ready once traffic is accepted")
+    void testOnReadinessChange_RecordsReadyTime() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        StartupReadinessListener listener = new StartupReadinessListener(List.of(), registry, 1, 0);
+
+        listener.onReadinessChange(new AvailabilityChangeEvent<>(this, ReadinessState.REFUSING_TRAFFIC));
+        assertNull(registry.find("application.jvm.ready.time").timeGauge());
+
+        listener.onReadinessChange(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+        assertTrue(registry.get("application.jvm.ready.time").timeGauge().value() > 0);
+    }
+}
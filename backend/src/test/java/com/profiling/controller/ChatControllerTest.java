@@ -4,6 +4,7 @@ import com.profiling.dto.ApiResponse;
 import com.profiling.dto.ChatRequest;
 import com.profiling.dto.ChatState;
 import com.profiling.exception.BadRequestException;
+import com.profiling.service.ChatConversationService;
 import com.profiling.service.ChatbotService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -29,6 +30,9 @@ class ChatControllerTest {
     @Mock
     private ChatbotService chatbotService;
 
+    @Mock
+    private ChatConversationService conversationService;
+
     @InjectMocks
     private ChatController controller;
 
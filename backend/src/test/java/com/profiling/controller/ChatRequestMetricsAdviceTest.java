@@ -0,0 +1,69 @@
+package com.profiling.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.profiling.dto.ChatRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ChatRequestMetricsAdvice Tests")
+class ChatRequestMetricsAdviceTest {
+
+    private SimpleMeterRegistry registry;
+    private ChatRequestMetricsAdvice advice;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        advice = new ChatRequestMetricsAdvice(registry);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("a turn should record its body size and parse time by request mode")
+    void testAfterBodyRead_RecordsSizeAndParseTime() throws IOException {
+        String json = "{\"conversationId\":\"c1\",\"userMessage\":\"I like robotics\"}";
+
+        ChatRequest request = read(json);
+
+        assertEquals("c1", request.getConversationId());
+        assertEquals(json.getBytes(StandardCharsets.UTF_8).length,
+                registry.get("chat.turn.request.size").tag("mode", "conversation").summary().totalAmount());
+        assertEquals(1, registry.get("chat.turn.parse.time").tag("mode", "conversation").timer().count());
+    }
+
+    @Test
+    @DisplayName("a turn carrying the whole state should be tagged as state")
+    void testAfterBodyRead_TagsStateRequests() throws IOException {
+        read("{\"userMessage\":\"hi\",\"conversationState\":{\"currentStage\":1,\"questions\":[\"Q1\"],\"answers\":{}}}");
+
+        assertEquals(1, registry.get("chat.turn.request.size").tag("mode", "state").summary().count());
+    }
+
+    private ChatRequest read(String json) throws IOException {
+        HttpInputMessage message = advice.beforeBodyRead(
+                new MockHttpInputMessage(json.getBytes(StandardCharsets.UTF_8)), null, ChatRequest.class,
+                MappingJackson2HttpMessageConverter.class);
+        ChatRequest request = new ObjectMapper().readValue(message.getBody(), ChatRequest.class);
+        return (ChatRequest) advice.afterBodyRead(request, message, null, ChatRequest.class,
+                MappingJackson2HttpMessageConverter.class);
+    }
+}
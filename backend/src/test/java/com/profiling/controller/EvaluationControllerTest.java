@@ -6,6 +6,7 @@ import com.profiling.dto.EvaluationResult;
 import com.profiling.dto.UserProfile;
 import com.profiling.exception.BadRequestException;
 import com.profiling.service.EvaluationService;
+import com.profiling.service.SpeculativeEvaluationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +22,7 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +32,9 @@ class EvaluationControllerTest {
     @Mock
     private EvaluationService evaluationService;
 
+    @Mock
+    private SpeculativeEvaluationService speculativeEvaluationService;
+
     @InjectMocks
     private EvaluationController controller;
 
@@ -72,6 +77,19 @@ class EvaluationControllerTest {
         verify(evaluationService).evaluate(validRequest.getUserProfile(), validRequest.getAnswers());
     }
 
+    @Test
+    @DisplayName("evaluate should use the chat stage evaluations when a conversation id is given")
+    void testEvaluate_WithConversationId_UsesSpeculativeEvaluation() {
+        validRequest.setConversationId("c1");
+        when(speculativeEvaluationService.evaluate(any(UserProfile.class), any(Map.class), eq("c1"), any()))
+            .thenReturn(mockResult);
+
+        ResponseEntity<ApiResponse> response = controller.evaluate(validRequest);
+
+        assertSame(mockResult, response.getBody().getData());
+        verify(evaluationService, never()).evaluate(any(), any());
+    }
+
     @Test
     @DisplayName("evaluate should throw BadRequestException when userProfile is null")
     void testEvaluate_NullUserProfile_ThrowsBadRequestException() {
@@ -1,5 +1,6 @@
 package com.profiling.controller;
 
+import com.profiling.dto.psychometric.ProctoringCohortStatsRequest;
 import com.profiling.dto.psychometric.ProctoringViolationRequest;
 import com.profiling.model.psychometric.ProctoringViolation;
 import com.profiling.service.psychometric.ProctoringService;
@@ -12,7 +13,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -39,14 +42,14 @@ class ProctoringControllerTest {
     void setUp() {
         validRequest = new ProctoringViolationRequest();
         validRequest.setSessionId("session-123");
-        validRequest.setReason("Tab switched");
+        validRequest.setType("TAB_SWITCH");
         validRequest.setTimestamp("2024-01-01T00:00:00Z");
     }
 
     @Test
     @DisplayName("logViolation should return OK with valid request")
     void testLogViolation_ValidRequest_ReturnsOk() {
-        doNothing().when(proctoringService).logViolation(any(ProctoringViolationRequest.class));
+        when(proctoringService.logViolation(any(ProctoringViolationRequest.class))).thenReturn(new ProctoringViolation());
 
         ResponseEntity<Map<String, String>> response = controller.logViolation(validRequest);
 
@@ -60,11 +63,11 @@ class ProctoringControllerTest {
     void testGetSessionViolations_ValidSessionId_ReturnsViolations() {
         ProctoringViolation violation1 = new ProctoringViolation();
         violation1.setSessionId("session-123");
-        violation1.setReason("Tab switched");
+        violation1.setViolationType("TAB_SWITCH");
         
         ProctoringViolation violation2 = new ProctoringViolation();
         violation2.setSessionId("session-123");
-        violation2.setReason("Multiple faces");
+        violation2.setViolationType("MULTIPLE_FACES");
 
         List<ProctoringViolation> violations = Arrays.asList(violation1, violation2);
         when(proctoringService.getSessionViolations("session-123")).thenReturn(violations);
@@ -115,4 +118,15 @@ class ProctoringControllerTest {
             controller.logViolation(validRequest);
         });
     }
+
+    @Test
+    @DisplayName("getCohortViolationStats should be restricted to admins")
+    void testGetCohortViolationStats_RequiresAdmin() throws NoSuchMethodException {
+        Method method = ProctoringController.class.getMethod("getCohortViolationStats", ProctoringCohortStatsRequest.class);
+
+        PreAuthorize preAuthorize = method.getAnnotation(PreAuthorize.class);
+
+        assertNotNull(preAuthorize);
+        assertEquals("hasRole('ADMIN')", preAuthorize.value());
+    }
 }
@@ -4,8 +4,11 @@ import com.profiling.dto.ApiResponse;
 import com.profiling.dto.GenerateQuestionsRequest;
 import com.profiling.dto.UserProfile;
 import com.profiling.exception.BadRequestException;
+import com.profiling.model.ChatConversation;
+import com.profiling.service.ChatConversationService;
 import com.profiling.service.ChatbotService;
-import com.profiling.service.OpenAIService;
+import com.profiling.service.QuestionSetCache;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +18,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -23,6 +28,7 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,11 +36,14 @@ import static org.mockito.Mockito.*;
 class QuestionControllerTest {
 
     @Mock
-    private OpenAIService openAIService;
+    private QuestionSetCache questionSetCache;
 
     @Mock
     private ChatbotService chatbotService;
 
+    @Mock
+    private ChatConversationService conversationService;
+
     @InjectMocks
     private QuestionController controller;
 
@@ -56,6 +65,13 @@ class QuestionControllerTest {
             "Question 6?", "Question 7?", "Question 8?", "Question 9?", "Question 10?",
             "Question 11?", "Question 12?", "Question 13?", "Question 14?", "Question 15?"
         );
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("u1", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
     }
 
     @Test
@@ -66,7 +82,8 @@ class QuestionControllerTest {
         profileMap.put("email", "test@example.com");
 
         when(chatbotService.profileToMap(any(UserProfile.class))).thenReturn(profileMap);
-        when(openAIService.generateQuestions(any(Map.class))).thenReturn(mockQuestions);
+        when(questionSetCache.questionsFor(any(Map.class))).thenReturn(mockQuestions);
+        when(conversationService.start(eq("u1"), eq(mockQuestions), any())).thenReturn(conversation("c1"));
 
         ResponseEntity<ApiResponse> response = controller.generateQuestions(validRequest);
 
@@ -78,7 +95,8 @@ class QuestionControllerTest {
         Map<String, Object> data = (Map<String, Object>) response.getBody().getData();
         assertEquals(15, data.get("totalQuestions"));
         assertNotNull(data.get("questions"));
-        verify(openAIService).generateQuestions(profileMap);
+        assertEquals("c1", data.get("conversationId"));
+        verify(questionSetCache).questionsFor(profileMap);
     }
 
     @Test
@@ -89,7 +107,7 @@ class QuestionControllerTest {
         });
 
         assertEquals("User profile is required", exception.getMessage());
-        verify(openAIService, never()).generateQuestions(any());
+        verify(questionSetCache, never()).questionsFor(any());
     }
 
     @Test
@@ -102,7 +120,7 @@ class QuestionControllerTest {
         });
 
         assertEquals("User profile is required", exception.getMessage());
-        verify(openAIService, never()).generateQuestions(any());
+        verify(questionSetCache, never()).questionsFor(any());
     }
 
     @Test
@@ -110,7 +128,7 @@ class QuestionControllerTest {
     void testGenerateQuestions_ServiceException_ThrowsException() {
         Map<String, String> profileMap = new HashMap<>();
         when(chatbotService.profileToMap(any(UserProfile.class))).thenReturn(profileMap);
-        when(openAIService.generateQuestions(any(Map.class)))
+        when(questionSetCache.questionsFor(any(Map.class)))
             .thenThrow(new RuntimeException("OpenAI API error"));
 
         assertThrows(RuntimeException.class, () -> {
@@ -123,7 +141,8 @@ class QuestionControllerTest {
     void testGenerateQuestions_EmptyQuestions_ReturnsEmptyList() {
         Map<String, String> profileMap = new HashMap<>();
         when(chatbotService.profileToMap(any(UserProfile.class))).thenReturn(profileMap);
-        when(openAIService.generateQuestions(any(Map.class))).thenReturn(Arrays.asList());
+        when(questionSetCache.questionsFor(any(Map.class))).thenReturn(Arrays.asList());
+        when(conversationService.start(any(), any(), any())).thenReturn(conversation("c2"));
 
         ResponseEntity<ApiResponse> response = controller.generateQuestions(validRequest);
 
@@ -132,4 +151,27 @@ class QuestionControllerTest {
         Map<String, Object> data = (Map<String, Object>) response.getBody().getData();
         assertEquals(0, data.get("totalQuestions"));
     }
+
+    @Test
+    @DisplayName("generateQuestions should not start a stored conversation for an anonymous caller")
+    void testGenerateQuestions_Anonymous_NoConversation() {
+        SecurityContextHolder.clearContext();
+        when(chatbotService.profileToMap(any(UserProfile.class))).thenReturn(new HashMap<>());
+        when(questionSetCache.questionsFor(any(Map.class))).thenReturn(mockQuestions);
+
+        ResponseEntity<ApiResponse> response = controller.generateQuestions(validRequest);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> data = (Map<String, Object>) response.getBody().getData();
+        assertEquals(15, data.get("totalQuestions"));
+        assertFalse(data.containsKey("conversationId"));
+        verifyNoInteractions(conversationService);
+    }
+
+    private static ChatConversation conversation(String id) {
+        ChatConversation conversation = new ChatConversation();
+        conversation.setId(id);
+        return conversation;
+    }
 }
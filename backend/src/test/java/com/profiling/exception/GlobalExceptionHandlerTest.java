@@ -10,6 +10,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.support.WebExchangeBindException;
 import org.springframework.web.server.ResponseStatusException;
@@ -48,6 +49,17 @@ class GlobalExceptionHandlerTest {
         assertEquals("IllegalArgumentException", response.getBody().get("error"));
     }
 
+    @Test
+    @DisplayName("handleAccessDenied should return FORBIDDEN")
+    void testHandleAccessDenied_ReturnsForbidden() {
+        AccessDeniedException ex = new AccessDeniedException("Access Denied");
+
+        ResponseEntity<Map<String, Object>> response = handler.handleAccessDenied(ex, request);
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        assertEquals(403, response.getBody().get("status"));
+    }
+
     @Test
     @DisplayName("handleMongoException should return SERVICE_UNAVAILABLE")
     void testHandleMongoException_ReturnsServiceUnavailable() {
@@ -71,6 +83,18 @@ class GlobalExceptionHandlerTest {
         assertEquals("DatabaseError", response.getBody().get("error"));
     }
 
+    @Test
+    @DisplayName("handleTooManyRequests should return TOO_MANY_REQUESTS with Retry-After")
+    void testHandleTooManyRequests_SetsRetryAfter() {
+        TooManyRequestsException ex = new TooManyRequestsException("Busy", 42);
+
+        ResponseEntity<Map<String, Object>> response = handler.handleTooManyRequests(ex, request);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("42", response.getHeaders().getFirst("Retry-After"));
+        assertEquals(42L, response.getBody().get("retryAfterSeconds"));
+    }
+
     @Test
     @DisplayName("handleBadRequestException should return BAD_REQUEST")
     void testHandleBadRequestException_ReturnsBadRequest() {
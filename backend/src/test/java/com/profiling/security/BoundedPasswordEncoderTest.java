@@ -0,0 +1,100 @@
+package com.profiling.security;
+
+import com.profiling.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BoundedPasswordEncoder Tests")
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder encoder;
+    private ExecutorService callers;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+        if (callers != null) {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("encode and matches should delegate through the pool")
+    void testEncodeAndMatches_DelegatesToBCrypt() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 10, 5000, 5);
+
+        String hash = encoder.encode("secret");
+
+        assertTrue(encoder.matches("secret", hash));
+        assertFalse(encoder.matches("other", hash));
+    }
+
+    @Test
+    @DisplayName("upgradeEncoding should report hashes weaker than the configured cost")
+    void testUpgradeEncoding_WeakerHash_ReturnsTrue() {
+        String weakHash = new BCryptPasswordEncoder(4).encode("secret");
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(6), 1, 10, 5000, 5);
+
+        assertTrue(encoder.upgradeEncoding(weakHash));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("secret")));
+    }
+
+    @Test
+    @DisplayName("matches should fail fast with 503 when the queue is full")
+    void testMatches_SaturatedPool_ThrowsServiceUnavailable() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        encoder = new BoundedPasswordEncoder(blocking, 1, 1, 5000, 7);
+        callers = Executors.newFixedThreadPool(2);
+
+        callers.submit(() -> encoder.matches("a", "a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        callers.submit(() -> encoder.matches("b", "b"));
+        while (encoder.getQueueSize() < 1) {
+            Thread.onSpinWait();
+        }
+
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class,
+                () -> encoder.matches("c", "c"));
+        assertEquals(7, ex.getRetryAfterSeconds());
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("BCryptCostCalibrator.choose should scale cost with the latency ratio")
+    void testCalibratorChoose_ScalesAndClamps() {
+        assertEquals(10, BCryptCostCalibrator.choose(60, 60, 10, 14));
+        assertEquals(12, BCryptCostCalibrator.choose(60, 240, 10, 14));
+        assertEquals(14, BCryptCostCalibrator.choose(1, 10_000, 10, 14));
+        assertEquals(10, BCryptCostCalibrator.choose(500, 50, 10, 14));
+    }
+}
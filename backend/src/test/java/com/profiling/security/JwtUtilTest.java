@@ -53,6 +53,15 @@ class JwtUtilTest {
         assertEquals("user-123", userId);
     }
 
+    @Test
+    @DisplayName("extractRole should return the embedded role")
+    void testExtractRole_TokenWithRole_ReturnsRole() {
+        String token = jwtUtil.generateToken("user-123", "ADMIN");
+
+        assertEquals("ADMIN", jwtUtil.extractRole(token));
+        assertNull(jwtUtil.extractRole(jwtUtil.generateToken("user-123")));
+    }
+
     @Test
     @DisplayName("validateToken should return true for valid token")
     void testValidateToken_ValidToken_ReturnsTrue() {
@@ -0,0 +1,85 @@
+package com.profiling.security;
+
+import com.profiling.model.User;
+import com.profiling.model.UserRole;
+import com.profiling.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoleVersionCache Tests")
+class RoleVersionCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private User admin;
+    private final Instant now = Instant.parse("2024-01-01T10:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        admin = new User();
+        admin.setId("admin-1");
+        admin.setRole(UserRole.ADMIN);
+    }
+
+    @Test
+    @DisplayName("isRoleCurrent should only hit the repository once per TTL")
+    void testIsRoleCurrent_RepeatedCalls_CachesLookup() {
+        when(userRepository.findById("admin-1")).thenReturn(Optional.of(admin));
+        RoleVersionCache cache = new RoleVersionCache(userRepository, 30, Clock.fixed(now, ZoneOffset.UTC));
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(cache.isRoleCurrent("admin-1", UserRole.ADMIN, Date.from(now)));
+        }
+
+        verify(userRepository, times(1)).findById("admin-1");
+    }
+
+    @Test
+    @DisplayName("isRoleCurrent should reject a demoted user after invalidation")
+    void testIsRoleCurrent_DemotedUser_ReturnsFalse() {
+        when(userRepository.findById("admin-1")).thenReturn(Optional.of(admin));
+        RoleVersionCache cache = new RoleVersionCache(userRepository, 30, Clock.fixed(now, ZoneOffset.UTC));
+        assertTrue(cache.isRoleCurrent("admin-1", UserRole.ADMIN, Date.from(now)));
+
+        admin.setRole(UserRole.USER);
+        cache.invalidate("admin-1");
+
+        assertFalse(cache.isRoleCurrent("admin-1", UserRole.ADMIN, Date.from(now)));
+    }
+
+    @Test
+    @DisplayName("isRoleCurrent should reject tokens issued before the role change stamp")
+    void testIsRoleCurrent_TokenOlderThanStamp_ReturnsFalse() {
+        admin.setRoleChangedAt(now);
+        when(userRepository.findById("admin-1")).thenReturn(Optional.of(admin));
+        RoleVersionCache cache = new RoleVersionCache(userRepository, 30, Clock.fixed(now, ZoneOffset.UTC));
+
+        assertFalse(cache.isRoleCurrent("admin-1", UserRole.ADMIN, Date.from(now.minus(Duration.ofMinutes(5)))));
+        assertTrue(cache.isRoleCurrent("admin-1", UserRole.ADMIN, Date.from(now)));
+    }
+
+    @Test
+    @DisplayName("isRoleCurrent should return false for unknown users")
+    void testIsRoleCurrent_UnknownUser_ReturnsFalse() {
+        when(userRepository.findById("ghost")).thenReturn(Optional.empty());
+        RoleVersionCache cache = new RoleVersionCache(userRepository, 30, Clock.fixed(now, ZoneOffset.UTC));
+
+        assertFalse(cache.isRoleCurrent("ghost", UserRole.ADMIN, Date.from(now)));
+    }
+}
@@ -0,0 +1,104 @@
+package com.profiling.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AimdRateLimiter Tests")
+class AimdRateLimiterTest {
+
+    private MutableClock clock;
+    private AimdRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T10:00:00Z"));
+        limiter = new AimdRateLimiter(60, 10, 120, Duration.ofSeconds(1), clock);
+    }
+
+    @Test
+    @DisplayName("reserve should space calls evenly at the current rate")
+    void testReserve_SpacesCalls() {
+        assertEquals(Duration.ZERO, limiter.reserve(Duration.ofMinutes(1)).orElseThrow());
+        assertEquals(Duration.ofSeconds(1), limiter.reserve(Duration.ofMinutes(1)).orElseThrow());
+        assertEquals(Duration.ofSeconds(2), limiter.reserve(Duration.ofMinutes(1)).orElseThrow());
+
+        clock.advance(Duration.ofSeconds(10));
+        assertEquals(Duration.ZERO, limiter.reserve(Duration.ofMinutes(1)).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("reserve should refuse without reserving when the wait exceeds the limit")
+    void testReserve_RefusesBeyondMaxWait() {
+        limiter.reserve(Duration.ofMinutes(1));
+        limiter.reserve(Duration.ofMinutes(1));
+
+        assertTrue(limiter.reserve(Duration.ofMillis(500)).isEmpty());
+        assertEquals(Duration.ofSeconds(2), limiter.reserve(Duration.ofMinutes(1)).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("onSuccess should increase the rate additively up to the maximum")
+    void testOnSuccess_AdditiveIncrease() {
+        for (int i = 0; i < 10; i++) {
+            limiter.onSuccess();
+        }
+        assertEquals(70, limiter.getRequestsPerMinute(), 0.001);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.onSuccess();
+        }
+        assertEquals(120, limiter.getRequestsPerMinute(), 0.001);
+    }
+
+    @Test
+    @DisplayName("onRateLimited should halve the rate once per cooldown, not below the minimum")
+    void testOnRateLimited_MultiplicativeDecrease() {
+        limiter.onRateLimited();
+        limiter.onRateLimited();
+        assertEquals(30, limiter.getRequestsPerMinute(), 0.001);
+
+        clock.advance(Duration.ofSeconds(2));
+        limiter.onRateLimited();
+        assertEquals(15, limiter.getRequestsPerMinute(), 0.001);
+
+        clock.advance(Duration.ofSeconds(2));
+        limiter.onRateLimited();
+        assertEquals(10, limiter.getRequestsPerMinute(), 0.001);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -242,5 +242,28 @@ class AuthServiceImplTest {
         verify(userRepository).save(any(User.class));
         verify(jwtUtil).generateToken(anyString(), eq(UserRole.USER));
     }
-}
 
+    @Test
+    @DisplayName("Login with an outdated hash cost should re-hash the password")
+    void testLogin_OutdatedHash_UpgradesPassword() {
+        // Arrange
+        LoginRequest request = new LoginRequest();
+        request.setEmail(testEmail);
+        request.setPassword(testPassword);
+
+        when(userRepository.findByEmail(testEmail)).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches(testPassword, "hashed-password")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("hashed-password")).thenReturn(true);
+        when(passwordEncoder.encode(testPassword)).thenReturn("rehashed-password");
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(jwtUtil.generateToken(anyString(), eq(UserRole.USER))).thenReturn(testToken);
+
+        // Act
+        AuthResponse response = authService.login(request);
+
+        // Assert
+        assertEquals(testToken, response.getToken());
+        assertEquals("rehashed-password", testUser.getPassword());
+        verify(userRepository).save(testUser);
+    }
+}
@@ -0,0 +1,219 @@
+package com.profiling.service;
+
+import com.mongodb.client.result.UpdateResult;
+import com.profiling.exception.NotFoundException;
+import com.profiling.exception.UnauthorizedException;
+import com.profiling.model.ChatConversation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ChatConversationService Tests")
+class ChatConversationServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T10:00:00Z");
+
+    private MongoTemplate mongoTemplate;
+    private SimpleMeterRegistry registry;
+    private MutableClock clock;
+    private SpeculativeEvaluationService speculative;
+    private ChatConversationService service;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        registry = new SimpleMeterRegistry();
+        clock = new MutableClock(NOW);
+        speculative = mock(SpeculativeEvaluationService.class);
+        service = new ChatConversationService(mongoTemplate, new ChatbotService(mock(OpenAIService.class)), speculative,
+                registry, Duration.ofHours(24), 60_000, 100, clock);
+        when(mongoTemplate.insert(any(ChatConversation.class))).thenAnswer(invocation -> {
+            ChatConversation conversation = invocation.getArgument(0);
+            assertNotNull(conversation.getId());
+            conversation.setId("c1");
+            return conversation;
+        });
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(ChatConversation.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+    }
+
+    @Test
+    @DisplayName("start should store the conversation and serve the next read from memory")
+    void testStart_StoresAndCaches() {
+        ChatConversation started = service.start("u1", List.of("Q1", "Q2"), Map.of());
+
+        assertEquals(NOW.plus(Duration.ofHours(24)), started.getExpiresAt());
+        assertSame(started, service.get("c1", "u1"));
+        verify(mongoTemplate, never()).findById(any(), eq(ChatConversation.class));
+        assertEquals(1.0, registry.counter("chat.conversations.cache", "result", "hit").count());
+    }
+
+    @Test
+    @DisplayName("applyTurn should push only the new answer under the version guard")
+    void testApplyTurn_WritesDelta() {
+        service.start("u1", List.of("Q1", "Q2", "Q3"), Map.of());
+        service.applyTurn("c1", "u1", "first");
+
+        ChatConversation updated = service.applyTurn("c1", "u1", "second");
+
+        assertEquals(2, updated.getVersion());
+        assertEquals(2, updated.getCurrentQuestionIndex());
+        assertEquals("second", updated.answers().get("Q2"));
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateFirst(query.capture(), update.capture(), eq(ChatConversation.class));
+        assertEquals(1L, query.getValue().getQueryObject().get("version"));
+        Document push = (Document) update.getValue().getUpdateObject().get("$push");
+        Update.Modifiers modifiers = (Update.Modifiers) push.get("turns");
+        Object[] turns = (Object[]) modifiers.getModifiers().iterator().next().getValue();
+        assertEquals(1, turns.length);
+        assertEquals("Q2", ((ChatConversation.Turn) turns[0]).getQuestion());
+        verify(mongoTemplate, never()).findById(any(), eq(ChatConversation.class));
+    }
+
+    @Test
+    @DisplayName("applyTurn should re-read the conversation after a concurrent turn and apply again")
+    void testApplyTurn_RetriesOnVersionConflict() {
+        service.start("u1", List.of("Q1", "Q2", "Q3"), Map.of());
+        ChatConversation advanced = stored("u1", List.of("Q1", "Q2", "Q3"));
+        advanced.getTurns().add(new ChatConversation.Turn("Q1", "from another node", NOW));
+        advanced.setCurrentQuestionIndex(1);
+        advanced.setVersion(1);
+        when(mongoTemplate.findById("c1", ChatConversation.class)).thenReturn(advanced);
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(ChatConversation.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        ChatConversation updated = service.applyTurn("c1", "u1", "mine");
+
+        assertEquals("from another node", updated.answers().get("Q1"));
+        assertEquals("mine", updated.answers().get("Q2"));
+        assertEquals(2, updated.getVersion());
+        assertEquals(1.0, registry.counter("chat.conversations.conflicts").count());
+    }
+
+    @Test
+    @DisplayName("a turn finishing a stage should hand it to the speculative evaluation, the last one not")
+    void testApplyTurn_StageCompletedStartsSpeculativeEvaluation() {
+        List<String> questions = List.of("Q1", "Q2", "Q3", "Q4", "Q5", "Q6");
+        service.start("u1", questions, Map.of("name", "Test"));
+        for (int i = 1; i <= 4; i++) {
+            service.applyTurn("c1", "u1", "answer " + i);
+        }
+        verifyNoInteractions(speculative);
+
+        ChatConversation afterStage = service.applyTurn("c1", "u1", "answer 5");
+        verify(speculative).stageCompleted(afterStage, 1);
+
+        service.applyTurn("c1", "u1", "answer 6");
+        verifyNoMoreInteractions(speculative);
+    }
+
+    @Test
+    @DisplayName("get should reload from MongoDB once the cached copy is older than the cache TTL")
+    void testGet_ReloadsAfterCacheTtl() {
+        service.start("u1", List.of("Q1"), Map.of());
+        ChatConversation fromMongo = stored("u1", List.of("Q1"));
+        when(mongoTemplate.findById("c1", ChatConversation.class)).thenReturn(fromMongo);
+
+        clock.advance(Duration.ofMinutes(2));
+
+        assertSame(fromMongo, service.get("c1", "u1"));
+        assertEquals(1.0, registry.counter("chat.conversations.cache", "result", "miss").count());
+    }
+
+    @Test
+    @DisplayName("another user's or an unknown conversation should be not found, a finished one a conflict")
+    void testApplyTurn_NotFoundAndComplete() {
+        service.start("u1", List.of("Q1"), Map.of());
+        assertThrows(NotFoundException.class, () -> service.get("c1", "u2"));
+        assertThrows(NotFoundException.class, () -> service.get("missing", "u1"));
+
+        ChatConversation finished = service.applyTurn("c1", "u1", "only answer");
+        assertTrue(finished.isComplete());
+        ResponseStatusException conflict = assertThrows(ResponseStatusException.class,
+                () -> service.applyTurn("c1", "u1", "again"));
+        assertEquals(HttpStatus.CONFLICT, conflict.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("start should give each conversation its own random id")
+    void testStart_AssignsRandomId() {
+        reset(mongoTemplate);
+        when(mongoTemplate.insert(any(ChatConversation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ChatConversation first = service.start("u1", List.of("Q1"), Map.of());
+        ChatConversation second = service.start("u1", List.of("Q1"), Map.of());
+
+        assertEquals(36, first.getId().length());
+        assertNotEquals(first.getId(), second.getId());
+    }
+
+    @Test
+    @DisplayName("anonymous callers should not be able to start or read conversations")
+    void testAnonymousCallers_Rejected() {
+        assertThrows(UnauthorizedException.class, () -> service.start(null, List.of("Q1"), Map.of()));
+        assertThrows(UnauthorizedException.class, () -> service.start("anonymousUser", List.of("Q1"), Map.of()));
+        verify(mongoTemplate, never()).insert(any(ChatConversation.class));
+
+        ChatConversation ownerless = stored("anonymousUser", List.of("Q1"));
+        when(mongoTemplate.findById("c1", ChatConversation.class)).thenReturn(ownerless);
+        assertThrows(UnauthorizedException.class, () -> service.get("c1", "anonymousUser"));
+        assertThrows(UnauthorizedException.class, () -> service.applyTurn("c1", null, "hello"));
+    }
+
+    private static ChatConversation stored(String userId, List<String> questions) {
+        ChatConversation conversation = new ChatConversation();
+        conversation.setId("c1");
+        conversation.setUserId(userId);
+        conversation.setQuestions(questions);
+        return conversation;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.profiling.service;
+
+import com.profiling.dto.ApiResponse;
+import com.profiling.exception.BadRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@DisplayName("CompletionStreamService Tests")
+class CompletionStreamServiceTest {
+
+    private SimpleMeterRegistry registry;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new StreamController(new CompletionStreamService(registry, 5_000)))
+                .build();
+    }
+
+    @Test
+    @DisplayName("stream should send each token, then the post-processed result, then end")
+    void testStream_TokensThenResult() throws Exception {
+        String body = stream("ok");
+
+        int first = body.indexOf("{\"text\":\"Hel\"}");
+        int second = body.indexOf("{\"text\":\"lo\"}");
+        int result = body.indexOf("event:result");
+        assertTrue(first >= 0 && second > first && result > second, body);
+        assertTrue(body.contains("\"data\":\"HELLO\""), body);
+        assertEquals(1, registry.get("ai.stream.duration").tag("stream", "test").tag("outcome", "success")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("stream should end with an error event, hiding messages of unexpected failures")
+    void testStream_ErrorEvent() throws Exception {
+        String failed = stream("fail");
+        assertTrue(failed.contains("event:error"), failed);
+        assertTrue(failed.contains("Failed to test"), failed);
+        assertFalse(failed.contains("boom"), failed);
+
+        String rejected = stream("reject");
+        assertTrue(rejected.contains("Answers are required"), rejected);
+        assertEquals(2, registry.get("ai.stream.duration").tag("outcome", "error").timer().count());
+    }
+
+    private String stream(String mode) throws Exception {
+        MvcResult result = mockMvc.perform(get("/stream").param("mode", mode))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(5_000);
+        return result.getResponse().getContentAsString();
+    }
+
+    @RestController
+    static class StreamController {
+        private final CompletionStreamService service;
+
+        StreamController(CompletionStreamService service) {
+            this.service = service;
+        }
+
+        @GetMapping("/stream")
+        SseEmitter stream(@RequestParam String mode) {
+            return service.stream("test", onToken -> switch (mode) {
+                case "fail" -> Mono.<String>error(new IllegalStateException("boom"));
+                case "reject" -> Mono.<String>error(new BadRequestException("Answers are required"));
+                default -> Flux.just("Hel", "lo")
+                        .delayElements(Duration.ofMillis(5))
+                        .doOnNext(onToken)
+                        .reduce(String::concat);
+            }, text -> new ApiResponse("done", text.toUpperCase()), "Failed to test");
+        }
+    }
+}
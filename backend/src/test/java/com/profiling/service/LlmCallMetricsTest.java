@@ -0,0 +1,94 @@
+package com.profiling.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LlmCallMetrics Tests")
+class LlmCallMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private LlmCallMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new LlmCallMetrics(registry);
+    }
+
+    @Test
+    @DisplayName("observe should time successful calls by call site and model")
+    void testObserve_Success_RecordsLatency() {
+        String result = metrics.observe("report_content", "gpt-4o-mini", Mono.just("ok")).block();
+
+        assertEquals("ok", result);
+        assertEquals(1, registry.get("llm.client.requests")
+                .tags("call_site", "report_content", "model", "gpt-4o-mini", "outcome", "success")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("observe should classify timeouts and rate limits")
+    void testObserve_Errors_ClassifiesOutcome() {
+        Mono<String> slow = Mono.<String>never().timeout(Duration.ofMillis(10));
+        Mono<String> limited = Mono.error(WebClientResponseException.create(429, "Too Many Requests", null, null, null));
+
+        assertThrows(RuntimeException.class, () -> metrics.observe("question_batch", "m", slow).block());
+        assertThrows(WebClientResponseException.class, () -> metrics.observe("question_batch", "m", limited).block());
+
+        assertEquals(1, registry.get("llm.client.requests").tag("outcome", "timeout").timer().count());
+        assertEquals(1, registry.get("llm.client.requests").tag("outcome", "rate_limited").timer().count());
+    }
+
+    @Test
+    @DisplayName("classify should map status codes and causes to outcomes")
+    void testClassify() {
+        assertEquals("server_error", LlmCallMetrics.classify(
+                WebClientResponseException.create(503, "Unavailable", null, null, null)));
+        assertEquals("client_error", LlmCallMetrics.classify(
+                WebClientResponseException.create(400, "Bad Request", null, null, null)));
+        assertEquals("timeout", LlmCallMetrics.classify(new RuntimeException(new TimeoutException())));
+        assertEquals("error", LlmCallMetrics.classify(new IllegalStateException("boom")));
+    }
+
+    @Test
+    @DisplayName("timeToFirstByteFilter should only time requests made inside observe")
+    void testTimeToFirstByteFilter() {
+        WebClient client = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header("Content-Type", "application/json")
+                        .body("{}")
+                        .build()))
+                .filter(metrics.timeToFirstByteFilter())
+                .build();
+        Mono<String> call = client.get().uri("http://llm.test").retrieve().bodyToMono(String.class);
+
+        call.block();
+        assertNull(registry.find("llm.client.ttfb").timer());
+
+        metrics.observe("resume_parse", "gpt-3.5-turbo", call).block();
+        assertEquals(1, registry.get("llm.client.ttfb")
+                .tags("call_site", "resume_parse", "model", "gpt-3.5-turbo")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("recordUsage should record prompt and completion tokens and skip missing values")
+    void testRecordUsage() {
+        metrics.recordUsage("enhance_profile", "gpt-4o-mini", 120, null);
+
+        assertEquals(120.0, registry.get("llm.client.tokens").tag("type", "prompt").summary().totalAmount());
+        assertNull(registry.find("llm.client.tokens").tag("type", "completion").summary());
+    }
+}
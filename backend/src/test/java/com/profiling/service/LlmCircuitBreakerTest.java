@@ -0,0 +1,126 @@
+package com.profiling.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LlmCircuitBreaker Tests")
+class LlmCircuitBreakerTest {
+
+    private MutableClock clock;
+    private LlmCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T10:00:00Z"));
+        breaker = new LlmCircuitBreaker(10, 0.5, Duration.ofSeconds(30), clock);
+    }
+
+    @Test
+    @DisplayName("breaker should stay closed until the minimum number of calls is seen")
+    void testStaysClosedBelowMinimumCalls() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure();
+        }
+        assertEquals(LlmCircuitBreaker.State.CLOSED, breaker.getState());
+
+        breaker.onFailure();
+        assertEquals(LlmCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("breaker should stay closed while the failure rate is below the threshold")
+    void testStaysClosedBelowThreshold() {
+        for (int i = 0; i < 20; i++) {
+            breaker.onSuccess();
+            if (i % 3 == 0) {
+                breaker.onFailure();
+            }
+        }
+        assertEquals(LlmCircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("breaker should let one probe through after the open period and close on its success")
+    void testHalfOpenProbeCloses() {
+        openBreaker();
+        clock.advance(Duration.ofSeconds(31));
+
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(LlmCircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        breaker.onSuccess();
+        assertEquals(LlmCircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("breaker should reopen when the probe fails")
+    void testHalfOpenProbeFailureReopens() {
+        openBreaker();
+        clock.advance(Duration.ofSeconds(31));
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onFailure();
+
+        assertEquals(LlmCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("release should free the probe permit of a cancelled call")
+    void testReleaseFreesProbe() {
+        openBreaker();
+        clock.advance(Duration.ofSeconds(31));
+        assertTrue(breaker.tryAcquire());
+
+        breaker.release();
+
+        assertTrue(breaker.tryAcquire());
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 5; i++) {
+            breaker.onFailure();
+        }
+        assertEquals(LlmCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
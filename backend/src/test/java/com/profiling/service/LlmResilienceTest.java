@@ -0,0 +1,206 @@
+package com.profiling.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LlmResilience Tests")
+class LlmResilienceTest {
+
+    private SimpleMeterRegistry registry;
+    private LlmCallMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new LlmCallMetrics(registry);
+    }
+
+    @Test
+    @DisplayName("execute should retry a 503 and return the next successful answer")
+    void testExecute_RetriesServerErrors() {
+        LlmResilience resilience = new LlmResilience(metrics, settings(3, false, 20));
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = resilience.execute("site", "model", () -> Mono.defer(() -> calls.incrementAndGet() == 1
+                ? Mono.<String>error(error(503, null))
+                : Mono.just("ok"))).block();
+
+        assertEquals("ok", result);
+        assertEquals(2, calls.get());
+        assertEquals(1.0, registry.counter("llm.client.retries", "call_site", "site", "model", "model").count());
+    }
+
+    @Test
+    @DisplayName("execute should not retry client errors other than 429")
+    void testExecute_DoesNotRetryBadRequest() {
+        LlmResilience resilience = new LlmResilience(metrics, settings(3, false, 20));
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(WebClientResponseException.class, () -> resilience.execute("site", "model",
+                () -> Mono.defer(() -> {
+                    calls.incrementAndGet();
+                    return Mono.<String>error(error(400, null));
+                })).block());
+        assertEquals(1, calls.get());
+        assertEquals(LlmCircuitBreaker.State.CLOSED, resilience.getCircuitState());
+    }
+
+    @Test
+    @DisplayName("execute should give up after max attempts")
+    void testExecute_StopsAfterMaxAttempts() {
+        LlmResilience resilience = new LlmResilience(metrics, settings(3, false, 20));
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(WebClientResponseException.class, () -> resilience.execute("site", "model",
+                () -> Mono.defer(() -> {
+                    calls.incrementAndGet();
+                    return Mono.<String>error(error(500, null));
+                })).block());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    @DisplayName("execute should time out a stalled attempt and retry it")
+    void testExecute_AttemptTimeout() {
+        LlmResilience resilience = new LlmResilience(metrics, settings(2, false, 20));
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = resilience.execute("site", "model", () -> Mono.defer(() -> calls.incrementAndGet() == 1
+                ? Mono.<String>never()
+                : Mono.just("ok"))).block();
+
+        assertEquals("ok", result);
+        assertEquals(1L, registry.get("llm.client.requests").tag("outcome", "timeout").timer().count());
+    }
+
+    @Test
+    @DisplayName("execute should fail fast once the circuit is open")
+    void testExecute_CircuitOpens() {
+        LlmResilience resilience = new LlmResilience(metrics, settings(1, false, 4));
+        for (int i = 0; i < 2; i++) {
+            assertThrows(WebClientResponseException.class, () -> resilience.execute("site", "model",
+                    () -> Mono.<String>error(error(502, null))).block());
+        }
+        assertEquals(LlmCircuitBreaker.State.OPEN, resilience.getCircuitState());
+
+        AtomicInteger calls = new AtomicInteger();
+        assertThrows(LlmResilience.CircuitOpenException.class, () -> resilience.execute("site", "model",
+                () -> Mono.fromCallable(() -> "x" + calls.incrementAndGet())).block());
+        assertEquals(0, calls.get());
+        assertEquals(1.0, registry.counter("llm.client.rejected", "call_site", "site", "reason", "circuit_open").count());
+    }
+
+    @Test
+    @DisplayName("execute should halve the learned rate on 429")
+    void testExecute_RateLimitedLowersRate() {
+        LlmResilience resilience = new LlmResilience(metrics, settings(1, false, 20));
+
+        assertThrows(WebClientResponseException.class, () -> resilience.execute("site", "model",
+                () -> Mono.<String>error(error(429, null))).block());
+
+        assertEquals(30_000, resilience.getRequestsPerMinute(), 0.001);
+        assertEquals(30_000.0, registry.get("llm.client.rate.limit").gauge().value(), 0.001);
+    }
+
+    @Test
+    @DisplayName("execute should send a hedged request when an attempt outlives the p95 latency")
+    void testExecute_Hedges() {
+        LlmResilience resilience = new LlmResilience(metrics, settings(1, true, 20));
+        for (int i = 0; i < 25; i++) {
+            resilience.execute("site", "model", () -> Mono.just("warm")).block();
+        }
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = resilience.execute("site", "model", () -> Mono.defer(() -> calls.incrementAndGet() == 1
+                ? Mono.just("slow").delayElement(Duration.ofSeconds(2))
+                : Mono.just("fast"))).block();
+
+        assertEquals("fast", result);
+        assertEquals(2, calls.get());
+        assertEquals(1.0, registry.counter("llm.client.hedges", "call_site", "site", "model", "model").count());
+    }
+
+    @Test
+    @DisplayName("executeStream should retry a failure before the first token")
+    void testExecuteStream_RetriesBeforeFirstToken() {
+        LlmResilience resilience = new LlmResilience(metrics, settings(3, false, 20));
+        AtomicInteger calls = new AtomicInteger();
+
+        List<String> tokens = resilience.executeStream("site", "model", () -> Flux.defer(() -> calls.incrementAndGet() == 1
+                ? Flux.<String>error(error(503, null))
+                : Flux.just("a", "b"))).collectList().block();
+
+        assertEquals(List.of("a", "b"), tokens);
+        assertEquals(2, calls.get());
+        assertEquals(1, registry.get("llm.client.ttft").tag("call_site", "site").timer().count());
+    }
+
+    @Test
+    @DisplayName("executeStream should not retry once tokens have been emitted")
+    void testExecuteStream_NoRetryAfterFirstToken() {
+        LlmResilience resilience = new LlmResilience(metrics, settings(3, false, 20));
+        AtomicInteger calls = new AtomicInteger();
+        List<String> received = new ArrayList<>();
+
+        assertThrows(WebClientResponseException.class, () -> resilience.executeStream("site", "model",
+                () -> Flux.defer(() -> {
+                    calls.incrementAndGet();
+                    return Flux.concat(Flux.just("a"), Flux.<String>error(error(503, null)));
+                })).doOnNext(received::add).blockLast());
+        assertEquals(1, calls.get());
+        assertEquals(List.of("a"), received);
+        assertEquals(LlmCircuitBreaker.State.CLOSED, resilience.getCircuitState());
+    }
+
+    @Test
+    @DisplayName("retryDelay should wait at least the provider's Retry-After")
+    void testRetryDelay_HonoursRetryAfter() {
+        LlmResilience resilience = new LlmResilience(metrics, settings(3, false, 20));
+
+        Duration delay = resilience.retryDelay(error(429, "7"), 1);
+
+        assertTrue(delay.compareTo(Duration.ofSeconds(7)) >= 0);
+        assertTrue(delay.compareTo(Duration.ofMillis(7700)) <= 0);
+        assertNull(resilience.retryAfter(new TimeoutException()));
+    }
+
+    @Test
+    @DisplayName("isRetryable should cover 429, 5xx and timeouts only")
+    void testIsRetryable() {
+        assertTrue(LlmResilience.isRetryable(error(429, null)));
+        assertTrue(LlmResilience.isRetryable(error(504, null)));
+        assertTrue(LlmResilience.isRetryable(new TimeoutException()));
+        assertFalse(LlmResilience.isRetryable(error(401, null)));
+        assertFalse(LlmResilience.isRetryable(new LlmResilience.CircuitOpenException()));
+    }
+
+    private static LlmResilience.Settings settings(int maxAttempts, boolean hedging, int circuitWindow) {
+        return new LlmResilience.Settings(maxAttempts, Duration.ofMillis(1), Duration.ofMillis(5),
+                Duration.ofMillis(300), Duration.ofSeconds(10), hedging, Duration.ofMillis(50),
+                circuitWindow, 0.5, Duration.ofSeconds(30), 60_000, 10, 100_000);
+    }
+
+    private static WebClientResponseException error(int status, String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        if (retryAfter != null) {
+            headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return WebClientResponseException.create(status, "status " + status, headers, new byte[0],
+                StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,91 @@
+package com.profiling.service;
+
+import com.profiling.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PdfRenderingService Tests")
+class PdfRenderingServiceTest {
+
+    private SimpleMeterRegistry registry;
+    private ThreadPoolExecutor pool;
+    private PdfRenderingService service;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        pool = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+                new ThreadPoolExecutor.AbortPolicy());
+        service = new PdfRenderingService(registry, pool, 5000, 7);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+        if (callers != null) {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("renderHtml should produce a PDF and record time and size for its document type")
+    void testRenderHtml_RecordsMetricsPerType() throws IOException {
+        byte[] pdf = service.renderHtml("answers", "<html><body><p>Hello</p></body></html>");
+
+        assertEquals("%PDF", new String(pdf, 0, 4, StandardCharsets.US_ASCII));
+        assertEquals(1, registry.get("pdf.render.time").tag("type", "answers").timer().count());
+        assertEquals(1, registry.get("pdf.render.queue.wait").tag("type", "answers").timer().count());
+        assertEquals(pdf.length, registry.get("pdf.render.size").tag("type", "answers").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("render should surface writer failures as IOException")
+    void testRender_WriterFailure() {
+        IOException failure = assertThrows(IOException.class,
+                () -> service.render("report-download", outputStream -> {
+                    throw new IllegalStateException("broken layout");
+                }));
+
+        assertTrue(failure.getMessage().contains("broken layout"));
+        assertTrue(registry.find("pdf.render.time").timers().isEmpty());
+    }
+
+    @Test
+    @DisplayName("render should reject with 503 once the pool and its queue are full")
+    void testRender_RejectsWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        callers = Executors.newFixedThreadPool(2);
+        callers.submit(() -> service.render("profile", outputStream -> {
+            started.countDown();
+            release.await();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        callers.submit(() -> service.render("profile", outputStream -> outputStream.write(1)));
+        while (pool.getQueue().isEmpty()) {
+            Thread.sleep(5);
+        }
+
+        ServiceUnavailableException rejected = assertThrows(ServiceUnavailableException.class,
+                () -> service.render("profile", outputStream -> outputStream.write(1)));
+
+        assertEquals(7, rejected.getRetryAfterSeconds());
+        assertEquals(1.0, registry.get("pdf.render.rejected").tag("type", "profile").counter().count());
+        release.countDown();
+    }
+}
@@ -0,0 +1,104 @@
+package com.profiling.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@DisplayName("QuestionSetCache Tests")
+class QuestionSetCacheTest {
+
+    private static final List<String> SET_A = List.of("A1?", "A2?");
+    private static final List<String> SET_B = List.of("B1?", "B2?");
+    private static final List<String> SET_C = List.of("C1?", "C2?");
+
+    private OpenAIService openAIService;
+    private SimpleMeterRegistry registry;
+    private QuestionSetCache cache;
+
+    @BeforeEach
+    void setUp() {
+        openAIService = mock(OpenAIService.class);
+        registry = new SimpleMeterRegistry();
+        cache = cache(10);
+    }
+
+    @Test
+    @DisplayName("students of the same cohort should share pooled sets, served round-robin")
+    void testQuestionsFor_SameCohortServedFromPool() {
+        when(openAIService.generateQuestions(anyMap())).thenReturn(SET_A, SET_B);
+
+        List<String> first = cache.questionsFor(Map.of("name", "Asha", "branch", "CSE",
+                "technicalSkills", "Java, Python", "interests", "AI"));
+        List<String> second = cache.questionsFor(Map.of("name", "Ravi", "branch", "cse ",
+                "technicalSkills", "python,java", "interests", "ai"));
+        List<String> third = cache.questionsFor(Map.of("branch", "CSE", "technicalSkills", "Python; Java",
+                "interests", "AI."));
+
+        assertEquals(SET_A, first);
+        assertEquals(SET_A, second);
+        assertEquals(SET_B, third);
+        // The request that missed plus one background generation after the first repeat
+        verify(openAIService).generateQuestions(
+                Map.of("branch", "CSE", "technicalSkills", "Java, Python", "interests", "AI"));
+        verify(openAIService, times(2)).generateQuestions(anyMap());
+        assertEquals(1.0, registry.counter("questions.cache", "result", "miss").count());
+        assertEquals(2.0, registry.counter("questions.cache", "result", "hit").count());
+    }
+
+    @Test
+    @DisplayName("a cohort seen once should cost exactly one generation")
+    void testQuestionsFor_SingleMissGeneratesOnce() {
+        when(openAIService.generateQuestions(anyMap())).thenReturn(SET_A, SET_B);
+
+        List<String> questions = cache.questionsFor(Map.of("branch", "Civil", "goals", "Build bridges"));
+
+        assertEquals(SET_A, questions);
+        verify(openAIService, times(1)).generateQuestions(anyMap());
+        assertEquals(1.0, registry.counter("questions.cache", "result", "miss").count());
+    }
+
+    @Test
+    @DisplayName("a set should be replaced in the background once it reached max-uses")
+    void testQuestionsFor_RetiresUsedSets() {
+        cache = cache(2);
+        when(openAIService.generateQuestions(anyMap())).thenReturn(SET_A, SET_B, SET_C);
+        Map<String, String> profile = Map.of("branch", "ECE");
+
+        assertEquals(SET_A, cache.questionsFor(profile));
+        assertEquals(SET_A, cache.questionsFor(profile));
+        // SET_A reached max-uses and was replaced by SET_C
+        assertEquals(SET_C, cache.questionsFor(profile));
+        assertEquals(SET_B, cache.questionsFor(profile));
+        verify(openAIService, times(3)).generateQuestions(anyMap());
+    }
+
+    @Test
+    @DisplayName("fallback questions should be returned but never pooled")
+    void testQuestionsFor_DoesNotPoolFallback() {
+        when(openAIService.generateQuestions(anyMap())).thenReturn(OpenAIServiceImpl.FALLBACK_QUESTIONS);
+
+        cache.questionsFor(Map.of("branch", "ME"));
+        List<String> questions = cache.questionsFor(Map.of("branch", "ME"));
+
+        assertEquals(OpenAIServiceImpl.FALLBACK_QUESTIONS, questions);
+        assertEquals(2.0, registry.counter("questions.cache", "result", "miss").count());
+        assertEquals(0.0, registry.counter("questions.cache", "result", "hit").count());
+    }
+
+    private QuestionSetCache cache(int maxUses) {
+        return new QuestionSetCache(openAIService, registry, Runnable::run, true, 2, maxUses, Duration.ofHours(24), 100,
+                Clock.fixed(Instant.parse("2024-06-01T10:00:00Z"), ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,124 @@
+package com.profiling.service;
+
+import com.profiling.dto.ReportDownloadRequest;
+import com.profiling.model.psychometric.UserInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ReportPdfGenerationService Tests")
+class ReportPdfGenerationServiceTest {
+
+    private SimpleMeterRegistry registry;
+    private PdfRenderingService pdfRenderingService;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        pdfRenderingService = spy(new PdfRenderingService(registry, 1, 4, 30_000, 5));
+        callers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        pdfRenderingService.stop();
+    }
+
+    @Test
+    @DisplayName("an identical payload should be served from the rendered PDF")
+    void testGeneratePdfReport_IdenticalPayloadRenderedOnce() throws IOException {
+        ReportPdfGenerationService service = new ReportPdfGenerationService(pdfRenderingService, registry, 10, 1 << 20);
+
+        byte[] first = service.generatePdfReport(request("Aarav"));
+        byte[] second = service.generatePdfReport(request("Aarav"));
+
+        assertTrue(new String(first, 0, 5, StandardCharsets.US_ASCII).startsWith("%PDF"));
+        assertSame(first, second);
+        verify(pdfRenderingService, times(1)).render(eq("report-download"), any());
+        assertEquals(1.0, registry.counter("pdf.report.cache", "result", "hit").count());
+        assertEquals(service.cacheKey(request("Aarav")), service.cacheKey(request("Aarav")));
+        assertNotEquals(service.cacheKey(request("Aarav")), service.cacheKey(request("Meera")));
+    }
+
+    @Test
+    @DisplayName("the least recently used PDF should be dropped past cache-max-entries")
+    void testGeneratePdfReport_EvictsLeastRecentlyUsed() throws IOException {
+        ReportPdfGenerationService service = new ReportPdfGenerationService(pdfRenderingService, registry, 1, 1 << 20);
+
+        service.generatePdfReport(request("Aarav"));
+        service.generatePdfReport(request("Meera"));
+        service.generatePdfReport(request("Aarav"));
+
+        verify(pdfRenderingService, times(3)).render(eq("report-download"), any());
+        assertEquals(3.0, registry.counter("pdf.report.cache", "result", "miss").count());
+    }
+
+    @Test
+    @DisplayName("identical requests arriving while one renders should wait for that render")
+    void testGeneratePdfReport_ConcurrentIdenticalRequestsRenderOnce() throws Exception {
+        CountDownLatch rendering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PdfRenderingService blocking = mock(PdfRenderingService.class);
+        when(blocking.render(eq("report-download"), any())).thenAnswer(invocation -> {
+            rendering.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "%PDF-rendered".getBytes(StandardCharsets.US_ASCII);
+        });
+        ReportPdfGenerationService service = new ReportPdfGenerationService(blocking, registry, 0, 1 << 20);
+
+        Future<byte[]> first = callers.submit(() -> service.generatePdfReport(request("Aarav")));
+        assertTrue(rendering.await(5, TimeUnit.SECONDS));
+        Future<byte[]> second = callers.submit(() -> service.generatePdfReport(request("Aarav")));
+        while (registry.counter("pdf.report.cache", "result", "joined").count() < 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        verify(blocking, times(1)).render(eq("report-download"), any());
+    }
+
+    private static ReportDownloadRequest request(String name) {
+        UserInfo userInfo = new UserInfo();
+        userInfo.setName(name);
+        userInfo.setEmail(name.toLowerCase() + "@example.com");
+
+        ReportDownloadRequest.Scores scores = new ReportDownloadRequest.Scores();
+        scores.setCorrect(84);
+        scores.setTotalQuestions(120);
+        scores.setCandidatePercentile(91.5);
+
+        ReportDownloadRequest.SWOT swot = new ReportDownloadRequest.SWOT();
+        swot.setStrengths(List.of("Analytical thinking", "Ownership"));
+        swot.setWeaknesses(List.of("Delegation"));
+
+        ReportDownloadRequest.Analysis analysis = new ReportDownloadRequest.Analysis();
+        analysis.setSummaryBio(name + " is a final-year computer science student.");
+
+        ReportDownloadRequest request = new ReportDownloadRequest();
+        request.setUserInfo(userInfo);
+        request.setScores(scores);
+        request.setSwot(swot);
+        request.setAnalysis(analysis);
+        request.setReportGeneratedAt("2024-06-01T10:00:00Z");
+        return request;
+    }
+}
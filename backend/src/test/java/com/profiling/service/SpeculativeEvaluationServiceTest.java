@@ -0,0 +1,169 @@
+package com.profiling.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.profiling.dto.EvaluationResult;
+import com.profiling.dto.UserProfile;
+import com.profiling.model.ChatConversation;
+import com.profiling.model.SpeculativeEvaluation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SpeculativeEvaluationService Tests")
+class SpeculativeEvaluationServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T10:00:00Z");
+    private static final Map<String, String> PROFILE = Map.of("name", "Test User");
+
+    private MongoTemplate mongoTemplate;
+    private OpenAIService openAIService;
+    private SimpleMeterRegistry registry;
+    private SpeculativeEvaluationService service;
+    private UserProfile userProfile;
+    private List<String> questions;
+    private Map<String, String> answers;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        openAIService = mock(OpenAIService.class);
+        registry = new SimpleMeterRegistry();
+        service = new SpeculativeEvaluationService(mongoTemplate, openAIService, new EvaluationService(openAIService),
+                registry, Runnable::run, true, 1_000, Duration.ofHours(24), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        userProfile = new UserProfile();
+        userProfile.setName("Test User");
+        questions = new ArrayList<>();
+        answers = new LinkedHashMap<>();
+        for (int i = 1; i <= 15; i++) {
+            questions.add("Q" + i);
+            answers.put("Q" + i, "I enjoy building things, answer " + i);
+        }
+
+        ChatConversation conversation = new ChatConversation();
+        conversation.setId("c1");
+        conversation.setUserId("u1");
+        conversation.setQuestions(questions);
+        conversation.setProfile(PROFILE);
+        answers.forEach((question, answer) -> conversation.getTurns().add(new ChatConversation.Turn(question, answer, NOW)));
+        when(mongoTemplate.findById("c1", ChatConversation.class)).thenReturn(conversation);
+    }
+
+    @Test
+    @DisplayName("stageCompleted should evaluate only the stage's answers and store them with their fingerprint")
+    void testStageCompleted_StoresStageEvaluation() {
+        when(openAIService.evaluateInterests(eq(PROFILE), anyMap(), anyMap())).thenReturn(stageJson(80, 20, 0));
+
+        service.stageCompleted(mongoTemplate.findById("c1", ChatConversation.class), 2);
+
+        Map<String, String> stageTwo = SpeculativeEvaluationService.stageAnswers(questions, answers, 2);
+        assertEquals(List.of("Q6", "Q7", "Q8", "Q9", "Q10"), new ArrayList<>(stageTwo.keySet()));
+        verify(openAIService).evaluateInterests(eq(PROFILE), eq(stageTwo), anyMap());
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).upsert(any(Query.class), update.capture(), eq(SpeculativeEvaluation.class));
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        SpeculativeEvaluation.Entry entry = (SpeculativeEvaluation.Entry) set.get("stages.2");
+        assertEquals(SpeculativeEvaluationService.fingerprint(PROFILE, stageTwo), entry.getFingerprint());
+        assertEquals(5, entry.getAnswerCount());
+        assertEquals(1.0, registry.counter("evaluation.speculative.stages", "outcome", "success").count());
+    }
+
+    @Test
+    @DisplayName("evaluate should fold the stage evaluations and reconcile only the last stage's answers")
+    void testEvaluate_ReconcilesLastStage() {
+        SpeculativeEvaluation speculative = new SpeculativeEvaluation();
+        speculative.setId("c1");
+        speculative.getStages().put("1", stageEntry(1, stageJson(80, 20, 0)));
+        speculative.getStages().put("2", stageEntry(2, stageJson(20, 80, 0)));
+        when(mongoTemplate.findById("c1", SpeculativeEvaluation.class)).thenReturn(speculative);
+        when(openAIService.reconcileEvaluation(eq(PROFILE), anyString(), anyMap(), anyMap())).thenReturn(
+                "{\"interests\":{\"tech\":50,\"research\":50},\"interest_persona\":\"Builder\","
+                        + "\"recommended_roles\":[\"Junior Developer\"],\"summary\":\"Whole picture\"}");
+
+        EvaluationResult result = service.evaluate(userProfile, answers, "c1", "u1");
+
+        verify(openAIService).reconcileEvaluation(eq(PROFILE), anyString(),
+                eq(SpeculativeEvaluationService.stageAnswers(questions, answers, 3)), anyMap());
+        verify(openAIService, never()).evaluateInterests(any(), any(), any());
+        assertEquals(50.0, result.getInterests().get("tech"));
+        assertEquals(33.33, result.getInterests().get("design"));
+        assertEquals(16.67, result.getInterests().get("research"));
+        assertEquals(List.of(50.0, 33.33, 0.0, 0.0, 16.67), result.getPieChartValues());
+        assertEquals("Builder", result.getInterestPersona());
+        assertEquals(List.of("Junior Developer"), result.getRecommendedRoles());
+        assertEquals(List.of("Curious", "Persistent"), result.getStrengths());
+        assertEquals("Whole picture", result.getSummary());
+        assertEquals(1.0, registry.counter("evaluation.speculative.requests", "result", "reconciled").count());
+        verify(mongoTemplate).upsert(any(Query.class), any(Update.class), eq(SpeculativeEvaluation.class));
+    }
+
+    @Test
+    @DisplayName("evaluate should return the stored result without a model call when the answers are unchanged")
+    void testEvaluate_ReturnsCachedResult() throws Exception {
+        EvaluationResult stored = new EvaluationResult();
+        stored.setSummary("From the last evaluation");
+        stored.setInterests(Map.of("tech", 100.0));
+        SpeculativeEvaluation speculative = new SpeculativeEvaluation();
+        speculative.setId("c1");
+        speculative.setResult(new SpeculativeEvaluation.Entry(SpeculativeEvaluationService.fingerprint(PROFILE, answers),
+                new ObjectMapper().writeValueAsString(stored), answers.size(), NOW));
+        when(mongoTemplate.findById("c1", SpeculativeEvaluation.class)).thenReturn(speculative);
+
+        EvaluationResult result = service.evaluate(userProfile, answers, "c1", "u1");
+
+        assertEquals("From the last evaluation", result.getSummary());
+        verifyNoInteractions(openAIService);
+        assertEquals(1.0, registry.counter("evaluation.speculative.requests", "result", "cached").count());
+    }
+
+    @Test
+    @DisplayName("evaluate should evaluate all answers when a stage's answers changed since it was evaluated")
+    void testEvaluate_StaleStageFallsBackToFullEvaluation() {
+        SpeculativeEvaluation speculative = new SpeculativeEvaluation();
+        speculative.setId("c1");
+        speculative.getStages().put("1", stageEntry(1, stageJson(80, 20, 0)));
+        speculative.getStages().put("2", stageEntry(2, stageJson(20, 80, 0)));
+        when(mongoTemplate.findById("c1", SpeculativeEvaluation.class)).thenReturn(speculative);
+        when(openAIService.evaluateInterests(anyMap(), anyMap(), anyMap())).thenReturn(stageJson(60, 40, 0));
+        answers.put("Q7", "Changed my mind");
+
+        EvaluationResult result = service.evaluate(userProfile, answers, "c1", "u1");
+
+        assertEquals(60.0, result.getInterests().get("tech"));
+        verify(openAIService).evaluateInterests(PROFILE, answers, Map.of());
+        verify(openAIService, never()).reconcileEvaluation(any(), any(), any(), any());
+        assertEquals(1.0, registry.counter("evaluation.speculative.requests", "result", "full").count());
+    }
+
+    private SpeculativeEvaluation.Entry stageEntry(int stage, String json) {
+        Map<String, String> stageAnswers = SpeculativeEvaluationService.stageAnswers(questions, answers, stage);
+        return new SpeculativeEvaluation.Entry(SpeculativeEvaluationService.fingerprint(PROFILE, stageAnswers), json,
+                stageAnswers.size(), NOW);
+    }
+
+    private static String stageJson(int tech, int design, int research) {
+        return "{\"interests\":{\"tech\":" + tech + ",\"design\":" + design + ",\"research\":" + research + "},"
+                + "\"pie_chart_labels\":[\"Tech\",\"Design\",\"Management\",\"Entrepreneurship\",\"Research\"],"
+                + "\"interest_persona\":\"Stage persona\",\"strengths\":[\"Curious\",\"Persistent\"],"
+                + "\"summary\":\"Stage summary\"}";
+    }
+}
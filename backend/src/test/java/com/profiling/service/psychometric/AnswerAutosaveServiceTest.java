@@ -0,0 +1,301 @@
+package com.profiling.service.psychometric;
+
+import com.mongodb.client.result.UpdateResult;
+import com.profiling.dto.psychometric.AnswerBatchRequest.AnswerDelta;
+import com.profiling.dto.psychometric.AnswerBatchResponse;
+import com.profiling.exception.NotFoundException;
+import com.profiling.model.psychometric.Answer;
+import com.profiling.model.psychometric.PsychometricSession;
+import com.profiling.model.psychometric.Question;
+import com.profiling.model.psychometric.RunningScores;
+import com.profiling.model.psychometric.SessionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AnswerAutosaveService Tests")
+class AnswerAutosaveServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T10:00:00Z");
+
+    private MongoTemplate mongoTemplate;
+    private ScoringService scoringService;
+    private SimpleMeterRegistry registry;
+    private AnswerAutosaveService service;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        scoringService = new ScoringService();
+        registry = new SimpleMeterRegistry();
+        service = new AnswerAutosaveService(mongoTemplate, scoringService, registry, Clock.fixed(NOW, ZoneOffset.UTC),
+                60_000, 100);
+    }
+
+    @Test
+    @DisplayName("saveAnswers should write the changed answers and running scores in one versioned update")
+    void testSaveAnswers_AppliesChanges() {
+        PsychometricSession session = session();
+        when(mongoTemplate.findOne(any(Query.class), eq(PsychometricSession.class))).thenReturn(session);
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(PsychometricSession.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        AnswerBatchResponse response = service.saveAnswers("s1", List.of(
+                new AnswerDelta("q1", 0, NOW.minusSeconds(5)),
+                new AnswerDelta("b1", 1, NOW.minusSeconds(4)),
+                new AnswerDelta("unknown", 2, NOW.minusSeconds(3))));
+
+        assertEquals(2, response.getApplied());
+        assertEquals(2, response.getAnswered());
+        assertEquals(1, response.getAnswerVersion());
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(query.capture(), update.capture(), eq(PsychometricSession.class));
+        assertTrue(query.getValue().getQueryObject().containsKey("answerVersion"));
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertTrue(set.containsKey("answerSheet.q1"));
+        assertTrue(set.containsKey("answerSheet.b1"));
+        assertFalse(set.containsKey("answerSheet.unknown"));
+        RunningScores scores = (RunningScores) set.get("runningScores");
+        assertEquals(1, scores.section(1).getCorrect());
+        assertEquals(80, scores.trait("openness").getSum());
+        assertEquals(2.0, registry.counter("sessions.answers.saved").count());
+    }
+
+    @Test
+    @DisplayName("saveAnswers should ignore changes older than or equal to the stored answer")
+    void testSaveAnswers_IgnoresStaleAndRepeatedChanges() {
+        PsychometricSession session = session();
+        session.getAnswerSheet().put("q1", answer("q1", 1, NOW.minusSeconds(10)));
+        when(mongoTemplate.findOne(any(Query.class), eq(PsychometricSession.class))).thenReturn(session);
+
+        AnswerBatchResponse response = service.saveAnswers("s1", List.of(
+                new AnswerDelta("q1", 0, NOW.minusSeconds(20)),
+                new AnswerDelta("q1", 1, NOW)));
+
+        assertEquals(0, response.getApplied());
+        assertEquals(1, response.getAnswered());
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), any(Class.class));
+    }
+
+    @Test
+    @DisplayName("saveAnswers should re-read and re-apply the batch after a concurrent write")
+    void testSaveAnswers_RetriesOnVersionConflict() {
+        when(mongoTemplate.findOne(any(Query.class), eq(PsychometricSession.class)))
+                .thenAnswer(invocation -> session());
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(PsychometricSession.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        AnswerBatchResponse response = service.saveAnswers("s1", List.of(new AnswerDelta("q1", 0, NOW)));
+
+        assertEquals(1, response.getApplied());
+        verify(mongoTemplate, times(2)).findOne(any(Query.class), eq(PsychometricSession.class));
+        assertEquals(1.0, registry.counter("sessions.answers.conflicts").count());
+    }
+
+    @Test
+    @DisplayName("saveAnswers should reject changes to a submitted session and unknown sessions")
+    void testSaveAnswers_CompletedOrMissing() {
+        PsychometricSession session = session();
+        session.setStatus(SessionStatus.COMPLETED);
+        when(mongoTemplate.findOne(any(Query.class), eq(PsychometricSession.class))).thenReturn(session, (PsychometricSession) null);
+
+        ResponseStatusException conflict = assertThrows(ResponseStatusException.class,
+                () -> service.saveAnswers("s1", List.of(new AnswerDelta("q1", 0, NOW))));
+        assertEquals(HttpStatus.CONFLICT, conflict.getStatusCode());
+        assertThrows(NotFoundException.class, () -> service.saveAnswers("s1", List.of(new AnswerDelta("q1", 0, NOW))));
+    }
+
+    @Test
+    @DisplayName("saving, submitting and finalizing should be a conflict unless the session is READY or IN_PROGRESS")
+    void testWrites_RejectedUnlessOpen() {
+        PsychometricSession expired = session();
+        expired.setStatus(SessionStatus.EXPIRED);
+        when(mongoTemplate.findOne(any(Query.class), eq(PsychometricSession.class))).thenReturn(expired);
+
+        ResponseStatusException save = assertThrows(ResponseStatusException.class,
+                () -> service.saveAnswers("s1", List.of(new AnswerDelta("q1", 0, NOW))));
+        assertEquals(HttpStatus.CONFLICT, save.getStatusCode());
+        ResponseStatusException submit = assertThrows(ResponseStatusException.class,
+                () -> service.submit("s1", List.of(answer("q1", 0, NOW)), 0, 0, NOW.toString()));
+        assertEquals(HttpStatus.CONFLICT, submit.getStatusCode());
+        expired.setStatus(SessionStatus.GENERATING);
+        ResponseStatusException finalize = assertThrows(ResponseStatusException.class,
+                () -> service.finalizeSession("s1", 0, 0, NOW.toString()));
+        assertEquals(HttpStatus.CONFLICT, finalize.getStatusCode());
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), any(Class.class));
+    }
+
+    @Test
+    @DisplayName("the conditional update should only match an open session")
+    void testSaveAnswers_UpdateGuardedByOpenStatus() {
+        when(mongoTemplate.findOne(any(Query.class), eq(PsychometricSession.class))).thenReturn(session());
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(PsychometricSession.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        service.saveAnswers("s1", List.of(new AnswerDelta("q1", 0, NOW)));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateFirst(query.capture(), any(Update.class), eq(PsychometricSession.class));
+        Document status = (Document) query.getValue().getQueryObject().get("status");
+        assertEquals(AnswerAutosaveService.OPEN, Set.copyOf((Collection<?>) status.get("$in")));
+    }
+
+    @Test
+    @DisplayName("only the first batch of a session should read its questions")
+    void testSaveAnswers_CachesAnswerKey() {
+        when(mongoTemplate.findOne(any(Query.class), eq(PsychometricSession.class)))
+                .thenAnswer(invocation -> session());
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(PsychometricSession.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        service.saveAnswers("s1", List.of(new AnswerDelta("q1", 0, NOW)));
+        AnswerBatchResponse second = service.saveAnswers("s1", List.of(new AnswerDelta("d1", 1, NOW)));
+
+        assertEquals(1, second.getApplied());
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).findOne(query.capture(), eq(PsychometricSession.class));
+        assertTrue(query.getAllValues().get(0).getFieldsObject().containsKey("questions"));
+        assertFalse(query.getAllValues().get(1).getFieldsObject().containsKey("questions"));
+    }
+
+    @Test
+    @DisplayName("running scores should match a full rescan after answers are changed and cleared")
+    void testApplyAnswer_MatchesRescan() {
+        PsychometricSession incremental = session();
+        RunningScores scores = new RunningScores();
+        Map<String, Integer> sheet = new HashMap<>();
+        int[][] changes = {{0, 1}, {1, 2}, {2, 0}, {0, 0}, {3, 3}, {1, -1}, {4, 2}, {2, 1}};
+        for (int[] change : changes) {
+            Question question = incremental.getQuestions().get(change[0]);
+            Integer selected = change[1] < 0 ? null : change[1];
+            scoringService.applyAnswer(scores, question, sheet.get(question.getId()), -1);
+            scoringService.applyAnswer(scores, question, selected, 1);
+            sheet.put(question.getId(), selected);
+        }
+        incremental.setRunningScores(scores);
+
+        PsychometricSession rescanned = session();
+        List<Answer> answers = new ArrayList<>();
+        sheet.forEach((questionId, selected) -> answers.add(answer(questionId, selected, NOW)));
+        rescanned.setAnswers(answers);
+
+        assertEquals(scoringService.calculateSectionScores(rescanned), scoringService.calculateSectionScores(incremental));
+        assertEquals(scoringService.calculateBigFiveScores(rescanned), scoringService.calculateBigFiveScores(incremental));
+    }
+
+    @Test
+    @DisplayName("finalizeSession should derive results from running scores and snapshot the answer sheet")
+    void testFinalizeSession_UsesRunningScores() {
+        PsychometricSession session = session();
+        RunningScores scores = new RunningScores();
+        scoringService.applyAnswer(scores, session.getQuestions().get(0), 0, 1);
+        scoringService.applyAnswer(scores, session.getQuestions().get(3), 2, 1);
+        session.setRunningScores(scores);
+        session.getAnswerSheet().put("d1", answer("d1", 2, NOW));
+        session.getAnswerSheet().put("q1", answer("q1", 0, NOW));
+        when(mongoTemplate.findOne(any(Query.class), eq(PsychometricSession.class))).thenReturn(session);
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(PsychometricSession.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        PsychometricSession.TestResults results = service.finalizeSession("s1", 1, 0, NOW.toString());
+
+        assertEquals(3, results.getTotalQuestions());
+        assertEquals(2, results.getAttempted());
+        assertEquals(1, results.getNotAttempted());
+        assertEquals(1, results.getCorrect());
+        assertEquals(1, results.getWrong());
+        assertEquals(1, results.getMarkedForReview());
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(PsychometricSession.class));
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertEquals(SessionStatus.COMPLETED, set.get("status"));
+        @SuppressWarnings("unchecked")
+        List<Answer> answers = (List<Answer>) set.get("answers");
+        assertEquals(List.of("q1", "d1"), answers.stream().map(Answer::getQuestionId).toList());
+    }
+
+    @Test
+    @DisplayName("finalizeSession should re-read the session when an autosave landed after it was loaded")
+    void testFinalizeSession_RetriesOnVersionConflict() {
+        PsychometricSession loaded = session();
+        loaded.setAnswerVersion(3L);
+        PsychometricSession autosaved = session();
+        autosaved.setAnswerVersion(4L);
+        RunningScores scores = new RunningScores();
+        scoringService.applyAnswer(scores, autosaved.getQuestions().get(0), 0, 1);
+        autosaved.setRunningScores(scores);
+        autosaved.getAnswerSheet().put("q1", answer("q1", 0, NOW));
+        when(mongoTemplate.findOne(any(Query.class), eq(PsychometricSession.class))).thenReturn(loaded, autosaved);
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(PsychometricSession.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        PsychometricSession.TestResults results = service.finalizeSession("s1", 0, 0, NOW.toString());
+
+        assertEquals(1, results.getCorrect());
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateFirst(query.capture(), update.capture(), eq(PsychometricSession.class));
+        assertEquals(3L, query.getAllValues().get(0).getQueryObject().get("answerVersion"));
+        assertEquals(4L, query.getAllValues().get(1).getQueryObject().get("answerVersion"));
+        @SuppressWarnings("unchecked")
+        List<Answer> answers = (List<Answer>) ((Document) update.getValue().getUpdateObject().get("$set")).get("answers");
+        assertEquals(List.of("q1"), answers.stream().map(Answer::getQuestionId).toList());
+        assertEquals(1.0, registry.counter("sessions.answers.conflicts").count());
+    }
+
+    private static PsychometricSession session() {
+        PsychometricSession session = new PsychometricSession();
+        session.setId("s1");
+        session.setStatus(SessionStatus.IN_PROGRESS);
+        Question behavioral = question("b1", 2, null, "big_five_openness");
+        behavioral.setTraitImpactScores(List.of(20, 80, 50, 10));
+        Question likert = question("b2", 2, null, "big_five_openness");
+        session.setQuestions(new ArrayList<>(List.of(
+                question("q1", 1, 0, "numerical"), behavioral, likert,
+                question("d1", 3, 1, "domain"), question("q2", 1, 2, "verbal"))));
+        return session;
+    }
+
+    private static Question question(String id, int section, Integer correctOptionIndex, String category) {
+        Question question = new Question();
+        question.setId(id);
+        question.setSectionNumber(section);
+        question.setCategory(category);
+        question.setOptions(List.of("a", "b", "c", "d"));
+        question.setCorrectOptionIndex(correctOptionIndex);
+        return question;
+    }
+
+    private static Answer answer(String questionId, Integer selected, Instant answeredAt) {
+        Answer answer = new Answer();
+        answer.setQuestionId(questionId);
+        answer.setSelectedOptionIndex(selected);
+        answer.setAnsweredAt(answeredAt);
+        return answer;
+    }
+}
@@ -0,0 +1,128 @@
+package com.profiling.service.psychometric;
+
+import com.profiling.model.psychometric.Answer;
+import com.profiling.model.psychometric.PsychometricSession;
+import com.profiling.model.psychometric.Question;
+import com.profiling.model.psychometric.UserInfo;
+import com.profiling.service.PdfRenderingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AnswersPdfService Tests")
+class AnswersPdfServiceTest {
+
+    private SimpleMeterRegistry registry;
+    private PdfRenderingService pdfRenderingService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        pdfRenderingService = new PdfRenderingService(registry, 4, 10, 30_000, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pdfRenderingService.stop();
+    }
+
+    @Test
+    @DisplayName("generateHtmlChunks should split at the chunk size and mark continued sections")
+    void testGenerateHtmlChunks_SplitsBySize() {
+        AnswersPdfService service = new AnswersPdfService(pdfRenderingService, 2, 1 << 20);
+
+        List<String> chunks = service.generateHtmlChunks(session(3, 2));
+
+        assertEquals(3, chunks.size());
+        assertTrue(chunks.get(0).contains("Questions and Responses"));
+        assertFalse(chunks.get(1).contains("Questions and Responses"));
+        assertTrue(chunks.get(1).contains("Section 1: Aptitude Assessment (continued)"));
+        assertTrue(chunks.get(1).contains("Section 2: Behavioral Assessment</h2>"));
+        assertTrue(chunks.get(2).startsWith("<!DOCTYPE html>"));
+        assertTrue(chunks.get(2).contains("Section 2: Behavioral Assessment (continued)"));
+    }
+
+    @Test
+    @DisplayName("generateHtmlChunks should not leave a section header at the end of a full chunk")
+    void testGenerateHtmlChunks_SectionStartsNewChunk() {
+        AnswersPdfService service = new AnswersPdfService(pdfRenderingService, 2, 1 << 20);
+
+        List<String> chunks = service.generateHtmlChunks(session(2, 2));
+
+        assertEquals(2, chunks.size());
+        assertFalse(chunks.get(0).contains("Section 2"));
+        assertTrue(chunks.get(1).contains("Section 2: Behavioral Assessment</h2>"));
+        assertFalse(chunks.get(1).contains("(continued)"));
+    }
+
+    @Test
+    @DisplayName("generateHtmlChunks should not make more chunks than there are render threads")
+    void testGenerateHtmlChunks_LimitedByRenderThreads() {
+        PdfRenderingService singleThread = new PdfRenderingService(registry, 1, 10, 30_000, 5);
+        try {
+            AnswersPdfService service = new AnswersPdfService(singleThread, 2, 1 << 20);
+
+            assertEquals(1, service.generateHtmlChunks(session(3, 2)).size());
+        } finally {
+            singleThread.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("generateAnswersPdf should merge chunks in order and number pages across them")
+    void testGenerateAnswersPdf_MergesChunksWithPageNumbers() throws IOException {
+        AnswersPdfService service = new AnswersPdfService(pdfRenderingService, 2, 1 << 20);
+
+        byte[] pdf = service.generateAnswersPdf(session(3, 2));
+
+        try (PDDocument document = PDDocument.load(pdf)) {
+            int pages = document.getNumberOfPages();
+            assertTrue(pages >= 3);
+            String text = new PDFTextStripper().getText(document);
+            assertTrue(text.contains("Page 1 of " + pages));
+            assertTrue(text.contains("Page " + pages + " of " + pages));
+            assertTrue(text.indexOf("Prompt 1-3") < text.indexOf("Prompt 2-1"));
+        }
+        assertEquals(3, registry.get("pdf.render.time").tag("type", "answers-chunk").timer().count());
+        assertEquals(1, registry.get("pdf.render.time").tag("type", "answers").timer().count());
+    }
+
+    private static PsychometricSession session(int aptitudeQuestions, int behavioralQuestions) {
+        List<Question> questions = new ArrayList<>();
+        List<Answer> answers = new ArrayList<>();
+        int[] counts = {aptitudeQuestions, behavioralQuestions};
+        for (int section = 1; section <= counts.length; section++) {
+            for (int i = 1; i <= counts[section - 1]; i++) {
+                Question question = new Question();
+                question.setId("q" + section + "-" + i);
+                question.setSectionNumber(section);
+                question.setPrompt("Prompt " + section + "-" + i);
+                question.setOptions(List.of("A", "B", "C", "D"));
+                question.setCorrectOptionIndex(0);
+                questions.add(question);
+                Answer answer = new Answer();
+                answer.setQuestionId(question.getId());
+                answer.setSelectedOptionIndex(1);
+                answers.add(answer);
+            }
+        }
+        UserInfo userInfo = new UserInfo();
+        userInfo.setName("Test Candidate");
+        PsychometricSession session = new PsychometricSession();
+        session.setId("s1");
+        session.setUserInfo(userInfo);
+        session.setQuestions(questions);
+        session.setAnswers(answers);
+        return session;
+    }
+}
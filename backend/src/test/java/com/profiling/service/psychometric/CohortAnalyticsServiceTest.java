@@ -0,0 +1,187 @@
+package com.profiling.service.psychometric;
+
+import com.profiling.exception.BadRequestException;
+import com.profiling.model.psychometric.CohortRollup;
+import com.profiling.model.psychometric.PsychometricReport;
+import com.profiling.model.psychometric.PsychometricSession;
+import com.profiling.model.psychometric.Report;
+import com.profiling.model.psychometric.RunningScores;
+import com.profiling.model.psychometric.SessionStatus;
+import com.profiling.model.psychometric.UserInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CohortAnalyticsService Tests")
+class CohortAnalyticsServiceTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2024-06-01T10:00:00Z");
+
+    private MongoTemplate mongoTemplate;
+    private BulkOperations bulk;
+    private SimpleMeterRegistry registry;
+    private CohortAnalyticsService service;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        bulk = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CohortRollup.class)).thenReturn(bulk);
+        registry = new SimpleMeterRegistry();
+        service = new CohortAnalyticsService(mongoTemplate, registry, Runnable::run, Runnable::run, true, 100,
+                Clock.fixed(Instant.parse("2024-06-02T08:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("a stored report should add its scores to every cohort and bucket of the session")
+    void testReportStored_IncrementsRollups() {
+        PsychometricSession session = session();
+        PsychometricReport content = new PsychometricReport();
+        content.setAptitudeScore(72.5);
+        content.setOverallScore(64.0);
+        content.setOpenness(81);
+        content.setNeuroticism(100);
+        content.setPerformanceBucket("GOOD");
+        Report report = new Report();
+        report.setContent(content);
+        session.setReport(report);
+        when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class), eq(PsychometricSession.class)))
+                .thenReturn(session);
+
+        service.reportStored("s1");
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulk, times(9)).upsert(query.capture(), update.capture());
+        verify(bulk).execute();
+        List<Object> ids = query.getAllValues().stream().map(q -> q.getQueryObject().get("_id")).toList();
+        assertTrue(ids.contains("all|all|all|all"));
+        assertTrue(ids.contains("careerInterest|month|2024-06|data science"));
+        assertTrue(ids.contains("degree|day|2024-06-01|unspecified"));
+
+        Document inc = (Document) update.getValue().getUpdateObject().get("$inc");
+        assertEquals(1, inc.get("funnel.reported"));
+        assertEquals(72.5, inc.get("scores.aptitude.sum"));
+        assertEquals(1, inc.get("scores.aptitude.count"));
+        assertFalse(inc.containsKey("scores.behavioral.sum"));
+        assertEquals(1, inc.get("bigFive.openness.80"));
+        assertEquals(1, inc.get("bigFive.neuroticism.90"));
+        assertEquals(1, inc.get("performance.GOOD"));
+        assertEquals(1.0, registry.counter("analytics.cohort.events", "event", "reported", "outcome", "recorded").count());
+    }
+
+    @Test
+    @DisplayName("an event already counted for the session should not touch the rollups")
+    void testSessionSubmitted_AlreadyRecordedIsSkipped() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class), eq(PsychometricSession.class)))
+                .thenReturn(null);
+
+        service.sessionSubmitted("s1");
+
+        ArgumentCaptor<Query> claim = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findAndModify(claim.capture(), any(UpdateDefinition.class), eq(PsychometricSession.class));
+        assertEquals(SessionStatus.COMPLETED, claim.getValue().getQueryObject().get("status"));
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), eq(CohortRollup.class));
+        assertEquals(1.0, registry.counter("analytics.cohort.events", "event", "submitted", "outcome", "skipped").count());
+    }
+
+    @Test
+    @DisplayName("a failed rollup write should release the claim so backfill counts the event")
+    void testRecord_FailedBulkWriteReleasesClaim() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class), eq(PsychometricSession.class)))
+                .thenReturn(session());
+        when(bulk.execute()).thenThrow(new DataAccessResourceFailureException("primary stepped down"));
+
+        service.sessionCreated("s1");
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<UpdateDefinition> release = ArgumentCaptor.forClass(UpdateDefinition.class);
+        verify(mongoTemplate).updateFirst(query.capture(), release.capture(), eq(PsychometricSession.class));
+        assertEquals("s1", query.getValue().getQueryObject().get("_id"));
+        assertEquals(new Document("analyticsRecorded", "created"), release.getValue().getUpdateObject().get("$pull"));
+        assertEquals(1.0, registry.counter("analytics.cohort.events", "event", "created", "outcome", "failed").count());
+        assertEquals(0.0, registry.counter("analytics.cohort.events", "event", "created", "outcome", "recorded").count());
+    }
+
+    @Test
+    @DisplayName("backfill should record only the events a streamed session is still missing")
+    void testBackfill_RecordsMissingEvents() {
+        PsychometricSession streamed = new PsychometricSession();
+        streamed.setId("s1");
+        streamed.setStatus(SessionStatus.COMPLETED);
+        streamed.setAnalyticsRecorded(Set.of("created"));
+        when(mongoTemplate.stream(any(Query.class), eq(PsychometricSession.class))).thenReturn(Stream.of(streamed));
+        PsychometricSession claimed = session();
+        RunningScores scores = new RunningScores();
+        scores.category(1, "Numerical").setAttempted(4);
+        scores.category(1, "Numerical").setCorrect(1);
+        scores.category(2, "Openness").setAttempted(3);
+        claimed.setRunningScores(scores);
+        when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class), eq(PsychometricSession.class)))
+                .thenReturn(claimed);
+
+        assertEquals(1, service.backfill());
+
+        ArgumentCaptor<Query> claim = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findAndModify(claim.capture(), any(UpdateDefinition.class), eq(PsychometricSession.class));
+        assertEquals(new Document("$ne", "submitted"), claim.getValue().getQueryObject().get("analyticsRecorded"));
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulk, times(9)).upsert(any(Query.class), update.capture());
+        Document inc = (Document) update.getValue().getUpdateObject().get("$inc");
+        assertEquals(1, inc.get("funnel.submitted"));
+        assertEquals(4, inc.get("categories.1:Numerical.attempted"));
+        assertEquals(1, inc.get("categories.1:Numerical.correct"));
+        assertFalse(inc.containsKey("categories.2:Openness.attempted"));
+    }
+
+    @Test
+    @DisplayName("series should fetch one rollup id per bucket and reject unbounded ranges")
+    void testSeries_FetchesBucketsById() {
+        CohortRollup may = new CohortRollup();
+        may.setId("careerInterest|month|2024-05|data science");
+        when(mongoTemplate.find(any(Query.class), eq(CohortRollup.class))).thenReturn(List.of(may));
+
+        List<CohortRollup> series = service.series("careerInterest", " Data  Science", "month", "2024-04", "2024-06");
+
+        assertEquals(List.of(may), series);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(CohortRollup.class));
+        assertEquals(new Document("$in", List.of("careerInterest|month|2024-04|data science",
+                        "careerInterest|month|2024-05|data science", "careerInterest|month|2024-06|data science")),
+                query.getValue().getQueryObject().get("_id"));
+        assertThrows(BadRequestException.class,
+                () -> service.series("careerInterest", "x", "day", "2020-01-01", "2024-01-01"));
+        assertThrows(BadRequestException.class, () -> service.series("institute", "x", "month", "2024-01", "2024-02"));
+    }
+
+    private static PsychometricSession session() {
+        UserInfo userInfo = new UserInfo();
+        userInfo.setCareerInterest("Data Science ");
+        PsychometricSession session = new PsychometricSession();
+        session.setId("s1");
+        session.setUserInfo(userInfo);
+        session.setCreatedAt(CREATED_AT);
+        return session;
+    }
+}
@@ -0,0 +1,128 @@
+package com.profiling.service.psychometric;
+
+import com.mongodb.client.result.UpdateResult;
+import com.profiling.model.psychometric.GenerationJob;
+import com.profiling.model.psychometric.GenerationJobStatus;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("GenerationJobQueue Tests")
+class GenerationJobQueueTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    private MongoTemplate mongoTemplate;
+    private GenerationJobQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        queue = new GenerationJobQueue(mongoTemplate, Duration.ofSeconds(120), 3,
+                Duration.ofSeconds(2), Duration.ofSeconds(60), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("enqueue should skip sections that already have a job")
+    void testEnqueue_IgnoresDuplicates() {
+        when(mongoTemplate.insert(any(GenerationJob.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new DuplicateKeyException("dup"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        int created = queue.enqueue("s1", List.of(1, 2, 3), "trace-1");
+
+        assertEquals(2, created);
+        ArgumentCaptor<GenerationJob> job = ArgumentCaptor.forClass(GenerationJob.class);
+        verify(mongoTemplate, times(3)).insert(job.capture());
+        assertEquals(GenerationJobStatus.PENDING, job.getValue().getStatus());
+        assertEquals(3, job.getValue().getMaxAttempts());
+        assertEquals(NOW, job.getValue().getAvailableAt());
+        assertEquals("trace-1", job.getValue().getTraceId());
+    }
+
+    @Test
+    @DisplayName("claim should take a lease and count the attempt in one findAndModify")
+    void testClaim_SetsLease() {
+        GenerationJob claimed = job(1);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(GenerationJob.class))).thenReturn(claimed);
+
+        assertSame(claimed, queue.claim("worker-1").orElseThrow());
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).findAndModify(any(Query.class), update.capture(), any(FindAndModifyOptions.class),
+                eq(GenerationJob.class));
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertEquals("worker-1", set.get("leaseOwner"));
+        assertEquals(NOW.plusSeconds(120), set.get("leaseExpiresAt"));
+        assertEquals(1, ((Document) update.getValue().getUpdateObject().get("$inc")).get("attempts"));
+    }
+
+    @Test
+    @DisplayName("fail should schedule a retry with backoff until attempts are used up, then dead-letter")
+    void testFail_RetriesThenDeadLetters() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(GenerationJob.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        assertFalse(queue.fail(job(1), "worker-1", new IllegalStateException("boom")));
+        assertTrue(queue.fail(job(3), "worker-1", new IllegalStateException("boom")));
+
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateFirst(any(Query.class), updates.capture(), eq(GenerationJob.class));
+        Document retry = (Document) updates.getAllValues().get(0).getUpdateObject().get("$set");
+        assertEquals(GenerationJobStatus.PENDING, retry.get("status"));
+        assertTrue(((Instant) retry.get("availableAt")).isAfter(NOW));
+        Document dead = (Document) updates.getAllValues().get(1).getUpdateObject().get("$set");
+        assertEquals(GenerationJobStatus.DEAD, dead.get("status"));
+        assertEquals("IllegalStateException: boom", dead.get("lastError"));
+    }
+
+    @Test
+    @DisplayName("fail should not report a dead letter when the worker lost the lease")
+    void testFail_LostLease() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(GenerationJob.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        assertFalse(queue.fail(job(3), "worker-1", new IllegalStateException("boom")));
+    }
+
+    @Test
+    @DisplayName("backoff should grow exponentially within the jitter band and respect the cap")
+    void testBackoff() {
+        for (int i = 0; i < 20; i++) {
+            long first = queue.backoff(1).toMillis();
+            long third = queue.backoff(3).toMillis();
+            long capped = queue.backoff(30).toMillis();
+            assertTrue(first >= 1000 && first <= 2000, "first retry " + first);
+            assertTrue(third >= 4000 && third <= 8000, "third retry " + third);
+            assertTrue(capped >= 30_000 && capped <= 60_000, "capped retry " + capped);
+        }
+    }
+
+    private static GenerationJob job(int attempts) {
+        GenerationJob job = new GenerationJob("s1", 1, 3, NOW);
+        job.setId("job-1");
+        job.setStatus(GenerationJobStatus.RUNNING);
+        job.setAttempts(attempts);
+        job.setLeaseOwner("worker-1");
+        return job;
+    }
+}
@@ -0,0 +1,108 @@
+package com.profiling.service.psychometric;
+
+import com.profiling.dto.psychometric.ProctoringMonitorUpdate;
+import com.profiling.model.psychometric.ProctoringViolation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProctoringMonitorService Tests")
+class ProctoringMonitorServiceTest {
+
+    private MutableClock clock;
+    private ProctoringMonitorService monitor;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T10:00:00Z"));
+        monitor = new ProctoringMonitorService(null, 60, 60, false, clock);
+    }
+
+    @Test
+    @DisplayName("recordAccepted should keep rolling counters and a severity-weighted risk score")
+    void testRecordAccepted_AggregatesPerSession() {
+        monitor.recordAccepted(List.of(
+                violation("s1", "TAB_SWITCH", "LOW"),
+                violation("s1", "TAB_SWITCH", "HIGH"),
+                violation("s1", "MULTIPLE_FACES", "CRITICAL"),
+                violation("s2", "TAB_SWITCH", "MEDIUM")));
+
+        List<ProctoringMonitorUpdate> snapshot = monitor.snapshot();
+
+        assertEquals(2, snapshot.size());
+        ProctoringMonitorUpdate top = snapshot.get(0);
+        assertEquals("s1", top.getSessionId());
+        assertEquals(3, top.getTotal());
+        assertEquals(2L, top.getByType().get("TAB_SWITCH"));
+        assertEquals(1 + 4 + 8, top.getRiskScore());
+    }
+
+    @Test
+    @DisplayName("broadcast should expire events that left the window")
+    void testBroadcast_ExpiresOldEvents() {
+        monitor.recordAccepted(List.of(violation("s1", "TAB_SWITCH", "HIGH")));
+        clock.advance(Duration.ofSeconds(30));
+        monitor.recordAccepted(List.of(violation("s1", "TAB_SWITCH", "LOW")));
+
+        clock.advance(Duration.ofSeconds(45));
+        monitor.broadcast();
+
+        ProctoringMonitorUpdate update = monitor.snapshot().get(0);
+        assertEquals(1, update.getTotal());
+        assertEquals(1, update.getRiskScore());
+
+        clock.advance(Duration.ofSeconds(60));
+        monitor.broadcast();
+        assertTrue(monitor.snapshot().isEmpty());
+    }
+
+    @Test
+    @DisplayName("recordAccepted should be ignored when the change stream is the source")
+    void testRecordAccepted_ChangeStreamMode_Ignored() {
+        ProctoringMonitorService streamed = new ProctoringMonitorService(null, 60, 60, true, clock);
+
+        streamed.recordAccepted(List.of(violation("s1", "TAB_SWITCH", "LOW")));
+
+        assertTrue(streamed.snapshot().isEmpty());
+    }
+
+    private ProctoringViolation violation(String sessionId, String type, String severity) {
+        return new ProctoringViolation(sessionId, "user-" + sessionId, type, severity, null);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.profiling.service.psychometric;
+
+import com.profiling.dto.psychometric.ProctoringViolationRequest;
+import com.profiling.dto.psychometric.ViolationCount;
+import com.profiling.model.psychometric.ProctoringViolation;
+import com.profiling.repository.ProctoringViolationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProctoringService Tests")
+class ProctoringServiceTest {
+
+    @Mock
+    private ProctoringViolationRepository violationRepository;
+
+    @Mock
+    private ProctoringViolationWriteBuffer writeBuffer;
+
+    @Mock
+    private ProctoringMonitorService monitorService;
+
+    @InjectMocks
+    private ProctoringService proctoringService;
+
+    @Test
+    @DisplayName("getViolationStats should use the aggregation instead of loading violations")
+    void testGetViolationStats_UsesAggregation() {
+        when(violationRepository.countByViolationType("session-1")).thenReturn(List.of(
+                new ViolationCount("TAB_SWITCH", 4),
+                new ViolationCount(null, 1)));
+
+        Map<String, Long> stats = proctoringService.getViolationStats("session-1");
+
+        assertEquals(4L, stats.get("TAB_SWITCH"));
+        assertEquals(1L, stats.get("UNKNOWN"));
+        verify(violationRepository, never()).findBySessionId(anyString());
+    }
+
+    @Test
+    @DisplayName("getCohortViolationStats should query distinct session IDs in one call")
+    @SuppressWarnings("unchecked")
+    void testGetCohortViolationStats_DeduplicatesSessionIds() {
+        when(violationRepository.summarizeBySession(any())).thenReturn(List.of());
+
+        proctoringService.getCohortViolationStats(List.of("s1", "s2", "s1"));
+
+        verify(violationRepository).summarizeBySession(argThat(ids -> ((Collection<String>) ids).size() == 2));
+    }
+
+    @Test
+    @DisplayName("logViolations should enqueue the whole batch at once")
+    void testLogViolations_EnqueuesBatch() {
+        ProctoringViolationRequest request = new ProctoringViolationRequest(
+                "session-1", "user-1", "TAB_SWITCH", null, "2024-01-01T00:00:00Z", null);
+
+        int accepted = proctoringService.logViolations(List.of(request, request));
+
+        assertEquals(2, accepted);
+        verify(writeBuffer).enqueue(argThat(batch -> batch.size() == 2
+                && batch.stream().allMatch(v -> "MEDIUM".equals(((ProctoringViolation) v).getSeverity()))));
+        verify(monitorService).recordAccepted(argThat(batch -> batch.size() == 2));
+        verify(violationRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,143 @@
+package com.profiling.service.psychometric;
+
+import com.profiling.exception.ServiceUnavailableException;
+import com.profiling.model.psychometric.ProctoringViolation;
+import com.profiling.repository.ProctoringViolationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProctoringViolationWriteBuffer Tests")
+class ProctoringViolationWriteBufferTest {
+
+    @Mock
+    private ProctoringViolationRepository violationRepository;
+
+    private ProctoringViolationWriteBuffer buffer;
+
+    @AfterEach
+    void tearDown() {
+        if (buffer != null) {
+            buffer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("enqueue should coalesce a burst into a single insertMany")
+    @SuppressWarnings("unchecked")
+    void testEnqueue_Burst_WrittenAsOneBatch() {
+        buffer = new ProctoringViolationWriteBuffer(violationRepository, 100, 50, 200, 10);
+        buffer.start();
+
+        buffer.enqueue(violations(20));
+
+        ArgumentCaptor<List<ProctoringViolation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(violationRepository, timeout(2000).times(1)).insert(captor.capture());
+        assertEquals(20, captor.getValue().size());
+    }
+
+    @Test
+    @DisplayName("enqueue should split writes at the batch size")
+    void testEnqueue_MoreThanBatchSize_WritesMultipleBatches() {
+        buffer = new ProctoringViolationWriteBuffer(violationRepository, 100, 10, 200, 10);
+        buffer.start();
+
+        buffer.enqueue(violations(25));
+
+        verify(violationRepository, timeout(2000).times(3)).insert(anyList());
+        long deadline = System.currentTimeMillis() + 2000;
+        while (buffer.getWrittenCount() < 25 && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(25, buffer.getWrittenCount());
+    }
+
+    @Test
+    @DisplayName("enqueue should reject the whole batch with 503 when it does not fit")
+    void testEnqueue_FullBuffer_ThrowsServiceUnavailable() {
+        // Writer not started, so nothing drains the queue
+        buffer = new ProctoringViolationWriteBuffer(violationRepository, 5, 10, 200, 1);
+        buffer.enqueue(violations(3));
+
+        assertThrows(ServiceUnavailableException.class, () -> buffer.enqueue(violations(3)));
+        // None of the rejected batch was queued, so the client's retry writes each event once
+        assertEquals(3, buffer.getQueuedCount());
+        assertEquals(3, buffer.getRejectedCount());
+        buffer.enqueue(violations(2));
+        assertEquals(5, buffer.getQueuedCount());
+    }
+
+    @Test
+    @DisplayName("a failed insert should be retried before the events are given up")
+    void testWrite_FailedInsert_Retried() {
+        when(violationRepository.insert(anyList()))
+                .thenThrow(new RuntimeException("primary stepped down"))
+                .thenReturn(List.of());
+        buffer = new ProctoringViolationWriteBuffer(violationRepository, 100, 50, 60_000, 10);
+        buffer.enqueue(violations(4));
+
+        buffer.stop();
+        buffer = null;
+
+        verify(violationRepository, times(2)).insert(anyList());
+    }
+
+    @Test
+    @DisplayName("a retry after a partly written insert should only insert the rest of the batch")
+    void testWrite_PartialInsert_RetriesRemainder() {
+        List<ProctoringViolation> batch = violations(4);
+        when(violationRepository.insert(anyList()))
+                .thenThrow(new RuntimeException("primary stepped down"))
+                .thenReturn(List.of());
+        // The failed ordered insert had stored the first two
+        when(violationRepository.findAllById(anyIterable())).thenAnswer(invocation -> batch.subList(0, 2));
+        buffer = new ProctoringViolationWriteBuffer(violationRepository, 100, 50, 60_000, 10);
+        ProctoringViolationWriteBuffer partial = buffer;
+        buffer.enqueue(batch);
+
+        buffer.stop();
+        buffer = null;
+
+        ArgumentCaptor<List<ProctoringViolation>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(violationRepository, times(2)).insert(inserts.capture());
+        List<ProctoringViolation> first = inserts.getAllValues().get(0);
+        List<ProctoringViolation> retry = inserts.getAllValues().get(1);
+        assertTrue(first.stream().allMatch(violation -> violation.getId() != null));
+        assertEquals(List.of(batch.get(2), batch.get(3)), retry);
+        assertEquals(4, partial.getWrittenCount());
+        assertEquals(0, partial.getFailedCount());
+    }
+
+    @Test
+    @DisplayName("stop should drain queued violations")
+    void testStop_QueuedViolations_Drained() {
+        buffer = new ProctoringViolationWriteBuffer(violationRepository, 100, 50, 60_000, 10);
+        buffer.enqueue(violations(7));
+
+        buffer.stop();
+        buffer = null;
+
+        verify(violationRepository).insert(anyList());
+    }
+
+    private List<ProctoringViolation> violations(int count) {
+        List<ProctoringViolation> violations = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            violations.add(new ProctoringViolation("session-1", "user-1", "TAB_SWITCH", "MEDIUM", null));
+        }
+        return violations;
+    }
+}
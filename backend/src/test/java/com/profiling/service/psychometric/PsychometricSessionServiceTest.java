@@ -0,0 +1,121 @@
+package com.profiling.service.psychometric;
+
+import com.profiling.dto.psychometric.CreateSessionRequest;
+import com.profiling.dto.psychometric.SubmitTestRequest;
+import com.profiling.dto.psychometric.SubmitTestResponse;
+import com.profiling.model.psychometric.Answer;
+import com.profiling.model.psychometric.ArchivedSession;
+import com.profiling.model.psychometric.PsychometricSession;
+import com.profiling.model.psychometric.Question;
+import com.profiling.model.psychometric.Report;
+import com.profiling.model.psychometric.SessionStatus;
+import com.profiling.repository.ArchivedSessionRepository;
+import com.profiling.repository.PsychometricSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PsychometricSessionService Tests")
+class PsychometricSessionServiceTest {
+
+    private PsychometricSessionRepository repository;
+    private ArchivedSessionRepository archivedSessionRepository;
+    private AnswerAutosaveService answerAutosaveService;
+    private SessionAdmissionControl admissionControl;
+    private GenerationJobQueue generationJobQueue;
+    private PsychometricSessionService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(PsychometricSessionRepository.class);
+        archivedSessionRepository = mock(ArchivedSessionRepository.class);
+        answerAutosaveService = mock(AnswerAutosaveService.class);
+        admissionControl = mock(SessionAdmissionControl.class);
+        generationJobQueue = mock(GenerationJobQueue.class);
+        service = new PsychometricSessionService(repository, archivedSessionRepository, generationJobQueue,
+                admissionControl, mock(QuestionGeneratorService.class), answerAutosaveService,
+                mock(CohortAnalyticsService.class));
+    }
+
+    @Test
+    @DisplayName("submitTest should finalize with server-side scores and keep the client's review marks")
+    void testSubmitTest_ScoresOnServer() {
+        when(answerAutosaveService.submit(eq("s1"), anyList(), eq(1), eq(0), eq("2024-06-01T10:00:00Z")))
+                .thenReturn(new PsychometricSession.TestResults(2, 2, 0, 1, 1, 1, 0, "2024-06-01T10:00:00Z"));
+
+        SubmitTestRequest.TestResults claimed = new SubmitTestRequest.TestResults();
+        claimed.setTotalQuestions(2);
+        claimed.setCorrect(2);
+        claimed.setMarkedForReview(1);
+        claimed.setSubmittedAt("2024-06-01T10:00:00Z");
+        SubmitTestRequest request = new SubmitTestRequest();
+        request.setSessionId("s1");
+        request.setAnswers(List.of(answer("q1", 0), answer("q2", 0)));
+        request.setResults(claimed);
+
+        SubmitTestResponse response = service.submitTest(request);
+
+        assertEquals(1, response.getCorrect());
+        assertEquals(1, response.getWrong());
+        assertEquals(2, response.getAttempted());
+        assertEquals(1, response.getMarkedForReview());
+        verify(answerAutosaveService).submit("s1", request.getAnswers(), 1, 0, "2024-06-01T10:00:00Z");
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("createSession should release the admission when the session cannot be saved")
+    void testCreateSession_SaveFailureReleasesAdmission() {
+        SessionAdmissionControl.Admission admission =
+                new SessionAdmissionControl.Admission(1, Duration.ofSeconds(12), 12, Instant.parse("2024-06-01T10:00:12Z"));
+        when(admissionControl.admit(anyInt())).thenReturn(admission);
+        when(repository.save(any(PsychometricSession.class)))
+                .thenThrow(new DataAccessResourceFailureException("primary stepped down"));
+
+        assertThrows(DataAccessResourceFailureException.class, () -> service.createSession(new CreateSessionRequest()));
+
+        verify(admissionControl).release(admission);
+        verifyNoInteractions(generationJobQueue);
+    }
+
+    @Test
+    @DisplayName("getSession should read an archived session once the live one is gone")
+    void testGetSession_FallsBackToArchive() {
+        PsychometricSession live = new PsychometricSession();
+        live.setId("s1");
+        live.setStatus(SessionStatus.COMPLETED);
+        live.setQuestions(List.of(new Question()));
+        live.setAnswers(List.of(answer("q1", 0)));
+        Report report = new Report();
+        report.setVersion(2);
+        live.setReport(report);
+        when(repository.findById("s1")).thenReturn(Optional.empty());
+        when(archivedSessionRepository.findById("s1"))
+                .thenReturn(Optional.of(ArchivedSession.from(live, Instant.parse("2024-12-01T00:00:00Z"))));
+
+        PsychometricSession session = service.getSession("s1").orElseThrow();
+
+        assertEquals(SessionStatus.COMPLETED, session.getStatus());
+        assertEquals(1, session.getQuestions().size());
+        assertEquals(1, session.getAnswers().size());
+        assertEquals(2, session.getReport().getVersion());
+        assertTrue(service.getSession("missing").isEmpty());
+    }
+
+    private static Answer answer(String questionId, int selected) {
+        Answer answer = new Answer();
+        answer.setQuestionId(questionId);
+        answer.setSelectedOptionIndex(selected);
+        return answer;
+    }
+}
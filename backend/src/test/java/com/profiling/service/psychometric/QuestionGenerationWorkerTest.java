@@ -0,0 +1,200 @@
+package com.profiling.service.psychometric;
+
+import com.profiling.model.psychometric.GenerationJob;
+import com.profiling.model.psychometric.GenerationJobStatus;
+import com.profiling.model.psychometric.PsychometricSession;
+import com.profiling.model.psychometric.Question;
+import com.profiling.model.psychometric.SessionStatus;
+import com.profiling.model.psychometric.UserInfo;
+import com.profiling.service.LlmCallMetrics;
+import com.profiling.service.LlmResilience;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("QuestionGenerationWorker Tests")
+class QuestionGenerationWorkerTest {
+
+    private GenerationJobQueue queue;
+    private MongoTemplate mongoTemplate;
+    private QuestionGeneratorService questionGeneratorService;
+    private QuestionGenerationWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        queue = mock(GenerationJobQueue.class);
+        mongoTemplate = mock(MongoTemplate.class);
+        questionGeneratorService = mock(QuestionGeneratorService.class);
+        when(queue.getLeaseDuration()).thenReturn(Duration.ofSeconds(120));
+        worker = new QuestionGenerationWorker(queue, mongoTemplate, questionGeneratorService, 0, 1000, 200);
+    }
+
+    @Test
+    @DisplayName("process should generate the section, apply it and complete the job")
+    void testProcess_Success() {
+        PsychometricSession session = session(false, false, false);
+        when(mongoTemplate.findById("s1", PsychometricSession.class)).thenReturn(session);
+        when(questionGeneratorService.generateSection1Questions(any(UserInfo.class), eq(false))).thenReturn(List.of(new Question()));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(PsychometricSession.class))).thenReturn(session(true, false, false));
+
+        GenerationJob job = job(1, 1);
+        worker.process(job);
+
+        verify(queue).complete(eq(job), anyString());
+        ArgumentCaptor<Update> status = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), status.capture(), eq(PsychometricSession.class));
+        assertEquals(SessionStatus.PARTIAL_READY, ((Document) status.getValue().getUpdateObject().get("$set")).get("status"));
+    }
+
+    @Test
+    @DisplayName("process should skip generation when the section is already in the session")
+    void testProcess_AlreadyApplied() {
+        when(mongoTemplate.findById("s1", PsychometricSession.class)).thenReturn(session(true, false, false));
+
+        GenerationJob job = job(1, 2);
+        worker.process(job);
+
+        verifyNoInteractions(questionGeneratorService);
+        verify(queue).complete(eq(job), anyString());
+    }
+
+    @Test
+    @DisplayName("process should fail the session once the job is dead-lettered")
+    void testProcess_FailureDeadLetters() {
+        when(mongoTemplate.findById("s1", PsychometricSession.class)).thenReturn(session(false, false, false));
+        when(questionGeneratorService.generateSection2Questions(any(UserInfo.class), anyBoolean()))
+                .thenThrow(new IllegalStateException("boom"));
+        when(queue.fail(any(GenerationJob.class), anyString(), any(Throwable.class))).thenReturn(true);
+
+        worker.process(job(2, 4));
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(PsychometricSession.class));
+        assertEquals(SessionStatus.FAILED, ((Document) update.getValue().getUpdateObject().get("$set")).get("status"));
+        verify(queue, never()).complete(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("process should make the session READY with bank questions while the circuit is open")
+    void testProcess_CircuitOpenFallsBackToBank() {
+        LlmResilience resilience = mock(LlmResilience.class);
+        when(resilience.execute(anyString(), anyString(), any()))
+                .thenReturn(Mono.error(new LlmResilience.CircuitOpenException()));
+        QuestionGeneratorService generator = new QuestionGeneratorService(WebClient.builder(),
+                new LlmCallMetrics(new SimpleMeterRegistry()), resilience);
+        ReflectionTestUtils.setField(generator, "openAiApiKey", "test-key");
+        worker = new QuestionGenerationWorker(queue, mongoTemplate, generator, 0, 1000, 200);
+        when(mongoTemplate.findById("s1", PsychometricSession.class)).thenReturn(session(true, false, true));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(PsychometricSession.class))).thenReturn(session(true, true, true));
+
+        GenerationJob job = job(2, 1);
+        worker.process(job);
+
+        verify(queue).complete(eq(job), anyString());
+        verify(queue, never()).fail(any(), anyString(), any());
+        ArgumentCaptor<Update> push = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).findAndModify(any(Query.class), push.capture(), any(FindAndModifyOptions.class),
+                eq(PsychometricSession.class));
+        Update.Modifiers modifiers = (Update.Modifiers) ((Document) push.getValue().getUpdateObject().get("$push")).get("questions");
+        Object[] questions = (Object[]) modifiers.getModifiers().iterator().next().getValue();
+        assertEquals(40, questions.length);
+        Question first = (Question) questions[0];
+        assertEquals("conflict_resolution", first.getCategory());
+        assertNotNull(first.getScenario());
+        ArgumentCaptor<Update> status = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), status.capture(), eq(PsychometricSession.class));
+        assertEquals(SessionStatus.READY, ((Document) status.getValue().getUpdateObject().get("$set")).get("status"));
+    }
+
+    @Test
+    @DisplayName("process should dead-letter a job reclaimed after using all attempts")
+    void testProcess_ExhaustedLeases() {
+        GenerationJob job = job(3, 5);
+
+        worker.process(job);
+
+        verify(queue).deadLetter(eq(job), anyString(), anyString());
+        verifyNoInteractions(questionGeneratorService);
+    }
+
+    @Test
+    @DisplayName("applySection should set READY only once every section is in")
+    void testApplySection_AllReady() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(PsychometricSession.class))).thenReturn(session(true, true, true));
+
+        worker.applySection("s1", 3, List.of(new Question()));
+
+        ArgumentCaptor<Update> status = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), status.capture(), eq(PsychometricSession.class));
+        assertEquals(SessionStatus.READY, ((Document) status.getValue().getUpdateObject().get("$set")).get("status"));
+    }
+
+    @Test
+    @DisplayName("recovery should page through stuck sessions by id and start over after a short page")
+    void testSweepStuckSessions_PagesById() {
+        worker = new QuestionGenerationWorker(queue, mongoTemplate, questionGeneratorService, 0, 1000, 2);
+        when(mongoTemplate.find(any(Query.class), eq(PsychometricSession.class)))
+                .thenReturn(List.of(stuck("a"), stuck("b")), List.of(stuck("c")), List.of());
+
+        worker.sweepStuckSessions();
+        worker.sweepStuckSessions();
+        worker.sweepStuckSessions();
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(3)).find(query.capture(), eq(PsychometricSession.class));
+        List<Query> queries = query.getAllValues();
+        assertEquals(new Document("id", 1), queries.get(0).getSortObject());
+        assertEquals(2, queries.get(0).getLimit());
+        assertNull(queries.get(0).getQueryObject().get("id"));
+        assertEquals(new Document("$gt", "b"), queries.get(1).getQueryObject().get("id"));
+        assertNull(queries.get(2).getQueryObject().get("id"));
+        verify(queue).enqueue("a", List.of(1, 2, 3), null);
+        verify(queue).enqueue("c", List.of(1, 2, 3), null);
+    }
+
+    private static PsychometricSession session(boolean aptitude, boolean behavioral, boolean domain) {
+        PsychometricSession session = new PsychometricSession();
+        session.setId("s1");
+        session.setUserInfo(new UserInfo());
+        session.setStatus(SessionStatus.GENERATING);
+        session.setAptitudeReady(aptitude);
+        session.setBehavioralReady(behavioral);
+        session.setDomainReady(domain);
+        return session;
+    }
+
+    private static PsychometricSession stuck(String id) {
+        PsychometricSession session = session(false, false, false);
+        session.setId(id);
+        return session;
+    }
+
+    private static GenerationJob job(int section, int attempts) {
+        GenerationJob job = new GenerationJob("s1", section, 4, Instant.parse("2024-01-01T10:00:00Z"));
+        job.setId("job-" + section);
+        job.setStatus(GenerationJobStatus.RUNNING);
+        job.setAttempts(attempts);
+        return job;
+    }
+}
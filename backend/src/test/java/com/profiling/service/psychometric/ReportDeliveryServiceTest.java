@@ -0,0 +1,213 @@
+package com.profiling.service.psychometric;
+
+import com.mongodb.client.result.UpdateResult;
+import com.profiling.exception.NotFoundException;
+import com.profiling.model.psychometric.NarrativeStatus;
+import com.profiling.model.psychometric.PsychometricReport;
+import com.profiling.model.psychometric.PsychometricSession;
+import com.profiling.model.psychometric.Report;
+import com.profiling.model.psychometric.SessionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ReportDeliveryService Tests")
+class ReportDeliveryServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T10:00:00Z");
+
+    private MongoTemplate mongoTemplate;
+    private ReportGenerationService reportGenerationService;
+    private SimpleMeterRegistry registry;
+    private List<Runnable> queued;
+    private ReportDeliveryService service;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        reportGenerationService = mock(ReportGenerationService.class);
+        registry = new SimpleMeterRegistry();
+        queued = new ArrayList<>();
+        service = new ReportDeliveryService(mongoTemplate, reportGenerationService,
+                mock(CohortAnalyticsService.class), registry, queued::add,
+                Duration.ofMinutes(5), 60_000, Clock.fixed(NOW, ZoneOffset.UTC));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(PsychometricSession.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+    }
+
+    @Test
+    @DisplayName("getOrCreate should store the deterministic report and queue the narrative")
+    void testGetOrCreate_StoresBaseReportAndQueuesNarrative() {
+        PsychometricSession session = completedSession();
+        when(reportGenerationService.generateBaseReport(session)).thenReturn(report("Rule-based summary"));
+        when(reportGenerationService.isNarrativeEnrichmentEnabled()).thenReturn(true);
+
+        Report stored = service.getOrCreate(session, false);
+
+        assertEquals(1, stored.getVersion());
+        assertEquals(NarrativeStatus.PENDING, stored.getNarrativeStatus());
+        assertEquals("Rule-based summary", stored.getSummary());
+        assertSame(stored, session.getReport());
+        assertEquals(1, queued.size());
+        verify(reportGenerationService, never()).generateEnrichedReport(any());
+    }
+
+    @Test
+    @DisplayName("the queued narrative should be patched in under the version guard")
+    void testEnrich_PatchesNarrative() {
+        PsychometricSession session = completedSession();
+        when(reportGenerationService.generateBaseReport(session)).thenReturn(report("Rule-based summary"));
+        when(reportGenerationService.isNarrativeEnrichmentEnabled()).thenReturn(true);
+        service.getOrCreate(session, false);
+        when(mongoTemplate.findById("s1", PsychometricSession.class)).thenReturn(session);
+        when(reportGenerationService.generateEnrichedReport(session)).thenReturn(report("AI summary"));
+
+        queued.get(0).run();
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateFirst(query.capture(), update.capture(), eq(PsychometricSession.class));
+        assertEquals(1L, query.getValue().getQueryObject().get("report.version"));
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertEquals(2L, set.get("report.version"));
+        assertEquals(NarrativeStatus.ENRICHED, set.get("report.narrativeStatus"));
+        assertEquals("AI summary", set.get("report.summary"));
+        assertEquals(1.0, registry.counter("reports.narrative.enrichment", "outcome", "success").count());
+    }
+
+    @Test
+    @DisplayName("a failed narrative should keep the rule-based report and mark it failed")
+    void testEnrich_FailureKeepsRuleBasedNarrative() {
+        PsychometricSession session = completedSession();
+        session.setReport(storedReport(NarrativeStatus.PENDING, NOW));
+        when(mongoTemplate.findById("s1", PsychometricSession.class)).thenReturn(session);
+        when(reportGenerationService.generateEnrichedReport(session)).thenThrow(new IllegalStateException("timeout"));
+
+        service.enrich("s1", 1);
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(PsychometricSession.class));
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertEquals(NarrativeStatus.FAILED, set.get("report.narrativeStatus"));
+        assertFalse(set.containsKey("report.content"));
+    }
+
+    @Test
+    @DisplayName("getOrCreate should return a stored report without regenerating it")
+    void testGetOrCreate_ReturnsStoredReport() {
+        PsychometricSession session = completedSession();
+        Report stored = storedReport(NarrativeStatus.ENRICHED, NOW);
+        session.setReport(stored);
+
+        assertSame(stored, service.getOrCreate(session, true));
+
+        verifyNoInteractions(reportGenerationService);
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), any(Class.class));
+        assertTrue(queued.isEmpty());
+    }
+
+    @Test
+    @DisplayName("getOrCreate should mark the narrative rule-based when OpenAI is not configured")
+    void testGetOrCreate_RuleBasedWithoutOpenAi() {
+        PsychometricSession session = completedSession();
+        when(reportGenerationService.generateBaseReport(session)).thenReturn(report("Rule-based summary"));
+
+        Report stored = service.getOrCreate(session, false);
+
+        assertEquals(NarrativeStatus.RULE_BASED, stored.getNarrativeStatus());
+        assertTrue(queued.isEmpty());
+    }
+
+    @Test
+    @DisplayName("getOrCreate should claim and re-queue a narrative left pending by a stopped node")
+    void testGetOrCreate_ReclaimsStalePendingNarrative() {
+        PsychometricSession session = completedSession();
+        Report stored = storedReport(NarrativeStatus.PENDING, NOW.minus(Duration.ofMinutes(10)));
+        session.setReport(stored);
+
+        service.getOrCreate(session, false);
+
+        assertEquals(1, queued.size());
+        assertEquals(NOW, stored.getNarrativeRequestedAt());
+    }
+
+    @Test
+    @DisplayName("getOrCreate should refuse a session that has not been submitted and store nothing")
+    void testGetOrCreate_NotSubmittedIsConflict() {
+        PsychometricSession session = completedSession();
+        session.setStatus(SessionStatus.IN_PROGRESS);
+
+        ResponseStatusException conflict = assertThrows(ResponseStatusException.class,
+                () -> service.getOrCreate(session, false));
+
+        assertEquals(HttpStatus.CONFLICT, conflict.getStatusCode());
+        verify(reportGenerationService, never()).generateBaseReport(any());
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), any(Class.class));
+        assertNull(session.getReport());
+    }
+
+    @Test
+    @DisplayName("the report should only be stored on a session that is still COMPLETED")
+    void testGetOrCreate_UpdateGuardedByStatus() {
+        PsychometricSession session = completedSession();
+        when(reportGenerationService.generateBaseReport(session)).thenReturn(report("Rule-based summary"));
+
+        service.getOrCreate(session, false);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateFirst(query.capture(), any(Update.class), eq(PsychometricSession.class));
+        assertEquals(SessionStatus.COMPLETED, query.getValue().getQueryObject().get("status"));
+    }
+
+    @Test
+    @DisplayName("subscribe should not keep the emitter of an unknown session")
+    void testSubscribe_UnknownSessionDeregisters() {
+        when(mongoTemplate.findOne(any(Query.class), eq(PsychometricSession.class))).thenReturn(null);
+
+        assertThrows(NotFoundException.class, () -> service.subscribe("missing"));
+
+        assertEquals(0, service.getSubscriberCount());
+    }
+
+    private static PsychometricSession completedSession() {
+        PsychometricSession session = new PsychometricSession();
+        session.setId("s1");
+        session.setStatus(SessionStatus.COMPLETED);
+        return session;
+    }
+
+    private static PsychometricReport report(String summary) {
+        PsychometricReport report = new PsychometricReport();
+        report.setNarrativeSummary(summary);
+        report.setStrengths(List.of("Analytical"));
+        return report;
+    }
+
+    private static Report storedReport(NarrativeStatus status, Instant requestedAt) {
+        Report stored = new Report();
+        stored.setContent(report("Rule-based summary"));
+        stored.setVersion(1);
+        stored.setNarrativeStatus(status);
+        stored.setNarrativeRequestedAt(requestedAt);
+        return stored;
+    }
+}
@@ -0,0 +1,152 @@
+package com.profiling.service.psychometric;
+
+import com.profiling.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SessionAdmissionControl Tests")
+class SessionAdmissionControlTest {
+
+    private SimpleMeterRegistry registry;
+    private MutableClock clock;
+    private SessionAdmissionControl admission;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        clock = new MutableClock(Instant.parse("2024-01-01T09:00:00Z"));
+        // 60 calls/minute = 1 call/second, room for two sessions of 12 calls at once
+        admission = new SessionAdmissionControl(registry, 60, 24, 2, clock);
+    }
+
+    @Test
+    @DisplayName("admit should start sessions immediately while the burst lasts")
+    void testAdmit_WithinBurst() {
+        assertFalse(admission.admit(12).isQueued());
+        assertFalse(admission.admit(12).isQueued());
+        assertEquals(2.0, registry.counter("sessions.admission", "outcome", "admitted").count());
+    }
+
+    @Test
+    @DisplayName("admit should queue sessions beyond the burst with increasing waits")
+    void testAdmit_QueuesWithEta() {
+        admission.admit(12);
+        admission.admit(12);
+
+        SessionAdmissionControl.Admission first = admission.admit(12);
+        SessionAdmissionControl.Admission second = admission.admit(12);
+
+        assertEquals(1, first.queuePosition());
+        assertEquals(Duration.ofSeconds(12), first.estimatedWait());
+        assertEquals(2, second.queuePosition());
+        assertEquals(Duration.ofSeconds(24), second.estimatedWait());
+        assertEquals(2, admission.getWaitingCount());
+    }
+
+    @Test
+    @DisplayName("admit should reject with Retry-After when the waiting room is full")
+    void testAdmit_RejectsWhenWaitingRoomFull() {
+        for (int i = 0; i < 4; i++) {
+            admission.admit(12);
+        }
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class, () -> admission.admit(12));
+
+        assertEquals(12, ex.getRetryAfterSeconds());
+        assertEquals(1.0, registry.counter("sessions.admission", "outcome", "rejected").count());
+    }
+
+    @Test
+    @DisplayName("admit should free waiting room places as waiting sessions start")
+    void testAdmit_WaitingRoomDrains() {
+        for (int i = 0; i < 4; i++) {
+            admission.admit(12);
+        }
+
+        clock.advance(Duration.ofSeconds(12));
+        SessionAdmissionControl.Admission next = admission.admit(12);
+
+        assertEquals(2, next.queuePosition());
+        assertEquals(Duration.ofSeconds(24), next.estimatedWait());
+    }
+
+    @Test
+    @DisplayName("admit should let sessions without LLM calls bypass a full waiting room")
+    void testAdmit_BankSessionsBypass() {
+        for (int i = 0; i < 4; i++) {
+            admission.admit(12);
+        }
+
+        SessionAdmissionControl.Admission bank = admission.admit(0);
+
+        assertFalse(bank.isQueued());
+        assertEquals(1.0, registry.counter("sessions.admission", "outcome", "bypassed").count());
+    }
+
+    @Test
+    @DisplayName("release should give back the calls and waiting room place of an admission")
+    void testRelease_ReturnsCallsAndPlace() {
+        admission.admit(12);
+        SessionAdmissionControl.Admission immediate = admission.admit(12);
+        admission.admit(12);
+        SessionAdmissionControl.Admission queued = admission.admit(12);
+
+        admission.release(queued);
+        admission.release(immediate);
+
+        assertEquals(1, admission.getWaitingCount());
+        SessionAdmissionControl.Admission next = admission.admit(12);
+        assertEquals(Duration.ofSeconds(12), next.estimatedWait());
+        assertEquals(2.0, registry.counter("sessions.admission", "outcome", "released").count());
+    }
+
+    @Test
+    @DisplayName("admit should refill the bucket over time up to the burst size")
+    void testAdmit_Refills() {
+        admission.admit(12);
+        admission.admit(12);
+
+        clock.advance(Duration.ofHours(1));
+
+        assertFalse(admission.admit(12).isQueued());
+        assertFalse(admission.admit(12).isQueued());
+        assertTrue(admission.admit(12).isQueued());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
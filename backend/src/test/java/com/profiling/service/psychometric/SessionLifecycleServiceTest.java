@@ -0,0 +1,177 @@
+package com.profiling.service.psychometric;
+
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import com.profiling.model.SavedPsychometricReport;
+import com.profiling.model.psychometric.ArchivedSession;
+import com.profiling.model.psychometric.GenerationJob;
+import com.profiling.model.psychometric.PsychometricSession;
+import com.profiling.model.psychometric.SessionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SessionLifecycleService Tests")
+class SessionLifecycleServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T10:00:00Z");
+
+    private MongoTemplate mongoTemplate;
+    private SimpleMeterRegistry registry;
+    private SessionLifecycleService service;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        registry = new SimpleMeterRegistry();
+        service = new SessionLifecycleService(mongoTemplate, registry, Duration.ofHours(168), Duration.ofDays(180),
+                200, Clock.fixed(NOW, ZoneOffset.UTC));
+        when(mongoTemplate.collectionExists(SessionLifecycleService.ARCHIVE)).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("reapAbandonedSessions should delete stale sessions that never started and their jobs")
+    void testReapAbandonedSessions_DeletesSessionsAndJobs() {
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(SessionLifecycleService.SESSIONS)))
+                .thenReturn(List.of(new Document("_id", "s1"), new Document("_id", "s2")), List.of());
+        when(mongoTemplate.remove(any(Query.class), eq(PsychometricSession.class)))
+                .thenReturn(DeleteResult.acknowledged(2));
+
+        service.reapAbandonedSessions();
+
+        ArgumentCaptor<Query> find = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).find(find.capture(), eq(Document.class), eq(SessionLifecycleService.SESSIONS));
+        assertEquals(200, find.getAllValues().get(0).getLimit());
+        String deleted = find.getAllValues().get(0).getQueryObject().toJson();
+        assertTrue(deleted.contains("GENERATING"));
+        assertFalse(deleted.contains("IN_PROGRESS"));
+        assertFalse(deleted.contains("COMPLETED"));
+        verify(mongoTemplate).remove(any(Query.class), eq(GenerationJob.class));
+        verify(mongoTemplate, never()).updateMulti(any(Query.class), any(UpdateDefinition.class), eq(PsychometricSession.class));
+        assertEquals(2.0, registry.counter("sessions.lifecycle.reaped").count());
+    }
+
+    @Test
+    @DisplayName("reapAbandonedSessions should expire, not delete, a stale IN_PROGRESS session with answers")
+    void testReapAbandonedSessions_KeepsStartedSessions() {
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(SessionLifecycleService.SESSIONS)))
+                .thenReturn(List.of(), List.of(new Document("_id", "answered")));
+        when(mongoTemplate.updateMulti(any(Query.class), any(UpdateDefinition.class), eq(PsychometricSession.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        service.reapAbandonedSessions();
+
+        ArgumentCaptor<Query> find = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).find(find.capture(), eq(Document.class), eq(SessionLifecycleService.SESSIONS));
+        Document neverStarted = find.getAllValues().get(0).getQueryObject();
+        assertEquals(new Document("$exists", false), neverStarted.get("answerVersion"));
+        assertEquals(new Document("$exists", false), neverStarted.get("answers.0"));
+        assertFalse(neverStarted.toJson().contains("IN_PROGRESS"));
+        assertTrue(find.getAllValues().get(1).getQueryObject().toJson().contains("IN_PROGRESS"));
+
+        ArgumentCaptor<Query> expire = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<UpdateDefinition> update = ArgumentCaptor.forClass(UpdateDefinition.class);
+        verify(mongoTemplate).updateMulti(expire.capture(), update.capture(), eq(PsychometricSession.class));
+        assertTrue(expire.getValue().getQueryObject().toJson().contains("answered"));
+        assertEquals(SessionStatus.EXPIRED,
+                ((Document) update.getValue().getUpdateObject().get("$set")).get("status"));
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(PsychometricSession.class));
+        assertEquals(1.0, registry.counter("sessions.lifecycle.expired").count());
+    }
+
+    @Test
+    @DisplayName("reapAbandonedSessions should do nothing when no session is stale")
+    void testReapAbandonedSessions_NothingToDo() {
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(SessionLifecycleService.SESSIONS)))
+                .thenReturn(List.of());
+
+        service.reapAbandonedSessions();
+
+        verify(mongoTemplate, never()).remove(any(Query.class), any(Class.class));
+    }
+
+    @Test
+    @DisplayName("archiveCompletedSessions should archive and delete sessions without a saved report")
+    void testArchiveCompletedSessions_SkipsSavedReports() {
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(SessionLifecycleService.SESSIONS)))
+                .thenReturn(List.of(new Document("_id", "kept"), new Document("_id", "old")));
+        when(mongoTemplate.find(any(Query.class), eq(SavedPsychometricReport.class)))
+                .thenReturn(List.of(new SavedPsychometricReport("u1", "kept", "a@b.c", "A")));
+        PsychometricSession session = new PsychometricSession();
+        session.setId("old");
+        session.setStatus(SessionStatus.COMPLETED);
+        when(mongoTemplate.findById("old", PsychometricSession.class)).thenReturn(session);
+
+        service.archiveCompletedSessions();
+
+        ArgumentCaptor<ArchivedSession> archived = ArgumentCaptor.forClass(ArchivedSession.class);
+        verify(mongoTemplate).save(archived.capture());
+        assertEquals("old", archived.getValue().getId());
+        assertEquals(NOW, archived.getValue().getArchivedAt());
+        verify(mongoTemplate, never()).findById("kept", PsychometricSession.class);
+        ArgumentCaptor<Query> candidates = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(candidates.capture(), eq(Document.class), eq(SessionLifecycleService.SESSIONS));
+        assertEquals(new Document("$exists", true), candidates.getValue().getQueryObject().get("report.content"));
+        verify(mongoTemplate, times(1)).remove(any(Query.class), eq(PsychometricSession.class));
+        assertEquals(1.0, registry.counter("sessions.lifecycle.archived").count());
+    }
+
+    @Test
+    @DisplayName("olderThan should fall back to the ObjectId timestamp for sessions without updatedAt")
+    void testOlderThan_FallsBackToObjectId() {
+        String json = new Query(service.olderThan(Duration.ofDays(1))).getQueryObject().toJson();
+
+        assertTrue(json.contains("updatedAt"));
+        assertTrue(json.contains("$exists"));
+        assertTrue(json.contains("$oid"));
+    }
+
+    @Test
+    @DisplayName("cacheHitRatio should be the share of requested pages already in cache")
+    void testCacheHitRatio() {
+        Document cache = new Document("pages requested from the cache", 1000L)
+                .append("pages read into cache", 50L);
+
+        assertEquals(0.95, SessionLifecycleService.cacheHitRatio(cache), 1e-9);
+        assertNull(SessionLifecycleService.cacheHitRatio(new Document()));
+        assertNull(SessionLifecycleService.cacheHitRatio(null));
+    }
+
+    @Test
+    @DisplayName("reportStorage should publish collection gauges and the cache hit ratio")
+    void testReportStorage_PublishesGauges() {
+        when(mongoTemplate.executeCommand(any(Document.class))).thenAnswer(invocation -> {
+            Document command = invocation.getArgument(0);
+            if (command.containsKey("serverStatus")) {
+                return new Document("wiredTiger", new Document("cache",
+                        new Document("pages requested from the cache", 200).append("pages read into cache", 20)));
+            }
+            return new Document("count", 10).append("size", 4096).append("storageSize", 2048)
+                    .append("totalIndexSize", 1024);
+        });
+
+        service.reportStorage();
+
+        assertEquals(10.0, registry.get("mongo.collection.documents")
+                .tag("collection", SessionLifecycleService.SESSIONS).gauge().value());
+        assertEquals(2048.0, registry.get("mongo.collection.storage.size")
+                .tag("collection", SessionLifecycleService.ARCHIVE).gauge().value());
+        assertEquals(0.9, registry.get("mongo.cache.hit.ratio").gauge().value(), 1e-9);
+    }
+}
@@ -0,0 +1,134 @@
+package com.profiling.template;
+
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TemplateDataInitializer Tests")
+class TemplateDataInitializerTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T10:00:00Z");
+
+    private MongoTemplate mongoTemplate;
+    private BulkOperations bulk;
+    private TemplateDataInitializer initializer;
+    private String checksum;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        bulk = mock(BulkOperations.class, RETURNS_SELF);
+        BulkWriteResult result = mock(BulkWriteResult.class);
+        when(bulk.execute()).thenReturn(result);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, TemplateEntity.class)).thenReturn(bulk);
+        initializer = new TemplateDataInitializer(mongoTemplate, Clock.fixed(NOW, ZoneOffset.UTC));
+        checksum = TemplateDataInitializer.checksum(TemplateDataInitializer.defaultTemplates(NOW));
+    }
+
+    @Test
+    @DisplayName("initialize should skip seeding when the stored checksum matches and all defaults exist")
+    void testInitialize_SkipsWhenChecksumMatches() {
+        storedChecksum(checksum);
+        when(mongoTemplate.count(any(Query.class), eq(TemplateEntity.class))).thenReturn(9L);
+
+        initializer.initialize();
+
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), any(Class.class));
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(UpdateDefinition.class), anyString());
+    }
+
+    @Test
+    @DisplayName("initialize should seed in one bulk write and store the checksum on first start")
+    void testInitialize_SeedsWhenNoChecksum() {
+        initializer.initialize();
+
+        verify(bulk).remove(any(Query.class));
+        verify(bulk, times(9)).upsert(any(Query.class), any(Update.class));
+        verify(bulk, times(18)).updateOne(any(Query.class), any(Update.class));
+        verify(bulk).execute();
+        ArgumentCaptor<UpdateDefinition> update = ArgumentCaptor.forClass(UpdateDefinition.class);
+        verify(mongoTemplate).upsert(any(Query.class), update.capture(), eq(TemplateDataInitializer.SEED_COLLECTION));
+        assertTrue(update.getValue().getUpdateObject().toJson().contains(checksum));
+    }
+
+    @Test
+    @DisplayName("initialize should reseed when the shipped templates changed")
+    void testInitialize_SeedsWhenChecksumDiffers() {
+        storedChecksum("stale");
+
+        initializer.initialize();
+
+        verify(bulk).execute();
+        verify(mongoTemplate, never()).count(any(Query.class), eq(TemplateEntity.class));
+    }
+
+    @Test
+    @DisplayName("initialize should reseed when a default template was deleted")
+    void testInitialize_SeedsWhenDefaultMissing() {
+        storedChecksum(checksum);
+        when(mongoTemplate.count(any(Query.class), eq(TemplateEntity.class))).thenReturn(8L);
+
+        initializer.initialize();
+
+        verify(bulk).execute();
+    }
+
+    @Test
+    @DisplayName("seeding should refresh managed CSS but only fill blank CSS elsewhere")
+    void testInitialize_CssRules() {
+        initializer.initialize();
+
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(bulk, times(18)).updateOne(queries.capture(), any(Update.class));
+        List<String> cssQueries = queries.getAllValues().stream()
+                .map(query -> query.getQueryObject().toJson())
+                .filter(json -> json.contains("css"))
+                .toList();
+        assertEquals(9, cssQueries.size());
+        assertTrue(cssQueries.stream().anyMatch(json -> json.contains("\"cover\"") && json.contains("$ne")));
+        assertTrue(cssQueries.stream().anyMatch(json -> json.contains("\"bio\"") && json.contains("$or")));
+    }
+
+    @Test
+    @DisplayName("checksum should be stable and change with template content")
+    void testChecksum() {
+        List<TemplateEntity> defaults = TemplateDataInitializer.defaultTemplates(Instant.EPOCH);
+        assertEquals(checksum, TemplateDataInitializer.checksum(defaults));
+
+        defaults.get(0).setContent(defaults.get(0).getContent() + " ");
+        assertNotEquals(checksum, TemplateDataInitializer.checksum(defaults));
+    }
+
+    @Test
+    @DisplayName("defaultTemplates should be enabled global templates")
+    void testDefaultTemplates() {
+        List<TemplateEntity> defaults = TemplateDataInitializer.defaultTemplates(NOW);
+
+        assertEquals(9, defaults.size());
+        assertTrue(defaults.stream().allMatch(t -> t.getUserId() == null
+                && Boolean.FALSE.equals(t.getIsUserCustomTemplate()) && Boolean.TRUE.equals(t.getEnabled())));
+        assertTrue(defaults.stream().noneMatch(t -> TemplateDataInitializer.DEPRECATED_TEMPLATE_IDS.contains(t.getId())));
+    }
+
+    private void storedChecksum(String value) {
+        when(mongoTemplate.findById(TemplateDataInitializer.SEED_ID, Document.class,
+                TemplateDataInitializer.SEED_COLLECTION)).thenReturn(new Document("checksum", value));
+    }
+}
@@ -0,0 +1,49 @@
+package com.profiling.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.profiling.dto.psychometric.PsychometricReportResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FieldSelection Tests")
+class FieldSelectionTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("select should return the body unchanged without a fields parameter")
+    void testSelect_NoFields_ReturnsBody() {
+        PsychometricReportResponse report = new PsychometricReportResponse();
+
+        assertSame(report, FieldSelection.select(objectMapper, report, null));
+        assertSame(report, FieldSelection.select(objectMapper, report, " "));
+    }
+
+    @Test
+    @DisplayName("select should keep only the requested top-level fields and ignore unknown names")
+    void testSelect_KeepsRequestedFields() {
+        PsychometricReportResponse report = new PsychometricReportResponse();
+        report.setOverallScore(72.5);
+        report.setStrengths(List.of("Analytical"));
+        report.setNarrativeSummary("A long narrative");
+
+        ObjectNode node = (ObjectNode) FieldSelection.select(objectMapper, report, "overallScore, strengths,nope");
+
+        assertEquals(2, node.size());
+        assertTrue(node.has("strengths"));
+        assertEquals(72.5, node.get("overallScore").asDouble());
+    }
+
+    @Test
+    @DisplayName("parse should split, trim and drop empty names")
+    void testParse() {
+        assertEquals(Set.of("a", "b"), FieldSelection.parse(" a,,b ,"));
+        assertTrue(FieldSelection.parse(null).isEmpty());
+    }
+}
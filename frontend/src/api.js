@@ -141,12 +141,80 @@ export const uploadTemplatePreview = async (templateId, file) => {
   }
 };
 
+/**
+ * POSTs to one of the streaming AI endpoints (.../stream) and reads its server-sent events.
+ * onToken receives the text of each token event as it arrives; resolves with the data of the
+ * final result event (the same body the blocking endpoint returns).
+ */
+export const postStream = async (path, body, onToken) => {
+  const headers = { 'Content-Type': 'application/json', Accept: 'text/event-stream' };
+  const authorization = api.defaults.headers.common['Authorization'];
+  if (authorization) {
+    headers.Authorization = authorization;
+  }
+  const response = await fetch(`${API_BASE_URL}${path}`, {
+    method: 'POST',
+    headers,
+    body: JSON.stringify(body)
+  });
+  if (!response.ok || !response.body) {
+    let message;
+    try {
+      const errorBody = await response.json();
+      message = errorBody?.message || errorBody?.error;
+    } catch (e) {
+      // not a JSON error body
+    }
+    throw new Error(message || `Request failed with status ${response.status}`);
+  }
+
+  const reader = response.body.getReader();
+  const decoder = new TextDecoder();
+  let buffer = '';
+  for (;;) {
+    const { value, done } = await reader.read();
+    if (done) {
+      break;
+    }
+    buffer += decoder.decode(value, { stream: true });
+    let boundary;
+    while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+      const block = buffer.slice(0, boundary);
+      buffer = buffer.slice(boundary + 2);
+      let event = 'message';
+      const data = [];
+      block.split('\n').forEach((line) => {
+        if (line.startsWith('event:')) {
+          event = line.slice(6).trim();
+        } else if (line.startsWith('data:')) {
+          data.push(line.slice(5));
+        }
+      });
+      if (data.length === 0) {
+        continue;
+      }
+      const payload = JSON.parse(data.join('\n'));
+      if (event === 'token') {
+        onToken?.(payload.text);
+      } else if (event === 'result') {
+        reader.cancel();
+        return payload;
+      } else if (event === 'error') {
+        reader.cancel();
+        throw new Error(payload.message);
+      }
+    }
+  }
+  throw new Error('The response ended before a result was received');
+};
+
 /**
  * API function to enhance profile using AI
  * @param {string} profileText - The profile text to enhance
+ * @param {{onToken?: function(string): void}} options - pass onToken to receive the text as it is generated
  * @returns {Promise<{success: boolean, data?: string, error?: string}>}
  */
-export const enhanceProfileWithAI = async (profileText) => {
+export const enhanceProfileWithAI = async (profileText, { onToken } = {}) => {
   try {
     if (!profileText || profileText.trim().length === 0) {
       return {
@@ -155,12 +223,11 @@ export const enhanceProfileWithAI = async (profileText) => {
       };
     }
 
-    const response = await api.post('/api/ai-enhance', {
-      profile: profileText
-    });
-
     // Backend returns: { message: "...", data: { enhancedProfile: "..." } }
-    const enhancedProfile = response.data?.data?.enhancedProfile || response.data?.enhancedProfile;
+    const responseBody = onToken
+      ? await postStream('/api/ai-enhance/stream', { profile: profileText }, onToken)
+      : (await api.post('/api/ai-enhance', { profile: profileText })).data;
+    const enhancedProfile = responseBody?.data?.enhancedProfile || responseBody?.enhancedProfile;
     
     if (!enhancedProfile) {
       return {
@@ -199,13 +266,14 @@ export const generateQuestions = async (userProfile) => {
   }
 };
 
-// Send chat message and get next question
+// Send chat message and get next question. Conversations started by generateQuestions
+// live on the server, so only their id and the new message are sent.
 export const sendChatMessage = async (userMessage, conversationState) => {
   try {
-    const response = await api.post('/api/chat', {
-      userMessage,
-      conversationState
-    });
+    const body = conversationState?.conversationId
+      ? { conversationId: conversationState.conversationId, userMessage }
+      : { userMessage, conversationState };
+    const response = await api.post('/api/chat', body);
     return {
       success: true,
       data: response.data?.data || response.data
@@ -216,12 +284,32 @@ export const sendChatMessage = async (userMessage, conversationState) => {
   }
 };
 
-// Evaluate user interests
-export const evaluateInterests = async (userProfile, answers) => {
+// Fetch a server-side conversation, e.g. to resume it after a reload
+export const getChatConversation = async (conversationId) => {
+  try {
+    const response = await api.get(`/api/chat/conversations/${encodeURIComponent(conversationId)}`);
+    return {
+      success: true,
+      data: response.data?.data || response.data
+    };
+  } catch (error) {
+    // An expired conversation is not an error for the user; the chatbot just starts over
+    if (error?.response?.status === 404) {
+      return { success: false, notFound: true };
+    }
+    console.error('Error loading chat conversation:', error);
+    return handleApiError(error, 'Failed to load conversation');
+  }
+};
+
+// Evaluate user interests. With the chat conversation id the backend reuses the stage
+// evaluations it ran during the chat.
+export const evaluateInterests = async (userProfile, answers, conversationId) => {
   try {
     const response = await api.post('/api/evaluate', {
       userProfile,
-      answers
+      answers,
+      ...(conversationId ? { conversationId } : {})
     });
     return {
       success: true,
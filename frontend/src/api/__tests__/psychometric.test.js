@@ -51,6 +51,49 @@ describe('Psychometric API Functions', () => {
         psychometricApi.createPsychometricSession({ name: 'Test' })
       ).rejects.toThrow();
     });
+
+    it('should retry after Retry-After when the backend answers 429', async () => {
+      vi.useFakeTimers();
+      try {
+        global.fetch
+          .mockResolvedValueOnce({
+            ok: false,
+            status: 429,
+            headers: { get: () => '2' },
+            json: async () => ({ retryAfterSeconds: 2 }),
+          })
+          .mockResolvedValueOnce({
+            ok: true,
+            status: 201,
+            json: async () => ({ sessionId: 'session-123', queuePosition: 3, estimatedWaitSeconds: 40 }),
+          });
+        const onWaiting = vi.fn();
+
+        const promise = psychometricApi.createPsychometricSession({ name: 'Test' }, { onWaiting });
+        await vi.advanceTimersByTimeAsync(3000);
+        const result = await promise;
+
+        expect(result.queuePosition).toBe(3);
+        expect(global.fetch).toHaveBeenCalledTimes(2);
+        expect(onWaiting).toHaveBeenCalledWith(expect.objectContaining({ attempt: 1 }));
+      } finally {
+        vi.useRealTimers();
+      }
+    });
+
+    it('should give up on 429 when the wait exceeds maxWaitMs', async () => {
+      global.fetch.mockResolvedValueOnce({
+        ok: false,
+        status: 429,
+        headers: { get: () => '120' },
+        json: async () => ({}),
+      });
+
+      await expect(
+        psychometricApi.createPsychometricSession({ name: 'Test' }, { maxWaitMs: 1000 })
+      ).rejects.toThrow(/Too many tests/);
+      expect(global.fetch).toHaveBeenCalledTimes(1);
+    });
   });
 
   describe('getPsychometricSession', () => {
@@ -1,30 +1,65 @@
 const baseUrl = import.meta.env.VITE_API_BASE_URL || 'http://localhost:9090'
 
-export async function createPsychometricSession(userInfo) {
+// How long createPsychometricSession keeps retrying while the backend answers 429
+const SESSION_ADMISSION_MAX_WAIT_MS = 10 * 60 * 1000
+
+const sleep = (ms) => new Promise((resolve) => setTimeout(resolve, ms))
+
+function retryAfterMs(response) {
+  const header = response.headers?.get?.('Retry-After')
+  const seconds = Number.parseInt(header, 10)
+  return (Number.isFinite(seconds) && seconds > 0 ? seconds : 5) * 1000
+}
+
+/**
+ * Creates a session. When the backend is at capacity it answers 429 with Retry-After;
+ * the request is then retried after that delay (plus jitter, so a class that started
+ * together does not retry in lockstep) until maxWaitMs has passed. onWaiting is called
+ * with { retryInSeconds, attempt } before each retry so the page can tell the user.
+ * The result may carry queuePosition / estimatedWaitSeconds when generation is deferred.
+ */
+export async function createPsychometricSession(userInfo, options = {}) {
+  const { onWaiting, maxWaitMs = SESSION_ADMISSION_MAX_WAIT_MS } = options
+  const giveUpAt = Date.now() + maxWaitMs
+
   try {
-    const response = await fetch(`${baseUrl}/api/psychometric/sessions`, {
-      method: 'POST',
-      headers: {
-        'Content-Type': 'application/json',
-      },
-      body: JSON.stringify({ userInfo }),
-    })
+    for (let attempt = 1; ; attempt++) {
+      const response = await fetch(`${baseUrl}/api/psychometric/sessions`, {
+        method: 'POST',
+        headers: {
+          'Content-Type': 'application/json',
+        },
+        body: JSON.stringify({ userInfo }),
+      })
+
+      if (response.status === 429) {
+        const delay = retryAfterMs(response) + Math.floor(Math.random() * 1000)
+        if (Date.now() + delay <= giveUpAt) {
+          if (onWaiting) {
+            onWaiting({ retryInSeconds: Math.ceil(delay / 1000), attempt })
+          }
+          await sleep(delay)
+          continue
+        }
+        throw new Error('Too many tests are starting right now. Please try again in a few minutes.')
+      }
 
-    if (!response.ok) {
-      let message = 'Unable to start session'
-      try {
-        const errorBody = await response.json()
-        message =
-          typeof errorBody === 'string'
-            ? errorBody
-            : JSON.stringify(errorBody)
-      } catch (err) {
-        message = `Server error: ${response.status} ${response.statusText}`
+      if (!response.ok) {
+        let message = 'Unable to start session'
+        try {
+          const errorBody = await response.json()
+          message =
+            typeof errorBody === 'string'
+              ? errorBody
+              : JSON.stringify(errorBody)
+        } catch (err) {
+          message = `Server error: ${response.status} ${response.statusText}`
+        }
+        throw new Error(message)
       }
-      throw new Error(message)
-    }
 
-    return response.json()
+      return response.json()
+    }
   } catch (error) {
     if (error instanceof TypeError && error.message.includes('fetch')) {
       throw new Error(
@@ -137,6 +172,35 @@ export async function getSessionQuestions(sessionId) {
   }
 }
 
+/**
+ * Autosave: sends the answers changed since the last batch. Each entry is
+ * { questionId, selectedOptionIndex, timestamp }; a null selectedOptionIndex clears the answer.
+ */
+export async function saveAnswers(sessionId, answers) {
+  try {
+    const response = await fetch(`${baseUrl}/api/psychometric/sessions/${sessionId}/answers`, {
+      method: 'POST',
+      headers: {
+        'Content-Type': 'application/json',
+      },
+      body: JSON.stringify({ answers }),
+    })
+
+    if (!response.ok) {
+      throw new Error(`Unable to save answers: ${response.status} ${response.statusText}`)
+    }
+
+    return response.json()
+  } catch (error) {
+    if (error instanceof TypeError && error.message.includes('fetch')) {
+      throw new Error(
+        `Failed to connect to backend at ${baseUrl}. Please ensure the backend is running and accessible.`
+      )
+    }
+    throw error
+  }
+}
+
 export async function submitTest(sessionId, submissionData) {
   try {
     const response = await fetch(`${baseUrl}/api/test/submit`, {
@@ -243,6 +307,20 @@ export async function getReport(sessionId) {
   }
 }
 
+/**
+ * Listens for the AI narrative of a report that was returned with narrativeStatus PENDING.
+ * onReport receives the full updated report once; returns a function that closes the stream.
+ */
+export function subscribeToReportUpdates(sessionId, onReport) {
+  const source = new EventSource(`${baseUrl}/api/psychometric/sessions/${sessionId}/report/events`)
+  source.addEventListener('report', (event) => {
+    // The server ends the stream after this event; close so the browser does not reconnect
+    source.close()
+    onReport(JSON.parse(event.data))
+  })
+  return () => source.close()
+}
+
 /**
  * Download PDF report using the new backend PDF generation endpoint
  * Sends JSON data to backend for server-side PDF generation
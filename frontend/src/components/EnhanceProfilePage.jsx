@@ -13,6 +13,7 @@ const EnhanceProfilePage = ({ profileData, templateText, templateType: providedT
   const resolvedTemplateType = providedTemplateType || profile?.templateType || profileData?.templateType || '';
 
   const [enhancedProfile, setEnhancedProfile] = useState('');
+  const [streamingText, setStreamingText] = useState('');
   const [isEnhancing, setIsEnhancing] = useState(false);
   const [enhanceError, setEnhanceError] = useState(null);
   const [isDownloading, setIsDownloading] = useState(false);
@@ -32,8 +33,12 @@ const EnhanceProfilePage = ({ profileData, templateText, templateType: providedT
       setIsEnhancing(true);
       setEnhanceError(null);
       setEnhancedProfile('');
+      setStreamingText('');
 
-      const result = await enhanceProfileWithAI(templateText);
+      // Show the text as it is generated; the final result replaces it
+      const result = await enhanceProfileWithAI(templateText, {
+        onToken: (token) => setStreamingText((prev) => prev + token)
+      });
 
       if (result.success) {
         setEnhancedProfile(result.data);
@@ -48,6 +53,7 @@ const EnhanceProfilePage = ({ profileData, templateText, templateType: providedT
       setEnhancedProfile('');
     } finally {
       setIsEnhancing(false);
+      setStreamingText('');
     }
   }, [templateText]);
 
@@ -397,7 +403,11 @@ const EnhanceProfilePage = ({ profileData, templateText, templateType: providedT
           </h3>
         </div>
         <div style={cardBodyStyle}>
-          {isEnhancing ? (
+          {isEnhancing && streamingText ? (
+            <p style={{ ...cardTextStyle, color: '#374151', whiteSpace: 'pre-wrap' }}>
+              {streamingText}
+            </p>
+          ) : isEnhancing ? (
             <p style={{ ...cardTextStyle, color: '#4b5563', textAlign: 'center' }}>
               Enhancing your profile with AI insights. This may take a few seconds.
             </p>
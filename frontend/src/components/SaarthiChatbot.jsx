@@ -1,5 +1,5 @@
 import React, { useState, useEffect, useRef } from 'react';
-import { generateQuestions, sendChatMessage, evaluateInterests } from '../api';
+import { generateQuestions, sendChatMessage, getChatConversation, evaluateInterests } from '../api';
 import { downloadProfileAsPDF } from '../utils/downloadProfile';
 import { notifyError, notifySuccess } from '../utils/notifications';
 
@@ -80,6 +80,9 @@ const SaarthiChatbot = ({ userProfile, onRegenerateProfile }) => {
           setIsComplete(Boolean(parsed.isComplete));
           setEvaluationResult(parsed.evaluationResult || null);
           restored = true;
+          if (parsed.chatState.conversationId && !parsed.isComplete) {
+            resumeConversation(parsed.chatState.conversationId);
+          }
         }
       }
     } catch (e) {
@@ -137,20 +140,54 @@ const SaarthiChatbot = ({ userProfile, onRegenerateProfile }) => {
     }
   }, [messages.length, chatState]);
 
+  // Rebuild the transcript from the server copy, which may be ahead of (or have outlived) this tab
+  const resumeConversation = async (conversationId) => {
+    const result = await getChatConversation(conversationId);
+    if (!result.success) {
+      if (result.notFound) {
+        localStorage.removeItem(CHAT_STORAGE_KEY);
+        setChatState(null);
+        setMessages([]);
+        setIsComplete(false);
+        initializeChatbot();
+      }
+      return;
+    }
+
+    const { turns = [], nextQuestion, isComplete: completed, answers } = result.data;
+    const rebuilt = [{
+      type: 'bot',
+      text: `Hello! I'm Saathi, your AI career counselor. I'll ask you 15 questions to understand your interests better. Let's begin!`
+    }];
+    turns.forEach(turn => {
+      rebuilt.push({ type: 'bot', text: turn.question });
+      rebuilt.push({ type: 'user', text: turn.answer });
+    });
+    if (nextQuestion) {
+      rebuilt.push({ type: 'bot', text: nextQuestion });
+    }
+    setMessages(rebuilt);
+    setChatState(prev => ({ ...prev, conversationId, answers: answers || prev?.answers || {} }));
+    setIsComplete(Boolean(completed));
+  };
+
   const initializeChatbot = async () => {
     setIsGeneratingQuestions(true);
     try {
       const result = await generateQuestions(userProfile);
       if (result.success && result.data.questions) {
         const questions = result.data.questions;
-        const initialState = {
-          currentStage: 1,
-          currentQuestionIndex: 0,
-          questions: questions,
-          answers: {},
-          pendingWhyQuestion: null,
-          complete: false
-        };
+        // The server keeps the conversation; without an id fall back to sending the whole state
+        const initialState = result.data.conversationId
+          ? { conversationId: result.data.conversationId, answers: {} }
+          : {
+              currentStage: 1,
+              currentQuestionIndex: 0,
+              questions: questions,
+              answers: {},
+              pendingWhyQuestion: null,
+              complete: false
+            };
         setChatState(initialState);
         
         // Add welcome message and first question
@@ -194,7 +231,10 @@ const SaarthiChatbot = ({ userProfile, onRegenerateProfile }) => {
       const result = await sendChatMessage(userMsg, chatState);
       
       if (result.success && result.data) {
-        const { nextQuestion, conversationState: updatedState, isComplete: completed } = result.data;
+        const { nextQuestion, conversationState, isComplete: completed, answers } = result.data;
+        const updatedState = chatState.conversationId
+          ? { ...chatState, answers: answers || chatState.answers }
+          : conversationState;
         
         setChatState(updatedState);
         
@@ -213,7 +253,7 @@ const SaarthiChatbot = ({ userProfile, onRegenerateProfile }) => {
           const isInterestsGoalsQuestion = normalizedNext.includes('interests') && 
                                           (normalizedNext.includes('goals') || normalizedNext.includes('goal'));
           
-          if (isInterestsGoalsQuestion && updatedState.answers) {
+          if (isInterestsGoalsQuestion && updatedState?.answers) {
             // Check if we've already answered a similar interests/goals question
             const hasAnsweredSimilar = Object.keys(updatedState.answers).some(answeredQ => {
               const normalizedAnswered = answeredQ.toLowerCase();
@@ -232,6 +272,9 @@ const SaarthiChatbot = ({ userProfile, onRegenerateProfile }) => {
           
           setMessages(prev => [...prev, { type: 'bot', text: nextQuestion }]);
         }
+      } else if (chatState.conversationId) {
+        // The turn may have been applied before the failure; pick up wherever the server is
+        resumeConversation(chatState.conversationId);
       }
     } catch (error) {
       setMessages(prev => [...prev, {
@@ -256,7 +299,7 @@ const SaarthiChatbot = ({ userProfile, onRegenerateProfile }) => {
     
     setIsEvaluating(true);
     try {
-      const result = await evaluateInterests(userProfile, evaluationState.answers);
+      const result = await evaluateInterests(userProfile, evaluationState.answers, evaluationState.conversationId);
       
       if (result.success && result.data) {
         setEvaluationResult(result.data);
@@ -1,6 +1,6 @@
 import { useEffect, useMemo, useState, useCallback, useRef } from 'react'
 import { useParams, useNavigate } from 'react-router-dom'
-import { getSessionStatus, getSessionQuestions, getPsychometricSession, submitTest } from '../../api/psychometric'
+import { getSessionStatus, getSessionQuestions, getPsychometricSession, saveAnswers, submitTest } from '../../api/psychometric'
 import QuestionPalette from '../../components/psychometric/QuestionPalette'
 import MarkForReviewButton from '../../components/psychometric/MarkForReviewButton'
 import ClearResponseButton from '../../components/psychometric/ClearResponseButton'
@@ -27,6 +27,9 @@ function PsychometricAssessment() {
   const [isAutoSubmitted, setIsAutoSubmitted] = useState(false)
   const [testStarted, setTestStarted] = useState(false)
   const [showViolationsModal, setShowViolationsModal] = useState(false)
+  // Answer changes not yet sent to the server, keyed by question id (latest change wins)
+  const pendingAnswersRef = useRef({})
+  const answerFlushRef = useRef(null)
 
   // Prevent browser back button and page refresh/close
   useEffect(() => {
@@ -82,6 +85,53 @@ function PsychometricAssessment() {
     }
   }, [sessionId])
 
+  const recordAnswerChange = (questionId, optionIndex, timestamp = new Date().toISOString()) => {
+    pendingAnswersRef.current[questionId] = { questionId, selectedOptionIndex: optionIndex, timestamp }
+  }
+
+  const takePendingAnswers = () => {
+    const pending = Object.values(pendingAnswersRef.current)
+    pendingAnswersRef.current = {}
+    return pending
+  }
+
+  // Put back changes that failed to send, unless the question was answered again meanwhile
+  const requeueAnswers = (pending) => {
+    pending.forEach((change) => {
+      if (!pendingAnswersRef.current[change.questionId]) {
+        pendingAnswersRef.current[change.questionId] = change
+      }
+    })
+  }
+
+  const flushAnswers = async () => {
+    if (answerFlushRef.current) {
+      await answerFlushRef.current
+    }
+    const pending = takePendingAnswers()
+    if (pending.length === 0) {
+      return
+    }
+    answerFlushRef.current = saveAnswers(sessionId, pending)
+      .catch((err) => {
+        console.error('Autosave failed, will retry:', err)
+        requeueAnswers(pending)
+      })
+      .finally(() => {
+        answerFlushRef.current = null
+      })
+    await answerFlushRef.current
+  }
+
+  // Autosave answer changes every few seconds so submission only carries the last few
+  useEffect(() => {
+    if (!testStarted || isSubmitting || isAutoSubmitted) {
+      return
+    }
+    const interval = setInterval(flushAnswers, 5000)
+    return () => clearInterval(interval)
+  }, [testStarted, isSubmitting, isAutoSubmitted, sessionId])
+
   const loadAssessment = async () => {
     setIsLoading(true)
     setError(null)
@@ -154,6 +204,14 @@ function PsychometricAssessment() {
         }
       })
 
+      // Answers restored from localStorage may not have reached the server before a reload;
+      // the server ignores the ones it already has
+      Object.entries(initialAnswers).forEach(([questionId, optionIndex]) => {
+        if (optionIndex !== null) {
+          recordAnswerChange(questionId, optionIndex)
+        }
+      })
+
       setAnswers(initialAnswers)
       setQuestionStatuses(initialStatuses)
       setIsLoading(false)
@@ -238,6 +296,7 @@ function PsychometricAssessment() {
   }, [currentQuestion, answers, isAutoSubmitted, isSubmitting, currentSectionNumber, currentSectionQuestionIndex, currentSectionQuestions.length, sectionNumbers])
 
   const handleAnswerSelect = (questionId, optionIndex) => {
+    recordAnswerChange(questionId, optionIndex)
     setAnswers((prev) => ({
       ...prev,
       [questionId]: optionIndex,
@@ -260,6 +319,7 @@ function PsychometricAssessment() {
     if (!currentQuestion) return
 
     const questionId = currentQuestion.id
+    recordAnswerChange(questionId, null)
     setAnswers((prev) => ({
       ...prev,
       [questionId]: null,
@@ -346,7 +406,8 @@ function PsychometricAssessment() {
     }
   }
 
-  // Calculate results from user answers, correct answers, and question statuses
+  // Count answers and review marks. Correct/wrong are scored by the server on submit: the
+  // questions served to the candidate carry no answer key.
   // Excludes Behavioral section (section 2) - only counts Aptitude (1) and Domain (3)
   const calculateResults = (userAnswers, questions, questionStatuses) => {
     // Filter out Behavioral section (section 2) questions
@@ -354,8 +415,6 @@ function PsychometricAssessment() {
     const totalQuestions = scoringQuestions.length
     let attempted = 0
     let notAttempted = 0
-    let correct = 0
-    let wrong = 0
     let markedForReview = 0
     let answeredAndMarkedForReview = 0
 
@@ -363,22 +422,10 @@ function PsychometricAssessment() {
       const questionId = question.id
       const userAnswer = userAnswers[questionId]
       const status = questionStatuses[questionId]?.status
-      const correctAnswer = question.correctOptionIndex
 
       // Count attempted vs not attempted
       if (userAnswer !== null && userAnswer !== undefined) {
         attempted++
-        // Compare with correct answer
-        if (correctAnswer !== null && correctAnswer !== undefined) {
-          if (userAnswer === correctAnswer) {
-            correct++
-          } else {
-            wrong++
-          }
-        } else {
-          // If correctOptionIndex missing, count as wrong (consistent with result page)
-          wrong++
-        }
       } else {
         notAttempted++
       }
@@ -395,8 +442,8 @@ function PsychometricAssessment() {
       totalQuestions,
       attempted,
       notAttempted,
-      correct,
-      wrong,
+      correct: 0,
+      wrong: 0,
       markedForReview,
       answeredAndMarkedForReview,
       submittedAt: new Date().toISOString(),
@@ -415,16 +462,20 @@ function PsychometricAssessment() {
     setIsAutoSubmitted(true)
     setIsSubmitting(true)
 
+    let pendingChanges = []
     try {
       // Calculate results
       const results = calculateResults(answers, questions, questionStatuses)
 
-      // Prepare answers array for submission
-      const answersArray = questions.map((question) => ({
-        questionId: question.id,
-        selectedOptionIndex: answers[question.id] !== null && answers[question.id] !== undefined 
-          ? answers[question.id] 
-          : null,
+      // Earlier answers were autosaved; only the changes since the last flush are sent
+      if (answerFlushRef.current) {
+        await answerFlushRef.current
+      }
+      pendingChanges = takePendingAnswers()
+      const answersArray = pendingChanges.map((change) => ({
+        questionId: change.questionId,
+        selectedOptionIndex: change.selectedOptionIndex,
+        answeredAt: change.timestamp,
         textResponse: null,
       }))
 
@@ -442,6 +493,7 @@ function PsychometricAssessment() {
       navigate(`/psychometric/result/${sessionId}`, { state: { results: submitResponse } })
     } catch (error) {
       console.error('Auto-submission error:', error)
+      requeueAnswers(pendingChanges)
       alert(`Test was automatically submitted due to ${submittedBy === 'timer' ? 'time expiration' : 'proctoring violations'}. However, there was an error saving results.`)
       setIsSubmitting(false)
     }
@@ -482,16 +534,20 @@ function PsychometricAssessment() {
     }
 
     setIsSubmitting(true)
+    let pendingChanges = []
     try {
       // Calculate results
       const results = calculateResults(answers, questions, questionStatuses)
 
-      // Prepare answers array for submission
-      const answersArray = questions.map((question) => ({
-        questionId: question.id,
-        selectedOptionIndex: answers[question.id] !== null && answers[question.id] !== undefined 
-          ? answers[question.id] 
-          : null,
+      // Earlier answers were autosaved; only the changes since the last flush are sent
+      if (answerFlushRef.current) {
+        await answerFlushRef.current
+      }
+      pendingChanges = takePendingAnswers()
+      const answersArray = pendingChanges.map((change) => ({
+        questionId: change.questionId,
+        selectedOptionIndex: change.selectedOptionIndex,
+        answeredAt: change.timestamp,
         textResponse: null,
       }))
 
@@ -509,6 +565,7 @@ function PsychometricAssessment() {
       navigate(`/psychometric/result/${sessionId}`, { state: { results: submitResponse } })
     } catch (error) {
       console.error('Submission error:', error)
+      requeueAnswers(pendingChanges)
       alert(`Failed to submit test: ${error instanceof Error ? error.message : 'Unknown error'}`)
       setIsSubmitting(false)
     }
@@ -678,10 +735,7 @@ function PsychometricAssessment() {
                     onChange={() => !isAutoSubmitted && handleAnswerSelect(currentQuestion.id, index)}
                     disabled={isAutoSubmitted}
                   />
-                  <span>
-                    {option}
-                    {currentQuestion.correctOptionIndex === index && ' *'}
-                  </span>
+                  <span>{option}</span>
                 </label>
               ))}
             </div>
@@ -1,6 +1,6 @@
 import { useEffect, useState } from 'react'
 import { useParams, useNavigate } from 'react-router-dom'
-import { getReport, downloadReportPdf, downloadAnswersPdf, generateReport, saveReport, checkReportSaved } from '../../api/psychometric'
+import { getReport, downloadReportPdf, downloadAnswersPdf, generateReport, saveReport, checkReportSaved, subscribeToReportUpdates } from '../../api/psychometric'
 import { getAllMyProfiles, enhanceProfileWithReport, parseProfilePdf } from '../../api'
 import SuccessModal from '../../components/SuccessModal'
 import LoadingOverlay from '../../components/LoadingOverlay'
@@ -47,6 +47,14 @@ function PsychometricReport() {
     }
   }, [sessionId])
 
+  // The scores arrive first; the AI-written narrative replaces the rule-based text when ready
+  useEffect(() => {
+    if (!sessionId || report?.narrativeStatus !== 'PENDING') {
+      return undefined
+    }
+    return subscribeToReportUpdates(sessionId, setReport)
+  }, [sessionId, report?.narrativeStatus])
+
   const loadReport = async () => {
     try {
       setIsLoading(true)
@@ -374,6 +382,12 @@ function PsychometricReport() {
           </button>
         </div>
 
+        {report.narrativeStatus === 'PENDING' && (
+          <p className="report-narrative-pending">
+            The personalised narrative is still being written. This page will update automatically.
+          </p>
+        )}
+
         {/* Bio Section */}
         <div className="report-section">
           <h3>BIO</h3>
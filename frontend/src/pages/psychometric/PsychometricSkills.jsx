@@ -37,6 +37,7 @@ function PsychometricSkills() {
   const [errors, setErrors] = useState({})
   const [isSubmitting, setIsSubmitting] = useState(false)
   const [submitError, setSubmitError] = useState(null)
+  const [waitingNotice, setWaitingNotice] = useState(null)
 
   const userInfo = location.state?.userInfo || null
 
@@ -72,12 +73,22 @@ function PsychometricSkills() {
 
     setIsSubmitting(true)
     try {
-      const result = await createPsychometricSession({
-        ...userInfo,
-        ...skillsForm,
-      })
+      const result = await createPsychometricSession(
+        {
+          ...userInfo,
+          ...skillsForm,
+        },
+        {
+          onWaiting: ({ retryInSeconds }) =>
+            setWaitingNotice(
+              `Many candidates are starting right now. You are in the waiting room, retrying in ${retryInSeconds}s...`
+            ),
+        }
+      )
+      setWaitingNotice(null)
       navigate(`/psychometric/instructions/${result.sessionId}`)
     } catch (error) {
+      setWaitingNotice(null)
       setSubmitError(error instanceof Error ? error.message : 'Unable to start session')
       setIsSubmitting(false)
     }
@@ -178,6 +189,9 @@ function PsychometricSkills() {
             {submitError && (
               <p className="rounded-2xl bg-red-50 px-4 py-3 text-sm font-semibold text-red-600">{submitError}</p>
             )}
+            {waitingNotice && (
+              <p className="rounded-2xl bg-amber-50 px-4 py-3 text-sm font-semibold text-amber-700">{waitingNotice}</p>
+            )}
 
             <div className="flex flex-wrap items-center justify-between gap-4 pt-2">
               <button
@@ -72,7 +72,12 @@ function PsychometricStart() {
           const { createPsychometricSession } = await import('../../api/psychometric')
           
           // Create session and redirect
-          const result = await createPsychometricSession(profileData)
+          const result = await createPsychometricSession(profileData, {
+            onWaiting: ({ retryInSeconds }) =>
+              setSubmitError(
+                `Many candidates are starting right now. You are in the waiting room, retrying in ${retryInSeconds}s...`
+              ),
+          })
           
           console.log('🎯 Auto-session creation result:', result)
           